@@ -0,0 +1,104 @@
+package com.tenten.linkhub.domain.link.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenten.linkhub.domain.link.model.Tag;
+import com.tenten.linkhub.domain.link.repository.tag.TagRepository;
+import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 링크 생성/수정 시 태그 이름으로 태그를 찾는 스페이스별 태그 사전 (이름 → id, 색상).<br>
+ * 태그는 이름/색상이 바뀌거나 삭제되지 않으므로 한 번 담은 항목은 계속 유효하다.
+ * 다른 인스턴스에서 만든 태그는 사전에 없으므로, 사전에 없는 이름은 DB에서 한 번 더 찾는다.
+ */
+@Component
+public class SpaceTagDictionary {
+
+    private final TagRepository tagRepository;
+    private final Cache<Long, Map<String, TagInfo>> localCache;
+    private final boolean enabled;
+
+    public SpaceTagDictionary(TagRepository tagRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${cache.space-tag.enabled:false}") boolean enabled,
+                              @Value("${cache.space-tag.max-size:10000}") long maxSize,
+                              @Value("${cache.space-tag.ttl-minutes:30}") long ttlMinutes) {
+        this.tagRepository = tagRepository;
+        this.enabled = enabled;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "spaceTag");
+    }
+
+    public Optional<TagInfo> find(Long spaceId, String tagName) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(localCache.get(spaceId, this::load).get(tagName));
+    }
+
+    /**
+     * 롤백된 태그가 사전에 남지 않도록 커밋 이후에 담는다.
+     */
+    public void put(Long spaceId, String tagName, Tag tag) {
+        if (!enabled) {
+            return;
+        }
+
+        TagInfo tagInfo = new TagInfo(tag.getName(), tag.getColor(), tag.getId());
+        afterCommit(() -> {
+            Map<String, TagInfo> tags = localCache.getIfPresent(spaceId);
+
+            if (tags != null) {
+                tags.put(tagName, tagInfo);
+            }
+        });
+    }
+
+    public void invalidate(Long spaceId) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> localCache.invalidate(spaceId));
+    }
+
+    private Map<String, TagInfo> load(Long spaceId) {
+        Map<String, TagInfo> tags = new ConcurrentHashMap<>();
+        tagRepository.findAllBySpaceId(spaceId)
+                .forEach(tagInfo -> tags.putIfAbsent(tagInfo.name(), tagInfo));
+
+        return tags;
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
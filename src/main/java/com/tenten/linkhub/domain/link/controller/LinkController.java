@@ -2,8 +2,11 @@ package com.tenten.linkhub.domain.link.controller;
 
 import com.tenten.linkhub.domain.auth.MemberDetails;
 import com.tenten.linkhub.domain.link.controller.dto.LikeCreateApiResponse;
+import com.tenten.linkhub.domain.link.controller.dto.LinkBatchApiRequest;
+import com.tenten.linkhub.domain.link.controller.dto.LinkBatchApiResponses;
 import com.tenten.linkhub.domain.link.controller.dto.LinkCreateApiRequest;
 import com.tenten.linkhub.domain.link.controller.dto.LinkCreateApiResponse;
+import com.tenten.linkhub.domain.link.controller.dto.LinkImportApiResponse;
 import com.tenten.linkhub.domain.link.controller.dto.LinkUpdateApiRequest;
 import com.tenten.linkhub.domain.link.controller.dto.LinkUpdateApiResponse;
 import com.tenten.linkhub.domain.link.controller.dto.LinksGetWithFilterApiRequest;
@@ -11,14 +14,19 @@ import com.tenten.linkhub.domain.link.controller.dto.LinksGetWithFilterApiRespon
 import com.tenten.linkhub.domain.link.controller.dto.PopularLinksGetApiResponses;
 import com.tenten.linkhub.domain.link.controller.mapper.LinkApiMapper;
 import com.tenten.linkhub.domain.link.facade.LinkFacade;
+import com.tenten.linkhub.domain.link.facade.dto.LinkBatchFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkUpdateFacadeRequest;
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
 import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
 import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponses;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
 import com.tenten.linkhub.domain.link.service.dto.PopularLinksGetByQueryResponses;
+import com.tenten.linkhub.domain.space.model.category.Category;
 
 import com.tenten.linkhub.global.response.ErrorResponse;
+import com.tenten.linkhub.global.response.ErrorWithDetailCodeResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -40,7 +48,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.util.Objects;
@@ -93,6 +104,44 @@ public class LinkController {
                 .body(response);
     }
 
+    /**
+     * 링크 가져오기 API
+     */
+    @Operation(
+            summary = "링크 가져오기 API",
+            description = "[JWT 필요] 북마크 HTML, CSV, JSON 파일의 링크를 한 번에 스페이스로 가져오는 API 입니다. \n" +
+                    " - format(선택): {html, csv, json} -> 넣지 않으면 파일 확장자로 판단합니다. \n" +
+                    " - html: 브라우저에서 내보낸 북마크 파일. 북마크의 TAGS 또는 폴더 이름을 태그로 사용합니다. \n" +
+                    " - csv: url, title, tag, color 헤더를 가진 파일. 헤더가 없으면 이 순서로 읽습니다. \n" +
+                    " - json: [{\"url\", \"title\", \"tagName\", \"color\"}] 형태의 배열 \n" +
+                    "URL이 http(s)가 아니거나 가져오기 가능한 개수를 넘은 링크는 건너뜁니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "가져오기 작업이 끝난 경우. 파일을 끝까지 읽지 못했다면 status가 FAILED이고 그때까지 가져온 링크는 남습니다."),
+                    @ApiResponse(responseCode = "400", description = "가져오기 형식을 알 수 없는 경우",
+                            content = @Content(schema = @Schema(implementation = ErrorWithDetailCodeResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "링크 생성 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping(value = "/spaces/{spaceId}/links/import",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LinkImportApiResponse> importLinks(
+            @PathVariable Long spaceId,
+            @RequestPart MultipartFile file,
+            @RequestParam(required = false) String format,
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        LinkImportResponse response = linkFacade.importLinks(
+                spaceId,
+                memberDetails.memberId(),
+                format,
+                file);
+
+        return ResponseEntity
+                .ok()
+                .body(LinkImportApiResponse.from(response));
+    }
+
     /**
      * 링크 수정 API
      */
@@ -225,6 +274,42 @@ public class LinkController {
                 .build();
     }
 
+    /**
+     * 링크 일괄 작업 API
+     */
+    @Operation(
+            summary = "링크 일괄 작업 API",
+            description = "[JWT 필요] 스페이스 내 여러 링크를 한 번에 삭제하거나, 다른 스페이스로 옮기거나, 태그를 바꾸는 API 입니다. 한 번에 최대 300개까지 처리합니다. \n" +
+                    " - DELETE: linkIds의 링크를 삭제합니다. \n" +
+                    " - MOVE: linkIds의 링크를 targetSpaceId 스페이스로 옮깁니다. 옮겨 갈 스페이스의 링크 편집 권한도 필요하며, 태그는 같은 이름의 태그로 옮겨집니다. \n" +
+                    " - SET_TAG: linkIds의 링크 태그를 tagName & color 태그로 바꿉니다. \n" +
+                    "링크마다 처리 결과(SUCCESS, NOT_FOUND)를 응답합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "일괄 작업이 성공적으로 처리된 경우"),
+                    @ApiResponse(responseCode = "400", description = "작업에 필요한 값이 없는 경우",
+                            content = @Content(schema = @Schema(implementation = ErrorWithDetailCodeResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "링크 편집 권한이 없습니다.",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @PostMapping(value = "/spaces/{spaceId}/links/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LinkBatchApiResponses> batchLinks(
+            @PathVariable Long spaceId,
+            @Valid @RequestBody LinkBatchApiRequest apiRequest,
+            @AuthenticationPrincipal MemberDetails memberDetails
+    ) {
+        LinkBatchFacadeRequest request = mapper.toLinkBatchFacadeRequest(apiRequest);
+        LinkBatchResponses responses = linkFacade.batchLinks(
+                spaceId,
+                memberDetails.memberId(),
+                request);
+
+        return ResponseEntity
+                .ok()
+                .body(LinkBatchApiResponses.from(responses));
+    }
+
     /**
      * 링크 조회 API
      */
@@ -269,17 +354,19 @@ public class LinkController {
      * 인기 있는 링크 리스트 조회
      */
     @Operation(
-            summary = "인기 있는 링크 조회 API", description = "랜딩 페이지에서 인기있는 리스트를 조회할 때 사용하는 API 입니다. \n  로그인이 되어있다면 JWT를 넣어 요청 보내주시면 됩니다.",
+            summary = "인기 있는 링크 조회 API", description = "랜딩 페이지에서 인기있는 리스트를 조회할 때 사용하는 API 입니다. \n  로그인이 되어있다면 JWT를 넣어 요청 보내주시면 됩니다.\n\n" +
+                    "filter(선택): {ENTER_ART, LIFE_KNOWHOW_SHOPPING, HOBBY_LEISURE_TRAVEL, KNOWLEDGE_ISSUE_CAREER, ETC}",
             responses = {
                     @ApiResponse(responseCode = "200", description = "인기 있는 링크 조회가 성공적으로 완료 되었습니다.")
             })
     @GetMapping("/links/popular")
     public ResponseEntity<PopularLinksGetApiResponses> getPopularLinks(
+            @RequestParam(required = false) Category filter,
             @AuthenticationPrincipal MemberDetails memberDetails
     ) {
         Long memberId = Objects.isNull(memberDetails) ? null : memberDetails.memberId();
 
-        PopularLinksGetByQueryResponses responses = linkService.getPopularLinks(memberId);
+        PopularLinksGetByQueryResponses responses = linkService.getPopularLinks(memberId, filter);
         PopularLinksGetApiResponses apiResponses = PopularLinksGetApiResponses.from(responses);
 
         return ResponseEntity
@@ -0,0 +1,34 @@
+package com.tenten.linkhub.domain.link.controller.dto;
+
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record LinkBatchApiRequest(
+        @Schema(title = "일괄 작업", example = "DELETE", description = "DELETE, MOVE, SET_TAG 중 하나")
+        @NotNull(message = "operation은 빈 값이 들어올 수 없습니다.")
+        LinkBatchOperation operation,
+
+        @Schema(title = "대상 링크 id 목록", example = "[1, 2, 3]")
+        @NotEmpty(message = "linkIds는 비어있을 수 없습니다.")
+        @Size(max = 300, message = "한 번에 처리할 수 있는 링크는 최대 300개 입니다.")
+        List<@NotNull Long> linkIds,
+
+        @Schema(title = "옮겨 갈 스페이스 id", example = "2", description = "MOVE일 때만 필요합니다.")
+        Long targetSpaceId,
+
+        @Schema(title = "태그 이름", example = "개발", description = "SET_TAG일 때만 필요합니다.")
+        @Pattern(regexp = "^(?!\\s*$).+", message = "태그는 비어있거나 공백만 있을 수 없습니다.")
+        @Size(max = 30, message = "tag는 최대 30자 입니다.")
+        String tagName,
+
+        @Schema(title = "태그 색", example = "red", description = "SET_TAG일 때만 필요합니다.")
+        @Pattern(regexp = "^(?!\\s*$).+", message = "태그 컬러는 비어있거나 공백만 있을 수 없습니다.")
+        String color
+) {
+}
@@ -0,0 +1,12 @@
+package com.tenten.linkhub.domain.link.controller.dto;
+
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponse;
+
+public record LinkBatchApiResponse(
+        Long linkId,
+        String result
+) {
+    public static LinkBatchApiResponse from(LinkBatchResponse response) {
+        return new LinkBatchApiResponse(response.linkId(), response.result().name());
+    }
+}
@@ -0,0 +1,18 @@
+package com.tenten.linkhub.domain.link.controller.dto;
+
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
+
+import java.util.List;
+
+public record LinkBatchApiResponses(
+        List<LinkBatchApiResponse> responses
+) {
+    public static LinkBatchApiResponses from(LinkBatchResponses responses) {
+        List<LinkBatchApiResponse> batchResponses = responses.responses()
+                .stream()
+                .map(LinkBatchApiResponse::from)
+                .toList();
+
+        return new LinkBatchApiResponses(batchResponses);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tenten.linkhub.domain.link.controller.dto;
+
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
+
+public record LinkImportApiResponse(
+        Long jobId,
+        String status,
+        long importedLinkCount,
+        long skippedLinkCount,
+        long createdTagCount
+) {
+    public static LinkImportApiResponse from(LinkImportResponse response) {
+        return new LinkImportApiResponse(
+                response.jobId(),
+                response.status().name(),
+                response.importedLinkCount(),
+                response.skippedLinkCount(),
+                response.createdTagCount());
+    }
+}
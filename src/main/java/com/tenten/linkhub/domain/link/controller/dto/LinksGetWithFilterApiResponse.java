@@ -1,6 +1,7 @@
 package com.tenten.linkhub.domain.link.controller.dto;
 
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkViewDto;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
 
 import java.util.List;
 
@@ -14,6 +15,8 @@ public record LinksGetWithFilterApiResponse(
         boolean isLiked,
         boolean canLinkSummaraizable,
         boolean canReadMark,
-        List<LinkViewDto> linkViewHistories
+        List<LinkViewDto> linkViewHistories,
+        long viewerCount,
+        LinkPreviewDto preview
 ) {
 }
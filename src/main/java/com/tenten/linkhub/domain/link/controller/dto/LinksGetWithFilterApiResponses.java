@@ -22,7 +22,9 @@ public record LinksGetWithFilterApiResponses(
                         l.isLiked(),
                         l.canLinkSummaraizable(),
                         l.canReadMark(),
-                        l.linkViewHistories()
+                        l.linkViewHistories(),
+                        l.viewerCount(),
+                        l.preview()
                 ));
 
         PageMetaData pageMetaData = new PageMetaData(
@@ -1,10 +1,12 @@
 package com.tenten.linkhub.domain.link.controller.mapper;
 
+import com.tenten.linkhub.domain.link.controller.dto.LinkBatchApiRequest;
 import com.tenten.linkhub.domain.link.controller.dto.LinkCreateApiRequest;
 import com.tenten.linkhub.domain.link.controller.dto.LinkCreateApiResponse;
 import com.tenten.linkhub.domain.link.controller.dto.LinkUpdateApiRequest;
 import com.tenten.linkhub.domain.link.controller.dto.LinkUpdateApiResponse;
 import com.tenten.linkhub.domain.link.controller.dto.LinksGetWithFilterApiRequest;
+import com.tenten.linkhub.domain.link.facade.dto.LinkBatchFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkUpdateFacadeRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
@@ -27,5 +29,7 @@ public interface LinkApiMapper {
 
     LinkUpdateFacadeRequest toLinkUpdateFacadeRequest(LinkUpdateApiRequest apiRequest);
 
+    LinkBatchFacadeRequest toLinkBatchFacadeRequest(LinkBatchApiRequest apiRequest);
+
     LinksGetByQueryRequest toLinksGetByQueryRequest(LinksGetWithFilterApiRequest request, Pageable pageable, Long spaceId, Long memberId);
 }
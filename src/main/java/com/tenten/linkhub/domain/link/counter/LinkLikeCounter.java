@@ -0,0 +1,237 @@
+package com.tenten.linkhub.domain.link.counter;
+
+import com.tenten.linkhub.domain.link.repository.like.LikeRepository;
+import com.tenten.linkhub.domain.link.repository.like.LinkLikeCountRedisRepository;
+import com.tenten.linkhub.domain.link.repository.like.dto.LinkLikeCount;
+import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 링크 좋아요 수의 실시간 값은 Redis 카운터가 가진다.<br>
+ * 변경된 링크는 주기적으로 모아 links.like_count에 한 문장으로 덮어쓰고(rollup),
+ * 반영된 링크는 likes 테이블에서 다시 센 값과 비교해 어긋난 카운터를 바로잡는다(reconcile).
+ * 카운터가 없으면 likes 테이블에서 세어 채운다. outbox로 다시 전달된 이벤트는 이벤트 id로 걸러 한 번만 더한다.
+ * Redis를 쓸 수 없으면 likes 테이블에서 센 값으로 DB를 덮어쓰고, 그 링크의 Redis 카운터는 다음 변경이나 rollup 전에 지운다.
+ */
+@Slf4j
+@Component
+public class LinkLikeCounter {
+
+    private final LinkLikeCountRedisRepository linkLikeCountRedisRepository;
+    private final LinkRepository linkRepository;
+    private final LikeRepository likeRepository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration appliedTtl;
+    private final int rollupBatchSize;
+    private final int reconcileBatchSize;
+    private final Timer rollupTimer;
+    private final Counter driftCounter;
+    private final Set<Long> staleLinkIds = ConcurrentHashMap.newKeySet();
+
+    public LinkLikeCounter(LinkLikeCountRedisRepository linkLikeCountRedisRepository,
+                           LinkRepository linkRepository,
+                           LikeRepository likeRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${counter.link-like.redis.enabled:false}") boolean enabled,
+                           @Value("${counter.link-like.redis.ttl-seconds:604800}") long ttlSeconds,
+                           @Value("${counter.link-like.redis.applied-ttl-seconds:86400}") long appliedTtlSeconds,
+                           @Value("${counter.link-like.rollup-batch-size:500}") int rollupBatchSize,
+                           @Value("${counter.link-like.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.linkLikeCountRedisRepository = linkLikeCountRedisRepository;
+        this.linkRepository = linkRepository;
+        this.likeRepository = likeRepository;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.appliedTtl = Duration.ofSeconds(appliedTtlSeconds);
+        this.rollupBatchSize = rollupBatchSize;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.rollupTimer = Timer.builder("link.like.rollup.latency")
+                .register(meterRegistry);
+        this.driftCounter = Counter.builder("link.like.reconcile.drift")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 저장/취소가 커밋된 뒤에 호출한다. eventId는 outbox 이벤트 id이며, 바로 발행된 이벤트면 null이다.
+     */
+    public void change(Long linkId, long delta, Long eventId) {
+        if (!enabled) {
+            changeInDatabase(linkId, delta);
+            return;
+        }
+
+        try {
+            evictStaleCounters(List.of(linkId));
+
+            Long likeCount = linkLikeCountRedisRepository.incrementIfPresent(linkId, delta, ttl, eventId, appliedTtl);
+
+            if (Objects.isNull(likeCount)
+                    && !linkLikeCountRedisRepository.seedIfAbsent(linkId, likeRepository.countByLinkId(linkId), ttl, eventId, appliedTtl)) {
+                // 먼저 채워진 값에 이 변경이 포함됐는지 알 수 없으므로 더하지 않고 검증 대상으로 둔다.
+                linkLikeCountRedisRepository.markForReconcile(List.of(linkId));
+            }
+
+            linkLikeCountRedisRepository.markDirty(linkId);
+        } catch (DataAccessException e) {
+            log.warn("링크 좋아요 수를 Redis에 반영하지 못했습니다. likes 테이블 기준으로 DB에 반영합니다. linkId: {}", linkId, e);
+            staleLinkIds.add(linkId);
+            linkRepository.updateLikeCounts(Map.of(linkId, likeRepository.countByLinkId(linkId)));
+        }
+    }
+
+    /**
+     * Redis에 있는 링크의 실시간 좋아요 수. 조회하지 못하면 빈 Map을 반환한다.
+     */
+    public Map<Long, Long> getLikeCounts(List<Long> linkIds) {
+        if (!enabled || linkIds.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            Map<Long, Long> likeCounts = linkLikeCountRedisRepository.getLikeCounts(linkIds);
+            likeCounts.keySet().removeAll(staleLinkIds);
+
+            return likeCounts;
+        } catch (DataAccessException e) {
+            log.warn("링크 좋아요 수를 Redis에서 조회하지 못했습니다.", e);
+            return Map.of();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${counter.link-like.rollup-interval-millis:5000}")
+    public void rollup() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            evictStaleCounters(List.copyOf(staleLinkIds));
+        } catch (DataAccessException e) {
+            log.warn("DB에 직접 반영한 링크의 Redis 카운터를 지우지 못했습니다. size: {}", staleLinkIds.size(), e);
+            return;
+        }
+
+        rollupTimer.record(() -> {
+            List<Long> linkIds;
+
+            do {
+                linkIds = linkLikeCountRedisRepository.popDirty(rollupBatchSize);
+                rollup(linkIds);
+            } while (linkIds.size() == rollupBatchSize);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${counter.link-like.reconcile-interval-millis:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Long> linkIds;
+
+        do {
+            linkIds = linkLikeCountRedisRepository.popForReconcile(reconcileBatchSize);
+            reconcile(linkIds);
+        } while (linkIds.size() == reconcileBatchSize);
+    }
+
+    private void rollup(List<Long> linkIds) {
+        if (linkIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Long> likeCounts = new TreeMap<>(linkLikeCountRedisRepository.getLikeCounts(linkIds));
+            linkRepository.updateLikeCounts(likeCounts);
+        } catch (DataAccessException e) {
+            log.warn("링크 좋아요 수를 DB에 반영하지 못했습니다. 다음 주기에 다시 반영합니다. size: {}", linkIds.size(), e);
+            linkLikeCountRedisRepository.markDirty(linkIds);
+            return;
+        }
+
+        linkLikeCountRedisRepository.markForReconcile(linkIds);
+    }
+
+    /**
+     * 검증 중에 카운터가 바뀌었으면 덮어쓰지 않는다. 그 링크는 다음 rollup 이후에 다시 검증된다.
+     */
+    private void reconcile(List<Long> linkIds) {
+        if (linkIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Long> redisLikeCounts = linkLikeCountRedisRepository.getLikeCounts(linkIds);
+            Map<Long, Long> actualLikeCounts = countLikes(linkIds);
+            Map<Long, Long> driftedLikeCounts = new TreeMap<>();
+
+            for (Long linkId : linkIds) {
+                Long redisLikeCount = redisLikeCounts.get(linkId);
+                long actualLikeCount = actualLikeCounts.getOrDefault(linkId, 0L);
+
+                if (Objects.equals(redisLikeCount, actualLikeCount)) {
+                    continue;
+                }
+
+                if (Objects.isNull(redisLikeCount) || linkLikeCountRedisRepository.compareAndSet(linkId, redisLikeCount, actualLikeCount, ttl)) {
+                    driftedLikeCounts.put(linkId, actualLikeCount);
+                }
+            }
+
+            linkRepository.updateLikeCounts(driftedLikeCounts);
+            driftCounter.increment(driftedLikeCounts.size());
+        } catch (DataAccessException e) {
+            log.warn("링크 좋아요 수를 검증하지 못했습니다. size: {}", linkIds.size(), e);
+        }
+    }
+
+    /**
+     * Redis 장애 중 DB에 직접 반영한 링크는 카운터를 지워, 다음 변경 때 likes 테이블에서 다시 채우게 한다.
+     */
+    private void evictStaleCounters(List<Long> linkIds) {
+        List<Long> staleIds = linkIds.stream()
+                .filter(staleLinkIds::contains)
+                .toList();
+
+        if (staleIds.isEmpty()) {
+            return;
+        }
+
+        linkLikeCountRedisRepository.delete(staleIds);
+        staleIds.forEach(staleLinkIds::remove);
+    }
+
+    private Map<Long, Long> countLikes(List<Long> linkIds) {
+        return likeRepository.countByLinkIds(linkIds)
+                .stream()
+                .collect(Collectors.toMap(LinkLikeCount::linkId, LinkLikeCount::likeCount, (a, b) -> a, HashMap::new));
+    }
+
+    private void changeInDatabase(Long linkId, long delta) {
+        if (delta > 0) {
+            linkRepository.increaseLikeCount(linkId);
+            return;
+        }
+
+        linkRepository.decreaseLikeCount(linkId);
+    }
+
+}
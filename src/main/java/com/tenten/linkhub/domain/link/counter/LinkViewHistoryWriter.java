@@ -0,0 +1,171 @@
+package com.tenten.linkhub.domain.link.counter;
+
+import com.tenten.linkhub.domain.link.repository.linkview.LinkViewRepository;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
+import com.tenten.linkhub.domain.space.counter.ViewerBloomFilter;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 링크 읽음 표시를 (linkId, memberId) 단위로 모았다가 주기적으로 INSERT IGNORE 묶음으로 넣는 write-behind 기록기.<br>
+ * 최근에 넣은 조합은 로컬 블룸 필터에서 걸러 버퍼에 담지 않는다. 블룸 필터 오탐으로 걸러진 조합은 필터 세대가 모두 바뀔 때까지
+ * (최대 2 * rotation-hours, 기본 48시간) 다시 읽음 표시해도 기록되지 않는다.<br>
+ * 중복은 유니크 키가 최종적으로 막고, 실패한 묶음은 다음 주기에 다시 넣는다.
+ * DB 장애로 버퍼가 max-pending-size에 닿으면 새 기록은 버리고 link.view.dropped로 센다.
+ */
+@Slf4j
+@Component
+public class LinkViewHistoryWriter {
+
+    private static final String MEMBER_VIEWER_PREFIX = "member:";
+
+    private final ConcurrentHashMap<ViewKey, PendingLinkView> pendingLinkViews = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final LinkViewRepository linkViewRepository;
+    private final SpaceVersionTracker spaceVersionTracker;
+    private final ViewerBloomFilter viewerBloomFilter;
+    private final boolean enabled;
+    private final int flushBatchSize;
+    private final int maxPendingSize;
+    private final Timer flushTimer;
+    private final Counter insertedCounter;
+    private final Counter bloomHitCounter;
+    private final Counter bufferHitCounter;
+    private final Counter uniqueKeyHitCounter;
+    private final Counter droppedCounter;
+
+    public LinkViewHistoryWriter(LinkViewRepository linkViewRepository,
+                                 SpaceVersionTracker spaceVersionTracker,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${counter.link-view.write-behind.enabled:false}") boolean enabled,
+                                 @Value("${counter.link-view.flush-batch-size:500}") int flushBatchSize,
+                                 @Value("${counter.link-view.max-pending-size:10000}") int maxPendingSize,
+                                 @Value("${counter.link-view.dedup.bloom.rotation-hours:24}") long rotationHours,
+                                 @Value("${counter.link-view.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${counter.link-view.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.linkViewRepository = linkViewRepository;
+        this.spaceVersionTracker = spaceVersionTracker;
+        this.viewerBloomFilter = new ViewerBloomFilter(expectedInsertions, falsePositiveRate, Duration.ofHours(rotationHours).toMillis());
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+        this.maxPendingSize = maxPendingSize;
+        this.flushTimer = Timer.builder("link.view.flush.latency")
+                .register(meterRegistry);
+        this.insertedCounter = Counter.builder("link.view.inserted")
+                .register(meterRegistry);
+        this.bloomHitCounter = Counter.builder("link.view.dedup")
+                .tag("result", "bloom_hit")
+                .register(meterRegistry);
+        this.bufferHitCounter = Counter.builder("link.view.dedup")
+                .tag("result", "buffer_hit")
+                .register(meterRegistry);
+        this.uniqueKeyHitCounter = Counter.builder("link.view.dedup")
+                .tag("result", "unique_key_hit")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("link.view.dropped")
+                .register(meterRegistry);
+
+        Gauge.builder("link.view.pending", pendingLinkViews, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 버퍼가 가득 차 있으면 반영을 기다리지 않고 버린다. 버린 조합은 블룸 필터에 넣지 않으므로 다음 읽음 표시 때 다시 들어온다.
+     */
+    public void add(Long spaceId, Long linkId, Long memberId) {
+        String viewerKey = MEMBER_VIEWER_PREFIX + memberId;
+
+        if (viewerBloomFilter.mightContain(linkId, viewerKey)) {
+            bloomHitCounter.increment();
+            return;
+        }
+
+        if (pendingLinkViews.size() >= maxPendingSize) {
+            droppedCounter.increment();
+            return;
+        }
+
+        PendingLinkView pendingLinkView = new PendingLinkView(spaceId, linkId, memberId, LocalDateTime.now());
+
+        if (pendingLinkViews.putIfAbsent(new ViewKey(linkId, memberId), pendingLinkView) != null) {
+            bufferHitCounter.increment();
+            return;
+        }
+
+        viewerBloomFilter.put(linkId, viewerKey);
+    }
+
+    @Scheduled(fixedDelayString = "${counter.link-view.flush-interval-millis:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            flushTimer.record(this::flushPendingLinkViews);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+        log.info("링크 방문 기록 반영 후 종료합니다. 남은 기록: {}", pendingLinkViews.size());
+    }
+
+    private void flushPendingLinkViews() {
+        List<Map.Entry<ViewKey, PendingLinkView>> entries = new ArrayList<>(pendingLinkViews.entrySet());
+
+        for (int from = 0; from < entries.size(); from += flushBatchSize) {
+            List<Map.Entry<ViewKey, PendingLinkView>> batch = entries.subList(from, Math.min(from + flushBatchSize, entries.size()));
+            List<PendingLinkView> batchLinkViews = batch.stream()
+                    .map(Map.Entry::getValue)
+                    .toList();
+
+            int insertedCount;
+            try {
+                insertedCount = linkViewRepository.bulkInsertIgnore(batchLinkViews);
+            } catch (DataAccessException e) {
+                log.warn("링크 방문 기록을 반영하지 못했습니다. 다음 주기에 다시 반영합니다. size: {}", batch.size(), e);
+                continue;
+            }
+
+            batch.forEach(entry -> pendingLinkViews.remove(entry.getKey(), entry.getValue()));
+            insertedCounter.increment(insertedCount);
+            uniqueKeyHitCounter.increment(batch.size() - insertedCount);
+
+            batchLinkViews.stream()
+                    .map(PendingLinkView::spaceId)
+                    .distinct()
+                    .forEach(spaceVersionTracker::increaseVersion);
+        }
+    }
+
+    private record ViewKey(Long linkId, Long memberId) {
+    }
+
+}
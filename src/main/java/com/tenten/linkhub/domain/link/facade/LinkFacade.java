@@ -1,33 +1,45 @@
 package com.tenten.linkhub.domain.link.facade;
 
+import com.tenten.linkhub.domain.link.facade.dto.LinkBatchFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkUpdateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.mapper.LinkFacadeMapper;
 import com.tenten.linkhub.domain.link.handler.dto.LinkDecreaseLikeCountEvent;
 import com.tenten.linkhub.domain.link.handler.dto.LinkIncreaseLikeCountEvent;
+import com.tenten.linkhub.domain.link.importer.LinkImportFormat;
+import com.tenten.linkhub.domain.link.importer.LinkImporter;
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
 import com.tenten.linkhub.domain.link.service.LinkService;
 import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
 import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponses;
 import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
-import org.springframework.context.ApplicationEventPublisher;
+import com.tenten.linkhub.global.outbox.OutboxEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Objects;
 
 @Service
 public class LinkFacade {
     private final SpaceService spaceService;
     private final LinkService linkService;
     private final LinkFacadeMapper mapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final LinkImporter linkImporter;
 
-    public LinkFacade(SpaceService spaceService, LinkService linkService, LinkFacadeMapper mapper, ApplicationEventPublisher eventPublisher) {
+    public LinkFacade(SpaceService spaceService, LinkService linkService, LinkFacadeMapper mapper, OutboxEventPublisher outboxEventPublisher, LinkImporter linkImporter) {
         this.spaceService = spaceService;
         this.linkService = linkService;
         this.mapper = mapper;
-        this.eventPublisher = eventPublisher;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.linkImporter = linkImporter;
     }
 
     public Long createLink(Long spaceId,
@@ -60,11 +72,25 @@ public class LinkFacade {
         return linkService.updateLink(request);
     }
 
+    /**
+     * 권한은 한 번만 확인하고, 링크는 묶음 단위로 나눠 넣는다.
+     */
+    public LinkImportResponse importLinks(Long spaceId,
+                                          Long memberId,
+                                          String format,
+                                          MultipartFile file) {
+
+        spaceService.checkMemberEditLink(memberId, spaceId); //링크 생성 권한 확인
+
+        LinkImportFormat importFormat = LinkImportFormat.from(format, file.getOriginalFilename());
+        return linkImporter.importLinks(spaceId, memberId, importFormat, file);
+    }
+
     @Transactional
     public Boolean createLike(Long linkId, Long memberId) {
         Boolean isLiked = linkService.createLike(linkId, memberId);
 
-        eventPublisher.publishEvent(
+        outboxEventPublisher.publish(
                 new LinkIncreaseLikeCountEvent(linkId)
         );
 
@@ -75,12 +101,12 @@ public class LinkFacade {
     public void cancelLike(Long linkId, Long memberId) {
         linkService.cancelLike(linkId, memberId);
 
-        eventPublisher.publishEvent(
+        outboxEventPublisher.publish(
                 new LinkDecreaseLikeCountEvent(linkId)
         );
     }
 
-    @Async
+    @Async("linkViewHistoryExecutor")
     public void addLinkViewHistory(Long spaceId, Long linkId, Long memberId) {
         spaceService.checkLinkViewHistory(spaceId, memberId);
         linkService.addLinkViewHistory(spaceId, linkId, memberId);
@@ -91,8 +117,38 @@ public class LinkFacade {
         linkService.deleteLink(linkId);
     }
 
+    /**
+     * 권한은 스페이스마다 한 번만 확인한다. 옮기기는 옮겨 갈 스페이스의 링크 편집 권한도 필요하다.
+     */
+    public LinkBatchResponses batchLinks(Long spaceId,
+                                         Long memberId,
+                                         LinkBatchFacadeRequest facadeRequest) {
+
+        validateBatchRequest(spaceId, facadeRequest);
+        spaceService.checkMemberEditLink(memberId, spaceId);
+
+        if (facadeRequest.operation() == LinkBatchOperation.MOVE) {
+            spaceService.checkMemberEditLink(memberId, facadeRequest.targetSpaceId());
+        }
+
+        LinkBatchRequest request = mapper.toLinkBatchRequest(facadeRequest, memberId, spaceId);
+        return linkService.batchLinks(request);
+    }
+
     public LinkGetByQueryResponses getLinks(LinksGetByQueryRequest request) {
         spaceService.checkMemberCanViewLink(request.memberId(), request.spaceId());
         return linkService.getLinks(request);
     }
+
+    private void validateBatchRequest(Long spaceId, LinkBatchFacadeRequest request) {
+        if (request.operation() == LinkBatchOperation.MOVE
+                && (Objects.isNull(request.targetSpaceId()) || request.targetSpaceId().equals(spaceId))) {
+            throw new IllegalArgumentException("링크를 옮겨 갈 다른 스페이스를 지정해주세요.");
+        }
+
+        if (request.operation() == LinkBatchOperation.SET_TAG
+                && (Objects.isNull(request.tagName()) || Objects.isNull(request.color()))) {
+            throw new IllegalArgumentException("태그 이름과 색을 지정해주세요.");
+        }
+    }
 }
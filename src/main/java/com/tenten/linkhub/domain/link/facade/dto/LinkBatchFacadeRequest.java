@@ -0,0 +1,14 @@
+package com.tenten.linkhub.domain.link.facade.dto;
+
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+
+import java.util.List;
+
+public record LinkBatchFacadeRequest(
+        LinkBatchOperation operation,
+        List<Long> linkIds,
+        Long targetSpaceId,
+        String tagName,
+        String color
+) {
+}
@@ -1,7 +1,9 @@
 package com.tenten.linkhub.domain.link.facade.mapper;
 
+import com.tenten.linkhub.domain.link.facade.dto.LinkBatchFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkUpdateFacadeRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
 import org.mapstruct.InjectionStrategy;
@@ -20,4 +22,8 @@ public interface LinkFacadeMapper {
     @Mapping(source = "memberId", target = "memberId")
     @Mapping(source = "linkId", target = "linkId")
     LinkUpdateRequest toLinkUpdateRequest(LinkUpdateFacadeRequest request, Long memberId, Long spaceId, Long linkId);
+
+    @Mapping(source = "spaceId", target = "spaceId")
+    @Mapping(source = "memberId", target = "memberId")
+    LinkBatchRequest toLinkBatchRequest(LinkBatchFacadeRequest request, Long memberId, Long spaceId);
 }
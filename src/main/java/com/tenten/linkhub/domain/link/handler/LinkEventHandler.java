@@ -1,38 +1,50 @@
 package com.tenten.linkhub.domain.link.handler;
 
+import com.tenten.linkhub.domain.link.counter.LinkLikeCounter;
 import com.tenten.linkhub.domain.link.handler.dto.LinkDecreaseLikeCountEvent;
 import com.tenten.linkhub.domain.link.handler.dto.LinkIncreaseLikeCountEvent;
-import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
-import org.springframework.scheduling.annotation.Async;
+import com.tenten.linkhub.domain.link.leaderboard.PopularLinkLeaderboard;
+import com.tenten.linkhub.global.outbox.OutboxEventContext;
+import com.tenten.linkhub.global.outbox.OutboxEventDeduplicator;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
-
 @Component
 public class LinkEventHandler {
 
-    private final LinkRepository linkRepository;
+    private final LinkLikeCounter linkLikeCounter;
+    private final PopularLinkLeaderboard popularLinkLeaderboard;
+    private final OutboxEventDeduplicator outboxEventDeduplicator;
 
-    public LinkEventHandler(LinkRepository linkRepository) {
-        this.linkRepository = linkRepository;
+    public LinkEventHandler(LinkLikeCounter linkLikeCounter, PopularLinkLeaderboard popularLinkLeaderboard, OutboxEventDeduplicator outboxEventDeduplicator) {
+        this.linkLikeCounter = linkLikeCounter;
+        this.popularLinkLeaderboard = popularLinkLeaderboard;
+        this.outboxEventDeduplicator = outboxEventDeduplicator;
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void increaseLikeCount(LinkIncreaseLikeCountEvent event) {
-        linkRepository.increaseLikeCount(event.linkId());
+        if (!outboxEventDeduplicator.isFirstDelivery("link.like-increase")) {
+            return;
+        }
+
+        linkLikeCounter.change(event.linkId(), 1, OutboxEventContext.currentEventId());
+        popularLinkLeaderboard.changeLikeCount(event.linkId());
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void deleteLikeCount(LinkDecreaseLikeCountEvent event) {
-        linkRepository.decreaseLikeCount(event.linkId());
+        if (!outboxEventDeduplicator.isFirstDelivery("link.like-decrease")) {
+            return;
+        }
+
+        linkLikeCounter.change(event.linkId(), -1, OutboxEventContext.currentEventId());
+        popularLinkLeaderboard.changeLikeCount(event.linkId());
     }
 
 }
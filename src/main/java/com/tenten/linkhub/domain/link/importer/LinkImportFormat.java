@@ -0,0 +1,55 @@
+package com.tenten.linkhub.domain.link.importer;
+
+import com.tenten.linkhub.domain.link.importer.parser.BookmarkHtmlParser;
+import com.tenten.linkhub.domain.link.importer.parser.LinkCsvParser;
+import com.tenten.linkhub.domain.link.importer.parser.LinkImportParser;
+import com.tenten.linkhub.domain.link.importer.parser.LinkJsonParser;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+public enum LinkImportFormat {
+
+    HTML(new BookmarkHtmlParser(), "html", "htm"),
+    CSV(new LinkCsvParser(), "csv"),
+    JSON(new LinkJsonParser(), "json");
+
+    private final LinkImportParser parser;
+    private final String[] extensions;
+
+    LinkImportFormat(LinkImportParser parser, String... extensions) {
+        this.parser = parser;
+        this.extensions = extensions;
+    }
+
+    /**
+     * format을 주지 않으면 파일 확장자로 정한다.
+     */
+    public static LinkImportFormat from(String format, String fileName) {
+        if (StringUtils.hasText(format)) {
+            for (LinkImportFormat importFormat : values()) {
+                if (importFormat.name().equalsIgnoreCase(format.trim())) {
+                    return importFormat;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 가져오기 형식입니다.");
+        }
+
+        String extension = StringUtils.getFilenameExtension(fileName);
+        if (StringUtils.hasText(extension)) {
+            for (LinkImportFormat importFormat : values()) {
+                for (String importExtension : importFormat.extensions) {
+                    if (importExtension.equals(extension.toLowerCase(Locale.ROOT))) {
+                        return importFormat;
+                    }
+                }
+            }
+        }
+        throw new IllegalArgumentException("가져오기 형식을 알 수 없습니다. format을 html, csv, json 중 하나로 지정해주세요.");
+    }
+
+    public LinkImportParser getParser() {
+        return parser;
+    }
+
+}
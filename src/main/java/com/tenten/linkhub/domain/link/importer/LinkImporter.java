@@ -0,0 +1,181 @@
+package com.tenten.linkhub.domain.link.importer;
+
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
+import com.tenten.linkhub.domain.link.model.Color;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+import com.tenten.linkhub.domain.link.repository.linkimport.LinkImportJobJdbcRepository;
+import com.tenten.linkhub.domain.link.repository.linkimport.dto.LinkImportStatus;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkImportBatchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 가져오기 파일을 스트림으로 읽어 batchSize개씩 링크/태그/링크 태그를 다중 행 INSERT로 넣는다.<br>
+ * 묶음마다 별도 트랜잭션으로 커밋하고 진행 상황을 작업 행에 남기므로, 메모리에는 한 묶음만 올라간다.
+ * 파일을 읽다 실패하면 그때까지 넣은 링크는 남기고 작업을 FAILED로 기록한다.
+ */
+@Slf4j
+@Component
+public class LinkImporter {
+
+    private static final int MAX_URL_LENGTH = 2083;
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final int MAX_TAG_NAME_LENGTH = 30;
+
+    private final LinkService linkService;
+    private final LinkImportJobJdbcRepository linkImportJobJdbcRepository;
+    private final int batchSize;
+    private final long maxLinkCount;
+    private final Timer batchTimer;
+    private final Counter importedLinkCounter;
+
+    public LinkImporter(LinkService linkService,
+                        LinkImportJobJdbcRepository linkImportJobJdbcRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${link.import.batch-size:500}") int batchSize,
+                        @Value("${link.import.max-link-count:10000}") long maxLinkCount) {
+        this.linkService = linkService;
+        this.linkImportJobJdbcRepository = linkImportJobJdbcRepository;
+        this.batchSize = batchSize;
+        this.maxLinkCount = maxLinkCount;
+        this.batchTimer = Timer.builder("link.import.batch.latency")
+                .register(meterRegistry);
+        this.importedLinkCounter = Counter.builder("link.import.links")
+                .register(meterRegistry);
+    }
+
+    /**
+     * maxLinkCount를 넘는 링크와 URL이 올바르지 않은 링크는 건너뛴다.
+     */
+    public LinkImportResponse importLinks(Long spaceId, Long memberId, LinkImportFormat format, InputStreamSource source) {
+        Long jobId = linkImportJobJdbcRepository.save(spaceId, memberId, format.name());
+        ImportBatch batch = new ImportBatch(spaceId, memberId, jobId);
+
+        try (InputStream inputStream = source.getInputStream()) {
+            format.getParser().parse(inputStream, batch::add);
+            batch.flush();
+        } catch (IOException e) {
+            log.warn("가져오기 파일을 읽지 못했습니다. jobId: {}", jobId, e);
+            return batch.finish(LinkImportStatus.FAILED);
+        } catch (RuntimeException e) {
+            batch.finish(LinkImportStatus.FAILED);
+            throw e;
+        }
+
+        return batch.finish(LinkImportStatus.COMPLETED);
+    }
+
+    private Optional<ImportedLink> normalize(ImportedLink importedLink) {
+        String url = trimToNull(importedLink.url());
+
+        if (Objects.isNull(url) || url.length() > MAX_URL_LENGTH || !isHttpUrl(url)) {
+            return Optional.empty();
+        }
+
+        String title = Optional.ofNullable(trimToNull(importedLink.title())).orElse(url);
+        String tagName = trimToNull(importedLink.tagName());
+        String color = Objects.isNull(tagName) ? null : toColorValue(importedLink.color());
+
+        return Optional.of(new ImportedLink(
+                url,
+                truncate(title, MAX_TITLE_LENGTH),
+                Objects.isNull(tagName) ? null : truncate(tagName, MAX_TAG_NAME_LENGTH),
+                color));
+    }
+
+    private boolean isHttpUrl(String url) {
+        String lowerCaseUrl = url.toLowerCase(Locale.ROOT);
+        return lowerCaseUrl.startsWith("http://") || lowerCaseUrl.startsWith("https://");
+    }
+
+    private String toColorValue(String color) {
+        String lowerCaseColor = Objects.isNull(color) ? "" : color.trim().toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(Color.values())
+                .map(Color::getValue)
+                .filter(lowerCaseColor::equals)
+                .findFirst()
+                .orElse(Color.GRAY.getValue());
+    }
+
+    private String trimToNull(String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength).trim() : value;
+    }
+
+    private class ImportBatch {
+
+        private final Long spaceId;
+        private final Long memberId;
+        private final Long jobId;
+        private final List<ImportedLink> pendingLinks = new ArrayList<>();
+        private long importedLinkCount;
+        private long skippedLinkCount;
+        private long createdTagCount;
+
+        ImportBatch(Long spaceId, Long memberId, Long jobId) {
+            this.spaceId = spaceId;
+            this.memberId = memberId;
+            this.jobId = jobId;
+        }
+
+        void add(ImportedLink importedLink) {
+            Optional<ImportedLink> normalized = normalize(importedLink);
+
+            if (normalized.isEmpty() || importedLinkCount + pendingLinks.size() >= maxLinkCount) {
+                skippedLinkCount++;
+                return;
+            }
+
+            pendingLinks.add(normalized.get());
+
+            if (pendingLinks.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pendingLinks.isEmpty()) {
+                return;
+            }
+
+            LinkImportBatchResponse response = batchTimer.record(
+                    () -> linkService.importLinkBatch(spaceId, memberId, pendingLinks));
+
+            importedLinkCount += response.importedLinkCount();
+            createdTagCount += response.createdTagCount();
+            importedLinkCounter.increment(response.importedLinkCount());
+            pendingLinks.clear();
+
+            linkImportJobJdbcRepository.updateProgress(jobId, importedLinkCount, skippedLinkCount);
+        }
+
+        LinkImportResponse finish(LinkImportStatus status) {
+            linkImportJobJdbcRepository.updateStatus(jobId, status, importedLinkCount, skippedLinkCount + pendingLinks.size());
+
+            return new LinkImportResponse(jobId, status, importedLinkCount, skippedLinkCount + pendingLinks.size(), createdTagCount);
+        }
+    }
+
+}
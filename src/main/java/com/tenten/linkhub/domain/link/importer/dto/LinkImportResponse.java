@@ -0,0 +1,12 @@
+package com.tenten.linkhub.domain.link.importer.dto;
+
+import com.tenten.linkhub.domain.link.repository.linkimport.dto.LinkImportStatus;
+
+public record LinkImportResponse(
+        Long jobId,
+        LinkImportStatus status,
+        long importedLinkCount,
+        long skippedLinkCount,
+        long createdTagCount
+) {
+}
@@ -0,0 +1,162 @@
+package com.tenten.linkhub.domain.link.importer.parser;
+
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 브라우저가 내보내는 Netscape 북마크 HTML을 태그 단위로 읽는다.<br>
+ * 북마크의 TAGS 속성이 있으면 첫 번째 태그를, 없으면 북마크가 들어 있는 가장 안쪽 폴더 이름을 태그로 쓴다.
+ * 북마크바 폴더는 태그로 쓰지 않는다. 한 태그/텍스트는 최대 길이까지만 담아 메모리 사용량을 제한한다.
+ */
+public class BookmarkHtmlParser implements LinkImportParser {
+
+    private static final int MAX_TAG_LENGTH = 64 * 1024;
+    private static final int MAX_TEXT_LENGTH = 4096;
+    private static final String NO_FOLDER = "";
+    private static final Pattern ATTRIBUTE = Pattern.compile("([A-Za-z_:-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))");
+
+    @Override
+    public void parse(InputStream inputStream, Consumer<ImportedLink> consumer) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Deque<String> folders = new ArrayDeque<>();
+        StringBuilder text = new StringBuilder();
+        String pendingFolder = NO_FOLDER;
+        Map<String, String> anchorAttributes = null;
+        boolean inFolderName = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c != '<') {
+                if (text.length() < MAX_TEXT_LENGTH) {
+                    text.append((char) c);
+                }
+                continue;
+            }
+
+            String tag = readTag(reader);
+            switch (tagName(tag)) {
+                case "h3" -> {
+                    inFolderName = !attributes(tag).containsKey("personal_toolbar_folder");
+                    pendingFolder = NO_FOLDER;
+                    text.setLength(0);
+                }
+                case "/h3" -> {
+                    if (inFolderName) {
+                        pendingFolder = unescape(text);
+                    }
+                    inFolderName = false;
+                }
+                case "dl" -> {
+                    folders.push(pendingFolder);
+                    pendingFolder = NO_FOLDER;
+                }
+                case "/dl" -> {
+                    if (!folders.isEmpty()) {
+                        folders.pop();
+                    }
+                }
+                case "a" -> {
+                    anchorAttributes = attributes(tag);
+                    text.setLength(0);
+                }
+                case "/a" -> {
+                    if (Objects.nonNull(anchorAttributes)) {
+                        consumer.accept(toImportedLink(anchorAttributes, unescape(text), folders));
+                    }
+                    anchorAttributes = null;
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    private ImportedLink toImportedLink(Map<String, String> anchorAttributes, String title, Deque<String> folders) {
+        String tagName = Arrays.stream(anchorAttributes.getOrDefault("tags", "").split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .findFirst()
+                .orElseGet(() -> innermostFolder(folders));
+
+        return new ImportedLink(anchorAttributes.get("href"), title, tagName, null);
+    }
+
+    private String innermostFolder(Deque<String> folders) {
+        return folders.stream()
+                .filter(folder -> !folder.isEmpty())
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * '<' 다음부터 '>'까지 읽는다. 따옴표 안의 '>'는 태그의 끝으로 보지 않는다.
+     */
+    private String readTag(Reader reader) throws IOException {
+        StringBuilder tag = new StringBuilder();
+        char quote = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (quote == 0 && c == '>') {
+                break;
+            }
+
+            if (quote == 0 && (c == '"' || c == '\'')) {
+                quote = (char) c;
+            } else if (c == quote) {
+                quote = 0;
+            }
+
+            if (tag.length() < MAX_TAG_LENGTH) {
+                tag.append((char) c);
+            }
+        }
+
+        return tag.toString();
+    }
+
+    private String tagName(String tag) {
+        int end = 0;
+        while (end < tag.length() && !Character.isWhitespace(tag.charAt(end))) {
+            end++;
+        }
+
+        return tag.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new HashMap<>();
+        Matcher matcher = ATTRIBUTE.matcher(tag);
+
+        while (matcher.find()) {
+            String value = matcher.group(2) != null ? matcher.group(2)
+                    : matcher.group(3) != null ? matcher.group(3)
+                    : matcher.group(4);
+            attributes.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), HtmlUtils.htmlUnescape(value));
+        }
+
+        return attributes;
+    }
+
+    private String unescape(StringBuilder text) {
+        return HtmlUtils.htmlUnescape(text.toString()).trim();
+    }
+
+}
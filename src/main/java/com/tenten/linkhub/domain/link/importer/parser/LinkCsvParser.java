@@ -0,0 +1,158 @@
+package com.tenten.linkhub.domain.link.importer.parser;
+
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * RFC 4180 CSV를 행 단위로 읽는다. 첫 행에 url 열이 있으면 헤더로 보고 열 이름(url, title, tag, color)으로 찾는다.
+ * 헤더가 없으면 url, title, tag, color 순서로 본다.
+ */
+public class LinkCsvParser implements LinkImportParser {
+
+    private static final int MAX_FIELD_LENGTH = 8192;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    @Override
+    public void parse(InputStream inputStream, Consumer<ImportedLink> consumer) throws IOException {
+        PushbackReader reader = new PushbackReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        skipByteOrderMark(reader);
+
+        List<String> firstRecord = readRecord(reader);
+        if (firstRecord == null) {
+            return;
+        }
+
+        Columns columns = Columns.from(firstRecord);
+        if (!columns.fromHeader()) {
+            accept(firstRecord, columns, consumer);
+        }
+
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            accept(record, columns, consumer);
+        }
+    }
+
+    private void skipByteOrderMark(PushbackReader reader) throws IOException {
+        int c = reader.read();
+        if (c != -1 && c != BYTE_ORDER_MARK) {
+            reader.unread(c);
+        }
+    }
+
+    private void accept(List<String> record, Columns columns, Consumer<ImportedLink> consumer) {
+        if (record.size() == 1 && record.get(0).isBlank()) {
+            return;
+        }
+
+        consumer.accept(new ImportedLink(
+                field(record, columns.url()),
+                field(record, columns.title()),
+                field(record, columns.tag()),
+                field(record, columns.color())));
+    }
+
+    private String field(List<String> record, int index) {
+        return index >= 0 && index < record.size() ? record.get(index) : null;
+    }
+
+    /**
+     * 한 행을 읽는다. 따옴표 안의 줄바꿈과 ""는 값으로 본다. 더 읽을 행이 없으면 null.
+     */
+    private List<String> readRecord(PushbackReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.unread(next);
+                        }
+                    }
+                } else {
+                    append(field, (char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = reader.read();
+                    if (next != '\n' && next != -1) {
+                        reader.unread(next);
+                    }
+                }
+                break;
+            } else {
+                append(field, (char) c);
+            }
+
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void append(StringBuilder field, char c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append(c);
+        }
+    }
+
+    private record Columns(boolean fromHeader, int url, int title, int tag, int color) {
+
+        private static final Columns DEFAULT = new Columns(false, 0, 1, 2, 3);
+
+        static Columns from(List<String> firstRecord) {
+            int url = -1;
+            int title = -1;
+            int tag = -1;
+            int color = -1;
+
+            for (int i = 0; i < firstRecord.size(); i++) {
+                String name = firstRecord.get(i).trim().toLowerCase(Locale.ROOT);
+
+                switch (name) {
+                    case "url" -> url = i;
+                    case "title", "name" -> title = i;
+                    case "tag", "tagname", "tag_name", "tags" -> tag = i;
+                    case "color" -> color = i;
+                    default -> {
+                    }
+                }
+            }
+
+            if (url < 0) {
+                return DEFAULT;
+            }
+
+            return new Columns(true, url, title, tag, color);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.tenten.linkhub.domain.link.importer.parser;
+
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * 가져오기 파일을 스트림으로 읽으며 링크를 하나씩 넘긴다. 파일 전체를 메모리에 올리지 않는다.
+ */
+public interface LinkImportParser {
+
+    void parse(InputStream inputStream, Consumer<ImportedLink> consumer) throws IOException;
+
+}
@@ -0,0 +1,71 @@
+package com.tenten.linkhub.domain.link.importer.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * [{"url": ..., "title": ..., "tagName": ..., "color": ...}] 형태의 배열을 원소 단위로 읽는다.
+ */
+public class LinkJsonParser implements LinkImportParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @Override
+    public void parse(InputStream inputStream, Consumer<ImportedLink> consumer) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("링크 목록은 JSON 배열이어야 합니다.");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("JSON 배열이 끝나지 않았습니다.");
+                }
+
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                consumer.accept(readLink(parser));
+            }
+        }
+    }
+
+    private ImportedLink readLink(JsonParser parser) throws IOException {
+        String url = null;
+        String title = null;
+        String tagName = null;
+        String color = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+
+            String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+            switch (field) {
+                case "url" -> url = text;
+                case "title" -> title = text;
+                case "tagName", "tag" -> tagName = text;
+                case "color" -> color = text;
+                default -> {
+                }
+            }
+        }
+
+        return new ImportedLink(url, title, tagName, color);
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.tenten.linkhub.domain.link.leaderboard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenten.linkhub.domain.link.counter.LinkLikeCounter;
+import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
+import com.tenten.linkhub.domain.link.repository.link.PopularLinkRedisRepository;
+import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkScore;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 전체/카테고리별 인기 링크 상위 capacity개를 Redis sorted set으로 유지한다.<br>
+ * 좋아요가 바뀔 때마다 해당 링크의 점수를 덮어쓰고, 보드 밖의 링크가 올라오지 못하는 어긋남은
+ * 주기적으로 DB에서 다시 계산해 바로잡는다.
+ * 링크의 카테고리는 로컬 캐시에 두어 좋아요마다 DB를 조회하지 않고, 재계산할 때 새로 채운다.
+ */
+@Slf4j
+@Component
+public class PopularLinkLeaderboard {
+
+    private final PopularLinkRedisRepository popularLinkRedisRepository;
+    private final LinkRepository linkRepository;
+    private final LinkLikeCounter linkLikeCounter;
+    private final boolean enabled;
+    private final int capacity;
+    private final Timer rebuildTimer;
+    private final Cache<Long, Category> linkCategories;
+
+    public PopularLinkLeaderboard(PopularLinkRedisRepository popularLinkRedisRepository,
+                                  LinkRepository linkRepository,
+                                  LinkLikeCounter linkLikeCounter,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${leaderboard.popular-link.enabled:false}") boolean enabled,
+                                  @Value("${leaderboard.popular-link.capacity:100}") int capacity,
+                                  @Value("${leaderboard.popular-link.category-cache.max-size:10000}") long categoryCacheMaxSize,
+                                  @Value("${leaderboard.popular-link.category-cache.ttl-minutes:10}") long categoryCacheTtlMinutes) {
+        this.popularLinkRedisRepository = popularLinkRedisRepository;
+        this.linkRepository = linkRepository;
+        this.linkLikeCounter = linkLikeCounter;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.rebuildTimer = Timer.builder("link.popular.rebuild.latency")
+                .register(meterRegistry);
+        this.linkCategories = Caffeine.newBuilder()
+                .maximumSize(categoryCacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(categoryCacheTtlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, linkCategories, "popularLinkCategory");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 삭제된 링크가 섞여 있을 수 있으므로 보드 전체를 반환한다. 조회하지 못하면 빈 리스트를 반환한다.
+     */
+    public List<Long> getTopLinkIds(Category category) {
+        if (!enabled) {
+            return List.of();
+        }
+
+        try {
+            return popularLinkRedisRepository.getTopLinkIds(category, capacity);
+        } catch (DataAccessException e) {
+            log.warn("인기 링크 보드를 조회하지 못했습니다. category: {}", category, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 좋아요 수가 바뀐 뒤에 호출한다. 카테고리가 캐시에 있고 실시간 좋아요 수가 있으면 DB를 조회하지 않는다.
+     */
+    public void changeLikeCount(Long linkId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Category category = linkCategories.getIfPresent(linkId);
+            Long likeCount = linkLikeCounter.getLikeCounts(List.of(linkId)).get(linkId);
+
+            if (Objects.nonNull(category) && Objects.nonNull(likeCount)) {
+                popularLinkRedisRepository.updateScore(linkId, category, likeCount, capacity);
+                return;
+            }
+
+            Optional<PopularLinkScore> popularLinkScore = linkRepository.findPopularLinkScore(linkId);
+
+            if (popularLinkScore.isEmpty()) {
+                linkCategories.invalidate(linkId);
+                popularLinkRedisRepository.remove(linkId);
+                return;
+            }
+
+            cacheCategory(popularLinkScore.get());
+            popularLinkRedisRepository.updateScore(
+                    linkId,
+                    popularLinkScore.get().category(),
+                    Objects.isNull(likeCount) ? popularLinkScore.get().likeCount() : likeCount,
+                    capacity);
+        } catch (DataAccessException e) {
+            log.warn("인기 링크 보드를 갱신하지 못했습니다. 다음 재계산에서 반영됩니다. linkId: {}", linkId, e);
+        }
+    }
+
+    /**
+     * 링크를 삭제한 커밋 뒤에 보드와 카테고리 캐시에서 뺀다.
+     */
+    public void removeLinks(List<Long> linkIds) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> linkIds.forEach(linkId -> {
+            linkCategories.invalidate(linkId);
+            popularLinkRedisRepository.remove(linkId);
+        }));
+    }
+
+    /**
+     * 링크를 다른 스페이스로 옮기면 카테고리가 바뀔 수 있으므로 다음 좋아요에서 다시 읽게 한다.
+     */
+    public void evictCategories(List<Long> linkIds) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> linkCategories.invalidateAll(linkIds));
+    }
+
+    @Scheduled(fixedDelayString = "${leaderboard.popular-link.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        rebuildTimer.record(() -> {
+            linkCategories.invalidateAll();
+            rebuild(null);
+            for (Category category : Category.values()) {
+                rebuild(category);
+            }
+        });
+    }
+
+    private void rebuild(Category category) {
+        try {
+            List<PopularLinkScore> popularLinkScores = linkRepository.findPopularLinkScores(category, capacity);
+            popularLinkScores.forEach(this::cacheCategory);
+            Map<Long, Long> liveLikeCounts = linkLikeCounter.getLikeCounts(popularLinkScores.stream()
+                    .map(PopularLinkScore::linkId)
+                    .toList());
+
+            Map<Long, Long> likeCounts = new LinkedHashMap<>();
+            popularLinkScores.forEach(popularLinkScore -> likeCounts.put(
+                    popularLinkScore.linkId(),
+                    liveLikeCounts.getOrDefault(popularLinkScore.linkId(), popularLinkScore.likeCount())));
+
+            popularLinkRedisRepository.replace(category, likeCounts);
+        } catch (DataAccessException e) {
+            log.warn("인기 링크 보드를 다시 계산하지 못했습니다. category: {}", category, e);
+        }
+    }
+
+    private void cacheCategory(PopularLinkScore popularLinkScore) {
+        if (Objects.nonNull(popularLinkScore.category())) {
+            linkCategories.put(popularLinkScore.linkId(), popularLinkScore.category());
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(task);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (DataAccessException e) {
+            log.warn("인기 링크 보드에서 링크를 빼지 못했습니다. 다음 재계산에서 반영됩니다.", e);
+        }
+    }
+
+}
@@ -10,12 +10,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "link_view_histories")
+@Table(name = "link_view_histories", uniqueConstraints = {
+        @UniqueConstraint(
+                name = "uk_link_view_histories_link_id_member_id",
+                columnNames = {"link_id", "memberId"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class LinkViewHistory extends BaseTimeEntity {
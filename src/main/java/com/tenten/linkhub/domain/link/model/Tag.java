@@ -36,6 +36,12 @@ public class Tag {
     @Enumerated(EnumType.STRING)
     private Color color;
 
+    /**
+     * 삭제되지 않은 링크 태그 수. 링크 태그를 추가/삭제할 때 같은 트랜잭션에서 UPDATE로만 바꾼다.
+     */
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long usageCount;
+
     public static Tag toTag(Space space,
                             String name,
                             Color color) {
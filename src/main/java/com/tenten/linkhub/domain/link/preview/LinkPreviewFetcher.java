@@ -0,0 +1,246 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * 논블로킹 WebClient로 페이지를 가져와 미리보기를 만든다.<br>
+ * 연결/응답/전체 시간 제한을 두고, 본문은 maxBodyBytes까지만 읽은 뒤 연결을 끊는다.
+ * HTML이 아니거나 2xx가 아니면 빈 결과를 낸다.
+ * allowPrivateHosts가 꺼져 있으면 localhost와 내부망 주소로 가는 요청(리다이렉트 포함)을 막는다.
+ * IP 리터럴은 요청 전에 거르고, 호스트 이름은 연결할 때 조회한 주소를 보고 거른다(127.1, 2130706433 같은 표기 포함).
+ * 테스트처럼 루프백 서버에 붙어야 할 때만 link.preview.allow-private-hosts로 허용한다.
+ */
+@Component
+public class LinkPreviewFetcher {
+
+    private static final String USER_AGENT = "LinkHubPreviewBot/1.0";
+    private static final Pattern IP_LITERAL = Pattern.compile("^(\\d{1,3}(\\.\\d{1,3}){3}|\\[?[0-9a-f.]*:[0-9a-f:.]*]?)$");
+
+    private final WebClient webClient;
+    private final LinkPreviewHtmlParser htmlParser = new LinkPreviewHtmlParser();
+    private final int maxBodyBytes;
+    private final Duration timeout;
+    private final boolean allowPrivateHosts;
+
+    public LinkPreviewFetcher(WebClient.Builder webClientBuilder,
+                              @Value("${link.preview.connect-timeout-millis:2000}") int connectTimeoutMillis,
+                              @Value("${link.preview.response-timeout-millis:3000}") long responseTimeoutMillis,
+                              @Value("${link.preview.timeout-millis:5000}") long timeoutMillis,
+                              @Value("${link.preview.max-body-bytes:262144}") int maxBodyBytes,
+                              @Value("${link.preview.allow-private-hosts:false}") boolean allowPrivateHosts) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .followRedirect((request, response) -> response.status().code() / 100 == 3
+                        && isAllowedRedirect(response.responseHeaders().get(HttpHeaderNames.LOCATION)));
+
+        if (!allowPrivateHosts) {
+            httpClient = httpClient.resolver(new PublicAddressResolverGroup());
+        }
+
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.maxBodyBytes = maxBodyBytes;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.allowPrivateHosts = allowPrivateHosts;
+    }
+
+    public Mono<LinkPreviewDto> fetch(String url) {
+        URI uri = URI.create(url);
+
+        if (!isAllowedHost(uri.getHost())) {
+            return Mono.empty();
+        }
+
+        return webClient.get()
+                .uri(uri)
+                .accept(MediaType.TEXT_HTML, MediaType.APPLICATION_XHTML_XML)
+                .header(HttpHeaders.USER_AGENT, USER_AGENT)
+                .exchangeToMono(response -> toPreview(response, uri))
+                .timeout(timeout);
+    }
+
+    private Mono<LinkPreviewDto> toPreview(ClientResponse response, URI uri) {
+        MediaType contentType = response.headers().contentType().orElse(null);
+
+        if (!response.statusCode().is2xxSuccessful() || !isHtml(contentType)) {
+            return response.releaseBody().then(Mono.empty());
+        }
+
+        Charset charset = Objects.nonNull(contentType.getCharset()) ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        return readBody(response.bodyToFlux(DataBuffer.class))
+                .map(body -> htmlParser.parse(new String(body, charset), uri));
+    }
+
+    /**
+     * maxBodyBytes를 채우면 나머지 본문은 받지 않고 구독을 끊는다.
+     */
+    private Mono<byte[]> readBody(Flux<DataBuffer> body) {
+        return Mono.defer(() -> {
+            AtomicInteger readBytes = new AtomicInteger();
+
+            return body.takeUntil(buffer -> readBytes.addAndGet(buffer.readableByteCount()) >= maxBodyBytes)
+                    .collect(ByteArrayOutputStream::new, (out, buffer) -> {
+                        try {
+                            int length = Math.min(buffer.readableByteCount(), maxBodyBytes - out.size());
+                            byte[] bytes = new byte[length];
+                            buffer.read(bytes);
+                            out.write(bytes, 0, length);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .map(ByteArrayOutputStream::toByteArray);
+        });
+    }
+
+    private boolean isHtml(MediaType contentType) {
+        return Objects.nonNull(contentType)
+                && (contentType.isCompatibleWith(MediaType.TEXT_HTML) || contentType.isCompatibleWith(MediaType.APPLICATION_XHTML_XML));
+    }
+
+    private boolean isAllowedRedirect(String location) {
+        if (Objects.isNull(location)) {
+            return false;
+        }
+
+        try {
+            URI uri = URI.create(location);
+            return !uri.isAbsolute() || isAllowedHost(uri.getHost());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * DNS 조회 없이 판단할 수 있는 호스트 이름과 IP 리터럴만 본다.
+     * 나머지 호스트 이름은 연결할 때 PublicAddressResolverGroup이 조회한 주소로 판단한다.
+     */
+    private boolean isAllowedHost(String host) {
+        if (allowPrivateHosts) {
+            return true;
+        }
+
+        if (Objects.isNull(host)) {
+            return false;
+        }
+
+        String lowerCaseHost = host.toLowerCase(Locale.ROOT);
+        if (lowerCaseHost.equals("localhost") || lowerCaseHost.endsWith(".localhost")) {
+            return false;
+        }
+
+        if (!IP_LITERAL.matcher(lowerCaseHost).matches()) {
+            return true;
+        }
+
+        try {
+            return isPublicAddress(InetAddress.getByName(lowerCaseHost));
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static boolean isPublicAddress(InetAddress address) {
+        return !(address.isLoopbackAddress()
+                || address.isSiteLocalAddress()
+                || address.isLinkLocalAddress()
+                || address.isAnyLocalAddress()
+                || address.isMulticastAddress()
+                || isUniqueLocalAddress(address));
+    }
+
+    /**
+     * IPv6 사설 대역(fc00::/7)은 isSiteLocalAddress가 잡지 않는다.
+     */
+    private static boolean isUniqueLocalAddress(InetAddress address) {
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc;
+    }
+
+    /**
+     * 리다이렉트를 포함한 모든 연결에서 호스트 이름을 조회한 뒤, 내부망 주소가 하나라도 섞여 있으면 연결하지 않는다.
+     * 조회는 Netty 기본 리졸버와 같이 JDK 리졸버를 쓴다.
+     */
+    private static class PublicAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+        @Override
+        protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+            return new PublicInetNameResolver(executor).asAddressResolver();
+        }
+
+    }
+
+    private static class PublicInetNameResolver extends InetNameResolver {
+
+        PublicInetNameResolver(EventExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            try {
+                InetAddress address = InetAddress.getByName(inetHost);
+                checkPublic(inetHost, List.of(address));
+                promise.setSuccess(address);
+            } catch (UnknownHostException e) {
+                promise.setFailure(e);
+            }
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            try {
+                List<InetAddress> addresses = Arrays.asList(InetAddress.getAllByName(inetHost));
+                checkPublic(inetHost, addresses);
+                promise.setSuccess(addresses);
+            } catch (UnknownHostException e) {
+                promise.setFailure(e);
+            }
+        }
+
+        private void checkPublic(String inetHost, List<InetAddress> addresses) throws UnknownHostException {
+            if (!addresses.stream().allMatch(LinkPreviewFetcher::isPublicAddress)) {
+                throw new UnknownHostException("내부망 주소로는 미리보기를 가져오지 않습니다. host: " + inetHost);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import org.springframework.web.util.HtmlUtils;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 페이지 앞부분에서 제목, 설명, 파비콘을 찾는다. Open Graph/트위터 카드 메타 태그를 먼저 보고 없으면 title, description을 쓴다.
+ * 파비콘 링크가 없으면 /favicon.ico를 쓴다.
+ */
+public class LinkPreviewHtmlParser {
+
+    private static final int MAX_TITLE_LENGTH = 300;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+    private static final int MAX_URL_LENGTH = 2083;
+    private static final Pattern META_TAG = Pattern.compile("<meta\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LINK_TAG = Pattern.compile("<link\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TITLE = Pattern.compile("<title\\b[^>]*>(.*?)</title>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern ATTRIBUTE = Pattern.compile("([A-Za-z_:-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s\"'>]+))");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public LinkPreviewDto parse(String html, URI pageUri) {
+        Map<String, String> metas = metas(html);
+
+        String title = firstNonBlank(
+                metas.get("og:title"),
+                metas.get("twitter:title"),
+                titleTag(html));
+        String description = firstNonBlank(
+                metas.get("og:description"),
+                metas.get("twitter:description"),
+                metas.get("description"));
+
+        return new LinkPreviewDto(
+                truncate(title, MAX_TITLE_LENGTH),
+                truncate(description, MAX_DESCRIPTION_LENGTH),
+                faviconUrl(html, pageUri));
+    }
+
+    /**
+     * property 또는 name을 키로, content를 값으로 모은다. 같은 키는 처음 나온 값을 쓴다.
+     */
+    private Map<String, String> metas(String html) {
+        Map<String, String> metas = new HashMap<>();
+        Matcher matcher = META_TAG.matcher(html);
+
+        while (matcher.find()) {
+            Map<String, String> attributes = attributes(matcher.group());
+            String key = Optional.ofNullable(attributes.get("property")).orElse(attributes.get("name"));
+            String content = attributes.get("content");
+
+            if (Objects.nonNull(key) && Objects.nonNull(content)) {
+                metas.putIfAbsent(key.toLowerCase(Locale.ROOT), content);
+            }
+        }
+
+        return metas;
+    }
+
+    private String titleTag(String html) {
+        Matcher matcher = TITLE.matcher(html);
+        return matcher.find() ? HtmlUtils.htmlUnescape(matcher.group(1)) : null;
+    }
+
+    /**
+     * rel에 icon이 들어간 첫 링크를 쓰고, apple-touch-icon은 다른 아이콘이 없을 때만 쓴다.
+     */
+    private String faviconUrl(String html, URI pageUri) {
+        String iconHref = null;
+        String touchIconHref = null;
+        Matcher matcher = LINK_TAG.matcher(html);
+
+        while (Objects.isNull(iconHref) && matcher.find()) {
+            Map<String, String> attributes = attributes(matcher.group());
+            String rel = attributes.getOrDefault("rel", "").toLowerCase(Locale.ROOT);
+            String href = attributes.get("href");
+
+            if (Objects.isNull(href) || href.isBlank() || !rel.contains("icon")) {
+                continue;
+            }
+
+            if (rel.contains("apple-touch-icon")) {
+                touchIconHref = Optional.ofNullable(touchIconHref).orElse(href);
+            } else {
+                iconHref = href;
+            }
+        }
+
+        String href = Objects.nonNull(iconHref) ? iconHref
+                : Objects.nonNull(touchIconHref) ? touchIconHref
+                : "/favicon.ico";
+
+        return resolve(pageUri, href.trim());
+    }
+
+    private String resolve(URI pageUri, String href) {
+        try {
+            URI faviconUri = pageUri.resolve(href);
+            String scheme = faviconUri.getScheme();
+
+            if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+                return null;
+            }
+
+            String faviconUrl = faviconUri.toString();
+            return faviconUrl.length() > MAX_URL_LENGTH ? null : faviconUrl;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new HashMap<>();
+        Matcher matcher = ATTRIBUTE.matcher(tag);
+
+        while (matcher.find()) {
+            String value = matcher.group(2) != null ? matcher.group(2)
+                    : matcher.group(3) != null ? matcher.group(3)
+                    : matcher.group(4);
+            attributes.putIfAbsent(matcher.group(1).toLowerCase(Locale.ROOT), HtmlUtils.htmlUnescape(value));
+        }
+
+        return attributes;
+    }
+
+    private String firstNonBlank(String... values) {
+        return Stream.of(values)
+                .filter(Objects::nonNull)
+                .map(value -> WHITESPACE.matcher(value).replaceAll(" ").trim())
+                .filter(value -> !value.isEmpty())
+                .findFirst()
+                .orElse(null);
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (Objects.isNull(value)) {
+            return null;
+        }
+        return value.length() > maxLength ? value.substring(0, maxLength).trim() : value;
+    }
+
+}
@@ -0,0 +1,311 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.tenten.linkhub.domain.link.repository.linkpreview.LinkPreviewJdbcRepository;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.CachedLinkPreview;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewStatus;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 링크 미리보기(제목, 설명, 파비콘)를 백그라운드에서 가져와 URL 해시 단위로 저장하는 파이프라인.<br>
+ * 요청은 제한된 큐에 넣고 전체 maxConcurrency개, 호스트별 maxConcurrencyPerHost개까지만 동시에 가져온다.
+ * 호스트 한도가 찬 요청은 잠시 뒤 큐에 다시 넣고, 큐가 가득 차면 버린다(다음 조회 때 다시 요청된다).
+ * 호스트별 가져오는 수는 가져오는 중인 호스트만 들고 있다가 0이 되면 지우므로, 한도가 중간에 풀리지 않는다.
+ * 조회는 저장된 결과만 돌려주고 기다리지 않는다. 없거나 오래된 미리보기는 그때 요청한다.
+ * 미리보기를 요청한 스페이스는 URL별로 기억했다가, 새 미리보기를 저장하면 주기마다 모아서 버전을 올린다.
+ * 그래야 미리보기 없이 받은 링크 목록의 ETag로 다시 조회해도 304가 아니다.
+ */
+@Slf4j
+@Component
+public class LinkPreviewPipeline {
+
+    private final Set<String> inFlightUrlHashes = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> hostFetchCounts = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> requestedSpaceIds = new ConcurrentHashMap<>();
+    private final Set<Long> changedSpaceIds = ConcurrentHashMap.newKeySet();
+
+    private final LinkPreviewJdbcRepository linkPreviewJdbcRepository;
+    private final LinkPreviewFetcher linkPreviewFetcher;
+    private final SpaceVersionTracker spaceVersionTracker;
+    private final Sinks.Many<LinkPreviewUrl> requests;
+    private final boolean enabled;
+    private final int maxConcurrency;
+    private final int maxConcurrencyPerHost;
+    private final Duration ttl;
+    private final Duration failureRetryInterval;
+    private final Duration hostRetryDelay;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter droppedCounter;
+    private Disposable subscription;
+
+    public LinkPreviewPipeline(LinkPreviewJdbcRepository linkPreviewJdbcRepository,
+                               LinkPreviewFetcher linkPreviewFetcher,
+                               SpaceVersionTracker spaceVersionTracker,
+                               MeterRegistry meterRegistry,
+                               @Value("${link.preview.enabled:false}") boolean enabled,
+                               @Value("${link.preview.max-concurrency:32}") int maxConcurrency,
+                               @Value("${link.preview.max-concurrency-per-host:2}") int maxConcurrencyPerHost,
+                               @Value("${link.preview.queue-capacity:10000}") int queueCapacity,
+                               @Value("${link.preview.ttl-hours:168}") long ttlHours,
+                               @Value("${link.preview.failure-retry-hours:24}") long failureRetryHours,
+                               @Value("${link.preview.host-retry-delay-millis:500}") long hostRetryDelayMillis) {
+        this.linkPreviewJdbcRepository = linkPreviewJdbcRepository;
+        this.linkPreviewFetcher = linkPreviewFetcher;
+        this.spaceVersionTracker = spaceVersionTracker;
+        this.requests = Sinks.many().unicast().onBackpressureBuffer(Queues.<LinkPreviewUrl>get(queueCapacity).get());
+        this.enabled = enabled;
+        this.maxConcurrency = maxConcurrency;
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.failureRetryInterval = Duration.ofHours(failureRetryHours);
+        this.hostRetryDelay = Duration.ofMillis(hostRetryDelayMillis);
+        this.successTimer = Timer.builder("link.preview.fetch.latency")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("link.preview.fetch.latency")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("link.preview.dropped")
+                .register(meterRegistry);
+
+        Gauge.builder("link.preview.in-flight", inFlightUrlHashes, Set::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        subscription = requests.asFlux()
+                .flatMap(this::process, maxConcurrency)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(subscription)) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * 저장된 미리보기를 URL별로 돌려준다. 없거나 오래된 URL은 가져오기를 요청하고 기다리지 않는다.
+     */
+    public Map<String, LinkPreviewDto> getPreviews(Long spaceId, Collection<String> urls) {
+        if (!enabled || urls.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, LinkPreviewUrl> previewUrls = new HashMap<>();
+        urls.forEach(url -> LinkPreviewUrl.from(url).ifPresent(previewUrl -> previewUrls.put(url, previewUrl)));
+
+        List<String> urlHashes = previewUrls.values().stream()
+                .map(LinkPreviewUrl::urlHash)
+                .distinct()
+                .toList();
+        Map<String, CachedLinkPreview> cachedPreviews = linkPreviewJdbcRepository.findByUrlHashes(urlHashes);
+
+        Map<String, LinkPreviewDto> previews = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        previewUrls.forEach((url, previewUrl) -> {
+            CachedLinkPreview cachedPreview = cachedPreviews.get(previewUrl.urlHash());
+
+            if (Objects.isNull(cachedPreview) || isExpired(cachedPreview, now)) {
+                submit(spaceId, previewUrl);
+            }
+
+            Optional.ofNullable(cachedPreview)
+                    .map(CachedLinkPreview::preview)
+                    .ifPresent(preview -> previews.put(url, preview));
+        });
+
+        return previews;
+    }
+
+    /**
+     * 링크를 저장한 트랜잭션이 커밋된 뒤에 요청한다.
+     */
+    public void request(Long spaceId, String url) {
+        if (!enabled) {
+            return;
+        }
+
+        LinkPreviewUrl.from(url).ifPresent(previewUrl -> afterCommit(() -> submit(spaceId, previewUrl)));
+    }
+
+    /**
+     * 새 미리보기를 저장한 스페이스의 버전을 주기마다 한 번씩만 올린다.
+     * 미리보기는 트랜잭션 밖에서 저장하므로 이 시점에는 이미 커밋되어 있다.
+     */
+    @Scheduled(fixedDelayString = "${link.preview.version-flush-interval-millis:1000}")
+    public void increaseChangedSpaceVersions() {
+        if (!enabled || changedSpaceIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> spaceIds = new ArrayList<>(changedSpaceIds);
+        changedSpaceIds.removeAll(spaceIds);
+        spaceIds.forEach(spaceVersionTracker::increaseVersion);
+    }
+
+    private boolean isExpired(CachedLinkPreview cachedPreview, LocalDateTime now) {
+        Duration maxAge = cachedPreview.status() == LinkPreviewStatus.SUCCESS ? ttl : failureRetryInterval;
+        return cachedPreview.fetchedAt().plus(maxAge).isBefore(now);
+    }
+
+    /**
+     * 이미 가져오는 중인 URL이어도 스페이스는 기록해 두어야 저장한 뒤 그 스페이스의 버전도 올린다.
+     */
+    private void submit(Long spaceId, LinkPreviewUrl previewUrl) {
+        requestedSpaceIds.compute(previewUrl.urlHash(), (urlHash, spaceIds) -> {
+            Set<Long> requested = Objects.isNull(spaceIds) ? ConcurrentHashMap.newKeySet() : spaceIds;
+            requested.add(spaceId);
+            return requested;
+        });
+
+        if (!inFlightUrlHashes.add(previewUrl.urlHash())) {
+            return;
+        }
+
+        enqueue(previewUrl);
+    }
+
+    private void enqueue(LinkPreviewUrl previewUrl) {
+        if (!tryEmit(previewUrl)) {
+            inFlightUrlHashes.remove(previewUrl.urlHash());
+            requestedSpaceIds.remove(previewUrl.urlHash());
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * 여러 스레드에서 동시에 넣을 수 있도록 직렬화한다.
+     */
+    private synchronized boolean tryEmit(LinkPreviewUrl previewUrl) {
+        return requests.tryEmitNext(previewUrl).isSuccess();
+    }
+
+    private Mono<Void> process(LinkPreviewUrl previewUrl) {
+        if (!tryAcquireHost(previewUrl.host())) {
+            Mono.delay(hostRetryDelay)
+                    .subscribe(ignored -> enqueue(previewUrl));
+            return Mono.empty();
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicBoolean saved = new AtomicBoolean();
+
+        return Mono.defer(() -> linkPreviewFetcher.fetch(previewUrl.normalizedUrl()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.debug("링크 미리보기를 가져오지 못했습니다. url: {}", previewUrl.normalizedUrl(), e);
+                    return Mono.just(Optional.empty());
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(preview -> saved.set(save(previewUrl, preview, System.nanoTime() - startedAt)))
+                .onErrorResume(e -> {
+                    log.warn("링크 미리보기를 저장하지 못했습니다. url: {}", previewUrl.normalizedUrl(), e);
+                    return Mono.empty();
+                })
+                .doFinally(signal -> {
+                    releaseHost(previewUrl.host());
+                    inFlightUrlHashes.remove(previewUrl.urlHash());
+                    markChanged(previewUrl, saved.get());
+                })
+                .then();
+    }
+
+    private boolean tryAcquireHost(String host) {
+        AtomicBoolean acquired = new AtomicBoolean();
+
+        hostFetchCounts.compute(host, (key, count) -> {
+            int fetchCount = Objects.isNull(count) ? 0 : count;
+
+            if (fetchCount >= maxConcurrencyPerHost) {
+                return count;
+            }
+
+            acquired.set(true);
+            return fetchCount + 1;
+        });
+
+        return acquired.get();
+    }
+
+    private void releaseHost(String host) {
+        hostFetchCounts.computeIfPresent(host, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * 응답에 보이는 미리보기를 저장했으면 true를 반환한다. 실패는 응답이 그대로(null)이므로 버전을 올리지 않는다.
+     */
+    private boolean save(LinkPreviewUrl previewUrl, Optional<LinkPreviewDto> preview, long elapsedNanos) {
+        LinkPreviewStatus status = preview.isPresent() ? LinkPreviewStatus.SUCCESS : LinkPreviewStatus.FAILED;
+        Timer timer = preview.isPresent() ? successTimer : failureTimer;
+        timer.record(Duration.ofNanos(elapsedNanos));
+
+        linkPreviewJdbcRepository.upsert(previewUrl.urlHash(), previewUrl.normalizedUrl(), status, preview.orElse(null));
+        return preview.isPresent();
+    }
+
+    /**
+     * 가져오는 중 표시를 지운 뒤에 요청한 스페이스를 꺼내므로, 그 사이에 들어온 요청은 새로 가져오면서 다시 기록된다.
+     */
+    private void markChanged(LinkPreviewUrl previewUrl, boolean saved) {
+        Set<Long> spaceIds = requestedSpaceIds.remove(previewUrl.urlHash());
+
+        if (saved && Objects.nonNull(spaceIds)) {
+            changedSpaceIds.addAll(spaceIds);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 미리보기 캐시 키를 만들기 위해 정규화한 URL.<br>
+ * 스킴/호스트를 소문자로 바꾸고 기본 포트, 프래그먼트, 추적용 쿼리 파라미터(utm_*, fbclid, gclid)를 뺀다.
+ * 경로와 나머지 쿼리는 대소문자와 인코딩을 그대로 둔다.
+ */
+public record LinkPreviewUrl(
+        String normalizedUrl,
+        String urlHash,
+        String host
+) {
+
+    public static Optional<LinkPreviewUrl> from(String url) {
+        if (Objects.isNull(url) || url.isBlank()) {
+            return Optional.empty();
+        }
+
+        URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException e) {
+            return Optional.empty();
+        }
+
+        String scheme = Objects.isNull(uri.getScheme()) ? null : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!"http".equals(scheme) && !"https".equals(scheme) || Objects.isNull(uri.getHost())) {
+            return Optional.empty();
+        }
+
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        StringBuilder normalizedUrl = new StringBuilder(scheme).append("://").append(host);
+
+        if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+            normalizedUrl.append(':').append(uri.getPort());
+        }
+
+        String path = uri.getRawPath();
+        normalizedUrl.append(Objects.isNull(path) || path.isEmpty() ? "/" : path);
+
+        String query = removeTrackingParameters(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            normalizedUrl.append('?').append(query);
+        }
+
+        return Optional.of(new LinkPreviewUrl(normalizedUrl.toString(), sha256(normalizedUrl.toString()), host));
+    }
+
+    private static int defaultPort(String scheme) {
+        return "https".equals(scheme) ? 443 : 80;
+    }
+
+    private static String removeTrackingParameters(String rawQuery) {
+        if (Objects.isNull(rawQuery) || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        return Arrays.stream(rawQuery.split("&"))
+                .filter(parameter -> !parameter.isEmpty())
+                .filter(parameter -> !isTrackingParameter(parameter))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static boolean isTrackingParameter(String parameter) {
+        String name = parameter.split("=", 2)[0].toLowerCase(Locale.ROOT);
+        return name.startsWith("utm_") || name.equals("fbclid") || name.equals("gclid");
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.tenten.linkhub.domain.link.repository.like;
 
 import com.tenten.linkhub.domain.link.model.Like;
+import com.tenten.linkhub.domain.link.repository.like.dto.LinkLikeCount;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,4 +30,14 @@ public class DefaultLikeJpaRepository implements LikeRepository {
     public void delete(Like like) {
         likeJpaRepository.delete(like);
     }
+
+    @Override
+    public long countByLinkId(Long linkId) {
+        return likeJpaRepository.countByLinkId(linkId);
+    }
+
+    @Override
+    public List<LinkLikeCount> countByLinkIds(List<Long> linkIds) {
+        return likeJpaRepository.countByLinkIds(linkIds);
+    }
 }
@@ -1,12 +1,23 @@
 package com.tenten.linkhub.domain.link.repository.like;
 
 import com.tenten.linkhub.domain.link.model.Like;
+import com.tenten.linkhub.domain.link.repository.like.dto.LinkLikeCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeJpaRepository extends JpaRepository<Like, Long> {
     @Query("SELECT l FROM Like l WHERE l.link.id = :linkId AND l.memberId = :memberId")
     Optional<Like> findByLinkIdAndMemberId(Long linkId, Long memberId);
+
+    @Query("SELECT count(l) FROM Like l WHERE l.link.id = :linkId")
+    long countByLinkId(Long linkId);
+
+    @Query("SELECT new com.tenten.linkhub.domain.link.repository.like.dto.LinkLikeCount(l.link.id, count(l)) " +
+            "FROM Like l " +
+            "WHERE l.link.id IN :linkIds " +
+            "GROUP BY l.link.id")
+    List<LinkLikeCount> countByLinkIds(List<Long> linkIds);
 }
@@ -1,7 +1,9 @@
 package com.tenten.linkhub.domain.link.repository.like;
 
 import com.tenten.linkhub.domain.link.model.Like;
+import com.tenten.linkhub.domain.link.repository.like.dto.LinkLikeCount;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository {
@@ -11,4 +13,8 @@ public interface LikeRepository {
     Like save(Like like);
 
     void delete(Like like);
+
+    long countByLinkId(Long linkId);
+
+    List<LinkLikeCount> countByLinkIds(List<Long> linkIds);
 }
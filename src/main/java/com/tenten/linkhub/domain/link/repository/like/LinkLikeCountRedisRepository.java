@@ -0,0 +1,189 @@
+package com.tenten.linkhub.domain.link.repository.like;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * LinkLike:count:{linkId} - 실시간 좋아요 수<br>
+ * LinkLike:dirty - DB 반영이 필요한 linkId 집합<br>
+ * LinkLike:reconcile - likes 테이블 기준 검증이 필요한 linkId 집합<br>
+ * LinkLike:applied:{eventId} - 카운터에 반영한 outbox 이벤트 (다시 전달된 이벤트를 두 번 더하지 않는다)
+ */
+@Repository
+public class LinkLikeCountRedisRepository {
+
+    private static final String COUNT_KEY_PREFIX = "LinkLike:count:";
+    private static final String DIRTY_KEY = "LinkLike:dirty";
+    private static final String RECONCILE_KEY = "LinkLike:reconcile";
+    private static final String APPLIED_KEY_PREFIX = "LinkLike:applied:";
+
+    /**
+     * KEYS[2](반영 기록)가 있으면 이미 반영한 이벤트는 더하지 않고 현재 값을 반환한다.
+     */
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "return nil " +
+                    "end " +
+                    "if #KEYS == 2 and not redis.call('SET', KEYS[2], '1', 'NX', 'EX', ARGV[3]) then " +
+                    "return tonumber(redis.call('GET', KEYS[1])) " +
+                    "end " +
+                    "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+                    "return count",
+            Long.class);
+
+    /**
+     * 카운터가 없을 때만 채우고 1을 반환한다. 채운 값에는 이 이벤트가 포함되어 있으므로 반영 기록도 남긴다.
+     */
+    private static final RedisScript<Long> SEED_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return 0 " +
+                    "end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+                    "if #KEYS == 2 then " +
+                    "redis.call('SET', KEYS[2], '1', 'EX', ARGV[3]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public LinkLikeCountRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 카운터가 있으면 증감 후 값을, 없으면 null을 반환한다. eventId가 있으면 같은 이벤트는 한 번만 더한다.
+     */
+    public Long incrementIfPresent(Long linkId, long delta, Duration ttl, Long eventId, Duration appliedTtl) {
+        return redisTemplate.execute(
+                INCREMENT_IF_PRESENT_SCRIPT,
+                getKeys(linkId, eventId),
+                String.valueOf(delta),
+                String.valueOf(ttl.toSeconds()),
+                String.valueOf(appliedTtl.toSeconds()));
+    }
+
+    public boolean seedIfAbsent(Long linkId, long likeCount, Duration ttl, Long eventId, Duration appliedTtl) {
+        Long isSet = redisTemplate.execute(
+                SEED_IF_ABSENT_SCRIPT,
+                getKeys(linkId, eventId),
+                String.valueOf(likeCount),
+                String.valueOf(ttl.toSeconds()),
+                String.valueOf(appliedTtl.toSeconds()));
+
+        return Objects.equals(isSet, 1L);
+    }
+
+    /**
+     * 현재 값이 expected일 때만 바꾼다.
+     */
+    public boolean compareAndSet(Long linkId, long expected, long likeCount, Duration ttl) {
+        Long isSet = redisTemplate.execute(
+                COMPARE_AND_SET_SCRIPT,
+                List.of(getCountKey(linkId)),
+                String.valueOf(expected),
+                String.valueOf(likeCount),
+                String.valueOf(ttl.toSeconds()));
+
+        return Objects.equals(isSet, 1L);
+    }
+
+    /**
+     * 한 번의 MGET으로 조회하고, 카운터가 없는 linkId는 결과에서 뺀다.
+     */
+    public Map<Long, Long> getLikeCounts(List<Long> linkIds) {
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(linkIds.stream().map(this::getCountKey).toList());
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+
+        if (Objects.isNull(values)) {
+            return likeCounts;
+        }
+
+        for (int i = 0; i < linkIds.size(); i++) {
+            String value = values.get(i);
+
+            if (Objects.nonNull(value)) {
+                likeCounts.put(linkIds.get(i), Long.valueOf(value));
+            }
+        }
+
+        return likeCounts;
+    }
+
+    public void delete(List<Long> linkIds) {
+        redisTemplate.delete(linkIds.stream().map(this::getCountKey).toList());
+    }
+
+    public void markDirty(Long linkId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(linkId));
+    }
+
+    public void markDirty(List<Long> linkIds) {
+        addAll(DIRTY_KEY, linkIds);
+    }
+
+    public List<Long> popDirty(long count) {
+        return pop(DIRTY_KEY, count);
+    }
+
+    public void markForReconcile(List<Long> linkIds) {
+        addAll(RECONCILE_KEY, linkIds);
+    }
+
+    public List<Long> popForReconcile(long count) {
+        return pop(RECONCILE_KEY, count);
+    }
+
+    private void addAll(String key, List<Long> linkIds) {
+        if (linkIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.opsForSet()
+                .add(key, linkIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    private List<Long> pop(String key, long count) {
+        List<String> members = redisTemplate.opsForSet().pop(key, count);
+
+        if (Objects.isNull(members)) {
+            return List.of();
+        }
+
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    private List<String> getKeys(Long linkId, Long eventId) {
+        if (Objects.isNull(eventId)) {
+            return List.of(getCountKey(linkId));
+        }
+
+        return List.of(getCountKey(linkId), APPLIED_KEY_PREFIX + eventId);
+    }
+
+    private String getCountKey(Long linkId) {
+        return COUNT_KEY_PREFIX + linkId;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.link.repository.like.dto;
+
+public record LinkLikeCount(
+        Long linkId,
+        Long likeCount
+) {
+}
@@ -1,15 +1,20 @@
 package com.tenten.linkhub.domain.link.repository.link;
 
 import com.tenten.linkhub.domain.link.model.Link;
-import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetQueryCondition;
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkInfoDto;
 import com.tenten.linkhub.domain.link.repository.link.querydsl.LinkQueryDslRepository;
 import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkScore;
+import com.tenten.linkhub.domain.space.model.category.Category;
 import com.tenten.linkhub.global.exception.DataNotFoundException;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -44,13 +49,28 @@ public class DefaultLinkRepository implements LinkRepository {
     }
 
     @Override
-    public Slice<LinkGetDto> getLinksByCondition(LinkGetQueryCondition condition) {
+    public Slice<LinkInfoDto> getLinksByCondition(LinkGetQueryCondition condition) {
         return linkQueryDslRepository.getLinksByCondition(condition);
     }
 
     @Override
-    public List<PopularLinkGetDto> getPopularLinks(Long memberId) {
-        return linkQueryDslRepository.getPopularLinks(memberId);
+    public List<PopularLinkGetDto> getPopularLinks(Long memberId, Category category) {
+        return linkQueryDslRepository.getPopularLinks(memberId, category);
+    }
+
+    @Override
+    public List<PopularLinkGetDto> findPopularLinksByIds(List<Long> linkIds) {
+        return linkQueryDslRepository.findPopularLinksByIds(linkIds);
+    }
+
+    @Override
+    public List<PopularLinkScore> findPopularLinkScores(Category category, int size) {
+        return linkQueryDslRepository.findPopularLinkScores(category, size);
+    }
+
+    @Override
+    public Optional<PopularLinkScore> findPopularLinkScore(Long linkId) {
+        return linkQueryDslRepository.findPopularLinkScore(linkId);
     }
 
     @Override
@@ -59,23 +79,54 @@ public class DefaultLinkRepository implements LinkRepository {
     }
 
     @Override
-    public List<Link> findBySpaceId(Long sourceSpaceId) {
-        return linkJpaRepository.findBySpaceIdAndIsDeletedFalse(sourceSpaceId);
+    public Long findCopyRangeEnd(Long sourceSpaceId, Long lastSourceLinkId, int size) {
+        return linkJdbcRepository.findCopyRangeEnd(sourceSpaceId, lastSourceLinkId, size);
+    }
+
+    @Override
+    public int copyLinks(Long sourceSpaceId, Long targetSpaceId, Long memberId, Long fromSourceLinkId, Long toSourceLinkId) {
+        return linkJdbcRepository.copyLinks(sourceSpaceId, targetSpaceId, memberId, fromSourceLinkId, toSourceLinkId);
     }
 
     @Override
-    public Long bulkInsertLinks(List<Link> sourceLinks, Long spaceId, Long memberId) {
-        return linkJdbcRepository.bulkInsertLinks(sourceLinks, spaceId, memberId);
+    public List<Long> bulkInsertLinks(Long spaceId, Long memberId, List<ImportedLink> importedLinks) {
+        return linkJdbcRepository.bulkInsertLinks(spaceId, memberId, importedLinks);
     }
 
     @Override
+    public List<Long> findActiveLinkIdsForUpdate(Long spaceId, List<Long> linkIds) {
+        return linkJdbcRepository.findActiveLinkIdsForUpdate(spaceId, linkIds);
+    }
+
+    @Override
+    public int softDeleteLinks(List<Long> linkIds) {
+        return linkJdbcRepository.softDeleteLinks(linkIds);
+    }
+
+    @Override
+    public int moveLinks(List<Long> linkIds, Long targetSpaceId) {
+        return linkJdbcRepository.moveLinks(linkIds, targetSpaceId);
+    }
+
+    @Override
+    @Transactional
     public void increaseLikeCount(Long linkId) {
         linkJpaRepository.increaseLikeCount(linkId);
     }
 
     @Override
+    @Transactional
     public void decreaseLikeCount(Long linkId) {
         linkJpaRepository.decreaseLikeCount(linkId);
     }
 
+    @Override
+    public void updateLikeCounts(Map<Long, Long> likeCounts) {
+        if (likeCounts.isEmpty()) {
+            return;
+        }
+
+        linkJdbcRepository.updateLikeCounts(likeCounts);
+    }
+
 }
@@ -1,14 +1,18 @@
 package com.tenten.linkhub.domain.link.repository.link;
 
-import com.tenten.linkhub.domain.link.model.Link;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Repository
@@ -16,25 +20,124 @@ public class LinkJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
 
-    public Long bulkInsertLinks(List<Link> sourceLinks, Long spaceId, Long memberId) {
-        String sql = "INSERT INTO links (space_id, member_id, title, url, like_count, created_at, updated_at, is_deleted) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ";
-
-        jdbcTemplate.batchUpdate(sql,
-                sourceLinks,
-                sourceLinks.size(),
-                (PreparedStatement ps, Link link) -> {
-                    ps.setLong(1, spaceId);
-                    ps.setLong(2, memberId);
-                    ps.setString(3, link.getTitle());
-                    ps.setString(4, link.getUrl().getUrl());
-                    ps.setLong(5, 0L);
-                    ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now()));
-                    ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
-                    ps.setBoolean(8, false);
-                });
-
-        return jdbcTemplate.queryForObject("SELECT last_insert_id()", Long.class);
+    /**
+     * 원본 스페이스에서 lastSourceLinkId 다음부터 size개 링크 중 마지막 id. 더 복사할 링크가 없으면 null.
+     */
+    public Long findCopyRangeEnd(Long sourceSpaceId, Long lastSourceLinkId, int size) {
+        String sql = "SELECT MAX(chunk.id) FROM (" +
+                "SELECT id FROM links WHERE space_id = ? AND is_deleted = false AND id > ? ORDER BY id LIMIT ?" +
+                ") chunk ";
+
+        return jdbcTemplate.queryForObject(sql, Long.class, sourceSpaceId, lastSourceLinkId, size);
+    }
+
+    /**
+     * (fromSourceLinkId, toSourceLinkId] 범위의 원본 링크를 INSERT ... SELECT로 복사하고, source_link_id에 원본 id를 남긴다.
+     */
+    public int copyLinks(Long sourceSpaceId, Long targetSpaceId, Long memberId, Long fromSourceLinkId, Long toSourceLinkId) {
+        String sql = "INSERT INTO links (space_id, member_id, title, url, like_count, created_at, updated_at, is_deleted, source_link_id) " +
+                "SELECT ?, ?, title, url, 0, ?, ?, false, id FROM links " +
+                "WHERE space_id = ? AND is_deleted = false AND id > ? AND id <= ? " +
+                "ORDER BY id ";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.update(sql, targetSpaceId, memberId, now, now, sourceSpaceId, fromSourceLinkId, toSourceLinkId);
+    }
+
+    /**
+     * 여러 링크의 좋아요 수를 UPDATE ... CASE 한 문장으로 덮어쓴다.
+     */
+    public void updateLikeCounts(Map<Long, Long> likeCounts) {
+        StringBuilder caseClause = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+
+        likeCounts.forEach((linkId, likeCount) -> {
+            caseClause.append("WHEN ? THEN ? ");
+            params.add(linkId);
+            params.add(likeCount);
+        });
+        params.addAll(likeCounts.keySet());
+
+        String sql = "UPDATE links SET like_count = CASE id " + caseClause + "ELSE like_count END " +
+                "WHERE id IN (" + String.join(", ", Collections.nCopies(likeCounts.size(), "?")) + ") ";
+
+        jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 여러 링크를 다중 행 INSERT 한 문장으로 넣고, importedLinks 순서대로 생성된 id를 반환한다.<br>
+     * 생성된 키가 연속이라고 가정하지 않도록 행마다 묶음 토큰과 순번을 남기고, 그 값으로 id를 다시 읽는다.
+     */
+    public List<Long> bulkInsertLinks(Long spaceId, Long memberId, List<ImportedLink> importedLinks) {
+        String sql = "INSERT INTO links (space_id, member_id, title, url, like_count, created_at, updated_at, is_deleted, import_token, import_ordinal) VALUES " +
+                String.join(", ", Collections.nCopies(importedLinks.size(), "(?, ?, ?, ?, 0, ?, ?, false, ?, ?)"));
+
+        String importToken = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> params = new ArrayList<>();
+
+        for (int ordinal = 0; ordinal < importedLinks.size(); ordinal++) {
+            ImportedLink importedLink = importedLinks.get(ordinal);
+            params.add(spaceId);
+            params.add(memberId);
+            params.add(importedLink.title());
+            params.add(importedLink.url());
+            params.add(now);
+            params.add(now);
+            params.add(importToken);
+            params.add(ordinal);
+        }
+
+        jdbcTemplate.update(sql, params.toArray());
+
+        Long[] linkIds = new Long[importedLinks.size()];
+        jdbcTemplate.query(
+                "SELECT id, import_ordinal FROM links WHERE import_token = ? ",
+                rs -> {
+                    linkIds[rs.getInt("import_ordinal")] = rs.getLong("id");
+                },
+                importToken);
+
+        return Arrays.asList(linkIds);
+    }
+
+    /**
+     * 스페이스에 있는 삭제되지 않은 링크 id만 골라 FOR UPDATE로 잠근다. 트랜잭션 안에서 호출해야 한다.
+     */
+    public List<Long> findActiveLinkIdsForUpdate(Long spaceId, List<Long> linkIds) {
+        String sql = "SELECT id FROM links " +
+                "WHERE space_id = ? AND is_deleted = false AND id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") " +
+                "ORDER BY id FOR UPDATE";
+
+        List<Object> params = new ArrayList<>();
+        params.add(spaceId);
+        params.addAll(linkIds);
+
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    public int softDeleteLinks(List<Long> linkIds) {
+        String sql = "UPDATE links SET is_deleted = true, updated_at = ? " +
+                "WHERE id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(linkIds);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    public int moveLinks(List<Long> linkIds, Long targetSpaceId) {
+        String sql = "UPDATE links SET space_id = ?, updated_at = ? " +
+                "WHERE id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(targetSpaceId);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(linkIds);
+
+        return jdbcTemplate.update(sql, params.toArray());
     }
 
 }
@@ -1,12 +1,16 @@
 package com.tenten.linkhub.domain.link.repository.link;
 
 import com.tenten.linkhub.domain.link.model.Link;
-import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetQueryCondition;
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkInfoDto;
 import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkScore;
+import com.tenten.linkhub.domain.space.model.category.Category;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface LinkRepository {
@@ -17,17 +21,33 @@ public interface LinkRepository {
 
     Optional<Link> findById(Long linkId);
 
-    Slice<LinkGetDto> getLinksByCondition(LinkGetQueryCondition condition);
+    Slice<LinkInfoDto> getLinksByCondition(LinkGetQueryCondition condition);
 
-    List<PopularLinkGetDto> getPopularLinks(Long memberId);
+    List<PopularLinkGetDto> getPopularLinks(Long memberId, Category category);
+
+    List<PopularLinkGetDto> findPopularLinksByIds(List<Long> linkIds);
+
+    List<PopularLinkScore> findPopularLinkScores(Category category, int size);
+
+    Optional<PopularLinkScore> findPopularLinkScore(Long linkId);
 
     Long countLinkBySpaceId(Long spaceId);
 
-    List<Link> findBySpaceId(Long sourceSpaceId);
+    Long findCopyRangeEnd(Long sourceSpaceId, Long lastSourceLinkId, int size);
+
+    int copyLinks(Long sourceSpaceId, Long targetSpaceId, Long memberId, Long fromSourceLinkId, Long toSourceLinkId);
 
-    Long bulkInsertLinks(List<Link> sourceLinks, Long spaceId, Long memberId);
+    List<Long> bulkInsertLinks(Long spaceId, Long memberId, List<ImportedLink> importedLinks);
+
+    List<Long> findActiveLinkIdsForUpdate(Long spaceId, List<Long> linkIds);
+
+    int softDeleteLinks(List<Long> linkIds);
+
+    int moveLinks(List<Long> linkIds, Long targetSpaceId);
 
     void increaseLikeCount(Long linkId);
 
     void decreaseLikeCount(Long linkId);
+
+    void updateLikeCounts(Map<Long, Long> likeCounts);
 }
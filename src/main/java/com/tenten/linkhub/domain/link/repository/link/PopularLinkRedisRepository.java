@@ -0,0 +1,104 @@
+package com.tenten.linkhub.domain.link.repository.link;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * PopularLinks:all - 전체 인기 링크 sorted set (score: 좋아요 수, member: linkId)<br>
+ * PopularLinks:category:{category} - 카테고리별 인기 링크 sorted set
+ */
+@Repository
+public class PopularLinkRedisRepository {
+
+    private static final String ALL_KEY = "PopularLinks:all";
+    private static final String CATEGORY_KEY_PREFIX = "PopularLinks:category:";
+    private static final String REBUILD_KEY_SUFFIX = ":rebuild";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public PopularLinkRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 좋아요 수를 덮어쓰고 capacity를 넘는 하위 항목을 잘라낸다.
+     */
+    public void updateScore(Long linkId, Category category, long likeCount, int capacity) {
+        updateScore(ALL_KEY, linkId, likeCount, capacity);
+
+        if (Objects.nonNull(category)) {
+            updateScore(getCategoryKey(category), linkId, likeCount, capacity);
+        }
+    }
+
+    public void remove(Long linkId) {
+        String member = String.valueOf(linkId);
+
+        redisTemplate.opsForZSet().remove(ALL_KEY, member);
+        for (Category category : Category.values()) {
+            redisTemplate.opsForZSet().remove(getCategoryKey(category), member);
+        }
+    }
+
+    /**
+     * 좋아요 수 내림차순. 보드가 없으면 빈 리스트를 반환한다.
+     */
+    public List<Long> getTopLinkIds(Category category, int size) {
+        Set<String> linkIds = redisTemplate.opsForZSet().reverseRange(getKey(category), 0, size - 1L);
+
+        if (Objects.isNull(linkIds)) {
+            return List.of();
+        }
+
+        return linkIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 임시 키에 새로 채운 뒤 RENAME으로 바꿔 끼워, 조회 중에 빈 보드가 보이지 않게 한다.
+     */
+    public void replace(Category category, Map<Long, Long> likeCounts) {
+        String key = getKey(category);
+
+        if (likeCounts.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String rebuildKey = key + REBUILD_KEY_SUFFIX;
+        Set<ZSetOperations.TypedTuple<String>> tuples = likeCounts.entrySet()
+                .stream()
+                .map(entry -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(entry.getKey()),
+                        entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    private void updateScore(String key, Long linkId, long likeCount, int capacity) {
+        redisTemplate.opsForZSet().add(key, String.valueOf(linkId), likeCount);
+        redisTemplate.opsForZSet().removeRange(key, 0, -(capacity + 1L));
+    }
+
+    private String getKey(Category category) {
+        return Objects.isNull(category) ? ALL_KEY : getCategoryKey(category);
+    }
+
+    private String getCategoryKey(Category category) {
+        return CATEGORY_KEY_PREFIX + category.name();
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.tenten.linkhub.domain.link.repository.link.dto;
+
+import java.util.Objects;
+
+/**
+ * 가져오기 파일에서 읽은 링크 한 건. 태그가 없으면 tagName이 null이다.
+ */
+public record ImportedLink(
+        String url,
+        String title,
+        String tagName,
+        String color
+) {
+    public boolean hasTag() {
+        return Objects.nonNull(tagName);
+    }
+}
@@ -1,9 +1,13 @@
 package com.tenten.linkhub.domain.link.repository.link.dto;
 
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+
 import java.util.List;
 
 public record LinkGetDto(
         LinkInfoDto linkInfoDto,
-        List<LinkViewDto> linkViewHistories
+        List<LinkViewDto> linkViewHistories,
+        long viewerCount,
+        LinkPreviewDto preview
 ) {
 }
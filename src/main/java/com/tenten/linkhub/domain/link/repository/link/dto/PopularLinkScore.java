@@ -0,0 +1,17 @@
+package com.tenten.linkhub.domain.link.repository.link.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.tenten.linkhub.domain.space.model.category.Category;
+
+public record PopularLinkScore(
+        Long linkId,
+        Long likeCount,
+        Category category
+) {
+    @QueryProjection
+    public PopularLinkScore(Long linkId, Long likeCount, Category category) {
+        this.linkId = linkId;
+        this.likeCount = likeCount;
+        this.category = category;
+    }
+}
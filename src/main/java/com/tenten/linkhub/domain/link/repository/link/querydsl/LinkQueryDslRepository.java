@@ -1,20 +1,19 @@
 package com.tenten.linkhub.domain.link.repository.link.querydsl;
 
-import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetDto;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetQueryCondition;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkInfoDto;
-import com.tenten.linkhub.domain.link.repository.link.dto.LinkViewDto;
 import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkScore;
 
 import com.tenten.linkhub.domain.link.repository.link.dto.QLinkInfoDto;
 import com.tenten.linkhub.domain.link.repository.link.dto.QPopularLinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.QPopularLinkScore;
+import com.tenten.linkhub.domain.space.model.category.Category;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -23,16 +22,13 @@ import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 import static com.querydsl.core.types.dsl.Expressions.TRUE;
 import static com.tenten.linkhub.domain.link.model.QLike.like;
 import static com.tenten.linkhub.domain.link.model.QLink.link;
 import static com.tenten.linkhub.domain.link.model.QLinkTag.linkTag;
-import static com.tenten.linkhub.domain.link.model.QLinkViewHistory.linkViewHistory;
 import static com.tenten.linkhub.domain.link.model.QTag.tag;
-import static com.tenten.linkhub.domain.member.model.QMember.member;
-import static com.tenten.linkhub.domain.member.model.QProfileImage.profileImage;
 import static com.tenten.linkhub.domain.space.model.space.QSpace.space;
 
 
@@ -45,7 +41,7 @@ public class LinkQueryDslRepository {
         this.jpaQueryFactory = jpaQueryFactory;
     }
 
-    public Slice<LinkGetDto> getLinksByCondition(LinkGetQueryCondition condition) {
+    public Slice<LinkInfoDto> getLinksByCondition(LinkGetQueryCondition condition) {
         List<LinkInfoDto> linkInfoDtos = jpaQueryFactory
                 .select(
                         new QLinkInfoDto(
@@ -82,39 +78,10 @@ public class LinkQueryDslRepository {
             hasNext = true;
         }
 
-        List<Long> linkIds = linkInfoDtos.stream()
-                .map(LinkInfoDto::linkId) // LinkInfoDto 객체에서 id 필드만 추출
-                .toList();
-
-        Map<Long, List<LinkViewDto>> linkViewDtoMap = jpaQueryFactory
-                .select(link)
-                .from(link)
-                .leftJoin(link.linkViewHistories, linkViewHistory)
-                .leftJoin(member).on(linkViewHistory.memberId.eq(member.id))
-                .leftJoin(member.profileImages.profileImageList, profileImage).on(profileImage.isDeleted.eq(false))
-                .where(link.id.in(linkIds))
-                .transform(GroupBy.groupBy(link.id).as(
-                        GroupBy.list(
-                                Projections.fields(
-                                        LinkViewDto.class,
-                                        member.nickname.as("memberName"),
-                                        profileImage.path.as("memberProfileImage")
-                                ).skipNulls()
-                        )
-
-                ));
-
-
-        // LinkInfoDto와 LinkViewDtoMap을 사용하여 LinkGetDto 생성
-        List<LinkGetDto> linkGetDtos =
-                linkInfoDtos.stream()
-                        .map(linkInfoDto -> new LinkGetDto(linkInfoDto, linkViewDtoMap.get(linkInfoDto.linkId())))
-                        .toList();
-
-        return new SliceImpl<>(linkGetDtos, condition.pageable(), hasNext);
+        return new SliceImpl<>(linkInfoDtos, condition.pageable(), hasNext);
     }
 
-    public List<PopularLinkGetDto> getPopularLinks(Long memberId) {
+    public List<PopularLinkGetDto> getPopularLinks(Long memberId, Category category) {
         return jpaQueryFactory
                 .select(
                         new QPopularLinkGetDto(
@@ -133,13 +100,72 @@ public class LinkQueryDslRepository {
                 .leftJoin(linkTag.tag, tag)
                 .leftJoin(like).on(like.link.eq(link), isLikedByMember(memberId))
                 .where(link.isDeleted.eq(Boolean.FALSE),
-                        space.isDeleted.eq(Boolean.FALSE))
+                        space.isDeleted.eq(Boolean.FALSE),
+                        eqCategory(category))
                 .orderBy(link.likeCount.desc())
                 .limit(10)
                 .distinct()
                 .fetch();
     }
 
+    /**
+     * 인기 링크 보드에서 고른 링크의 표시 정보. isLiked는 채우지 않는다.
+     */
+    public List<PopularLinkGetDto> findPopularLinksByIds(List<Long> linkIds) {
+        return jpaQueryFactory
+                .select(
+                        new QPopularLinkGetDto(
+                                link.id,
+                                link.title,
+                                link.url.url,
+                                tag.name,
+                                tag.color,
+                                link.likeCount,
+                                Expressions.FALSE
+                        )
+                )
+                .from(link)
+                .join(link.space, space)
+                .leftJoin(link.linkTags, linkTag).on(linkTag.isDeleted.eq(false))
+                .leftJoin(linkTag.tag, tag)
+                .where(link.id.in(linkIds),
+                        link.isDeleted.eq(Boolean.FALSE),
+                        space.isDeleted.eq(Boolean.FALSE))
+                .distinct()
+                .fetch();
+    }
+
+    public List<PopularLinkScore> findPopularLinkScores(Category category, int size) {
+        return jpaQueryFactory
+                .select(new QPopularLinkScore(link.id, link.likeCount, space.category))
+                .from(link)
+                .join(link.space, space)
+                .where(link.isDeleted.eq(Boolean.FALSE),
+                        space.isDeleted.eq(Boolean.FALSE),
+                        eqCategory(category))
+                .orderBy(link.likeCount.desc(), link.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    public Optional<PopularLinkScore> findPopularLinkScore(Long linkId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(new QPopularLinkScore(link.id, link.likeCount, space.category))
+                .from(link)
+                .join(link.space, space)
+                .where(link.id.eq(linkId),
+                        link.isDeleted.eq(Boolean.FALSE),
+                        space.isDeleted.eq(Boolean.FALSE))
+                .fetchOne());
+    }
+
+    private BooleanExpression eqCategory(Category category) {
+        if (category != null) {
+            return space.category.eq(category);
+        }
+        return null;
+    }
+
 
     private BooleanExpression isLikedByMember(Long memberId) {
         if (memberId != null) {
@@ -0,0 +1,55 @@
+package com.tenten.linkhub.domain.link.repository.linkimport;
+
+import com.tenten.linkhub.domain.link.repository.linkimport.dto.LinkImportStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+@Repository
+public class LinkImportJobJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Long save(Long spaceId, Long memberId, String format) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO link_import_jobs (space_id, member_id, format, status, imported_link_count, skipped_link_count, created_at, updated_at) " +
+                            "VALUES (?, ?, ?, ?, 0, 0, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, spaceId);
+            ps.setLong(2, memberId);
+            ps.setString(3, format);
+            ps.setString(4, LinkImportStatus.IN_PROGRESS.name());
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+            return ps;
+        }, keyHolder);
+
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    public void updateProgress(Long id, long importedLinkCount, long skippedLinkCount) {
+        jdbcTemplate.update(
+                "UPDATE link_import_jobs SET imported_link_count = ?, skipped_link_count = ?, updated_at = ? WHERE id = ?",
+                importedLinkCount, skippedLinkCount, Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    public void updateStatus(Long id, LinkImportStatus status, long importedLinkCount, long skippedLinkCount) {
+        jdbcTemplate.update(
+                "UPDATE link_import_jobs SET status = ?, imported_link_count = ?, skipped_link_count = ?, updated_at = ? WHERE id = ?",
+                status.name(), importedLinkCount, skippedLinkCount, Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+}
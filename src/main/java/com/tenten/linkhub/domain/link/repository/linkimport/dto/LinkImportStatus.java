@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.link.repository.linkimport.dto;
+
+public enum LinkImportStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
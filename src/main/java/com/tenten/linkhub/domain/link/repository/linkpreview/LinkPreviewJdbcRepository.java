@@ -0,0 +1,77 @@
+package com.tenten.linkhub.domain.link.repository.linkpreview;
+
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.CachedLinkPreview;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 정규화한 URL의 해시를 키로 미리보기를 저장한다. 같은 URL을 저장한 모든 스페이스/사용자가 한 행을 함께 쓴다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class LinkPreviewJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, CachedLinkPreview> findByUrlHashes(Collection<String> urlHashes) {
+        if (urlHashes.isEmpty()) {
+            return Map.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(urlHashes.size(), "?"));
+        Map<String, CachedLinkPreview> previews = new HashMap<>();
+
+        jdbcTemplate.query(
+                "SELECT url_hash, status, title, description, favicon_url, fetched_at FROM link_previews " +
+                        "WHERE url_hash IN (" + placeholders + ")",
+                rs -> {
+                    LinkPreviewStatus status = LinkPreviewStatus.valueOf(rs.getString("status"));
+                    LinkPreviewDto preview = status == LinkPreviewStatus.SUCCESS
+                            ? new LinkPreviewDto(rs.getString("title"), rs.getString("description"), rs.getString("favicon_url"))
+                            : null;
+
+                    previews.put(rs.getString("url_hash"), new CachedLinkPreview(
+                            status,
+                            preview,
+                            rs.getTimestamp("fetched_at").toLocalDateTime()));
+                },
+                urlHashes.toArray());
+
+        return previews;
+    }
+
+    /**
+     * 여러 인스턴스가 같은 URL을 동시에 가져와도 마지막 결과 한 행만 남는다.
+     */
+    public void upsert(String urlHash, String url, LinkPreviewStatus status, LinkPreviewDto preview) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean hasPreview = Objects.nonNull(preview);
+
+        jdbcTemplate.update(
+                "INSERT INTO link_previews (url_hash, url, status, title, description, favicon_url, fetched_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE status = VALUES(status), title = VALUES(title), description = VALUES(description), " +
+                        "favicon_url = VALUES(favicon_url), fetched_at = VALUES(fetched_at), updated_at = VALUES(updated_at)",
+                urlHash,
+                url,
+                status.name(),
+                hasPreview ? preview.title() : null,
+                hasPreview ? preview.description() : null,
+                hasPreview ? preview.faviconUrl() : null,
+                now,
+                now,
+                now);
+    }
+
+}
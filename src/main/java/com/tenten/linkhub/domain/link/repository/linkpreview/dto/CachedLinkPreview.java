@@ -0,0 +1,13 @@
+package com.tenten.linkhub.domain.link.repository.linkpreview.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * FAILED인 경우 preview는 null이다.
+ */
+public record CachedLinkPreview(
+        LinkPreviewStatus status,
+        LinkPreviewDto preview,
+        LocalDateTime fetchedAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.tenten.linkhub.domain.link.repository.linkpreview.dto;
+
+public record LinkPreviewDto(
+        String title,
+        String description,
+        String faviconUrl
+) {
+}
@@ -0,0 +1,6 @@
+package com.tenten.linkhub.domain.link.repository.linkpreview.dto;
+
+public enum LinkPreviewStatus {
+    SUCCESS,
+    FAILED
+}
@@ -1,6 +1,5 @@
 package com.tenten.linkhub.domain.link.repository.linktag;
 
-import com.tenten.linkhub.domain.link.model.LinkTag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -11,17 +10,26 @@ import java.util.Map;
 @Repository
 public class DefaultLinkTagRepository implements LinkTagRepository {
 
-    private final LinkTagJpaRepository linkTagJpaRepository;
     private final LinkTagJdbcRepository linkTagJdbcRepository;
 
     @Override
-    public List<LinkTag> findByLinkIdIn(List<Long> sourceLinkIds) {
-        return linkTagJpaRepository.findByLinkIdsInAndIsDeletedFalse(sourceLinkIds);
+    public int copyLinkTags(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId) {
+        return linkTagJdbcRepository.copyLinkTags(targetSpaceId, fromSourceLinkId, toSourceLinkId);
     }
 
     @Override
-    public Long bulkInsertLinkTag(List<LinkTag> sourceLinkTags, Map<Long, Long> linkIdMappingMap, Map<Long, Long> tagIdMappingMap) {
-        return linkTagJdbcRepository.bulkInsertLinkTag(sourceLinkTags, linkIdMappingMap, tagIdMappingMap);
+    public int bulkInsertLinkTags(Map<Long, Long> linkTagIds) {
+        return linkTagJdbcRepository.bulkInsertLinkTags(linkTagIds);
+    }
+
+    @Override
+    public int softDeleteByLinkIds(List<Long> linkIds) {
+        return linkTagJdbcRepository.softDeleteByLinkIds(linkIds);
+    }
+
+    @Override
+    public int changeTagsToSpace(List<Long> linkIds, Long targetSpaceId) {
+        return linkTagJdbcRepository.changeTagsToSpace(linkIds, targetSpaceId);
     }
 
 }
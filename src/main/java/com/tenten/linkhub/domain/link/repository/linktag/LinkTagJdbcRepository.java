@@ -1,13 +1,13 @@
 package com.tenten.linkhub.domain.link.repository.linktag;
 
-import com.tenten.linkhub.domain.link.model.LinkTag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -17,22 +17,70 @@ public class LinkTagJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
 
-    public Long bulkInsertLinkTag(List<LinkTag> sourceLinkTags, Map<Long, Long> linkIdMappingMap, Map<Long, Long> tagIdMappingMap) {
+    /**
+     * 복사된 링크/태그의 source_link_id, source_tag_id로 원본 관계를 찾아 링크 태그를 INSERT ... SELECT로 복사한다.<br>
+     * 원본 링크 id가 (fromSourceLinkId, toSourceLinkId] 범위인 링크만 대상으로 한다.
+     */
+    public int copyLinkTags(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId) {
         String sql = "INSERT INTO link_tags (link_id, tag_id, created_at, updated_at, is_deleted) " +
-                "VALUES (?, ?, ?, ?, ?) ";
-
-        jdbcTemplate.batchUpdate(sql,
-                sourceLinkTags,
-                sourceLinkTags.size(),
-                (PreparedStatement ps, LinkTag linkTag) -> {
-                    ps.setLong(1, linkIdMappingMap.get(linkTag.getLink().getId()));
-                    ps.setLong(2, tagIdMappingMap.get(linkTag.getTag().getId()));
-                    ps.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
-                    ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
-                    ps.setBoolean(5, false);
-                });
-
-        return jdbcTemplate.queryForObject("SELECT last_insert_id()", Long.class);
+                "SELECT copied_link.id, copied_tag.id, ?, ?, false " +
+                "FROM links copied_link " +
+                "JOIN link_tags source_link_tag ON source_link_tag.link_id = copied_link.source_link_id AND source_link_tag.is_deleted = false " +
+                "JOIN tags copied_tag ON copied_tag.space_id = copied_link.space_id AND copied_tag.source_tag_id = source_link_tag.tag_id " +
+                "WHERE copied_link.space_id = ? AND copied_link.source_link_id > ? AND copied_link.source_link_id <= ? " +
+                "ORDER BY copied_link.id ";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.update(sql, now, now, targetSpaceId, fromSourceLinkId, toSourceLinkId);
+    }
+
+    /**
+     * 링크 id → 태그 id 관계를 다중 행 INSERT 한 문장으로 넣는다.
+     */
+    public int bulkInsertLinkTags(Map<Long, Long> linkTagIds) {
+        String sql = "INSERT INTO link_tags (link_id, tag_id, created_at, updated_at, is_deleted) VALUES " +
+                String.join(", ", Collections.nCopies(linkTagIds.size(), "(?, ?, ?, ?, false)"));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object> params = new ArrayList<>();
+        linkTagIds.forEach((linkId, tagId) -> {
+            params.add(linkId);
+            params.add(tagId);
+            params.add(now);
+            params.add(now);
+        });
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    public int softDeleteByLinkIds(List<Long> linkIds) {
+        String sql = "UPDATE link_tags SET is_deleted = true, updated_at = ? " +
+                "WHERE link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") AND is_deleted = false ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(linkIds);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 링크 태그가 가리키는 태그를 옮겨 갈 스페이스의 같은 이름 태그로 바꾼다. 같은 이름 태그가 먼저 있어야 한다.
+     */
+    public int changeTagsToSpace(List<Long> linkIds, Long targetSpaceId) {
+        String sql = "UPDATE link_tags lt " +
+                "JOIN tags source_tag ON source_tag.id = lt.tag_id " +
+                "JOIN tags target_tag ON target_tag.space_id = ? AND target_tag.name = source_tag.name " +
+                "SET lt.tag_id = target_tag.id, lt.updated_at = ? " +
+                "WHERE lt.link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") AND lt.is_deleted = false ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(targetSpaceId);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(linkIds);
+
+        return jdbcTemplate.update(sql, params.toArray());
     }
 
 }
@@ -1,12 +1,14 @@
 package com.tenten.linkhub.domain.link.repository.linktag;
 
-import com.tenten.linkhub.domain.link.model.LinkTag;
-
 import java.util.List;
 import java.util.Map;
 
 public interface LinkTagRepository {
-    List<LinkTag> findByLinkIdIn(List<Long> sourceLinkIds);
+    int copyLinkTags(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId);
+
+    int bulkInsertLinkTags(Map<Long, Long> linkTagIds);
+
+    int softDeleteByLinkIds(List<Long> linkIds);
 
-    Long bulkInsertLinkTag(List<LinkTag> sourceLinkTags, Map<Long, Long> linkIdMappingMap, Map<Long, Long> tagIdMappingMap);
+    int changeTagsToSpace(List<Long> linkIds, Long targetSpaceId);
 }
@@ -1,19 +1,27 @@
 package com.tenten.linkhub.domain.link.repository.linkview;
 
 import com.tenten.linkhub.domain.link.model.LinkViewHistory;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.RecentLinkViewers;
 import com.tenten.linkhub.domain.link.repository.linkview.querydsl.LinkViewQueryDslRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
+
 @Repository
 public class DefaultLinkViewRepository implements LinkViewRepository {
 
     private final LinkViewQueryDslRepository linkViewQueryDslRepository;
     private final LinkViewJpaRepository linkViewJpaRepository;
+    private final LinkViewJdbcRepository linkViewJdbcRepository;
 
     public DefaultLinkViewRepository(LinkViewQueryDslRepository linkViewQueryDslRepository,
-                                     LinkViewJpaRepository linkViewJpaRepository) {
+                                     LinkViewJpaRepository linkViewJpaRepository,
+                                     LinkViewJdbcRepository linkViewJdbcRepository) {
         this.linkViewQueryDslRepository = linkViewQueryDslRepository;
         this.linkViewJpaRepository = linkViewJpaRepository;
+        this.linkViewJdbcRepository = linkViewJdbcRepository;
     }
 
     @Override
@@ -31,6 +39,19 @@ public class DefaultLinkViewRepository implements LinkViewRepository {
         linkViewJpaRepository.deleteByLinkId(linkId);
     }
 
-}
+    @Override
+    public int deleteLinkViewHistories(List<Long> linkIds) {
+        return linkViewJdbcRepository.deleteByLinkIds(linkIds);
+    }
+
+    @Override
+    public Map<Long, RecentLinkViewers> findRecentViewers(List<Long> linkIds, int size) {
+        return linkViewJdbcRepository.findRecentViewers(linkIds, size);
+    }
 
+    @Override
+    public int bulkInsertIgnore(List<PendingLinkView> pendingLinkViews) {
+        return linkViewJdbcRepository.bulkInsertIgnore(pendingLinkViews);
+    }
 
+}
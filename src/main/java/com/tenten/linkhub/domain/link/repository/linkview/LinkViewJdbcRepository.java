@@ -0,0 +1,94 @@
+package com.tenten.linkhub.domain.link.repository.linkview;
+
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkViewDto;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.RecentLinkViewers;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Repository
+public class LinkViewJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 링크마다 최근 방문자를 최대 size명까지만 읽고, 전체 방문자 수는 윈도 함수로 함께 구한다.
+     */
+    public Map<Long, RecentLinkViewers> findRecentViewers(List<Long> linkIds, int size) {
+        if (linkIds.isEmpty()) {
+            return Map.of();
+        }
+
+        String sql = "SELECT r.link_id, r.viewer_count, m.nickname, " +
+                "(SELECT pi.path FROM profile_images pi WHERE pi.member_id = r.member_id AND pi.is_deleted = false ORDER BY pi.id DESC LIMIT 1) AS profile_image " +
+                "FROM (SELECT lvh.link_id, lvh.member_id, " +
+                "ROW_NUMBER() OVER (PARTITION BY lvh.link_id ORDER BY lvh.created_at DESC, lvh.id DESC) AS rn, " +
+                "COUNT(*) OVER (PARTITION BY lvh.link_id) AS viewer_count " +
+                "FROM link_view_histories lvh " +
+                "WHERE lvh.link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ")) r " +
+                "LEFT JOIN members m ON m.id = r.member_id " +
+                "WHERE r.rn <= ? " +
+                "ORDER BY r.link_id, r.rn ";
+
+        List<Object> params = new ArrayList<>(linkIds);
+        params.add(size);
+
+        Map<Long, List<LinkViewDto>> viewers = new HashMap<>();
+        Map<Long, Long> viewerCounts = new HashMap<>();
+
+        jdbcTemplate.query(sql, rs -> {
+            long linkId = rs.getLong("link_id");
+            viewerCounts.put(linkId, rs.getLong("viewer_count"));
+            viewers.computeIfAbsent(linkId, id -> new ArrayList<>())
+                    .add(new LinkViewDto(rs.getString("nickname"), rs.getString("profile_image")));
+        }, params.toArray());
+
+        Map<Long, RecentLinkViewers> recentViewers = new HashMap<>();
+        viewers.forEach((linkId, linkViewers) ->
+                recentViewers.put(linkId, new RecentLinkViewers(linkViewers, viewerCounts.get(linkId))));
+
+        return recentViewers;
+    }
+
+    /**
+     * 여러 방문 기록을 INSERT IGNORE 한 문장으로 넣고, 실제로 추가된 행 수를 반환한다.<br>
+     * (link_id, member_id)가 이미 있는 행은 유니크 키로 걸러진다.
+     */
+    public int bulkInsertIgnore(List<PendingLinkView> pendingLinkViews) {
+        if (pendingLinkViews.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "INSERT IGNORE INTO link_view_histories (created_at, updated_at, member_id, link_id) " +
+                "VALUES " + String.join(", ", Collections.nCopies(pendingLinkViews.size(), "(?, ?, ?, ?)"));
+
+        List<Object> params = new ArrayList<>();
+
+        for (PendingLinkView pendingLinkView : pendingLinkViews) {
+            Timestamp createdAt = Timestamp.valueOf(pendingLinkView.createdAt());
+            params.add(createdAt);
+            params.add(createdAt);
+            params.add(pendingLinkView.memberId());
+            params.add(pendingLinkView.linkId());
+        }
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    public int deleteByLinkIds(List<Long> linkIds) {
+        String sql = "DELETE FROM link_view_histories " +
+                "WHERE link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") ";
+
+        return jdbcTemplate.update(sql, linkIds.toArray());
+    }
+
+}
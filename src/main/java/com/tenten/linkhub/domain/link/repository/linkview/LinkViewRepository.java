@@ -1,6 +1,11 @@
 package com.tenten.linkhub.domain.link.repository.linkview;
 
 import com.tenten.linkhub.domain.link.model.LinkViewHistory;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.RecentLinkViewers;
+
+import java.util.List;
+import java.util.Map;
 
 public interface LinkViewRepository {
 
@@ -9,4 +14,10 @@ public interface LinkViewRepository {
     LinkViewHistory save(LinkViewHistory linkViewHistory);
 
     void deleteLinkViewHistory(Long linkId);
+
+    int deleteLinkViewHistories(List<Long> linkIds);
+
+    Map<Long, RecentLinkViewers> findRecentViewers(List<Long> linkIds, int size);
+
+    int bulkInsertIgnore(List<PendingLinkView> pendingLinkViews);
 }
@@ -0,0 +1,11 @@
+package com.tenten.linkhub.domain.link.repository.linkview.dto;
+
+import java.time.LocalDateTime;
+
+public record PendingLinkView(
+        Long spaceId,
+        Long linkId,
+        Long memberId,
+        LocalDateTime createdAt
+) {
+}
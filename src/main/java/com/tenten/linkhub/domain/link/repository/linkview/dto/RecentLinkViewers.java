@@ -0,0 +1,17 @@
+package com.tenten.linkhub.domain.link.repository.linkview.dto;
+
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkViewDto;
+
+import java.util.List;
+
+/**
+ * 링크의 최근 방문자 최대 K명과 전체 방문자 수.
+ */
+public record RecentLinkViewers(
+        List<LinkViewDto> viewers,
+        long viewerCount
+) {
+    public static RecentLinkViewers empty() {
+        return new RecentLinkViewers(List.of(), 0L);
+    }
+}
@@ -1,11 +1,14 @@
 package com.tenten.linkhub.domain.link.repository.tag;
 
+import com.tenten.linkhub.domain.link.model.Color;
 import com.tenten.linkhub.domain.link.model.Tag;
 import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
 import com.tenten.linkhub.domain.link.repository.tag.querydsl.TagQueryDslRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -26,24 +29,64 @@ public class DefaultTagRepository implements TagRepository {
         return tagQueryDslRepository.findTagBySpaceId(spaceId);
     }
 
+    @Override
+    public List<TagInfo> findAllBySpaceId(Long spaceId) {
+        return tagQueryDslRepository.findAllBySpaceId(spaceId);
+    }
+
     @Override
     public Optional<Tag> findBySpaceIdAndTagName(Long spaceId, String tagName) {
         return tagJpaRepository.findTagBySpaceIdAndTagName(spaceId, tagName);
     }
 
+    @Override
+    public Tag getReferenceById(Long tagId) {
+        return tagJpaRepository.getReferenceById(tagId);
+    }
+
     @Override
     public Tag save(Tag newTag) {
         return tagJpaRepository.save(newTag);
     }
 
     @Override
-    public List<Tag> findBySpaceId(Long sourceSpaceId) {
-        return tagJpaRepository.findBySpaceId(sourceSpaceId);
+    public Map<String, Long> findIdsByNames(Long spaceId, Collection<String> tagNames) {
+        return tagJdbcRepository.findIdsByNames(spaceId, tagNames);
+    }
+
+    @Override
+    public int bulkInsertTags(Long spaceId, Map<String, Color> tagColors) {
+        return tagJdbcRepository.bulkInsertTags(spaceId, tagColors);
+    }
+
+    @Override
+    public void increaseUsageCount(Long tagId, long delta) {
+        tagJdbcRepository.increaseUsageCount(tagId, delta);
+    }
+
+    @Override
+    public int increaseUsageCountsOfCopiedLinks(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId) {
+        return tagJdbcRepository.increaseUsageCountsOfCopiedLinks(targetSpaceId, fromSourceLinkId, toSourceLinkId);
+    }
+
+    @Override
+    public int copyMissingTagsOfLinks(List<Long> linkIds, Long targetSpaceId) {
+        return tagJdbcRepository.copyMissingTagsOfLinks(linkIds, targetSpaceId);
+    }
+
+    @Override
+    public int increaseUsageCountsOfLinks(List<Long> linkIds) {
+        return tagJdbcRepository.increaseUsageCountsOfLinks(linkIds);
+    }
+
+    @Override
+    public int decreaseUsageCountsOfLinks(List<Long> linkIds) {
+        return tagJdbcRepository.decreaseUsageCountsOfLinks(linkIds);
     }
 
     @Override
-    public Long bulkInsertTags(List<Tag> sourceTags, Long spaceId) {
-        return tagJdbcRepository.bulkInsertTags(sourceTags, spaceId);
+    public int copyTags(Long sourceSpaceId, Long targetSpaceId) {
+        return tagJdbcRepository.copyTags(sourceSpaceId, targetSpaceId);
     }
 
 }
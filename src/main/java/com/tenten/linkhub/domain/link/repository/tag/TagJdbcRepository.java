@@ -1,12 +1,16 @@
 package com.tenten.linkhub.domain.link.repository.tag;
 
-import com.tenten.linkhub.domain.link.model.Tag;
+import com.tenten.linkhub.domain.link.model.Color;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @RequiredArgsConstructor
 @Repository
@@ -14,20 +18,129 @@ public class TagJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
 
-    public Long bulkInsertTags(List<Tag> sourceTags, Long spaceId) {
+    /**
+     * 원본 스페이스의 태그를 INSERT ... SELECT로 복사하고, source_tag_id에 원본 id를 남긴다.
+     */
+    public int copyTags(Long sourceSpaceId, Long targetSpaceId) {
+        String sql = "INSERT INTO tags (space_id, name, color, source_tag_id) " +
+                "SELECT ?, name, color, id FROM tags " +
+                "WHERE space_id = ? " +
+                "ORDER BY id ";
+
+        return jdbcTemplate.update(sql, targetSpaceId, sourceSpaceId);
+    }
+
+    /**
+     * 태그 이름 → id. 이름 비교는 DB 콜레이션을 따르도록 대소문자를 구분하지 않는 맵에 담는다.
+     */
+    public Map<String, Long> findIdsByNames(Long spaceId, Collection<String> tagNames) {
+        Map<String, Long> tagIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        if (tagNames.isEmpty()) {
+            return tagIds;
+        }
+
+        String sql = "SELECT id, name FROM tags " +
+                "WHERE space_id = ? AND name IN (" + String.join(", ", Collections.nCopies(tagNames.size(), "?")) + ") " +
+                "ORDER BY id ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(spaceId);
+        params.addAll(tagNames);
+
+        jdbcTemplate.query(sql, rs -> {
+            tagIds.putIfAbsent(rs.getString("name"), rs.getLong("id"));
+        }, params.toArray());
+
+        return tagIds;
+    }
+
+    /**
+     * 여러 태그를 다중 행 INSERT 한 문장으로 넣는다.
+     */
+    public int bulkInsertTags(Long spaceId, Map<String, Color> tagColors) {
+        String sql = "INSERT INTO tags (space_id, name, color) VALUES " +
+                String.join(", ", Collections.nCopies(tagColors.size(), "(?, ?, ?)"));
+
+        List<Object> params = new ArrayList<>();
+        tagColors.forEach((name, color) -> {
+            params.add(spaceId);
+            params.add(name);
+            params.add(color.name());
+        });
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 사용 수가 0 아래로 내려가지 않도록 한다.
+     */
+    public void increaseUsageCount(Long tagId, long delta) {
+        String sql = "UPDATE tags SET usage_count = GREATEST(usage_count + ?, 0) WHERE id = ? ";
+
+        jdbcTemplate.update(sql, delta, tagId);
+    }
+
+    /**
+     * 원본 링크 id가 (fromSourceLinkId, toSourceLinkId] 범위인 복사된 링크의 링크 태그 수만큼 복사된 태그의 사용 수를 올린다.
+     */
+    public int increaseUsageCountsOfCopiedLinks(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId) {
+        String sql = "UPDATE tags copied_tag " +
+                "JOIN (SELECT copied_link_tag.tag_id, COUNT(*) AS link_tag_count " +
+                "FROM links copied_link " +
+                "JOIN link_tags copied_link_tag ON copied_link_tag.link_id = copied_link.id AND copied_link_tag.is_deleted = false " +
+                "WHERE copied_link.space_id = ? AND copied_link.source_link_id > ? AND copied_link.source_link_id <= ? " +
+                "GROUP BY copied_link_tag.tag_id) chunk ON chunk.tag_id = copied_tag.id " +
+                "SET copied_tag.usage_count = copied_tag.usage_count + chunk.link_tag_count ";
+
+        return jdbcTemplate.update(sql, targetSpaceId, fromSourceLinkId, toSourceLinkId);
+    }
+
+    /**
+     * 링크들이 쓰는 태그 중 옮겨 갈 스페이스에 같은 이름이 없는 태그를 INSERT ... SELECT로 만든다.
+     */
+    public int copyMissingTagsOfLinks(List<Long> linkIds, Long targetSpaceId) {
         String sql = "INSERT INTO tags (space_id, name, color) " +
-                "VALUES (?, ?, ?) ";
-
-        jdbcTemplate.batchUpdate(sql,
-                sourceTags,
-                sourceTags.size(),
-                (PreparedStatement ps, Tag tag) -> {
-                    ps.setLong(1, spaceId);
-                    ps.setString(2, tag.getName());
-                    ps.setString(3, tag.getColor().toString());
-                });
-
-        return jdbcTemplate.queryForObject("SELECT last_insert_id()", Long.class);
+                "SELECT ?, source_tag.name, MIN(source_tag.color) " +
+                "FROM link_tags lt " +
+                "JOIN tags source_tag ON source_tag.id = lt.tag_id " +
+                "WHERE lt.link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") AND lt.is_deleted = false " +
+                "AND NOT EXISTS (SELECT 1 FROM tags target_tag WHERE target_tag.space_id = ? AND target_tag.name = source_tag.name) " +
+                "GROUP BY source_tag.name ";
+
+        List<Object> params = new ArrayList<>();
+        params.add(targetSpaceId);
+        params.addAll(linkIds);
+        params.add(targetSpaceId);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 링크들의 삭제되지 않은 링크 태그 수만큼 태그 사용 수를 올린다.
+     */
+    public int increaseUsageCountsOfLinks(List<Long> linkIds) {
+        return addUsageCountsOfLinks(linkIds, 1);
+    }
+
+    /**
+     * 링크 태그를 삭제 처리하거나 다른 태그로 바꾸기 전에 호출한다.
+     */
+    public int decreaseUsageCountsOfLinks(List<Long> linkIds) {
+        return addUsageCountsOfLinks(linkIds, -1);
+    }
+
+    private int addUsageCountsOfLinks(List<Long> linkIds, int sign) {
+        String sql = "UPDATE tags t " +
+                "JOIN (SELECT tag_id, COUNT(*) AS link_tag_count FROM link_tags " +
+                "WHERE link_id IN (" + String.join(", ", Collections.nCopies(linkIds.size(), "?")) + ") AND is_deleted = false " +
+                "GROUP BY tag_id) link_tag_counts ON link_tag_counts.tag_id = t.id " +
+                "SET t.usage_count = GREATEST(t.usage_count + ? * link_tag_counts.link_tag_count, 0) ";
+
+        List<Object> params = new ArrayList<>(linkIds);
+        params.add(sign);
+
+        return jdbcTemplate.update(sql, params.toArray());
     }
 
 }
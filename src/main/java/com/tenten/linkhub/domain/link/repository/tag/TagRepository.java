@@ -1,19 +1,38 @@
 package com.tenten.linkhub.domain.link.repository.tag;
 
+import com.tenten.linkhub.domain.link.model.Color;
 import com.tenten.linkhub.domain.link.model.Tag;
 import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TagRepository {
     List<TagInfo> findTagBySpaceId(Long spaceId);
 
+    List<TagInfo> findAllBySpaceId(Long spaceId);
+
     Optional<Tag> findBySpaceIdAndTagName(Long spaceId, String tagName);
 
+    Tag getReferenceById(Long tagId);
+
     Tag save(Tag newTag);
 
-    List<Tag> findBySpaceId(Long sourceSpaceId);
+    Map<String, Long> findIdsByNames(Long spaceId, Collection<String> tagNames);
+
+    int bulkInsertTags(Long spaceId, Map<String, Color> tagColors);
+
+    void increaseUsageCount(Long tagId, long delta);
+
+    int increaseUsageCountsOfCopiedLinks(Long targetSpaceId, Long fromSourceLinkId, Long toSourceLinkId);
+
+    int copyMissingTagsOfLinks(List<Long> linkIds, Long targetSpaceId);
+
+    int increaseUsageCountsOfLinks(List<Long> linkIds);
+
+    int decreaseUsageCountsOfLinks(List<Long> linkIds);
 
-    Long bulkInsertTags(List<Tag> sourceTags, Long spaceId);
+    int copyTags(Long sourceSpaceId, Long targetSpaceId);
 }
@@ -8,9 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
-import static com.tenten.linkhub.domain.link.model.QLinkTag.linkTag;
 import static com.tenten.linkhub.domain.link.model.QTag.tag;
-import static java.lang.Boolean.FALSE;
 
 @Repository
 public class TagQueryDslRepository {
@@ -20,6 +18,9 @@ public class TagQueryDslRepository {
         this.jpaQueryFactory = jpaQueryFactory;
     }
 
+    /**
+     * 링크 태그를 추가/삭제할 때 함께 관리하는 usage_count로 현재 사용 중인 태그만 조회한다.
+     */
     public List<TagInfo> findTagBySpaceId(Long spaceId) {
         return jpaQueryFactory
                 .select(new QTagInfo(
@@ -28,13 +29,28 @@ public class TagQueryDslRepository {
                         tag.id
                 ))
                 .from(tag)
-                .join(linkTag).on(linkTag.tag.eq(tag))
-                .groupBy(tag)
                 .where(tag.space.id.eq(spaceId), isActiveTag())
+                .orderBy(tag.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 사용하지 않는 태그까지 모두 조회한다.
+     */
+    public List<TagInfo> findAllBySpaceId(Long spaceId) {
+        return jpaQueryFactory
+                .select(new QTagInfo(
+                        tag.name,
+                        tag.color,
+                        tag.id
+                ))
+                .from(tag)
+                .where(tag.space.id.eq(spaceId))
+                .orderBy(tag.id.asc())
                 .fetch();
     }
 
     private BooleanExpression isActiveTag() {
-        return linkTag.isDeleted.eq(FALSE);
+        return tag.usageCount.gt(0L);
     }
 }
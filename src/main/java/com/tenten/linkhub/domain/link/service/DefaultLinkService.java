@@ -1,6 +1,10 @@
 package com.tenten.linkhub.domain.link.service;
 
+import com.tenten.linkhub.domain.link.cache.SpaceTagDictionary;
+import com.tenten.linkhub.domain.link.counter.LinkLikeCounter;
+import com.tenten.linkhub.domain.link.counter.LinkViewHistoryWriter;
 import com.tenten.linkhub.domain.link.exception.LinkViewHistoryException;
+import com.tenten.linkhub.domain.link.leaderboard.PopularLinkLeaderboard;
 import com.tenten.linkhub.domain.link.model.Color;
 import com.tenten.linkhub.domain.link.model.Like;
 import com.tenten.linkhub.domain.link.model.Link;
@@ -8,21 +12,36 @@ import com.tenten.linkhub.domain.link.model.LinkTag;
 import com.tenten.linkhub.domain.link.model.LinkViewHistory;
 import com.tenten.linkhub.domain.link.model.Tag;
 import com.tenten.linkhub.domain.link.model.vo.Url;
+import com.tenten.linkhub.domain.link.preview.LinkPreviewPipeline;
+import com.tenten.linkhub.domain.space.model.category.Category;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.link.repository.like.LikeRepository;
 import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetDto;
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkInfoDto;
 import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkGetDto;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
 import com.tenten.linkhub.domain.link.repository.linktag.LinkTagRepository;
 import com.tenten.linkhub.domain.link.repository.linkview.LinkViewRepository;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.RecentLinkViewers;
 import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
 import com.tenten.linkhub.domain.link.repository.tag.TagRepository;
+import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
+import com.tenten.linkhub.domain.link.service.dto.LinkCopyChunkResponse;
 import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponses;
+import com.tenten.linkhub.domain.link.service.dto.LinkImportBatchResponse;
 import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
 import com.tenten.linkhub.domain.link.service.dto.PopularLinksGetByQueryResponses;
 import com.tenten.linkhub.domain.link.service.mapper.LinkMapper;
+import com.tenten.linkhub.domain.viewer.ViewerRelation;
+import com.tenten.linkhub.domain.viewer.ViewerRelationResolver;
 import com.tenten.linkhub.global.exception.DataDuplicateException;
 import com.tenten.linkhub.global.exception.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -30,9 +49,14 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import static com.tenten.linkhub.global.response.ErrorCode.DUPLICATE_LINK_RIKE;
 
@@ -40,12 +64,23 @@ import static com.tenten.linkhub.global.response.ErrorCode.DUPLICATE_LINK_RIKE;
 @Service
 @Transactional(readOnly = true)
 public class DefaultLinkService implements LinkService {
+    private static final int POPULAR_LINK_SIZE = 10;
+    private static final int RECENT_VIEWER_SIZE = 5;
+    private static final int COPY_CHUNK_SIZE = 1000;
+
     private final LinkRepository linkRepository;
     private final TagRepository tagRepository;
     private final SpaceRepository spaceRepository;
     private final LikeRepository likeRepository;
     private final LinkViewRepository linkViewRepository;
     private final LinkTagRepository linkTagRepository;
+    private final SpaceTagDictionary spaceTagDictionary;
+    private final LinkLikeCounter linkLikeCounter;
+    private final LinkViewHistoryWriter linkViewHistoryWriter;
+    private final LinkPreviewPipeline linkPreviewPipeline;
+    private final PopularLinkLeaderboard popularLinkLeaderboard;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final SpaceVersionTracker spaceVersionTracker;
     private final LinkMapper linkMapper;
 
     @Override
@@ -59,15 +94,16 @@ public class DefaultLinkService implements LinkService {
                 new Url(request.url()));
 
         if (request.hasCreateTagInfo()) { //태그 정보를 포함하여 링크를 생성할 경우
-            Optional<Tag> tag = tagRepository.findBySpaceIdAndTagName(request.spaceId(), request.tagName());
-            Tag newTag = Tag.toTag(space, request.tagName(), Color.toColor(request.color()));
-            if (tag.isEmpty()) {
-                tagRepository.save(newTag);
-            }
+            Tag tag = getOrCreateTag(space, request.tagName(), request.color());
+            link.addLinkTag(LinkTag.toLinkTag(link, tag));
+            tagRepository.increaseUsageCount(tag.getId(), 1);
+        }
 
-            LinkTag linkTag = LinkTag.toLinkTag(link, tag.orElse(newTag));
-            link.addLinkTag(linkTag);
+        if (space.getIsLinkSummarizable()) {
+            linkPreviewPipeline.request(space.getId(), request.url());
         }
+        spaceVersionTracker.increaseVersion(space.getId());
+
         return linkRepository.save(link).getId();
     }
 
@@ -77,23 +113,26 @@ public class DefaultLinkService implements LinkService {
         Space space = spaceRepository.getById(request.spaceId());
         Link link = linkRepository.getById(request.linkId());
 
-        if (request.hasUpdateTagInfo()) { //태그 정보를 포함하여 링크를 수정할 경우
-            Optional<Tag> tag = tagRepository.findBySpaceIdAndTagName(request.spaceId(), request.tagName());
-            Tag newTag = Tag.toTag(space, request.tagName(), Color.toColor(request.color()));
+        decreaseUsageCounts(link);
 
-            if (tag.isEmpty()) {
-                tagRepository.save(newTag);
-            }
+        if (request.hasUpdateTagInfo()) { //태그 정보를 포함하여 링크를 수정할 경우
+            Tag tag = getOrCreateTag(space, request.tagName(), request.color());
 
             link.updateLink(
                     new Url(request.url()),
                     request.title(),
-                    LinkTag.toLinkTag(link, tag.orElse(newTag))
+                    LinkTag.toLinkTag(link, tag)
             );
+            tagRepository.increaseUsageCount(tag.getId(), 1);
         } else {
             link.updateLink(new Url(request.url()), request.title());
         }
 
+        if (space.getIsLinkSummarizable()) {
+            linkPreviewPipeline.request(space.getId(), request.url());
+        }
+        spaceVersionTracker.increaseVersion(space.getId());
+
         return link.getId();
     }
 
@@ -109,6 +148,8 @@ public class DefaultLinkService implements LinkService {
                 });
 
         likeRepository.save(new Like(link, memberId));
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.LIKE, memberId, linkId);
+        spaceVersionTracker.increaseVersion(link.getSpace().getId());
 
         return true;
     }
@@ -116,14 +157,25 @@ public class DefaultLinkService implements LinkService {
     @Override
     @Transactional
     public void cancelLike(Long linkId, Long memberId) {
-        Optional<Like> like = likeRepository.findByLinkIdAndMemberId(linkId, memberId);
+        Like like = likeRepository.findByLinkIdAndMemberId(linkId, memberId)
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 좋아요입니다."));
 
-        likeRepository.delete(like.orElseThrow(() -> new DataNotFoundException("존재하지 않는 좋아요입니다.")));
+        likeRepository.delete(like);
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.LIKE, memberId, linkId);
+        spaceVersionTracker.increaseVersion(like.getLink().getSpace().getId());
     }
 
+    /**
+     * write-behind 기록기가 켜져 있으면 버퍼에 담고, 중복은 예외 없이 무시된다.
+     */
     @Override
     @Transactional
     public void addLinkViewHistory(Long spaceId, Long linkId, Long memberId) {
+        if (linkViewHistoryWriter.isEnabled()) {
+            linkViewHistoryWriter.add(spaceId, linkId, memberId);
+            return;
+        }
+
         if (linkViewRepository.existsLinkView(linkId, memberId)) {
             throw new LinkViewHistoryException("이미 존재하는 접속 기록 데이터입니다.");
         }
@@ -131,6 +183,7 @@ public class DefaultLinkService implements LinkService {
         Link link = linkRepository.getById(linkId);
         LinkViewHistory linkViewHistory = LinkViewHistory.toLinkViewHistory(memberId, link);
         linkViewRepository.save(linkViewHistory);
+        spaceVersionTracker.increaseVersion(spaceId);
     }
 
     @Override
@@ -138,44 +191,251 @@ public class DefaultLinkService implements LinkService {
     public void deleteLink(Long linkId) {
         Link link = linkRepository.getById(linkId);
 
+        decreaseUsageCounts(link);
         link.deleteLink();
         linkViewRepository.deleteLinkViewHistory(linkId);
+        popularLinkLeaderboard.removeLinks(List.of(linkId));
+        spaceVersionTracker.increaseVersion(link.getSpace().getId());
     }
 
+    /**
+     * 스페이스에 있는 링크만 잠그고 골라, 작업을 링크 수와 관계없이 몇 개의 UPDATE/DELETE 문장으로 처리한다.<br>
+     * 권한 확인은 호출하는 쪽에서 한 번만 한다.
+     */
+    @Override
+    @Transactional
+    public LinkBatchResponses batchLinks(LinkBatchRequest request) {
+        List<Long> requestedLinkIds = request.linkIds().stream()
+                .distinct()
+                .toList();
+        List<Long> linkIds = linkRepository.findActiveLinkIdsForUpdate(request.spaceId(), requestedLinkIds);
+
+        if (!linkIds.isEmpty()) {
+            switch (request.operation()) {
+                case DELETE -> deleteLinks(linkIds);
+                case MOVE -> moveLinks(linkIds, request.targetSpaceId());
+                case SET_TAG -> setTag(linkIds, request.spaceId(), request.tagName(), request.color());
+            }
+
+            // 버전은 커밋된 뒤에 올라가므로, 커밋 전에 조회한 옛 목록에 새 ETag가 붙지 않는다.
+            spaceVersionTracker.increaseVersion(request.spaceId());
+            if (request.operation() == LinkBatchOperation.MOVE) {
+                spaceVersionTracker.increaseVersion(request.targetSpaceId());
+            }
+        }
+
+        return LinkBatchResponses.of(requestedLinkIds, linkIds);
+    }
+
+    /**
+     * 방문 기록은 링크마다 최근 방문자 몇 명과 전체 방문자 수만 붙인다.
+     * 미리보기는 링크 요약을 켠 스페이스에서만 저장된 것을 붙이고, 아직 없으면 null로 응답한다.
+     */
     @Override
     public LinkGetByQueryResponses getLinks(LinksGetByQueryRequest request) {
-        Slice<LinkGetDto> linkGetDtos = linkRepository.getLinksByCondition(linkMapper.toQueryCondition(request));
-        LinkGetByQueryResponses responses = LinkGetByQueryResponses.from(linkGetDtos);
+        Slice<LinkInfoDto> linkInfoDtos = linkRepository.getLinksByCondition(linkMapper.toQueryCondition(request));
+        List<Long> linkIds = linkInfoDtos.stream()
+                .map(LinkInfoDto::linkId)
+                .toList();
+
+        List<String> previewUrls = linkInfoDtos.stream()
+                .filter(LinkInfoDto::canLinkSummaraizable)
+                .map(LinkInfoDto::url)
+                .toList();
+
+        Map<Long, RecentLinkViewers> recentViewers = linkViewRepository.findRecentViewers(linkIds, RECENT_VIEWER_SIZE);
+        Map<String, LinkPreviewDto> previews = linkPreviewPipeline.getPreviews(request.spaceId(), previewUrls);
+        Slice<LinkGetDto> linkGetDtos = linkInfoDtos.map(linkInfoDto -> {
+            RecentLinkViewers viewers = recentViewers.getOrDefault(linkInfoDto.linkId(), RecentLinkViewers.empty());
+            return new LinkGetDto(linkInfoDto, viewers.viewers(), viewers.viewerCount(), previews.get(linkInfoDto.url()));
+        });
+
+        LinkGetByQueryResponses responses = LinkGetByQueryResponses.from(linkGetDtos, linkLikeCounter.getLikeCounts(linkIds));
         return responses;
     }
 
+    /**
+     * 인기 링크 보드가 있으면 보드 순서대로 응답하고, 비어 있으면 DB에서 계산한다.
+     */
     @Override
-    public PopularLinksGetByQueryResponses getPopularLinks(Long memberId) {
-        List<PopularLinkGetDto> popularLinks = linkRepository.getPopularLinks(memberId);
-        PopularLinksGetByQueryResponses responses = PopularLinksGetByQueryResponses.from(popularLinks);
-        return responses;
+    public PopularLinksGetByQueryResponses getPopularLinks(Long memberId, Category category) {
+        List<Long> topLinkIds = popularLinkLeaderboard.getTopLinkIds(category);
+
+        if (topLinkIds.isEmpty()) {
+            List<PopularLinkGetDto> popularLinks = linkRepository.getPopularLinks(memberId, category);
+            List<Long> linkIds = popularLinks.stream()
+                    .map(PopularLinkGetDto::linkId)
+                    .toList();
+
+            return PopularLinksGetByQueryResponses.from(popularLinks, linkLikeCounter.getLikeCounts(linkIds));
+        }
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < topLinkIds.size(); i++) {
+            ranks.put(topLinkIds.get(i), i);
+        }
+
+        List<PopularLinkGetDto> popularLinks = linkRepository.findPopularLinksByIds(topLinkIds)
+                .stream()
+                .sorted(Comparator.comparing(dto -> ranks.get(dto.linkId())))
+                .limit(POPULAR_LINK_SIZE)
+                .toList();
+        List<Long> linkIds = popularLinks.stream()
+                .map(PopularLinkGetDto::linkId)
+                .toList();
+
+        return PopularLinksGetByQueryResponses.from(
+                popularLinks,
+                linkLikeCounter.getLikeCounts(linkIds),
+                viewerRelationResolver.resolve(ViewerRelation.LIKE, memberId, linkIds));
     }
 
+    /**
+     * 태그와 링크를 모두 INSERT ... SELECT로 복사한다. 링크는 COPY_CHUNK_SIZE개씩 나눠 복사한다.
+     */
     @Override
     @Transactional
     public void copyLinkBySpaceIdAndPaste(Long sourceSpaceId, Long savedSpaceId, Long memberId) {
-        List<Link> sourceLinks = linkRepository.findBySpaceId(sourceSpaceId);
+        copyTagBySpaceIdAndPaste(sourceSpaceId, savedSpaceId);
 
-        List<Long> sourceLinkIds = sourceLinks
-                .stream()
-                .map(Link::getId)
-                .toList();
+        LinkCopyChunkResponse response = new LinkCopyChunkResponse(0L, 0);
+        while (!response.isCompleted()) {
+            response = copyLinkChunkBySpaceIdAndPaste(sourceSpaceId, savedSpaceId, memberId, response.lastSourceLinkId(), COPY_CHUNK_SIZE);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void copyTagBySpaceIdAndPaste(Long sourceSpaceId, Long savedSpaceId) {
+        tagRepository.copyTags(sourceSpaceId, savedSpaceId);
+        spaceTagDictionary.invalidate(savedSpaceId);
+    }
+
+    /**
+     * 원본 링크 id가 lastSourceLinkId보다 큰 링크를 chunkSize개까지 복사하고, 복사한 링크의 태그 관계도 함께 복사한다.<br>
+     * 태그는 copyTagBySpaceIdAndPaste로 먼저 복사되어 있어야 한다.
+     */
+    @Override
+    @Transactional
+    public LinkCopyChunkResponse copyLinkChunkBySpaceIdAndPaste(Long sourceSpaceId, Long savedSpaceId, Long memberId, Long lastSourceLinkId, int chunkSize) {
+        Long copyRangeEnd = linkRepository.findCopyRangeEnd(sourceSpaceId, lastSourceLinkId, chunkSize);
+
+        if (Objects.isNull(copyRangeEnd)) {
+            return new LinkCopyChunkResponse(null, 0);
+        }
+
+        int copiedLinkCount = linkRepository.copyLinks(sourceSpaceId, savedSpaceId, memberId, lastSourceLinkId, copyRangeEnd);
+        linkTagRepository.copyLinkTags(savedSpaceId, lastSourceLinkId, copyRangeEnd);
+        tagRepository.increaseUsageCountsOfCopiedLinks(savedSpaceId, lastSourceLinkId, copyRangeEnd);
+
+        return new LinkCopyChunkResponse(copyRangeEnd, copiedLinkCount);
+    }
+
+    /**
+     * 가져온 링크 한 묶음을 태그 → 링크 → 링크 태그 순서로 다중 행 INSERT 한다.<br>
+     * 스페이스에 없는 태그만 새로 넣고, 태그 사용 수는 태그마다 한 번씩 올린다.
+     */
+    @Override
+    @Transactional
+    public LinkImportBatchResponse importLinkBatch(Long spaceId, Long memberId, List<ImportedLink> importedLinks) {
+        Map<String, Color> tagColors = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        importedLinks.stream()
+                .filter(ImportedLink::hasTag)
+                .forEach(importedLink -> tagColors.putIfAbsent(importedLink.tagName(), Color.toColor(importedLink.color())));
+
+        Map<String, Long> tagIds = tagRepository.findIdsByNames(spaceId, tagColors.keySet());
+        Map<String, Color> newTagColors = new LinkedHashMap<>();
+        tagColors.forEach((tagName, color) -> {
+            if (!tagIds.containsKey(tagName)) {
+                newTagColors.put(tagName, color);
+            }
+        });
+
+        if (!newTagColors.isEmpty()) {
+            tagRepository.bulkInsertTags(spaceId, newTagColors);
+            tagIds.putAll(tagRepository.findIdsByNames(spaceId, newTagColors.keySet()));
+        }
 
-        List<LinkTag> sourceLinkTags = linkTagRepository.findByLinkIdIn(sourceLinkIds);
-        List<Tag> sourceTags = tagRepository.findBySpaceId(sourceSpaceId);
+        List<Long> linkIds = linkRepository.bulkInsertLinks(spaceId, memberId, importedLinks);
+        Map<Long, Long> linkTagIds = new LinkedHashMap<>();
+        Map<Long, Long> usageCounts = new HashMap<>();
 
-        Long insertedLinksFirstId = linkRepository.bulkInsertLinks(sourceLinks, savedSpaceId, memberId);
-        Map<Long, Long> linkIdMappingMap = linkMapper.toCopyAndPasteLinkIdMap(sourceLinks, insertedLinksFirstId);
+        for (int i = 0; i < importedLinks.size(); i++) {
+            ImportedLink importedLink = importedLinks.get(i);
 
-        Long insertedTagsFirstId = tagRepository.bulkInsertTags(sourceTags, savedSpaceId);
-        Map<Long, Long> tagIdMappingMap = linkMapper.toCopyAndPasteTagIdMap(sourceTags, insertedTagsFirstId);
+            if (importedLink.hasTag()) {
+                Long tagId = tagIds.get(importedLink.tagName());
+                linkTagIds.put(linkIds.get(i), tagId);
+                usageCounts.merge(tagId, 1L, Long::sum);
+            }
+        }
+
+        if (!linkTagIds.isEmpty()) {
+            linkTagRepository.bulkInsertLinkTags(linkTagIds);
+        }
+        usageCounts.forEach(tagRepository::increaseUsageCount);
+        spaceVersionTracker.increaseVersion(spaceId);
+
+        return new LinkImportBatchResponse(linkIds.size(), newTagColors.size());
+    }
+
+    private void deleteLinks(List<Long> linkIds) {
+        tagRepository.decreaseUsageCountsOfLinks(linkIds);
+        linkTagRepository.softDeleteByLinkIds(linkIds);
+        linkRepository.softDeleteLinks(linkIds);
+        linkViewRepository.deleteLinkViewHistories(linkIds);
+        popularLinkLeaderboard.removeLinks(linkIds);
+    }
+
+    /**
+     * 링크 태그는 옮겨 갈 스페이스의 같은 이름 태그로 바꾸고, 없는 태그는 먼저 만든다.
+     */
+    private void moveLinks(List<Long> linkIds, Long targetSpaceId) {
+        tagRepository.copyMissingTagsOfLinks(linkIds, targetSpaceId);
+        tagRepository.decreaseUsageCountsOfLinks(linkIds);
+        linkTagRepository.changeTagsToSpace(linkIds, targetSpaceId);
+        tagRepository.increaseUsageCountsOfLinks(linkIds);
+        linkRepository.moveLinks(linkIds, targetSpaceId);
+        popularLinkLeaderboard.evictCategories(linkIds);
+    }
+
+    private void setTag(List<Long> linkIds, Long spaceId, String tagName, String color) {
+        Tag tag = getOrCreateTag(spaceRepository.getById(spaceId), tagName, color);
+
+        tagRepository.decreaseUsageCountsOfLinks(linkIds);
+        linkTagRepository.softDeleteByLinkIds(linkIds);
+
+        Map<Long, Long> linkTagIds = new LinkedHashMap<>();
+        linkIds.forEach(linkId -> linkTagIds.put(linkId, tag.getId()));
+        linkTagRepository.bulkInsertLinkTags(linkTagIds);
+        tagRepository.increaseUsageCount(tag.getId(), linkIds.size());
+    }
+
+    /**
+     * 태그 사전에 있으면 조회 없이 프록시로 참조하고, 없으면 DB에서 찾거나 새로 만든다.
+     */
+    private Tag getOrCreateTag(Space space, String tagName, String color) {
+        Color tagColor = Color.toColor(color);
+        Optional<TagInfo> tagInfo = spaceTagDictionary.find(space.getId(), tagName);
+
+        if (tagInfo.isPresent()) {
+            return tagRepository.getReferenceById(tagInfo.get().tagId());
+        }
+
+        Tag tag = tagRepository.findBySpaceIdAndTagName(space.getId(), tagName)
+                .orElseGet(() -> tagRepository.save(Tag.toTag(space, tagName, tagColor)));
+        spaceTagDictionary.put(space.getId(), tagName, tag);
+
+        return tag;
+    }
 
-        linkTagRepository.bulkInsertLinkTag(sourceLinkTags, linkIdMappingMap, tagIdMappingMap);
+    /**
+     * 링크에서 떼어 낼 링크 태그만큼 태그 사용 수를 내린다. 링크 태그가 삭제 처리되기 전에 호출한다.
+     */
+    private void decreaseUsageCounts(Link link) {
+        link.getLinkTags().stream()
+                .filter(linkTag -> !linkTag.getIsDeleted())
+                .forEach(linkTag -> tagRepository.increaseUsageCount(linkTag.getTag().getId(), -1));
     }
 
 }
@@ -1,10 +1,18 @@
 package com.tenten.linkhub.domain.link.service;
 
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
+import com.tenten.linkhub.domain.link.service.dto.LinkCopyChunkResponse;
 import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponses;
+import com.tenten.linkhub.domain.link.service.dto.LinkImportBatchResponse;
 import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
 import com.tenten.linkhub.domain.link.service.dto.PopularLinksGetByQueryResponses;
+import com.tenten.linkhub.domain.space.model.category.Category;
+
+import java.util.List;
 
 public interface LinkService {
 
@@ -20,9 +28,17 @@ public interface LinkService {
 
     void deleteLink(Long linkId);
 
+    LinkBatchResponses batchLinks(LinkBatchRequest request);
+
     LinkGetByQueryResponses getLinks(LinksGetByQueryRequest request);
 
-    PopularLinksGetByQueryResponses getPopularLinks(Long memberId);
+    PopularLinksGetByQueryResponses getPopularLinks(Long memberId, Category category);
 
     void copyLinkBySpaceIdAndPaste(Long targetSpaceId, Long savedSpaceId, Long memberId);
+
+    void copyTagBySpaceIdAndPaste(Long sourceSpaceId, Long savedSpaceId);
+
+    LinkCopyChunkResponse copyLinkChunkBySpaceIdAndPaste(Long sourceSpaceId, Long savedSpaceId, Long memberId, Long lastSourceLinkId, int chunkSize);
+
+    LinkImportBatchResponse importLinkBatch(Long spaceId, Long memberId, List<ImportedLink> importedLinks);
 }
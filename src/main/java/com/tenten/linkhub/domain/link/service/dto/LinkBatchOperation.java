@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+public enum LinkBatchOperation {
+    DELETE,
+    MOVE,
+    SET_TAG
+}
@@ -0,0 +1,14 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+import java.util.List;
+
+public record LinkBatchRequest(
+        Long spaceId,
+        Long memberId,
+        LinkBatchOperation operation,
+        List<Long> linkIds,
+        Long targetSpaceId,
+        String tagName,
+        String color
+) {
+}
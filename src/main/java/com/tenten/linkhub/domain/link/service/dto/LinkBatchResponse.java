@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+public record LinkBatchResponse(
+        Long linkId,
+        LinkBatchResult result
+) {
+}
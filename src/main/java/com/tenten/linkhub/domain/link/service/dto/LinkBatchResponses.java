@@ -0,0 +1,24 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public record LinkBatchResponses(
+        List<LinkBatchResponse> responses
+) {
+    /**
+     * 요청한 순서대로, 처리한 링크는 SUCCESS, 스페이스에 없거나 이미 삭제된 링크는 NOT_FOUND로 응답한다.
+     */
+    public static LinkBatchResponses of(List<Long> requestedLinkIds, List<Long> appliedLinkIds) {
+        Set<Long> applied = new HashSet<>(appliedLinkIds);
+
+        List<LinkBatchResponse> responses = requestedLinkIds.stream()
+                .map(linkId -> new LinkBatchResponse(
+                        linkId,
+                        applied.contains(linkId) ? LinkBatchResult.SUCCESS : LinkBatchResult.NOT_FOUND))
+                .toList();
+
+        return new LinkBatchResponses(responses);
+    }
+}
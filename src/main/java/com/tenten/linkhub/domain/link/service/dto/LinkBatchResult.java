@@ -0,0 +1,6 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+public enum LinkBatchResult {
+    SUCCESS,
+    NOT_FOUND
+}
@@ -0,0 +1,15 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+import java.util.Objects;
+
+/**
+ * lastSourceLinkId는 이번에 복사한 마지막 원본 링크 id이고, 더 복사할 링크가 없으면 null이다.
+ */
+public record LinkCopyChunkResponse(
+        Long lastSourceLinkId,
+        int copiedLinkCount
+) {
+    public boolean isCompleted() {
+        return Objects.isNull(lastSourceLinkId);
+    }
+}
@@ -3,13 +3,17 @@ package com.tenten.linkhub.domain.link.service.dto;
 import com.tenten.linkhub.domain.link.repository.link.dto.LinkGetDto;
 import org.springframework.data.domain.Slice;
 
+import java.util.Map;
 import java.util.Objects;
 
 
 public record LinkGetByQueryResponses(
         Slice<LinkGetByQueryResponse> responses
 ) {
-    public static LinkGetByQueryResponses from(Slice<LinkGetDto> linkGetDtos) {
+    /**
+     * likeCounts에 있는 링크는 그 값을 좋아요 수로 쓴다.
+     */
+    public static LinkGetByQueryResponses from(Slice<LinkGetDto> linkGetDtos, Map<Long, Long> likeCounts) {
         Slice<LinkGetByQueryResponse> responseList = linkGetDtos
                 .map(dto -> new LinkGetByQueryResponse(
                         dto.linkInfoDto().linkId(),
@@ -17,11 +21,13 @@ public record LinkGetByQueryResponses(
                         dto.linkInfoDto().url(),
                         dto.linkInfoDto().tagName(),
                         Objects.isNull(dto.linkInfoDto().tagColor()) ? null : dto.linkInfoDto().tagColor().getValue(),
-                        dto.linkInfoDto().likeCount(),
+                        likeCounts.getOrDefault(dto.linkInfoDto().linkId(), dto.linkInfoDto().likeCount()),
                         dto.linkInfoDto().isLiked(),
                         dto.linkInfoDto().canLinkSummaraizable(),
                         dto.linkInfoDto().canReadMark(),
-                        dto.linkViewHistories()
+                        dto.linkViewHistories(),
+                        dto.viewerCount(),
+                        dto.preview()
                 ));
 
         return new LinkGetByQueryResponses(responseList);
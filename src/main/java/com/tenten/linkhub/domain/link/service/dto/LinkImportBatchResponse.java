@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.link.service.dto;
+
+public record LinkImportBatchResponse(
+        int importedLinkCount,
+        int createdTagCount
+) {
+}
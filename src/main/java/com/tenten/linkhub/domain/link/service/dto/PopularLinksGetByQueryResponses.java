@@ -3,27 +3,46 @@ package com.tenten.linkhub.domain.link.service.dto;
 import com.tenten.linkhub.domain.link.repository.link.dto.PopularLinkGetDto;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public record PopularLinksGetByQueryResponses(
         List<PopularLinksGetByQueryResponse> responses
 ) {
-    public static PopularLinksGetByQueryResponses from(List<PopularLinkGetDto> popularLinkGetDtos) {
+    /**
+     * likeCounts에 있는 링크는 그 값을 좋아요 수로 쓴다.
+     */
+    public static PopularLinksGetByQueryResponses from(List<PopularLinkGetDto> popularLinkGetDtos, Map<Long, Long> likeCounts) {
         List<PopularLinksGetByQueryResponse> responseList = popularLinkGetDtos
                 .stream()
-                .map(
-                        dto -> new PopularLinksGetByQueryResponse(
-                                dto.linkId(),
-                                dto.title(),
-                                dto.url(),
-                                dto.tagName(),
-                                Objects.isNull(dto.tagColor()) ? null : dto.tagColor().getValue(),
-                                dto.likeCount(),
-                                dto.isLiked()
-                        )
-                )
+                .map(dto -> toResponse(dto, likeCounts, dto.isLiked()))
                 .toList();
 
         return new PopularLinksGetByQueryResponses(responseList);
     }
+
+    /**
+     * isLiked는 likedLinkIds에 있는지로 정한다.
+     */
+    public static PopularLinksGetByQueryResponses from(List<PopularLinkGetDto> popularLinkGetDtos, Map<Long, Long> likeCounts, Set<Long> likedLinkIds) {
+        List<PopularLinksGetByQueryResponse> responseList = popularLinkGetDtos
+                .stream()
+                .map(dto -> toResponse(dto, likeCounts, likedLinkIds.contains(dto.linkId())))
+                .toList();
+
+        return new PopularLinksGetByQueryResponses(responseList);
+    }
+
+    private static PopularLinksGetByQueryResponse toResponse(PopularLinkGetDto dto, Map<Long, Long> likeCounts, boolean isLiked) {
+        return new PopularLinksGetByQueryResponse(
+                dto.linkId(),
+                dto.title(),
+                dto.url(),
+                dto.tagName(),
+                Objects.isNull(dto.tagColor()) ? null : dto.tagColor().getValue(),
+                likeCounts.getOrDefault(dto.linkId(), dto.likeCount()),
+                isLiked
+        );
+    }
 }
@@ -0,0 +1,4 @@
+package com.tenten.linkhub.domain.member.handler.dto;
+
+public record MemberProfileUpdateEvent(Long memberId) {
+}
@@ -1,6 +1,7 @@
 package com.tenten.linkhub.domain.member.service;
 
 import com.tenten.linkhub.domain.auth.JwtProvider;
+import com.tenten.linkhub.domain.member.handler.dto.MemberProfileUpdateEvent;
 import com.tenten.linkhub.domain.member.model.FavoriteCategory;
 import com.tenten.linkhub.domain.member.model.Follow;
 import com.tenten.linkhub.domain.member.model.Member;
@@ -30,6 +31,8 @@ import com.tenten.linkhub.domain.member.service.dto.MemberSearchResponses;
 import com.tenten.linkhub.domain.member.service.dto.MemberUpdateRequest;
 import com.tenten.linkhub.domain.member.service.dto.MemberUpdateResponse;
 import com.tenten.linkhub.domain.member.service.mapper.MemberMapper;
+import com.tenten.linkhub.domain.viewer.ViewerRelation;
+import com.tenten.linkhub.domain.viewer.ViewerRelationResolver;
 import com.tenten.linkhub.global.aws.dto.ImageInfo;
 import com.tenten.linkhub.global.aws.dto.ImageSaveRequest;
 import com.tenten.linkhub.global.aws.s3.ImageFileUploader;
@@ -41,6 +44,7 @@ import com.tenten.linkhub.global.response.ErrorCode;
 import com.tenten.linkhub.global.util.email.EmailDto;
 import com.tenten.linkhub.global.util.email.VerificationCodeCreator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -67,7 +71,9 @@ public class MemberServiceImpl implements MemberService {
     private final MemberEmailRedisRepository memberEmailRedisRepository;
     private final ImageFileUploader imageFileUploader;
     private final JwtProvider jwtProvider;
+    private final ViewerRelationResolver viewerRelationResolver;
     private final MemberMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -198,6 +204,7 @@ public class MemberServiceImpl implements MemberService {
         Member followedMember = memberRepository.getById(memberId);
 
         Follow follow = followRepository.save(new Follow(followingMember, followedMember));
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.FOLLOWING, myMemberId, memberId);
 
         return MemberFollowCreateResponse.from(follow.getFollower());
     }
@@ -209,6 +216,7 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 팔로우 또는 유저입니다."));
 
         followRepository.delete(follow);
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.FOLLOWING, myMemberId, memberId);
 
         return memberId;
     }
@@ -250,6 +258,8 @@ public class MemberServiceImpl implements MemberService {
                 request.isSubscribed()
         );
 
+        eventPublisher.publishEvent(new MemberProfileUpdateEvent(updatedMember.getId()));
+
         return MemberUpdateResponse.from(updatedMember.getId());
     }
 
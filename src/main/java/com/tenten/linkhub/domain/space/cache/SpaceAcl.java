@@ -0,0 +1,66 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.tenten.linkhub.domain.link.exception.LinkViewHistoryException;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.global.exception.UnauthorizedAccessException;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 권한 검사에 필요한 스페이스 정책과 멤버별 역할의 스냅샷.
+ */
+public record SpaceAcl(
+        Long spaceId,
+        boolean isVisible,
+        boolean isComment,
+        boolean isReadMarkEnabled,
+        Map<Long, Role> memberRoles
+) {
+
+    public static SpaceAcl from(Space space) {
+        Map<Long, Role> memberRoles = space.getSpaceMembers()
+                .getSpaceMemberList()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(SpaceMember::getMemberId, SpaceMember::getRole));
+
+        return new SpaceAcl(
+                space.getId(),
+                space.getIsVisible(),
+                space.getIsComment(),
+                space.getIsReadMarkEnabled(),
+                memberRoles
+        );
+    }
+
+    public boolean canEditLink(Long memberId) {
+        Role role = memberRoles.get(memberId);
+
+        return role == Role.OWNER || role == Role.CAN_EDIT;
+    }
+
+    public void validateVisibilityAndMembership(Long memberId) {
+        if (isVisible) {
+            return;
+        }
+
+        if (!memberRoles.containsKey(memberId)) {
+            throw new UnauthorizedAccessException("이 스페이스는 권한이 없으면 볼 수 없는 스페이스입니다.");
+        }
+    }
+
+    public void validateCommentAvailability() {
+        if (!isComment) {
+            throw new UnauthorizedAccessException("해당 게시글은 댓글을 작성할 수 없습니다.");
+        }
+    }
+
+    public void checkLinkViewHistoryEnabled(Long memberId) {
+        if (!memberRoles.containsKey(memberId) || !isReadMarkEnabled) {
+            throw new LinkViewHistoryException("링크의 접속정보를 저장할 수 없습니다.");
+        }
+    }
+
+}
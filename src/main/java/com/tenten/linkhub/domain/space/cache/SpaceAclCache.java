@@ -0,0 +1,110 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 링크/댓글 요청마다 수행하는 권한 검사용 스페이스 ACL 캐시.<br>
+ * 인스턴스 로컬 Caffeine 캐시에 두고, 무효화는 Redis 채널로 다른 인스턴스에도 전파한다.
+ * 전파가 유실되더라도 TTL이 지나면 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class SpaceAclCache implements MessageListener {
+
+    private static final String INVALIDATE_CHANNEL = "SpaceAcl:invalidate";
+
+    private final SpaceRepository spaceRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainer;
+    private final Cache<Long, SpaceAcl> localCache;
+    private final boolean enabled;
+
+    public SpaceAclCache(SpaceRepository spaceRepository,
+                         StringRedisTemplate redisTemplate,
+                         ObjectProvider<RedisMessageListenerContainer> listenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${cache.space-acl.enabled:false}") boolean enabled,
+                         @Value("${cache.space-acl.max-size:10000}") long maxSize,
+                         @Value("${cache.space-acl.ttl-seconds:60}") long ttlSeconds) {
+        this.spaceRepository = spaceRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "spaceAcl");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (!enabled) {
+            return;
+        }
+
+        listenerContainer.ifAvailable(container ->
+                container.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL)));
+    }
+
+    public SpaceAcl get(Long spaceId) {
+        if (!enabled) {
+            return load(spaceId);
+        }
+
+        return localCache.get(spaceId, this::load);
+    }
+
+    /**
+     * 커밋 이후에 호출한다. 로컬 캐시를 지우고 다른 인스턴스에 무효화를 알린다.
+     */
+    public void invalidate(Long spaceId) {
+        if (!enabled) {
+            return;
+        }
+
+        localCache.invalidate(spaceId);
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(spaceId));
+        } catch (DataAccessException e) {
+            log.warn("스페이스 ACL 무효화 메시지를 발행하지 못했습니다. spaceId: {}", spaceId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String spaceId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(spaceId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 스페이스 ACL 무효화 메시지입니다. message: {}", spaceId);
+        }
+    }
+
+    private SpaceAcl load(Long spaceId) {
+        return SpaceAcl.from(spaceRepository.getSpaceJoinSpaceMemberById(spaceId));
+    }
+
+}
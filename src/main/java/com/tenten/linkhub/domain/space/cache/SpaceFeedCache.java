@@ -0,0 +1,207 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 메인 페이지 공개 스페이스 피드(GET /spaces)의 페이지 단위 캐시.<br>
+ * 1차 - 인스턴스 로컬 Caffeine 캐시 (크기 제한 + TTL)<br>
+ * 2차 - (선택) Redis, 키에 카테고리별 버전을 포함해 무효화 시 버전만 올린다.<br>
+ * 스페이스가 생성/수정/삭제되면 그 카테고리 필터와 전체(필터 없음) 페이지만 무효화한다.
+ * 즐겨찾기 수는 즐겨찾기순 정렬을 바꾸므로 같은 범위를 무효화하고, 스크랩 수처럼 정렬에 쓰이지 않는 카운터는 TTL이 지나면 반영된다.
+ */
+@Slf4j
+@Component
+public class SpaceFeedCache {
+
+    private static final String FEED_KEY_PREFIX = "SpaceFeed:";
+    private static final String FEED_VERSION_KEY = "SpaceFeed:version";
+
+    private final Cache<SpaceFeedCacheKey, SpacesFindWithCursorResponses> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    private final Duration redisTtl;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public SpaceFeedCache(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${cache.space-feed.enabled:false}") boolean enabled,
+                          @Value("${cache.space-feed.max-size:1000}") long maxSize,
+                          @Value("${cache.space-feed.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${cache.space-feed.redis.enabled:false}") boolean redisEnabled,
+                          @Value("${cache.space-feed.redis.ttl-seconds:60}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "spaceFeed");
+        this.redisHitCounter = Counter.builder("space.feed.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("space.feed.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public SpacesFindWithCursorResponses get(PublicSpacesFindWithFilterRequest request, Supplier<SpacesFindWithCursorResponses> loader) {
+        return get(request, loader, responses -> true);
+    }
+
+    /**
+     * loader가 null을 반환하거나 cacheable을 통과하지 못한 결과는 캐시에 저장하지 않고 그대로 반환한다.
+     */
+    public SpacesFindWithCursorResponses get(PublicSpacesFindWithFilterRequest request,
+                                             Supplier<SpacesFindWithCursorResponses> loader,
+                                             Predicate<SpacesFindWithCursorResponses> cacheable) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        AtomicReference<SpacesFindWithCursorResponses> uncached = new AtomicReference<>();
+        SpacesFindWithCursorResponses cached = localCache.get(
+                SpaceFeedCacheKey.from(request),
+                key -> {
+                    SpacesFindWithCursorResponses responses = getFromRedisOrLoad(key, loader, cacheable);
+
+                    if (isCacheable(responses, cacheable)) {
+                        return responses;
+                    }
+
+                    // Caffeine은 null을 반환하면 저장하지 않는다.
+                    uncached.set(responses);
+                    return null;
+                });
+
+        return Objects.nonNull(cached) ? cached : uncached.get();
+    }
+
+    /**
+     * 주어진 카테고리 필터 페이지와 전체 페이지를 무효화한다. 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다.
+     */
+    public void evictCategories(Category... categories) {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Category> filters = new HashSet<>(Arrays.asList(categories));
+        filters.add(null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(filters);
+                }
+            });
+            return;
+        }
+
+        doEvict(filters);
+    }
+
+    private void doEvict(Set<Category> filters) {
+        localCache.asMap().keySet().removeIf(key -> filters.contains(key.filter()));
+
+        if (redisEnabled) {
+            try {
+                filters.forEach(filter -> redisTemplate.opsForValue().increment(getVersionKey(filter)));
+            } catch (DataAccessException e) {
+                log.warn("스페이스 피드 Redis 캐시 버전을 올리지 못했습니다.", e);
+            }
+        }
+    }
+
+    private SpacesFindWithCursorResponses getFromRedisOrLoad(SpaceFeedCacheKey key,
+                                                             Supplier<SpacesFindWithCursorResponses> loader,
+                                                             Predicate<SpacesFindWithCursorResponses> cacheable) {
+        if (!redisEnabled) {
+            return loader.get();
+        }
+
+        String redisKey;
+        try {
+            redisKey = getRedisKey(key);
+            String cached = redisTemplate.opsForValue().get(redisKey);
+
+            if (Objects.nonNull(cached)) {
+                redisHitCounter.increment();
+                return objectMapper.readValue(cached, SpaceFeedPage.class).toResponses();
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("스페이스 피드 Redis 캐시를 조회하지 못했습니다. key: {}", key, e);
+            return loader.get();
+        }
+
+        redisMissCounter.increment();
+        SpacesFindWithCursorResponses responses = loader.get();
+
+        if (!isCacheable(responses, cacheable)) {
+            return responses;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(
+                    redisKey,
+                    objectMapper.writeValueAsString(SpaceFeedPage.from(responses)),
+                    redisTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("스페이스 피드 Redis 캐시를 저장하지 못했습니다. key: {}", key, e);
+        }
+
+        return responses;
+    }
+
+    private boolean isCacheable(SpacesFindWithCursorResponses responses, Predicate<SpacesFindWithCursorResponses> cacheable) {
+        return Objects.nonNull(responses) && cacheable.test(responses);
+    }
+
+    private String getRedisKey(SpaceFeedCacheKey key) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(key.filter()));
+
+        return FEED_KEY_PREFIX + (Objects.isNull(version) ? "0" : version) + ":" + key.toRedisKey();
+    }
+
+    private String getVersionKey(Category filter) {
+        return FEED_VERSION_KEY + ":" + filter;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import org.springframework.data.domain.Sort;
+
+public record SpaceFeedCacheKey(
+        Category filter,
+        String sort,
+        int pageSize,
+        Long lastFavoriteCount,
+        Long lastSpaceId
+) {
+
+    public static SpaceFeedCacheKey from(PublicSpacesFindWithFilterRequest request) {
+        String sort = request.pageable().sort()
+                .stream()
+                .findFirst()
+                .map(Sort.Order::getProperty)
+                .orElse(null);
+
+        return new SpaceFeedCacheKey(
+                request.pageable().filter(),
+                sort,
+                request.pageable().pageSize(),
+                request.lastFavoriteCount(),
+                request.lastSpaceId()
+        );
+    }
+
+    public String toRedisKey() {
+        return String.join(":",
+                String.valueOf(filter),
+                String.valueOf(sort),
+                String.valueOf(pageSize),
+                String.valueOf(lastFavoriteCount),
+                String.valueOf(lastSpaceId));
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponse;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
+
+import java.util.List;
+
+/**
+ * Redis에 JSON으로 저장하기 위한 피드 페이지 형태.
+ */
+public record SpaceFeedPage(
+        Long lastFavoriteCount,
+        Long lastId,
+        Integer pageSize,
+        Boolean hasNext,
+        List<SpacesFindByQueryResponse> content
+) {
+
+    public static SpaceFeedPage from(SpacesFindWithCursorResponses responses) {
+        SpaceCursorSlice<SpacesFindByQueryResponse> slice = responses.responses();
+
+        return new SpaceFeedPage(
+                slice.getLastFavoriteCount(),
+                slice.getLastId(),
+                slice.getPageSize(),
+                slice.getHasNext(),
+                slice.getContent()
+        );
+    }
+
+    public SpacesFindWithCursorResponses toResponses() {
+        return new SpacesFindWithCursorResponses(
+                SpaceCursorSlice.of(lastFavoriteCount, lastId, pageSize, hasNext, content)
+        );
+    }
+
+}
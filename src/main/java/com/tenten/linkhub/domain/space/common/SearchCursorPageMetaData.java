@@ -0,0 +1,11 @@
+package com.tenten.linkhub.domain.space.common;
+
+public record SearchCursorPageMetaData(
+        Double lastScore,
+        Long lastFavoriteCount,
+        Long lastId,
+        Integer pageSize,
+        Boolean hasNext,
+        SearchEngineType searchEngine
+) {
+}
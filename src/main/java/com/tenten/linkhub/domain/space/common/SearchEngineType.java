@@ -0,0 +1,9 @@
+package com.tenten.linkhub.domain.space.common;
+
+/**
+ * 검색 커서를 만든 검색 엔진. 엔진마다 검색 점수의 기준이 달라 점수 순 커서는 만든 엔진에서만 이어서 조회할 수 있다.
+ */
+public enum SearchEngineType {
+    INDEX,
+    SQL
+}
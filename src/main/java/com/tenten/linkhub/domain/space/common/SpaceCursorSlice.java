@@ -9,18 +9,30 @@ import java.util.stream.Collectors;
 
 @Getter
 public class SpaceCursorSlice<T> {
+    private final Double lastScore;
     private final Long lastFavoriteCount;
     private final Long lastId;
     private final Integer pageSize;
     private final Boolean hasNext;
     private final List<T> content;
+    private final SearchEngineType searchEngine;
 
     public SpaceCursorSlice(Long lastFavoriteCount, Long lastId, Integer pageSize, Boolean hasNext, List<T> content) {
+        this(null, lastFavoriteCount, lastId, pageSize, hasNext, content);
+    }
+
+    public SpaceCursorSlice(Double lastScore, Long lastFavoriteCount, Long lastId, Integer pageSize, Boolean hasNext, List<T> content) {
+        this(lastScore, lastFavoriteCount, lastId, pageSize, hasNext, content, null);
+    }
+
+    private SpaceCursorSlice(Double lastScore, Long lastFavoriteCount, Long lastId, Integer pageSize, Boolean hasNext, List<T> content, SearchEngineType searchEngine) {
+        this.lastScore = lastScore;
         this.lastFavoriteCount = lastFavoriteCount;
         this.lastId = lastId;
         this.pageSize = pageSize;
         this.hasNext = hasNext;
         this.content = new ArrayList<>(content);
+        this.searchEngine = searchEngine;
     }
 
     public static <T> SpaceCursorSlice<T> of(Long lastFavoriteCount, Long lastId, Integer pageSize, Boolean hasNext, List<T> content) {
@@ -33,16 +45,41 @@ public class SpaceCursorSlice<T> {
         );
     }
 
+    public static <T> SpaceCursorSlice<T> of(Double lastScore, Long lastFavoriteCount, Long lastId, Integer pageSize, Boolean hasNext, List<T> content) {
+        return new SpaceCursorSlice<>(
+                lastScore,
+                lastFavoriteCount,
+                lastId,
+                pageSize,
+                hasNext,
+                content
+        );
+    }
+
     public <U> SpaceCursorSlice<U> map(Function<? super T, ? extends U> converter) {
         List<U> newContent = content.stream()
                 .map(converter)
                 .collect(Collectors.toList());
         return new SpaceCursorSlice<>(
+                lastScore,
+                lastFavoriteCount,
+                lastId,
+                pageSize,
+                hasNext,
+                newContent,
+                searchEngine
+        );
+    }
+
+    public SpaceCursorSlice<T> withSearchEngine(SearchEngineType searchEngine) {
+        return new SpaceCursorSlice<>(
+                lastScore,
                 lastFavoriteCount,
                 lastId,
                 pageSize,
                 hasNext,
-                newContent
+                content,
+                searchEngine
         );
     }
 
@@ -22,9 +22,13 @@ import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpaceFindWithF
 import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesFindByQueryApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesFindByQueryApiResponses;
 import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesFindWithFilterApiRequest;
+import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesSearchWithCursorApiRequest;
+import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesSearchWithCursorApiResponses;
+import com.tenten.linkhub.domain.space.controller.dto.space.ScrapProgressGetApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceCreateApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceCreateApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceDetailGetByIdApiResponse;
+import com.tenten.linkhub.domain.space.controller.dto.space.SpaceSuggestionsApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceTagsGetApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceUpdateApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceUpdateApiResponse;
@@ -33,7 +37,7 @@ import com.tenten.linkhub.domain.space.controller.dto.spacemember.SpaceMemberRol
 import com.tenten.linkhub.domain.space.controller.mapper.CommentApiMapper;
 import com.tenten.linkhub.domain.space.controller.mapper.FavoriteApiMapper;
 import com.tenten.linkhub.domain.space.controller.mapper.SpaceApiMapper;
-import com.tenten.linkhub.domain.space.controller.annotation.SpaceViewList;
+import com.tenten.linkhub.domain.space.controller.annotation.SpaceViewer;
 import com.tenten.linkhub.domain.space.facade.CommentFacade;
 import com.tenten.linkhub.domain.space.facade.SpaceFacade;
 import com.tenten.linkhub.domain.space.facade.dto.CommentAndChildCountAndMemberInfoResponses;
@@ -50,7 +54,10 @@ import com.tenten.linkhub.domain.space.service.dto.comment.RootCommentCreateRequ
 import com.tenten.linkhub.domain.space.service.dto.favorite.FavoriteSpacesFindResponses;
 import com.tenten.linkhub.domain.space.service.dto.favorite.SpaceRegisterInFavoriteResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.ScrapProgressGetResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponses;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponses;
 
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
@@ -64,12 +71,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import jakarta.servlet.http.Cookie;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import java.net.URI;
-import java.util.List;
 import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
@@ -89,6 +93,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -99,7 +104,6 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/spaces")
 public class SpaceController {
     private static final String SPACE_LOCATION_PRE_FIX = "https://api.Link-hub.site/spaces/";
-    private static final int COOKIE_EXPIRE_TIME = 60 * 60 * 24;
 
     private final SpaceFacade spaceFacade;
     private final SpaceService spaceService;
@@ -139,6 +143,55 @@ public class SpaceController {
         return ResponseEntity.ok(apiResponses);
     }
 
+    /**
+     * 스페이스 커서 검색 API
+     */
+    @Operation(
+            summary = "스페이스 커서 검색 API", description = "keyWord, lastSpaceId(정렬 조건 favorite_count인 경우 lastFavoriteCount, 정렬 조건이 없는 경우 lastScore와 searchEngine 추가로 필요), pageSize, sort, filter를 받아 검색합니다.\n\n" +
+            "첫 페이지 조회의 경우 lastSpaceId, lastFavoriteCount, lastScore 없이 요청하면 됩니다. 정렬 조건이 없으면 검색 점수 순으로 정렬됩니다.\n\n" +
+            "sort: {created_at, favorite_count}\n\n" +
+            "filter: {ENTER_ART, LIFE_KNOWHOW_SHOPPING, HOBBY_LEISURE_TRAVEL, KNOWLEDGE_ISSUE_CAREER, ETC}",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "검색이 성공적으로 완료 되었습니다."),
+            })
+    @GetMapping(value = "/search/cursor",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PublicSpacesSearchWithCursorApiResponses> searchPublicSpacesWithCursor(
+            @ModelAttribute PublicSpacesSearchWithCursorApiRequest request
+    ) {
+        SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(
+                request.pageSize(),
+                request.sort(),
+                request.filter());
+
+        PublicSpacesSearchWithCursorRequest serviceRequest = spaceMapper.toPublicSpacesSearchWithCursorRequest(request, pageRequest);
+        SpacesFindWithCursorResponses responses = spaceService.searchPublicSpacesWithCursor(serviceRequest);
+
+        PublicSpacesSearchWithCursorApiResponses apiResponses = PublicSpacesSearchWithCursorApiResponses.from(responses);
+
+        return ResponseEntity.ok(apiResponses);
+    }
+
+    /**
+     * 스페이스 이름 자동완성 API
+     */
+    @Operation(
+            summary = "스페이스 이름 자동완성 API", description = "prefix로 시작하는 공개 스페이스 이름을 favorite_count가 높은 순으로 size개(최대 20개) 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회가 성공적으로 완료 되었습니다."),
+            })
+    @GetMapping(value = "/suggest",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SpaceSuggestionsApiResponse> suggestSpaces(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        SpaceSuggestionResponses responses = spaceService.suggestSpaces(prefix, size);
+        SpaceSuggestionsApiResponse apiResponse = spaceMapper.toSpaceSuggestionsApiResponse(responses);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     /**
      * 스페이스 생성 API
      */
@@ -186,17 +239,14 @@ public class SpaceController {
             @AuthenticationPrincipal MemberDetails memberDetails,
             @PathVariable Long spaceId,
             @Parameter(hidden = true)
-            @SpaceViewList List<Long> spaceViews,
-            HttpServletResponse servletResponse
+            @SpaceViewer String guestId
     ) {
         Long memberId = Objects.isNull(memberDetails) ? null : memberDetails.memberId();
-        SpaceDetailGetByIdFacadeRequest request = spaceMapper.toSpaceDetailGetByIdFacadeRequest(spaceId, memberId, spaceViews);
+        SpaceDetailGetByIdFacadeRequest request = spaceMapper.toSpaceDetailGetByIdFacadeRequest(spaceId, memberId, guestId);
 
         SpaceDetailGetByIdFacadeResponse response = spaceFacade.getSpaceDetailById(request);
         SpaceDetailGetByIdApiResponse apiResponse = SpaceDetailGetByIdApiResponse.from(response);
 
-        setSpaceViewCookie(servletResponse, response.spaceViews());
-
         return ResponseEntity.ok(apiResponse);
     }
 
@@ -285,13 +335,14 @@ public class SpaceController {
     @Operation(
             summary = "스페이스 필터 조회 API", description = "메인 페이지용 스페이스 필터 조회이며 lastSpaceId(정렬 조건 favorite_count인 경우 lastFavoriteCount 추가로 필요), pageSize, sort, filter를 받아 조회합니다. (sort, filter조건 없이 사용 가능합니다.)\n\n " +
             "첫 페이지 조회의 경우 lastSpaceId 없이 요청하면 됩니다. (정렬 조건 favorite_count의 경우 lastSpaceId, lastFavoriteCount 둘다 없이 요청.)\n\n " +
-            "sort: {created_at, favorite_count}\n\n " +
+            "sort: {created_at, favorite_count, trending} (trending은 lastSpaceId만 필요합니다.)\n\n " +
             "filter: {ENTER_ART, LIFE_KNOWHOW_SHOPPING, HOBBY_LEISURE_TRAVEL, KNOWLEDGE_ISSUE_CAREER, ETC}",
             responses = {
                     @ApiResponse(responseCode = "200", description = "조회가 성공적으로 완료 되었습니다."),
             })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<PublicSpaceFindWithFilterApiResponses> findPublicSpacesWithFilter(
+            @AuthenticationPrincipal MemberDetails memberDetails,
             @ModelAttribute PublicSpacesFindWithFilterApiRequest request
     ) {
         SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(
@@ -299,7 +350,8 @@ public class SpaceController {
                 request.sort(),
                 request.filter());
 
-        PublicSpacesFindWithFilterRequest serviceRequest = spaceMapper.toPublicSpacesFindWithFilterRequest(request, pageRequest);
+        Long memberId = Objects.isNull(memberDetails) ? null : memberDetails.memberId();
+        PublicSpacesFindWithFilterRequest serviceRequest = spaceMapper.toPublicSpacesFindWithFilterRequest(request, pageRequest, memberId);
         SpacesFindWithCursorResponses responses = spaceService.findPublicSpacesWithFilter(serviceRequest);
 
         PublicSpaceFindWithFilterApiResponses apiResponses = PublicSpaceFindWithFilterApiResponses.from(responses);
@@ -581,12 +633,13 @@ public class SpaceController {
      */
     @Operation(
             summary = "스페이스 가져오기 API(나의 새로운 스페이스로)", description = "스페이스를 나의 새로운 스페이스로 가져오기 API 입니다.\n\n" +
-            "스페이스 가져오기는 한 스페이스에 한번만 가능하며 링크 개수 200개 이하인 스페이스만 지원합니다.\n\n " +
+            "스페이스 가져오기는 한 스페이스에 한번만 가능하며 링크 개수가 제한 이하인 스페이스만 지원합니다.\n\n " +
+            "링크가 많은 스페이스는 응답 후 백그라운드에서 복사되며, 진행 상황은 가져오기 진행 상황 조회 API로 확인할 수 있습니다.\n\n " +
             "조건이 충족되지 않으면 아래의 예외가 발생합니다.",
             responses = {
                     @ApiResponse(responseCode = "201", description = "스페이스 가져오기가 성공적으로 완료되었습니다."),
                     @ApiResponse(responseCode = "400, 403", description = "400: (G004: 필수 파라미터 누락 및 서버에서 지원하지 않는 타입 및 제한 보다 큰 사이즈의 파라미터가 요청되었습니다.)\n\n " +
-                            "403: (S003: 한 스페이스에 대한 가져오기는 1회만 가능합니다./ S004: 가져오기는 200개 이하의 Link를 가진 스페이스만 가능합니다.)",
+                            "403: (S003: 한 스페이스에 대한 가져오기는 1회만 가능합니다./ S004: 가져오기할 수 있는 링크 개수를 초과한 스페이스입니다.)",
                             content = @Content(schema = @Schema(implementation = ErrorWithDetailCodeResponse.class))),
                     @ApiResponse(responseCode = "404",
                     description = "존재하지 않는 스페이스를 가져오기 하려고 합니다,\n\n " +
@@ -612,6 +665,31 @@ public class SpaceController {
                 .body(apiResponse);
     }
 
+    /**
+     * 스페이스 가져오기 진행 상황 조회 API
+     */
+    @Operation(
+            summary = "스페이스 가져오기 진행 상황 조회 API", description = "가져오기로 만든 스페이스의 링크 복사 진행 상황을 조회하는 API 입니다.\n\n" +
+            "status: {IN_PROGRESS, COMPLETED, CANCELLED}",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진행 상황을 성공적으로 조회했습니다."),
+                    @ApiResponse(responseCode = "404", description = "존재하지 않는 스페이스 / 권한이 없는 스페이스",
+                            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    @GetMapping(value = "/{spaceId}/scraps/progress",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ScrapProgressGetApiResponse> getScrapProgress(
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @PathVariable Long spaceId
+    ) {
+        Long memberId = Objects.isNull(memberDetails) ? null : memberDetails.memberId();
+
+        ScrapProgressGetResponse response = spaceService.getScrapProgress(spaceId, memberId);
+        ScrapProgressGetApiResponse apiResponse = ScrapProgressGetApiResponse.from(response);
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     /**
      *  스페이스 나가기 API
      */
@@ -632,16 +710,4 @@ public class SpaceController {
         return ResponseEntity.noContent().build();
     }
 
-    private void setSpaceViewCookie(HttpServletResponse servletResponse, List<Long> spaceViews) {
-        String spaceViewCookieValue = spaceViews.toString()
-                .replace(",", "_")
-                .replace(" ", "");
-
-        Cookie spaceViewCookie = new Cookie("spaceView", spaceViewCookieValue);
-        spaceViewCookie.setPath("/spaces");
-        spaceViewCookie.setMaxAge(COOKIE_EXPIRE_TIME);
-
-        servletResponse.addCookie(spaceViewCookie);
-    }
-
 }
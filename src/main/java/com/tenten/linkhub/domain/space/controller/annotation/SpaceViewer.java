@@ -5,7 +5,10 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 비회원 조회자를 구분하는 식별 쿠키 값. 없으면 새로 발급한다.
+ */
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
-public @interface SpaceViewList {
+public @interface SpaceViewer {
 }
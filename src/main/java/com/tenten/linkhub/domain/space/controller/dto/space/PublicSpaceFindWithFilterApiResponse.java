@@ -11,6 +11,7 @@ public record PublicSpaceFindWithFilterApiResponse(
         Long scrapCount,
         Long favoriteCount,
         String spaceImagePath,
-        String ownerNickName
+        String ownerNickName,
+        Boolean hasFavorite
 ) {
 }
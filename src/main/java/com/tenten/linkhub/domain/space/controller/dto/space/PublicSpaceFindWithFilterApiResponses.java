@@ -21,7 +21,8 @@ public record PublicSpaceFindWithFilterApiResponses(
                         r.scrapCount(),
                         r.favoriteCount(),
                         r.spaceImagePath(),
-                        r.ownerNickName()));
+                        r.ownerNickName(),
+                        responses.favoriteSpaceIds().contains(r.spaceId())));
 
         CursorPageMataData cursorPageMataData = new CursorPageMataData(
                 mapResponses.getLastFavoriteCount(),
@@ -0,0 +1,32 @@
+package com.tenten.linkhub.domain.space.controller.dto.space;
+
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record PublicSpacesSearchWithCursorApiRequest(
+        @Schema(title = "마지막 검색 점수 (정렬 조건이 없는 경우)", example = "0.906")
+        Double lastScore,
+
+        @Schema(title = "마지막 검색 점수를 만든 검색 엔진 (이전 응답의 searchEngine)", example = "SQL")
+        SearchEngineType searchEngine,
+
+        @Schema(title = "마지막 favoriteCount", example = "0")
+        Long lastFavoriteCount,
+
+        @Schema(title = "마지막 spaceId", example = "62")
+        Long lastSpaceId,
+
+        @Schema(title = "페이지 크기", example = "10")
+        Integer pageSize,
+
+        @Schema(title = "정렬 조건 (컬럼명)", example = "created_at")
+        String sort,
+
+        @Schema(title = "검색 키워드", example = "첫번째")
+        String keyWord,
+
+        @Schema(title = "검색 필터", example = "KNOWLEDGE_ISSUE_CAREER")
+        Category filter
+) {
+}
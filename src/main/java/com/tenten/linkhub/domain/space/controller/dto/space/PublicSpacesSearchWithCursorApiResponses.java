@@ -0,0 +1,39 @@
+package com.tenten.linkhub.domain.space.controller.dto.space;
+
+import com.tenten.linkhub.domain.space.common.SearchCursorPageMetaData;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
+
+import java.util.List;
+
+public record PublicSpacesSearchWithCursorApiResponses(
+        List<PublicSpacesFindByQueryApiResponse> responses,
+        SearchCursorPageMetaData metaData
+) {
+    public static PublicSpacesSearchWithCursorApiResponses from(SpacesFindWithCursorResponses responses) {
+        SpaceCursorSlice<PublicSpacesFindByQueryApiResponse> mapResponses = responses.responses()
+                .map(r -> new PublicSpacesFindByQueryApiResponse(
+                        r.spaceId(),
+                        r.spaceName(),
+                        r.description(),
+                        r.category(),
+                        r.viewCount(),
+                        r.scrapCount(),
+                        r.favoriteCount(),
+                        r.spaceImagePath(),
+                        r.ownerNickName()));
+
+        SearchCursorPageMetaData searchCursorPageMetaData = new SearchCursorPageMetaData(
+                mapResponses.getLastScore(),
+                mapResponses.getLastFavoriteCount(),
+                mapResponses.getLastId(),
+                mapResponses.getPageSize(),
+                mapResponses.getHasNext(),
+                mapResponses.getSearchEngine()
+        );
+
+        return new PublicSpacesSearchWithCursorApiResponses(
+                mapResponses.getContent(),
+                searchCursorPageMetaData);
+    }
+}
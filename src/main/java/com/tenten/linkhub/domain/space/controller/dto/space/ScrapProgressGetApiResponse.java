@@ -0,0 +1,17 @@
+package com.tenten.linkhub.domain.space.controller.dto.space;
+
+import com.tenten.linkhub.domain.space.service.dto.space.ScrapProgressGetResponse;
+
+public record ScrapProgressGetApiResponse(
+        String status,
+        long totalLinkCount,
+        long copiedLinkCount
+) {
+    public static ScrapProgressGetApiResponse from(ScrapProgressGetResponse response) {
+        return new ScrapProgressGetApiResponse(
+                response.status().name(),
+                response.totalLinkCount(),
+                response.copiedLinkCount()
+        );
+    }
+}
@@ -23,6 +23,7 @@ public record SpaceDetailGetByIdApiResponse(
         Boolean isCanEdit,
         Boolean hasFavorite,
         Boolean hasScrap,
+        Long uniqueViewerCount,
         List<SpaceMemberDetailInfo> memberDetailInfos
 ) {
     public static SpaceDetailGetByIdApiResponse from(SpaceDetailGetByIdFacadeResponse response){
@@ -43,6 +44,7 @@ public record SpaceDetailGetByIdApiResponse(
                 response.isCanEdit(),
                 response.hasFavorite(),
                 response.hasScrap(),
+                response.uniqueViewerCount(),
                 response.memberDetailInfos()
         );
     }
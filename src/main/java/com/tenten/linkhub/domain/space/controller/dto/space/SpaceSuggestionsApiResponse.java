@@ -0,0 +1,10 @@
+package com.tenten.linkhub.domain.space.controller.dto.space;
+
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponse;
+
+import java.util.List;
+
+public record SpaceSuggestionsApiResponse(
+        List<SpaceSuggestionResponse> suggestions
+) {
+}
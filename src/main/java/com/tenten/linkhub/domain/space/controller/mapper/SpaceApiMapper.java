@@ -3,7 +3,9 @@ package com.tenten.linkhub.domain.space.controller.mapper;
 import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.NewSpacesScrapApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesFindWithFilterApiRequest;
+import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesSearchWithCursorApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceCreateApiRequest;
+import com.tenten.linkhub.domain.space.controller.dto.space.SpaceSuggestionsApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceTagsGetApiResponse;
 import com.tenten.linkhub.domain.space.controller.dto.space.SpaceUpdateApiRequest;
 import com.tenten.linkhub.domain.space.controller.dto.space.PublicSpacesFindByQueryApiRequest;
@@ -13,6 +15,8 @@ import com.tenten.linkhub.domain.space.facade.dto.SpaceCreateFacadeRequest;
 import com.tenten.linkhub.domain.space.facade.dto.SpaceDetailGetByIdFacadeRequest;
 import com.tenten.linkhub.domain.space.facade.dto.SpaceUpdateFacadeRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindByQueryRequest;
 import com.tenten.linkhub.domain.space.service.dto.spacemember.SpaceMemberRoleChangeRequest;
@@ -21,8 +25,6 @@ import org.mapstruct.Mapper;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
-
 @Mapper(componentModel = "spring",
         injectionStrategy = InjectionStrategy.CONSTRUCTOR
 )
@@ -30,16 +32,20 @@ public interface SpaceApiMapper {
 
     PublicSpacesFindByQueryRequest toPublicSpacesFindByQueryRequest(PublicSpacesFindByQueryApiRequest request, Pageable pageable);
 
-    PublicSpacesFindWithFilterRequest toPublicSpacesFindWithFilterRequest(PublicSpacesFindWithFilterApiRequest request, SpaceCursorPageRequest pageable);
+    PublicSpacesFindWithFilterRequest toPublicSpacesFindWithFilterRequest(PublicSpacesFindWithFilterApiRequest request, SpaceCursorPageRequest pageable, Long memberId);
+
+    PublicSpacesSearchWithCursorRequest toPublicSpacesSearchWithCursorRequest(PublicSpacesSearchWithCursorApiRequest request, SpaceCursorPageRequest pageable);
 
     SpaceCreateFacadeRequest toSpaceCreateFacadeRequest(SpaceCreateApiRequest request, MultipartFile file, Long memberId);
 
     SpaceUpdateFacadeRequest toSpaceUpdateFacadeRequest(Long spaceId, SpaceUpdateApiRequest request, MultipartFile file, Long memberId);
 
-    SpaceDetailGetByIdFacadeRequest toSpaceDetailGetByIdFacadeRequest(Long spaceId, Long memberId, List<Long> spaceViews);
+    SpaceDetailGetByIdFacadeRequest toSpaceDetailGetByIdFacadeRequest(Long spaceId, Long memberId, String guestId);
 
     SpaceTagsGetApiResponse toSpaceTagsGetApiResponse(SpaceTagGetResponses response);
 
+    SpaceSuggestionsApiResponse toSpaceSuggestionsApiResponse(SpaceSuggestionResponses response);
+
     SpaceMemberRoleChangeRequest toSpaceMemberRoleChangeRequest(Long spaceId, Long myMemberId, SpaceMemberRoleChangeApiRequest request);
 
     NewSpacesScrapFacadeRequest toNewSpacesScrapFacadeRequest(NewSpacesScrapApiRequest request, Long sourceSpaceId, Long memberId, MultipartFile file);
@@ -0,0 +1,37 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 호출이 연속으로 failureThreshold번 실패하면 openMillis 동안 호출을 막는 단순 서킷 브레이커.<br>
+ * 열린 동안 호출자는 Redis를 거치지 않는 경로로 응답하고, 시간이 지나면 다음 호출 하나로 다시 시도한다.
+ */
+public class RedisCircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile long openedUntil = 0L;
+
+    public RedisCircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    public boolean allowsCall() {
+        return System.currentTimeMillis() >= openedUntil;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedUntil = System.currentTimeMillis() + openMillis;
+            consecutiveFailures.set(0);
+        }
+    }
+
+}
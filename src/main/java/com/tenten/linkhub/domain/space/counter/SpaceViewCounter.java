@@ -0,0 +1,177 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import com.tenten.linkhub.domain.space.readmodel.SpaceCardProjector;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스페이스 조회수를 spaceId별 LongAdder에 모았다가 주기적으로 한 번에 반영하는 write-behind 카운터.<br>
+ * spaceId 순으로 정렬한 묶음마다 UPDATE ... CASE 한 문장을 실행하고, 실패한 묶음은 다음 주기에 다시 반영한다.
+ * 종료 시에는 남은 증가분을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class SpaceViewCounter {
+
+    private final ConcurrentHashMap<Long, PendingViewCount> pendingViewCounts = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final SpaceRepository spaceRepository;
+    private final SpaceCardProjector spaceCardProjector;
+    private final boolean enabled;
+    private final int flushBatchSize;
+    private final Timer flushTimer;
+
+    public SpaceViewCounter(SpaceRepository spaceRepository,
+                            SpaceCardProjector spaceCardProjector,
+                            MeterRegistry meterRegistry,
+                            @Value("${counter.space-view.write-behind.enabled:false}") boolean enabled,
+                            @Value("${counter.space-view.flush-batch-size:500}") int flushBatchSize) {
+        this.spaceRepository = spaceRepository;
+        this.spaceCardProjector = spaceCardProjector;
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+        this.flushTimer = Timer.builder("space.view.flush.latency")
+                .register(meterRegistry);
+
+        Gauge.builder("space.view.pending", this, SpaceViewCounter::pendingDelta)
+                .register(meterRegistry);
+    }
+
+    /**
+     * write-behind가 꺼져 있으면 바로 반영한다.
+     */
+    public void increase(Long spaceId) {
+        if (!enabled) {
+            Map<Long, Long> viewCountDelta = Map.of(spaceId, 1L);
+            spaceRepository.increaseViewCounts(viewCountDelta);
+            spaceCardProjector.syncCounters(viewCountDelta.keySet(), Instant.now());
+            return;
+        }
+
+        // 비어 있는 항목을 지우는 flush와 같은 bin 잠금 안에서 증가시켜, 지워진 항목에 증가분을 남기지 않는다.
+        pendingViewCounts.compute(spaceId, (key, pendingViewCount) -> {
+            PendingViewCount counted = Objects.isNull(pendingViewCount) ? new PendingViewCount() : pendingViewCount;
+            counted.increment();
+            return counted;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${counter.space-view.flush-interval-millis:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            flushTimer.record(this::flushPendingViewCounts);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+        log.info("스페이스 조회수 반영 후 종료합니다. 남은 증가분: {}", pendingDelta());
+    }
+
+    private void flushPendingViewCounts() {
+        Map<Long, PendingViewCount> snapshots = new TreeMap<>();
+        Map<Long, Long> viewCountDeltas = new TreeMap<>();
+
+        pendingViewCounts.forEach((spaceId, pendingViewCount) -> {
+            long delta = pendingViewCount.pending();
+
+            if (delta == 0) {
+                // 한 주기 동안 증가가 없던 항목만 지운다. 잠금 안에서 다시 확인해 그사이 들어온 증가분은 남긴다.
+                pendingViewCounts.computeIfPresent(spaceId,
+                        (key, current) -> current.pending() == 0 ? null : current);
+                return;
+            }
+
+            snapshots.put(spaceId, pendingViewCount);
+            viewCountDeltas.put(spaceId, delta);
+        });
+
+        for (Map<Long, Long> batch : partition(viewCountDeltas)) {
+            try {
+                spaceRepository.increaseViewCounts(batch);
+            } catch (DataAccessException e) {
+                log.warn("스페이스 조회수를 반영하지 못했습니다. 다음 주기에 다시 반영합니다. size: {}", batch.size(), e);
+                continue;
+            }
+
+            batch.forEach((spaceId, delta) -> snapshots.get(spaceId).markFlushed(delta));
+            spaceCardProjector.syncCounters(batch.keySet(), Instant.now());
+        }
+    }
+
+    private List<Map<Long, Long>> partition(Map<Long, Long> viewCountDeltas) {
+        List<Map<Long, Long>> batches = new ArrayList<>();
+        Map<Long, Long> batch = new TreeMap<>();
+
+        for (Map.Entry<Long, Long> entry : viewCountDeltas.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+
+            if (batch.size() == flushBatchSize) {
+                batches.add(batch);
+                batch = new TreeMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        return batches;
+    }
+
+    private double pendingDelta() {
+        return pendingViewCounts.values()
+                .stream()
+                .mapToLong(PendingViewCount::pending)
+                .sum();
+    }
+
+    /**
+     * 누적 조회수와 반영된 조회수를 따로 두어, 반영 중에 들어온 증가분은 다음 주기에 반영된다.
+     */
+    private static class PendingViewCount {
+
+        private final LongAdder viewCount = new LongAdder();
+        private volatile long flushedViewCount = 0L;
+
+        void increment() {
+            viewCount.increment();
+        }
+
+        long pending() {
+            return viewCount.sum() - flushedViewCount;
+        }
+
+        void markFlushed(long delta) {
+            flushedViewCount += delta;
+        }
+    }
+
+}
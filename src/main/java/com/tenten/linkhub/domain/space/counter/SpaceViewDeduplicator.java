@@ -0,0 +1,138 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import com.tenten.linkhub.domain.space.repository.spaceview.SpaceViewRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 조회자(회원 또는 비회원 식별 쿠키) 기준으로 스페이스 조회수 중복을 서버에서 판별한다.<br>
+ * 로컬 블룸 필터에서 최근에 본 조합이면 Redis를 거치지 않고 중복으로 본다. 그 외에는 Redis 만료 키로 판별한다.
+ * Redis 장애 시에는 조회수를 놓치지 않도록 첫 조회로 보고, 연속 실패가 쌓이면 서킷을 열어 한동안 Redis를 호출하지 않는다.
+ * 비활성화하면 모든 조회를 첫 조회로 보고 고유 조회자 수는 null이다.
+ */
+@Slf4j
+@Component
+public class SpaceViewDeduplicator {
+
+    private static final String MEMBER_VIEWER_PREFIX = "member:";
+    private static final String GUEST_VIEWER_PREFIX = "guest:";
+
+    private final SpaceViewRedisRepository spaceViewRedisRepository;
+    private final ViewerBloomFilter viewerBloomFilter;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final boolean enabled;
+    private final Duration window;
+    private final Counter bloomHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter firstViewCounter;
+    private final Counter redisSkippedCounter;
+
+    public SpaceViewDeduplicator(SpaceViewRedisRepository spaceViewRedisRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${counter.space-view.dedup.enabled:false}") boolean enabled,
+                                 @Value("${counter.space-view.dedup.circuit.failure-threshold:5}") int failureThreshold,
+                                 @Value("${counter.space-view.dedup.circuit.open-seconds:30}") long openSeconds,
+                                 @Value("${counter.space-view.dedup.window-seconds:86400}") long windowSeconds,
+                                 @Value("${counter.space-view.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${counter.space-view.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.spaceViewRedisRepository = spaceViewRedisRepository;
+        this.enabled = enabled;
+        this.redisCircuitBreaker = new RedisCircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds).toMillis());
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.viewerBloomFilter = new ViewerBloomFilter(expectedInsertions, falsePositiveRate, window.toMillis() / 2);
+        this.bloomHitCounter = Counter.builder("space.view.dedup")
+                .tag("result", "bloom_hit")
+                .register(meterRegistry);
+        this.redisHitCounter = Counter.builder("space.view.dedup")
+                .tag("result", "redis_hit")
+                .register(meterRegistry);
+        this.firstViewCounter = Counter.builder("space.view.dedup")
+                .tag("result", "first_view")
+                .register(meterRegistry);
+        this.redisSkippedCounter = Counter.builder("space.view.dedup.redis.skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 중복 판별 기간 내 첫 조회이면 true를 반환한다.
+     */
+    public boolean isFirstView(Long spaceId, Long memberId, String guestId) {
+        String viewerKey = getViewerKey(memberId, guestId);
+
+        if (!enabled || Objects.isNull(viewerKey)) {
+            return true;
+        }
+
+        if (viewerBloomFilter.mightContain(spaceId, viewerKey)) {
+            bloomHitCounter.increment();
+            return false;
+        }
+
+        if (redisCircuitBreaker.allowsCall()) {
+            try {
+                if (!spaceViewRedisRepository.markViewed(spaceId, viewerKey, window)) {
+                    redisCircuitBreaker.recordSuccess();
+                    viewerBloomFilter.put(spaceId, viewerKey);
+                    redisHitCounter.increment();
+                    return false;
+                }
+
+                spaceViewRedisRepository.addViewer(spaceId, viewerKey);
+                redisCircuitBreaker.recordSuccess();
+            } catch (DataAccessException e) {
+                redisCircuitBreaker.recordFailure();
+                log.warn("스페이스 조회 중복 여부를 확인하지 못했습니다. spaceId: {}", spaceId, e);
+            }
+        } else {
+            redisSkippedCounter.increment();
+        }
+
+        viewerBloomFilter.put(spaceId, viewerKey);
+        firstViewCounter.increment();
+        return true;
+    }
+
+    /**
+     * HyperLogLog로 추정한 고유 조회자 수. 비활성화되었거나 서킷이 열렸거나 조회하지 못하면 null을 반환한다.
+     */
+    public Long getUniqueViewerCount(Long spaceId) {
+        if (!enabled) {
+            return null;
+        }
+
+        if (!redisCircuitBreaker.allowsCall()) {
+            redisSkippedCounter.increment();
+            return null;
+        }
+
+        try {
+            Long uniqueViewerCount = spaceViewRedisRepository.countViewers(spaceId);
+            redisCircuitBreaker.recordSuccess();
+            return uniqueViewerCount;
+        } catch (DataAccessException e) {
+            redisCircuitBreaker.recordFailure();
+            log.warn("스페이스 고유 조회자 수를 조회하지 못했습니다. spaceId: {}", spaceId, e);
+            return null;
+        }
+    }
+
+    private String getViewerKey(Long memberId, String guestId) {
+        if (Objects.nonNull(memberId)) {
+            return MEMBER_VIEWER_PREFIX + memberId;
+        }
+
+        if (Objects.nonNull(guestId)) {
+            return GUEST_VIEWER_PREFIX + guestId;
+        }
+
+        return null;
+    }
+
+}
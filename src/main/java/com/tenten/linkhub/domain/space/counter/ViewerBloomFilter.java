@@ -0,0 +1,128 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (id, viewerKey) 조합의 최근 조회 여부를 근사하는 블룸 필터.<br>
+ * 두 세대를 두고 rotationMillis마다 오래된 세대를 비워, 항목은 rotationMillis ~ 2 * rotationMillis 동안 남는다.
+ * 오탐(본 적 없는데 봤다고 판단)은 있을 수 있지만 미탐은 없다.
+ */
+public class ViewerBloomFilter {
+
+    private final int bitSize;
+    private final int hashCount;
+    private final long rotationMillis;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long rotatedAt;
+
+    public ViewerBloomFilter(long expectedInsertions, double falsePositiveRate, long rotationMillis) {
+        long optimalBitSize = (long) (-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bitSize = (int) Math.min(Math.max(optimalBitSize, Long.SIZE), (long) Integer.MAX_VALUE - Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.rotationMillis = rotationMillis;
+        this.current = newBits();
+        this.previous = newBits();
+        this.rotatedAt = System.currentTimeMillis();
+    }
+
+    public boolean mightContain(Long id, String viewerKey) {
+        rotateIfExpired();
+
+        long hash = hash(id, viewerKey);
+        return contains(current, hash) || contains(previous, hash);
+    }
+
+    public void put(Long id, String viewerKey) {
+        rotateIfExpired();
+
+        long hash = hash(id, viewerKey);
+        AtomicLongArray bits = current;
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(bits, index(hash, i));
+        }
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash) {
+        for (int i = 1; i <= hashCount; i++) {
+            int index = index(hash, i);
+
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 64비트 해시를 둘로 나눠 h1 + i * h2로 i번째 위치를 만든다.
+     */
+    private int index(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+
+    private void setBit(AtomicLongArray bits, int index) {
+        int wordIndex = index >>> 6;
+        long mask = 1L << index;
+        long word;
+
+        do {
+            word = bits.get(wordIndex);
+
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, word, word | mask));
+    }
+
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+
+        if (now - rotatedAt < rotationMillis) {
+            return;
+        }
+
+        synchronized (this) {
+            if (now - rotatedAt < rotationMillis) {
+                return;
+            }
+
+            previous = current;
+            current = newBits();
+            rotatedAt = now;
+        }
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    /**
+     * FNV-1a 64 후 splitmix64로 섞는다.
+     */
+    private long hash(Long id, String viewerKey) {
+        long hash = 0xcbf29ce484222325L ^ id;
+
+        for (byte b : viewerKey.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+
+}
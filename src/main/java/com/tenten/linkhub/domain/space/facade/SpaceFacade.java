@@ -3,6 +3,7 @@ package com.tenten.linkhub.domain.space.facade;
 import com.tenten.linkhub.domain.member.service.MemberService;
 import com.tenten.linkhub.domain.member.service.dto.MemberInfos;
 
+import com.tenten.linkhub.domain.space.counter.SpaceViewDeduplicator;
 import com.tenten.linkhub.domain.space.facade.dto.NewSpacesScrapFacadeRequest;
 import com.tenten.linkhub.domain.space.facade.dto.SpaceCreateFacadeRequest;
 import com.tenten.linkhub.domain.space.facade.dto.SpaceDetailGetByIdFacadeRequest;
@@ -10,8 +11,12 @@ import com.tenten.linkhub.domain.space.facade.dto.SpaceDetailGetByIdFacadeRespon
 import com.tenten.linkhub.domain.space.facade.dto.SpaceUpdateFacadeRequest;
 import com.tenten.linkhub.domain.space.facade.mapper.SpaceFacadeMapper;
 import com.tenten.linkhub.domain.space.handler.dto.ScrapSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceDeleteEvent;
 import com.tenten.linkhub.domain.space.handler.dto.SpaceImageDeleteEvent;
 import com.tenten.linkhub.domain.space.handler.dto.SpaceDetailFindEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceUpdateEvent;
+import com.tenten.linkhub.domain.space.service.SpaceDetailBranchExecutor;
 import com.tenten.linkhub.domain.space.service.SpaceImageUploader;
 import com.tenten.linkhub.domain.space.service.SpaceService;
 import com.tenten.linkhub.domain.space.service.dto.space.DeletedSpaceImageNames;
@@ -19,6 +24,7 @@ import com.tenten.linkhub.domain.space.service.dto.space.SpaceMemberInfo;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceWithSpaceImageAndSpaceMemberInfo;
 
 import com.tenten.linkhub.global.aws.dto.ImageInfo;
+import com.tenten.linkhub.global.outbox.OutboxEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,45 +42,65 @@ public class SpaceFacade {
     private final SpaceService spaceService;
     private final MemberService memberService;
     private final SpaceImageUploader spaceImageUploader;
+    private final SpaceDetailBranchExecutor spaceDetailBranchExecutor;
+    private final SpaceViewDeduplicator spaceViewDeduplicator;
     private final SpaceFacadeMapper mapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public Long createSpace(SpaceCreateFacadeRequest request) {
         ImageInfo imageInfo = spaceImageUploader.getNewImageInfoOrDefaultImageInfo(request.file());
 
-        return spaceService.createSpace(
+        Long savedSpaceId = spaceService.createSpace(
                 mapper.toSpaceCreateRequest(request, imageInfo));
+
+        eventPublisher.publishEvent(new SpaceSaveEvent(savedSpaceId));
+
+        return savedSpaceId;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 스페이스 상세 조회 branch가 각자 커넥션을 잡으므로 트랜잭션으로 묶지 않는다.
+     */
     public SpaceDetailGetByIdFacadeResponse getSpaceDetailById(SpaceDetailGetByIdFacadeRequest request) {
         SpaceWithSpaceImageAndSpaceMemberInfo response = spaceService.getSpaceWithSpaceImageAndSpaceMemberById(request.spaceId(), request.memberId());
 
         List<Long> memberIds = getMemberIds(response);
-        MemberInfos memberInfos = memberService.findMemberInfosByMemberIds(memberIds);
+        MemberInfos memberInfos = spaceDetailBranchExecutor.record("members",
+                () -> memberService.findMemberInfosByMemberIds(memberIds));
+
+        if (spaceViewDeduplicator.isFirstView(response.spaceId(), request.memberId(), request.guestId())) {
+            eventPublisher.publishEvent(new SpaceDetailFindEvent(response.spaceId()));
+        }
 
-        List<Long> newSpaceViews = increaseSpaceViewCountAndSetSpaceViews(request.spaceViews(), response.spaceId());
+        Long uniqueViewerCount = spaceViewDeduplicator.getUniqueViewerCount(response.spaceId());
 
-        return SpaceDetailGetByIdFacadeResponse.of(response, memberInfos, newSpaceViews);
+        return SpaceDetailGetByIdFacadeResponse.of(response, memberInfos, uniqueViewerCount);
     }
 
     @Transactional
     public Long updateSpace(SpaceUpdateFacadeRequest request) {
         Optional<ImageInfo> imageInfo = spaceImageUploader.getNewImageInfoOrEmptyImageInfo(request.file());
 
-        return spaceService.updateSpace(
+        Long updatedSpaceId = spaceService.updateSpace(
                 mapper.toSpaceUpdateRequest(request, imageInfo));
+
+        eventPublisher.publishEvent(new SpaceUpdateEvent(updatedSpaceId));
+
+        return updatedSpaceId;
     }
 
     @Transactional
     public void deleteSpace(Long spaceId, Long memberId) {
         DeletedSpaceImageNames deletedSpaceImageNames = spaceService.deleteSpaceById(spaceId, memberId);
 
-        eventPublisher.publishEvent(
+        outboxEventPublisher.publish(
                 new SpaceImageDeleteEvent(deletedSpaceImageNames.fileNames())
         );
+        eventPublisher.publishEvent(new SpaceDeleteEvent(spaceId));
     }
 
+    @Transactional
     public Long scrapAndCreateNewSpace(NewSpacesScrapFacadeRequest request) {
         spaceService.validateScrapSourceSpace(request.sourceSpaceId(), request.memberId());
 
@@ -84,7 +110,8 @@ public class SpaceFacade {
                 mapper.toNewSpacesScrapRequest(request, imageInfo)
         );
 
-        eventPublisher.publishEvent(new ScrapSaveEvent(request.sourceSpaceId()));
+        outboxEventPublisher.publish(new ScrapSaveEvent(request.sourceSpaceId()));
+        eventPublisher.publishEvent(new SpaceSaveEvent(savedSpaceId));
 
         return savedSpaceId;
     }
@@ -95,26 +122,4 @@ public class SpaceFacade {
                 .toList();
     }
 
-    private List<Long> increaseSpaceViewCountAndSetSpaceViews(List<Long> spaceViews, Long spaceId) {
-        if (spaceViews.isEmpty()) {
-            eventPublisher.publishEvent(
-                    new SpaceDetailFindEvent(spaceId)
-            );
-
-            spaceViews.add(spaceId);
-            return spaceViews;
-        }
-
-        if (!spaceViews.contains(spaceId)) {
-            eventPublisher.publishEvent(
-                    new SpaceDetailFindEvent(spaceId)
-            );
-
-            spaceViews.add(spaceId);
-            return spaceViews;
-        }
-
-        return spaceViews;
-    }
-
 }
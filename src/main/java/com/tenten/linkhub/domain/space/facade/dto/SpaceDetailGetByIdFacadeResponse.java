@@ -27,12 +27,12 @@ public record SpaceDetailGetByIdFacadeResponse(
         Boolean isCanEdit,
         Boolean hasFavorite,
         Boolean hasScrap,
-        List<Long> spaceViews
+        Long uniqueViewerCount
 ) {
     public static SpaceDetailGetByIdFacadeResponse of(
             SpaceWithSpaceImageAndSpaceMemberInfo response,
             MemberInfos memberDetailInfos,
-            List<Long> spaceViews
+            Long uniqueViewerCount
     ){
         Map<Long, MemberInfo> memberInfos = memberDetailInfos.memberInfos();
 
@@ -68,7 +68,7 @@ public record SpaceDetailGetByIdFacadeResponse(
                 response.isCanEdit(),
                 response.hasFavorite(),
                 response.hasScrap(),
-                spaceViews
+                uniqueViewerCount
         );
     }
 
@@ -0,0 +1,47 @@
+package com.tenten.linkhub.domain.space.handler;
+
+import com.tenten.linkhub.domain.member.handler.dto.MemberProfileUpdateEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceDeleteEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceUpdateEvent;
+import com.tenten.linkhub.domain.space.readmodel.SpaceCardProjector;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * 이벤트 발생 시각을 기록해 space_cards 반영 작업을 비동기로 넘긴다.
+ * 카운터 변경은 원본 카운터를 바꾸는 쪽(SpaceEventHandler, SpaceViewCounter)이 커밋 후 반영한다.
+ */
+@Component
+public class SpaceCardEventHandler {
+
+    private final SpaceCardProjector spaceCardProjector;
+
+    public SpaceCardEventHandler(SpaceCardProjector spaceCardProjector) {
+        this.spaceCardProjector = spaceCardProjector;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSaveSpaceEvent(SpaceSaveEvent event) {
+        spaceCardProjector.refresh(event.spaceId(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUpdateSpaceEvent(SpaceUpdateEvent event) {
+        spaceCardProjector.refresh(event.spaceId(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDeleteSpaceEvent(SpaceDeleteEvent event) {
+        spaceCardProjector.refresh(event.spaceId(), Instant.now());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUpdateMemberProfileEvent(MemberProfileUpdateEvent event) {
+        spaceCardProjector.refreshOwnerNickName(event.memberId(), Instant.now());
+    }
+
+}
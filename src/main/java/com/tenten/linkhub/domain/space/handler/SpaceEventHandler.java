@@ -1,12 +1,23 @@
 package com.tenten.linkhub.domain.space.handler;
 
+import com.tenten.linkhub.domain.member.handler.dto.MemberProfileUpdateEvent;
+import com.tenten.linkhub.domain.space.cache.SpaceAclCache;
+import com.tenten.linkhub.domain.space.cache.SpaceFeedCache;
+import com.tenten.linkhub.domain.space.counter.SpaceViewCounter;
 import com.tenten.linkhub.domain.space.handler.dto.FavoriteDeleteEvent;
 import com.tenten.linkhub.domain.space.handler.dto.SpaceImageDeleteEvent;
 import com.tenten.linkhub.domain.space.handler.dto.FavoriteSaveEvent;
 import com.tenten.linkhub.domain.space.handler.dto.SpaceDetailFindEvent;
 import com.tenten.linkhub.domain.space.handler.dto.ScrapSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceDeleteEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceMemberChangeEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceUpdateEvent;
+import com.tenten.linkhub.domain.space.readmodel.SpaceCardProjector;
 import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.trending.SpaceTrendingRanker;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
 import com.tenten.linkhub.global.aws.s3.ImageFileUploader;
+import com.tenten.linkhub.global.outbox.OutboxEventDeduplicator;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -15,50 +26,119 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
+import java.util.List;
+
 @Component
 public class SpaceEventHandler {
 
     private final SpaceRepository spaceRepository;
     private final ImageFileUploader imageFileUploader;
+    private final SpaceAclCache spaceAclCache;
+    private final SpaceFeedCache spaceFeedCache;
+    private final SpaceViewCounter spaceViewCounter;
+    private final SpaceTrendingRanker spaceTrendingRanker;
+    private final SpaceVersionTracker spaceVersionTracker;
+    private final SpaceCardProjector spaceCardProjector;
+    private final OutboxEventDeduplicator outboxEventDeduplicator;
 
-    public SpaceEventHandler(SpaceRepository spaceRepository, ImageFileUploader imageFileUploader) {
+    public SpaceEventHandler(SpaceRepository spaceRepository, ImageFileUploader imageFileUploader, SpaceAclCache spaceAclCache, SpaceFeedCache spaceFeedCache, SpaceViewCounter spaceViewCounter, SpaceTrendingRanker spaceTrendingRanker, SpaceVersionTracker spaceVersionTracker, SpaceCardProjector spaceCardProjector, OutboxEventDeduplicator outboxEventDeduplicator) {
         this.spaceRepository = spaceRepository;
         this.imageFileUploader = imageFileUploader;
+        this.spaceAclCache = spaceAclCache;
+        this.spaceFeedCache = spaceFeedCache;
+        this.spaceViewCounter = spaceViewCounter;
+        this.spaceTrendingRanker = spaceTrendingRanker;
+        this.spaceVersionTracker = spaceVersionTracker;
+        this.spaceCardProjector = spaceCardProjector;
+        this.outboxEventDeduplicator = outboxEventDeduplicator;
     }
 
-    @Async
+    @Async("counterExecutor")
     @EventListener
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleFindSpaceDetailEvent(SpaceDetailFindEvent event){
-        spaceRepository.getById(event.spaceId())
-                .increaseViewCount();
+        spaceViewCounter.increase(event.spaceId());
+        spaceTrendingRanker.recordView(event.spaceId());
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleDeleteImageEvent(SpaceImageDeleteEvent event) {
         imageFileUploader.deleteImages(event.spaceImageNames());
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleSaveFavoriteEvent(FavoriteSaveEvent event) {
+        if (!outboxEventDeduplicator.isFirstDelivery("space.favorite-save")) {
+            return;
+        }
+
         spaceRepository.increaseFavoriteCount(event.spaceId());
+        spaceCardProjector.syncCounters(List.of(event.spaceId()), Instant.now());
+        spaceTrendingRanker.recordFavorite(event.spaceId(), 1);
+        spaceVersionTracker.increaseVersion(event.spaceId());
+        evictFeed(event.spaceId());
     }
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleDeleteFavoriteEvent(FavoriteDeleteEvent event) {
+        if (!outboxEventDeduplicator.isFirstDelivery("space.favorite-delete")) {
+            return;
+        }
+
         spaceRepository.decreaseFavoriteCount(event.spaceId());
+        spaceCardProjector.syncCounters(List.of(event.spaceId()), Instant.now());
+        spaceTrendingRanker.recordFavorite(event.spaceId(), -1);
+        spaceVersionTracker.increaseVersion(event.spaceId());
+        evictFeed(event.spaceId());
     }
 
-    @Async
-    @EventListener
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleScrapSaveEvent(ScrapSaveEvent event) {
+        if (!outboxEventDeduplicator.isFirstDelivery("space.scrap-save")) {
+            return;
+        }
+
         spaceRepository.increaseScrapCount(event.spaceId());
+        spaceCardProjector.syncCounters(List.of(event.spaceId()), Instant.now());
+        spaceTrendingRanker.recordScrap(event.spaceId());
+        spaceVersionTracker.increaseVersion(event.spaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUpdateSpaceEvent(SpaceUpdateEvent event) {
+        spaceAclCache.invalidate(event.spaceId());
+        spaceVersionTracker.increaseVersion(event.spaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDeleteSpaceEvent(SpaceDeleteEvent event) {
+        spaceAclCache.invalidate(event.spaceId());
+        spaceVersionTracker.increaseVersion(event.spaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChangeSpaceMemberEvent(SpaceMemberChangeEvent event) {
+        spaceAclCache.invalidate(event.spaceId());
+        spaceVersionTracker.increaseVersion(event.spaceId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUpdateMemberProfileEvent(MemberProfileUpdateEvent event) {
+        spaceVersionTracker.increaseMemberProfileVersion();
+    }
+
+    /**
+     * 즐겨찾기 수가 바뀌면 그 스페이스 카테고리와 전체 피드를 무효화한다. 카운터를 올린 트랜잭션이 커밋된 뒤에 무효화된다.
+     */
+    private void evictFeed(Long spaceId) {
+        if (!spaceFeedCache.isEnabled()) {
+            return;
+        }
+
+        spaceFeedCache.evictCategories(spaceRepository.getById(spaceId).getCategory());
     }
 
 }
@@ -0,0 +1,97 @@
+package com.tenten.linkhub.domain.space.handler;
+
+import com.tenten.linkhub.domain.space.handler.dto.FavoriteDeleteEvent;
+import com.tenten.linkhub.domain.space.handler.dto.FavoriteSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceDeleteEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceSaveEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceUpdateEvent;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.search.SpaceNameIndex;
+import com.tenten.linkhub.domain.space.search.SpaceNameSuggester;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+public class SpaceSearchIndexEventHandler {
+
+    private final SpaceRepository spaceRepository;
+    private final SpaceNameIndex spaceNameIndex;
+    private final SpaceNameSuggester spaceNameSuggester;
+
+    public SpaceSearchIndexEventHandler(SpaceRepository spaceRepository, SpaceNameIndex spaceNameIndex, SpaceNameSuggester spaceNameSuggester) {
+        this.spaceRepository = spaceRepository;
+        this.spaceNameIndex = spaceNameIndex;
+        this.spaceNameSuggester = spaceNameSuggester;
+    }
+
+    @Async("projectionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleSaveSpaceEvent(SpaceSaveEvent event) {
+        indexSpace(event.spaceId());
+    }
+
+    @Async("projectionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleUpdateSpaceEvent(SpaceUpdateEvent event) {
+        indexSpace(event.spaceId());
+    }
+
+    @Async("projectionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDeleteSpaceEvent(SpaceDeleteEvent event) {
+        spaceNameIndex.remove(event.spaceId());
+        spaceNameSuggester.remove(event.spaceId());
+    }
+
+    @Async("projectionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleSaveFavoriteEvent(FavoriteSaveEvent event) {
+        spaceNameIndex.changeFavoriteCount(event.spaceId(), 1);
+
+        if (!spaceNameSuggester.changeFavoriteCount(event.spaceId(), 1)) {
+            spaceRepository.findSearchDocumentsByIds(List.of(event.spaceId()))
+                    .forEach(spaceNameSuggester::put);
+        }
+    }
+
+    @Async("projectionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDeleteFavoriteEvent(FavoriteDeleteEvent event) {
+        spaceNameIndex.changeFavoriteCount(event.spaceId(), -1);
+        spaceNameSuggester.changeFavoriteCount(event.spaceId(), -1);
+    }
+
+    private void indexSpace(Long spaceId) {
+        if (!spaceNameIndex.isEnabled() && !spaceNameSuggester.isEnabled()) {
+            return;
+        }
+
+        Space space = spaceRepository.getById(spaceId);
+
+        if (!space.getIsVisible()) {
+            spaceNameIndex.remove(spaceId);
+            spaceNameSuggester.remove(spaceId);
+            return;
+        }
+
+        SpaceSearchDocument document = new SpaceSearchDocument(
+                space.getId(),
+                space.getSpaceName(),
+                space.getCategory(),
+                space.getFavoriteCount());
+
+        spaceNameIndex.put(document);
+        spaceNameSuggester.put(document);
+    }
+
+}
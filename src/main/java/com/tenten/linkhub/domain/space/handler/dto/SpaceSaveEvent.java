@@ -0,0 +1,4 @@
+package com.tenten.linkhub.domain.space.handler.dto;
+
+public record SpaceSaveEvent(Long spaceId) {
+}
@@ -0,0 +1,70 @@
+package com.tenten.linkhub.domain.space.model.card;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 스페이스 목록 조회용 비정규화 읽기 모델.<br>
+ * spaces, members, space_images의 변경 이벤트로 비동기 갱신되며 애플리케이션에서는 조회만 한다.
+ * 삭제된 스페이스의 행은 남기지 않는다.
+ */
+@Entity
+@Immutable
+@Table(name = "space_cards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SpaceCardView extends BaseTimeEntity {
+
+    @Id
+    private Long spaceId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String spaceName;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Column(nullable = false)
+    private Boolean isVisible;
+
+    @Column(nullable = false)
+    private Boolean isComment;
+
+    @Column(nullable = false)
+    private Boolean isLinkSummarizable;
+
+    @Column(nullable = false)
+    private Boolean isReadMarkEnabled;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+    @Column(nullable = false)
+    private Long scrapCount;
+
+    @Column(nullable = false)
+    private Long favoriteCount;
+
+    @Column(length = 2083)
+    private String spaceImagePath;
+
+    @Column(length = 24)
+    private String ownerNickName;
+
+}
@@ -141,10 +141,6 @@ public class Space extends BaseEntity {
         spaceMembers.removeSpaceMember(spaceMember);
     }
 
-    public void increaseViewCount() {
-        viewCount++;
-    }
-
     public Boolean isOwner(Long memberId) {
         return Objects.equals(this.memberId, memberId);
     }
@@ -0,0 +1,124 @@
+package com.tenten.linkhub.domain.space.readmodel;
+
+import com.tenten.linkhub.domain.space.repository.spacecard.SpaceCardRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 이벤트를 space_cards 읽기 모델에 비동기로 반영한다.<br>
+ * 스페이스 속성과 카운터 모두 원본을 다시 읽어 덮어쓴다. 카운터를 증감으로 반영하면 원본을 복사하는 갱신과 겹쳐 두 번 더해질 수 있다.
+ * 이벤트 발생부터 반영까지 걸린 시간을 space.card.sync.lag으로 기록한다.
+ */
+@Component
+public class SpaceCardProjector {
+
+    private static final long COALESCE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final ConcurrentHashMap<Long, Long> pendingRefreshes = new ConcurrentHashMap<>();
+
+    private final SpaceCardRepository spaceCardRepository;
+    private final Executor projectionExecutor;
+    private final boolean enabled;
+    private final Timer syncLagTimer;
+    private final Counter coalescedCounter;
+
+    public SpaceCardProjector(SpaceCardRepository spaceCardRepository,
+                              @Qualifier("projectionExecutor") Executor projectionExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${read-model.space-card.enabled:false}") boolean enabled) {
+        this.spaceCardRepository = spaceCardRepository;
+        this.projectionExecutor = projectionExecutor;
+        this.enabled = enabled;
+        this.syncLagTimer = Timer.builder("space.card.sync.lag")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("space.card.refresh.coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 스페이스의 갱신이 이미 큐에 있으면 합친다. 갱신은 실행 시점의 원본을 읽으므로 한 번이면 충분하다.
+     */
+    public void refresh(Long spaceId, Instant occurredAt) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        Long pendingSince = pendingRefreshes.putIfAbsent(spaceId, now);
+
+        if (pendingSince != null) {
+            // 큐에서 버려진 갱신이 남긴 항목은 일정 시간이 지나면 무시한다.
+            if (now - pendingSince < COALESCE_WINDOW_NANOS) {
+                coalescedCounter.increment();
+                return;
+            }
+            pendingRefreshes.put(spaceId, now);
+        }
+
+        projectionExecutor.execute(() -> {
+            pendingRefreshes.remove(spaceId);
+            spaceCardRepository.refresh(spaceId);
+            recordLag(occurredAt);
+        });
+    }
+
+    /**
+     * 원본 카운터를 바꾼 트랜잭션이 커밋된 뒤 카드의 카운터를 원본 값으로 맞춘다.
+     */
+    public void syncCounters(Collection<Long> spaceIds, Instant occurredAt) {
+        if (!enabled || spaceIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> targetSpaceIds = List.copyOf(spaceIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executeSyncCounters(targetSpaceIds, occurredAt);
+                }
+            });
+            return;
+        }
+
+        executeSyncCounters(targetSpaceIds, occurredAt);
+    }
+
+    @Async("projectionExecutor")
+    public void refreshOwnerNickName(Long memberId, Instant occurredAt) {
+        if (!enabled) {
+            return;
+        }
+
+        spaceCardRepository.refreshOwnerNickName(memberId);
+        recordLag(occurredAt);
+    }
+
+    private void executeSyncCounters(List<Long> spaceIds, Instant occurredAt) {
+        projectionExecutor.execute(() -> {
+            spaceCardRepository.syncCounters(spaceIds);
+            recordLag(occurredAt);
+        });
+    }
+
+    private void recordLag(Instant occurredAt) {
+        syncLagTimer.record(Duration.between(occurredAt, Instant.now()));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.tenten.linkhub.domain.space.readmodel;
+
+import com.tenten.linkhub.domain.space.repository.spacecard.SpaceCardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * space_cards를 원본 테이블 기준으로 다시 만든다.<br>
+ * 애플리케이션을 --rebuild-space-cards 옵션으로 실행하면 기동 시 spaceId 구간 단위로 백필/복구한다.
+ */
+@Slf4j
+@Component
+public class SpaceCardRebuilder implements ApplicationRunner {
+
+    private static final String REBUILD_OPTION = "rebuild-space-cards";
+
+    private final SpaceCardRepository spaceCardRepository;
+    private final int batchSize;
+
+    public SpaceCardRebuilder(SpaceCardRepository spaceCardRepository,
+                              @Value("${read-model.space-card.rebuild-batch-size:1000}") int batchSize) {
+        this.spaceCardRepository = spaceCardRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+
+        rebuild();
+    }
+
+    public void rebuild() {
+        Long maxSpaceId = spaceCardRepository.findMaxSourceSpaceId();
+
+        if (Objects.isNull(maxSpaceId)) {
+            log.info("재구성할 스페이스가 없습니다.");
+            return;
+        }
+
+        for (long fromSpaceId = 0; fromSpaceId < maxSpaceId; fromSpaceId += batchSize) {
+            long toSpaceId = Math.min(fromSpaceId + batchSize, maxSpaceId);
+            spaceCardRepository.rebuild(fromSpaceId, toSpaceId);
+        }
+
+        log.info("space_cards 재구성 완료. maxSpaceId: {}", maxSpaceId);
+    }
+
+}
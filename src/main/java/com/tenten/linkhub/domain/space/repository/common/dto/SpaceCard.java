@@ -0,0 +1,49 @@
+package com.tenten.linkhub.domain.space.repository.common.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.tenten.linkhub.domain.space.model.category.Category;
+
+/**
+ * 스페이스 목록 조회용 읽기 전용 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않는다.
+ */
+public record SpaceCard(
+        Long spaceId,
+        String spaceName,
+        String description,
+        Category category,
+        Boolean isVisible,
+        Boolean isComment,
+        Boolean isLinkSummarizable,
+        Boolean isReadMarkEnabled,
+        Long viewCount,
+        Long scrapCount,
+        Long favoriteCount,
+        String spaceImagePath,
+        String ownerNickName
+) {
+    @QueryProjection
+    public SpaceCard(Long spaceId, String spaceName, String description, Category category, Boolean isVisible, Boolean isComment, Boolean isLinkSummarizable, Boolean isReadMarkEnabled, Long viewCount, Long scrapCount, Long favoriteCount, String spaceImagePath, String ownerNickName) {
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.description = description;
+        this.category = category;
+        this.isVisible = isVisible;
+        this.isComment = isComment;
+        this.isLinkSummarizable = isLinkSummarizable;
+        this.isReadMarkEnabled = isReadMarkEnabled;
+        this.viewCount = viewCount;
+        this.scrapCount = scrapCount;
+        this.favoriteCount = favoriteCount;
+        this.spaceImagePath = spaceImagePath;
+        this.ownerNickName = ownerNickName;
+    }
+
+    @QueryProjection
+    public SpaceCard(Long spaceId, String spaceName, String description, Category category, Boolean isVisible, Boolean isComment, Boolean isLinkSummarizable, Boolean isReadMarkEnabled, Long viewCount, Long scrapCount, Long favoriteCount, String ownerNickName) {
+        this(spaceId, spaceName, description, category, isVisible, isComment, isLinkSummarizable, isReadMarkEnabled, viewCount, scrapCount, favoriteCount, null, ownerNickName);
+    }
+
+    public SpaceCard withSpaceImagePath(String spaceImagePath) {
+        return new SpaceCard(spaceId, spaceName, description, category, isVisible, isComment, isLinkSummarizable, isReadMarkEnabled, viewCount, scrapCount, favoriteCount, spaceImagePath, ownerNickName);
+    }
+}
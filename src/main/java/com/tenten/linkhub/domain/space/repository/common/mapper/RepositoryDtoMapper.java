@@ -2,47 +2,71 @@ package com.tenten.linkhub.domain.space.repository.common.mapper;
 
 import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
-import com.tenten.linkhub.domain.space.model.space.Space;
-import com.tenten.linkhub.domain.space.model.space.SpaceImage;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class RepositoryDtoMapper {
 
-    public List<SpaceAndSpaceImageOwnerNickName> toSpaceAndSpaceImageOwnerNickNames(List<SpaceAndOwnerNickName> spaceAndOwnerNickNames, List<SpaceImage> spaceImages) {
-        Map<Long, List<SpaceImage>> spaceImageMap = spaceImages
+    public List<SpaceCard> toSpaceCards(List<SpaceCard> spaceCards, Map<Long, String> spaceImagePaths) {
+        return spaceCards
                 .stream()
-                .collect(Collectors.groupingBy(
-                        si -> si.getSpace().getId()
+                .map(sc -> sc.withSpaceImagePath(spaceImagePaths.get(sc.spaceId())))
+                .collect(Collectors.toList());
+    }
+
+    public List<SpaceCard> toSpaceCards(List<Long> sortedSpaceIds, List<SpaceCard> spaceCards, Map<Long, String> spaceImagePaths) {
+        return sortBySpaceIds(sortedSpaceIds, spaceCards)
+                .stream()
+                .map(sc -> sc.withSpaceImagePath(spaceImagePaths.get(sc.spaceId())))
+                .collect(Collectors.toList());
+    }
+
+    public List<SpaceCard> sortBySpaceIds(List<Long> sortedSpaceIds, List<SpaceCard> spaceCards) {
+        Map<Long, SpaceCard> spaceCardMap = spaceCards
+                .stream()
+                .collect(Collectors.toMap(
+                        SpaceCard::spaceId,
+                        Function.identity()
                 ));
 
-        return spaceAndOwnerNickNames
+        return sortedSpaceIds
                 .stream()
-                .map(so -> new SpaceAndSpaceImageOwnerNickName(
-                        so.space(),
-                        spaceImageMap.get(so.space().getId()),
-                        so.ownerNickName()
-                ))
+                .map(spaceCardMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    public SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> toSpaceCursorSlice(List<SpaceAndSpaceImageOwnerNickName> contents, SpaceCursorPageRequest pageable, boolean hasNext){
-        Space lastSpace = contents.isEmpty() ? null : contents.get(contents.size() - 1).space();
+    public SpaceCursorSlice<SpaceCard> toSpaceCursorSlice(List<SpaceCard> contents, SpaceCursorPageRequest pageable, boolean hasNext){
+        SpaceCard lastSpaceCard = contents.isEmpty() ? null : contents.get(contents.size() - 1);
 
         return SpaceCursorSlice.of(
-                Objects.isNull(lastSpace) ? null : lastSpace.getFavoriteCount(),
-                Objects.isNull(lastSpace) ? null : lastSpace.getId(),
+                Objects.isNull(lastSpaceCard) ? null : lastSpaceCard.favoriteCount(),
+                Objects.isNull(lastSpaceCard) ? null : lastSpaceCard.spaceId(),
                 pageable.pageSize(),
                 hasNext,
                 contents
         );
     }
 
+    public SpaceCursorSlice<SpaceCard> toSearchCursorSlice(List<SpaceCard> contents, List<SpaceSearchHit> pageHits, int pageSize, boolean hasNext) {
+        SpaceSearchHit lastHit = pageHits.isEmpty() ? null : pageHits.get(pageHits.size() - 1);
+
+        return SpaceCursorSlice.of(
+                Objects.isNull(lastHit) ? null : lastHit.score(),
+                Objects.isNull(lastHit) ? null : lastHit.favoriteCount(),
+                Objects.isNull(lastHit) ? null : lastHit.spaceId(),
+                pageSize,
+                hasNext,
+                contents
+        );
+    }
+
 }
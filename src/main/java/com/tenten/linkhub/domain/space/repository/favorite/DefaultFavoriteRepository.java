@@ -1,20 +1,32 @@
 package com.tenten.linkhub.domain.space.repository.favorite;
 
 import com.tenten.linkhub.domain.space.model.space.Favorite;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.favorite.dto.MyFavoriteSpacesQueryCondition;
 import com.tenten.linkhub.domain.space.repository.favorite.querydsl.FavoriteQueryDslRepository;
+import com.tenten.linkhub.domain.space.repository.spacecard.querydsl.SpaceCardQueryDslRepository;
 import com.tenten.linkhub.global.exception.DataNotFoundException;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
-@RequiredArgsConstructor
 @Repository
 public class DefaultFavoriteRepository implements FavoriteRepository {
 
     private final FavoriteJpaRepository favoriteJpaRepository;
     private final FavoriteQueryDslRepository favoriteQueryDslRepository;
+    private final SpaceCardQueryDslRepository spaceCardQueryDslRepository;
+    private final boolean spaceCardReadModelEnabled;
+
+    public DefaultFavoriteRepository(FavoriteJpaRepository favoriteJpaRepository,
+                                     FavoriteQueryDslRepository favoriteQueryDslRepository,
+                                     SpaceCardQueryDslRepository spaceCardQueryDslRepository,
+                                     @Value("${read-model.space-card.enabled:false}") boolean spaceCardReadModelEnabled) {
+        this.favoriteJpaRepository = favoriteJpaRepository;
+        this.favoriteQueryDslRepository = favoriteQueryDslRepository;
+        this.spaceCardQueryDslRepository = spaceCardQueryDslRepository;
+        this.spaceCardReadModelEnabled = spaceCardReadModelEnabled;
+    }
 
     @Override
     public Boolean isExist(Long memberId, Long spaceId) {
@@ -39,7 +51,11 @@ public class DefaultFavoriteRepository implements FavoriteRepository {
     }
 
     @Override
-    public Slice<SpaceAndSpaceImageOwnerNickName> findMyFavoriteSpacesByQuery(MyFavoriteSpacesQueryCondition queryCondition) {
+    public Slice<SpaceCard> findMyFavoriteSpacesByQuery(MyFavoriteSpacesQueryCondition queryCondition) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.findMyFavoriteSpaceCardsByCondition(queryCondition);
+        }
+
         return favoriteQueryDslRepository.findMyFavoriteSpacesByQuery(queryCondition);
     }
 
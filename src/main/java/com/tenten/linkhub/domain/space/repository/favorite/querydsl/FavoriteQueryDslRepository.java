@@ -3,10 +3,8 @@ package com.tenten.linkhub.domain.space.repository.favorite.querydsl;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tenten.linkhub.domain.space.model.category.Category;
-import com.tenten.linkhub.domain.space.model.space.SpaceImage;
-import com.tenten.linkhub.domain.space.repository.common.dto.QSpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.QSpaceCard;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.common.mapper.RepositoryDtoMapper;
 import com.tenten.linkhub.domain.space.repository.favorite.dto.MyFavoriteSpacesQueryCondition;
 import lombok.RequiredArgsConstructor;
@@ -16,10 +14,13 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static com.tenten.linkhub.domain.member.model.QMember.member;
 import static com.tenten.linkhub.domain.space.model.space.QFavorite.favorite;
+import static com.tenten.linkhub.domain.space.model.space.QSpace.space;
 import static com.tenten.linkhub.domain.space.model.space.QSpaceImage.spaceImage;
 
 @RequiredArgsConstructor
@@ -29,17 +30,27 @@ public class FavoriteQueryDslRepository {
     private final JPAQueryFactory queryFactory;
     private final RepositoryDtoMapper mapper;
 
-    public Slice<SpaceAndSpaceImageOwnerNickName> findMyFavoriteSpacesByQuery(MyFavoriteSpacesQueryCondition condition) {
-        List<SpaceAndOwnerNickName> spaceAndOwnerNickNames = queryFactory
-                .select(new QSpaceAndOwnerNickName(
-                        favorite.space,
+    public Slice<SpaceCard> findMyFavoriteSpacesByQuery(MyFavoriteSpacesQueryCondition condition) {
+        List<SpaceCard> spaceCards = queryFactory
+                .select(new QSpaceCard(
+                        space.id,
+                        space.spaceName,
+                        space.description,
+                        space.category,
+                        space.isVisible,
+                        space.isComment,
+                        space.isLinkSummarizable,
+                        space.isReadMarkEnabled,
+                        space.viewCount,
+                        space.scrapCount,
+                        space.favoriteCount,
                         member.nickname
                 ))
                 .from(favorite)
-                .join(favorite.space)
-                .leftJoin(member).on(favorite.space.memberId.eq(member.id))
+                .join(favorite.space, space)
+                .leftJoin(member).on(space.memberId.eq(member.id))
                 .where(favorite.memberId.eq(condition.memberId()),
-                        favorite.space.isDeleted.eq(false),
+                        space.isDeleted.eq(false),
                         eqSpaceName(condition.keyWord()),
                         eqCategory(condition.filter())
                 )
@@ -48,10 +59,10 @@ public class FavoriteQueryDslRepository {
                 .limit(condition.pageable().getPageSize() + 1)
                 .fetch();
 
-        List<Long> spaceIds = getSpaceIds(spaceAndOwnerNickNames);
-        List<SpaceImage> spaceImages = findSpaceImagesBySpaceIds(spaceIds);
+        List<Long> spaceIds = getSpaceIds(spaceCards);
+        Map<Long, String> spaceImagePaths = findSpaceImagePathsBySpaceIds(spaceIds);
 
-        List<SpaceAndSpaceImageOwnerNickName> contents = mapper.toSpaceAndSpaceImageOwnerNickNames(spaceAndOwnerNickNames, spaceImages);
+        List<SpaceCard> contents = mapper.toSpaceCards(spaceCards, spaceImagePaths);
         boolean hasNext = false;
 
         if (contents.size() > condition.pageable().getPageSize()) {
@@ -64,7 +75,7 @@ public class FavoriteQueryDslRepository {
 
     private BooleanExpression eqCategory(Category filter) {
         if (Objects.nonNull(filter)){
-            return favorite.space.category.eq(filter);
+            return space.category.eq(filter);
         }
 
         return null;
@@ -72,24 +83,31 @@ public class FavoriteQueryDslRepository {
 
     private BooleanExpression eqSpaceName(String keyWord) {
         if (StringUtils.hasText(keyWord)) {
-            return favorite.space.spaceName.contains(keyWord);
+            return space.spaceName.contains(keyWord);
         }
 
         return null;
     }
 
-    private List<SpaceImage> findSpaceImagesBySpaceIds(List<Long> spaceIds) {
+    private Map<Long, String> findSpaceImagePathsBySpaceIds(List<Long> spaceIds) {
         return queryFactory
-                .selectFrom(spaceImage)
+                .select(spaceImage.space.id, spaceImage.path)
+                .from(spaceImage)
                 .where(spaceImage.space.id.in(spaceIds),
                         spaceImage.isDeleted.eq(false))
-                .fetch();
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        t -> t.get(spaceImage.space.id),
+                        t -> t.get(spaceImage.path),
+                        (first, second) -> first
+                ));
     }
 
-    private static List<Long> getSpaceIds(List<SpaceAndOwnerNickName> spaceAndOwnerNickNames) {
-        return spaceAndOwnerNickNames
+    private static List<Long> getSpaceIds(List<SpaceCard> spaceCards) {
+        return spaceCards
                 .stream()
-                .map(s -> s.space().getId())
+                .map(SpaceCard::spaceId)
                 .toList();
     }
 
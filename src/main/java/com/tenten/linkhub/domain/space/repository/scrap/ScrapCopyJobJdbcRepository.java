@@ -0,0 +1,88 @@
+package com.tenten.linkhub.domain.space.repository.scrap;
+
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyJob;
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Repository
+public class ScrapCopyJobJdbcRepository {
+
+    private static final String SELECT_COLUMNS = "SELECT id, source_space_id, target_space_id, member_id, status, total_link_count, copied_link_count, last_source_link_id " +
+            "FROM scrap_copy_jobs ";
+
+    private static final RowMapper<ScrapCopyJob> SCRAP_COPY_JOB_ROW_MAPPER = (rs, rowNum) -> new ScrapCopyJob(
+            rs.getLong("id"),
+            rs.getLong("source_space_id"),
+            rs.getLong("target_space_id"),
+            rs.getLong("member_id"),
+            ScrapCopyStatus.valueOf(rs.getString("status")),
+            rs.getLong("total_link_count"),
+            rs.getLong("copied_link_count"),
+            rs.getLong("last_source_link_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(Long sourceSpaceId, Long targetSpaceId, Long memberId, long totalLinkCount) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update(
+                "INSERT INTO scrap_copy_jobs (source_space_id, target_space_id, member_id, status, total_link_count, copied_link_count, last_source_link_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?)",
+                sourceSpaceId, targetSpaceId, memberId, ScrapCopyStatus.IN_PROGRESS.name(), totalLinkCount, now, now);
+    }
+
+    /**
+     * 진행 중인 작업 하나를 SKIP LOCKED로 잠근다. 트랜잭션 안에서 호출해야 하며, 다른 서버는 잠긴 작업을 건너뛴다.
+     */
+    public Optional<ScrapCopyJob> claim() {
+        List<ScrapCopyJob> scrapCopyJobs = jdbcTemplate.query(
+                SELECT_COLUMNS +
+                        "WHERE status = ? " +
+                        "ORDER BY id " +
+                        "LIMIT 1 FOR UPDATE SKIP LOCKED",
+                SCRAP_COPY_JOB_ROW_MAPPER,
+                ScrapCopyStatus.IN_PROGRESS.name());
+
+        return scrapCopyJobs.stream().findFirst();
+    }
+
+    public Optional<ScrapCopyJob> findByTargetSpaceId(Long targetSpaceId) {
+        List<ScrapCopyJob> scrapCopyJobs = jdbcTemplate.query(
+                SELECT_COLUMNS + "WHERE target_space_id = ?",
+                SCRAP_COPY_JOB_ROW_MAPPER,
+                targetSpaceId);
+
+        return scrapCopyJobs.stream().findFirst();
+    }
+
+    public void updateProgress(Long id, Long lastSourceLinkId, int copiedLinkCount) {
+        jdbcTemplate.update(
+                "UPDATE scrap_copy_jobs SET last_source_link_id = ?, copied_link_count = copied_link_count + ?, updated_at = ? WHERE id = ?",
+                lastSourceLinkId, copiedLinkCount, Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    public void updateStatus(Long id, ScrapCopyStatus status) {
+        jdbcTemplate.update(
+                "UPDATE scrap_copy_jobs SET status = ?, updated_at = ? WHERE id = ?",
+                status.name(), Timestamp.valueOf(LocalDateTime.now()), id);
+    }
+
+    public boolean existsActiveSpace(Long spaceId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM spaces WHERE id = ? AND is_deleted = false",
+                Integer.class,
+                spaceId);
+
+        return count != null && count > 0;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.tenten.linkhub.domain.space.repository.scrap.dto;
+
+public record ScrapCopyJob(
+        Long id,
+        Long sourceSpaceId,
+        Long targetSpaceId,
+        Long memberId,
+        ScrapCopyStatus status,
+        long totalLinkCount,
+        long copiedLinkCount,
+        Long lastSourceLinkId
+) {
+}
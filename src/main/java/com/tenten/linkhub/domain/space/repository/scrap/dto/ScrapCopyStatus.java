@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.space.repository.scrap.dto;
+
+public enum ScrapCopyStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    CANCELLED
+}
@@ -2,37 +2,81 @@ package com.tenten.linkhub.domain.space.repository.space;
 
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
 import com.tenten.linkhub.domain.space.model.space.Space;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
 import com.tenten.linkhub.domain.space.repository.space.querydsl.SpaceQueryDslRepository;
+import com.tenten.linkhub.domain.space.repository.spacecard.querydsl.SpaceCardQueryDslRepository;
 import com.tenten.linkhub.global.exception.DataNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 @Repository
 public class DefaultSpaceRepository implements SpaceRepository {
 
     private final SpaceJpaRepository spaceJpaRepository;
+    private final SpaceJdbcRepository spaceJdbcRepository;
     private final SpaceQueryDslRepository spaceQueryDslRepository;
+    private final SpaceCardQueryDslRepository spaceCardQueryDslRepository;
+    private final boolean spaceCardReadModelEnabled;
 
-    public DefaultSpaceRepository(SpaceJpaRepository spaceJpaRepository, SpaceQueryDslRepository spaceQueryDslRepository) {
+    public DefaultSpaceRepository(SpaceJpaRepository spaceJpaRepository,
+                                  SpaceJdbcRepository spaceJdbcRepository,
+                                  SpaceQueryDslRepository spaceQueryDslRepository,
+                                  SpaceCardQueryDslRepository spaceCardQueryDslRepository,
+                                  @Value("${read-model.space-card.enabled:false}") boolean spaceCardReadModelEnabled) {
         this.spaceJpaRepository = spaceJpaRepository;
+        this.spaceJdbcRepository = spaceJdbcRepository;
         this.spaceQueryDslRepository = spaceQueryDslRepository;
+        this.spaceCardQueryDslRepository = spaceCardQueryDslRepository;
+        this.spaceCardReadModelEnabled = spaceCardReadModelEnabled;
     }
 
     @Override
-    public SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> findPublicSpacesJoinSpaceImageByQuery(CursorPageQueryCondition queryCondition) {
+    public SpaceCursorSlice<SpaceCard> findPublicSpacesJoinSpaceImageByQuery(CursorPageQueryCondition queryCondition) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.findPublicSpaceCardsByCondition(queryCondition);
+        }
+
         return spaceQueryDslRepository.findPublicSpacesJoinSpaceImageByCondition(queryCondition);
     }
 
     @Override
-    public Slice<SpaceAndSpaceImageOwnerNickName> searchPublicSpacesJoinSpaceImageByQuery(QueryCondition queryCondition) {
+    public Slice<SpaceCard> searchPublicSpacesJoinSpaceImageByQuery(QueryCondition queryCondition) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.searchPublicSpaceCardsByCondition(queryCondition);
+        }
+
         return spaceQueryDslRepository.searchPublicSpacesJoinSpaceImageByCondition(queryCondition);
     }
 
+    @Override
+    public List<SpaceSearchHit> searchPublicSpaceHitsByCursor(SearchCursorQueryCondition queryCondition) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.searchPublicSpaceHitsByCursor(queryCondition);
+        }
+
+        return spaceQueryDslRepository.searchPublicSpaceHitsByCursor(queryCondition);
+    }
+
+    @Override
+    public SpaceCursorSlice<SpaceCard> findSpaceCardsBySearchHits(List<SpaceSearchHit> spaceSearchHits, int pageSize) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.findSpaceCardsBySearchHits(spaceSearchHits, pageSize);
+        }
+
+        return spaceQueryDslRepository.findSpaceCardsBySearchHits(spaceSearchHits, pageSize);
+    }
+
     @Override
     public Space save(Space space) {
         return spaceJpaRepository.save(space);
@@ -44,6 +88,11 @@ public class DefaultSpaceRepository implements SpaceRepository {
                 .orElseThrow(() -> new DataNotFoundException("해당 spaceId를 가진 Space를 찾을 수 없습니다."));
     }
 
+    @Override
+    public Space getReferenceById(Long spaceId) {
+        return spaceJpaRepository.getReferenceById(spaceId);
+    }
+
     @Override
     public Space getSpaceJoinSpaceMemberById(Long spaceId) {
         return spaceJpaRepository.findSpaceJoinSpaceMemberById(spaceId)
@@ -51,7 +100,11 @@ public class DefaultSpaceRepository implements SpaceRepository {
     }
 
     @Override
-    public Slice<SpaceAndSpaceImageOwnerNickName> findMemberSpacesJoinSpaceImageByQuery(MemberSpacesQueryCondition queryCondition) {
+    public Slice<SpaceCard> findMemberSpacesJoinSpaceImageByQuery(MemberSpacesQueryCondition queryCondition) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.findMemberSpaceCardsByCondition(queryCondition);
+        }
+
         return spaceQueryDslRepository.findMemberSpacesJoinSpaceImageByCondition(queryCondition);
     }
 
@@ -72,4 +125,51 @@ public class DefaultSpaceRepository implements SpaceRepository {
         spaceJpaRepository.increaseScrapCount(spaceId);
     }
 
+    @Override
+    @Transactional
+    public void increaseViewCounts(Map<Long, Long> viewCountDeltas) {
+        if (viewCountDeltas.isEmpty()) {
+            return;
+        }
+
+        spaceJdbcRepository.increaseViewCounts(viewCountDeltas);
+    }
+
+    @Override
+    public List<SpaceCard> findSpaceCardsByIds(List<Long> spaceIds) {
+        if (spaceCardReadModelEnabled) {
+            return spaceCardQueryDslRepository.findSpaceCardsByIds(spaceIds);
+        }
+
+        return spaceQueryDslRepository.findSpaceCardsByIds(spaceIds);
+    }
+
+    /**
+     * 카드 읽기 모델은 비동기로 갱신되므로 삭제/비공개 여부는 항상 원본에서 확인한다.
+     */
+    @Override
+    public List<Long> findPublicSpaceIds(List<Long> spaceIds) {
+        return spaceQueryDslRepository.findPublicSpaceIds(spaceIds);
+    }
+
+    @Override
+    public List<SpaceSearchDocument> findSearchDocumentsByIdGreaterThan(Long lastSpaceId, int size) {
+        return spaceQueryDslRepository.findSearchDocumentsByIdGreaterThan(lastSpaceId, size);
+    }
+
+    @Override
+    public List<SpaceSearchDocument> findSearchDocumentsByIds(List<Long> spaceIds) {
+        return spaceQueryDslRepository.findSearchDocumentsByIds(spaceIds);
+    }
+
+    @Override
+    public List<SpaceSearchDocument> findSearchDocumentsOrderByFavoriteCount(Long lastFavoriteCount, Long lastSpaceId, int size) {
+        return spaceQueryDslRepository.findSearchDocumentsOrderByFavoriteCount(lastFavoriteCount, lastSpaceId, size);
+    }
+
+    @Override
+    public List<SpaceSearchDocument> findSearchDocumentsByNamePrefix(String prefix, int size) {
+        return spaceQueryDslRepository.findSearchDocumentsByNamePrefix(prefix, size);
+    }
+
 }
@@ -0,0 +1,38 @@
+package com.tenten.linkhub.domain.space.repository.space;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Repository
+public class SpaceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 스페이스의 조회수 증가분을 UPDATE ... CASE 한 문장으로 반영한다.
+     */
+    public void increaseViewCounts(Map<Long, Long> viewCountDeltas) {
+        StringBuilder caseClause = new StringBuilder();
+        List<Object> params = new ArrayList<>();
+
+        viewCountDeltas.forEach((spaceId, delta) -> {
+            caseClause.append("WHEN ? THEN ? ");
+            params.add(spaceId);
+            params.add(delta);
+        });
+        params.addAll(viewCountDeltas.keySet());
+
+        String sql = "UPDATE spaces SET view_count = view_count + CASE id " + caseClause + "ELSE 0 END " +
+                "WHERE id IN (" + String.join(", ", Collections.nCopies(viewCountDeltas.size(), "?")) + ") ";
+
+        jdbcTemplate.update(sql, params.toArray());
+    }
+
+}
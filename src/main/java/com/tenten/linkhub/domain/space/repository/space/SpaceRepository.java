@@ -2,29 +2,55 @@ package com.tenten.linkhub.domain.space.repository.space;
 
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
 import com.tenten.linkhub.domain.space.model.space.Space;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+import java.util.Map;
+
 public interface SpaceRepository {
 
-    SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> findPublicSpacesJoinSpaceImageByQuery(CursorPageQueryCondition queryCondition);
+    SpaceCursorSlice<SpaceCard> findPublicSpacesJoinSpaceImageByQuery(CursorPageQueryCondition queryCondition);
+
+    Slice<SpaceCard> searchPublicSpacesJoinSpaceImageByQuery(QueryCondition queryCondition);
+
+    List<SpaceSearchHit> searchPublicSpaceHitsByCursor(SearchCursorQueryCondition queryCondition);
 
-    Slice<SpaceAndSpaceImageOwnerNickName> searchPublicSpacesJoinSpaceImageByQuery(QueryCondition queryCondition);
+    SpaceCursorSlice<SpaceCard> findSpaceCardsBySearchHits(List<SpaceSearchHit> spaceSearchHits, int pageSize);
 
     Space save(Space space);
 
     Space getById(Long spaceId);
 
+    Space getReferenceById(Long spaceId);
+
     Space getSpaceJoinSpaceMemberById(Long spaceId);
 
-    Slice<SpaceAndSpaceImageOwnerNickName> findMemberSpacesJoinSpaceImageByQuery(MemberSpacesQueryCondition queryCondition);
+    Slice<SpaceCard> findMemberSpacesJoinSpaceImageByQuery(MemberSpacesQueryCondition queryCondition);
 
     void increaseFavoriteCount(Long spaceId);
 
     void decreaseFavoriteCount(Long spaceId);
 
     void increaseScrapCount(Long spaceId);
+
+    void increaseViewCounts(Map<Long, Long> viewCountDeltas);
+
+    List<SpaceCard> findSpaceCardsByIds(List<Long> spaceIds);
+
+    List<Long> findPublicSpaceIds(List<Long> spaceIds);
+
+    List<SpaceSearchDocument> findSearchDocumentsByIdGreaterThan(Long lastSpaceId, int size);
+
+    List<SpaceSearchDocument> findSearchDocumentsByIds(List<Long> spaceIds);
+
+    List<SpaceSearchDocument> findSearchDocumentsOrderByFavoriteCount(Long lastFavoriteCount, Long lastSpaceId, int size);
+
+    List<SpaceSearchDocument> findSearchDocumentsByNamePrefix(String prefix, int size);
 }
@@ -0,0 +1,14 @@
+package com.tenten.linkhub.domain.space.repository.space.dto;
+
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+
+public record SearchCursorQueryCondition(
+        SpaceCursorPageRequest pageable,
+        String keyWord,
+        Double lastScore,
+        SearchEngineType searchEngine,
+        Long lastFavoriteCount,
+        Long lastSpaceId
+) {
+}
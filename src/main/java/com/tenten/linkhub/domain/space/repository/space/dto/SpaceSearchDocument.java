@@ -0,0 +1,23 @@
+package com.tenten.linkhub.domain.space.repository.space.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import com.tenten.linkhub.domain.space.model.category.Category;
+
+public record SpaceSearchDocument(
+        Long spaceId,
+        String spaceName,
+        Category category,
+        Long favoriteCount
+) {
+    @QueryProjection
+    public SpaceSearchDocument(Long spaceId, String spaceName, Category category, Long favoriteCount) {
+        this.spaceId = spaceId;
+        this.spaceName = spaceName;
+        this.category = category;
+        this.favoriteCount = favoriteCount;
+    }
+
+    public SpaceSearchDocument changeFavoriteCount(long delta) {
+        return new SpaceSearchDocument(spaceId, spaceName, category, favoriteCount + delta);
+    }
+}
@@ -0,0 +1,39 @@
+package com.tenten.linkhub.domain.space.repository.space.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.util.Objects;
+
+/**
+ * 검색 점수(score)는 소수점 6자리까지 버린 값이다. 커서 비교는 실수 대신 정수로 바꾼 scoreKey로 한다.
+ */
+public record SpaceSearchHit(
+        Long spaceId,
+        Long favoriteCount,
+        Double score
+) {
+    public static final long SCORE_SCALE = 1_000_000L;
+
+    @QueryProjection
+    public SpaceSearchHit(Long spaceId, Long favoriteCount, Double score) {
+        this.spaceId = spaceId;
+        this.favoriteCount = favoriteCount;
+        this.score = score;
+    }
+
+    public static Double truncateScore(double score) {
+        return Math.floor(score * SCORE_SCALE) / SCORE_SCALE;
+    }
+
+    public static Long toScoreKey(Double score) {
+        if (Objects.isNull(score)) {
+            return null;
+        }
+
+        return Math.round(score * SCORE_SCALE);
+    }
+
+    public Long scoreKey() {
+        return toScoreKey(score);
+    }
+}
@@ -4,7 +4,9 @@ import com.querydsl.core.types.NullExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
 import com.tenten.linkhub.global.util.SearchKeywordParser;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -70,19 +72,67 @@ public class DynamicQueryFactory {
 
     public BooleanExpression eqSpaceName(String keyWord) {
         if (StringUtils.hasText(keyWord)) {
-            String tokenizedKeyword = SearchKeywordParser.parseToTokenAndAppendPlus(keyWord, 2);
-
-            return numberTemplate(
-                    Double.class,
-                    "function('match_against', {0}, {1})",
-                    space.spaceName,
-                    tokenizedKeyword)
-                    .gt(0);
+            return spaceNameMatchScore(keyWord).gt(0);
         }
 
         return null;
     }
 
+    public NumberExpression<Double> spaceNameMatchScore(String keyWord) {
+        String tokenizedKeyword = SearchKeywordParser.parseToTokenAndAppendPlus(keyWord, 2);
+
+        return numberTemplate(
+                Double.class,
+                "function('match_against', {0}, {1})",
+                space.spaceName,
+                tokenizedKeyword);
+    }
+
+    /**
+     * 검색 점수에 SCORE_SCALE을 곱하고 소수점 아래를 버린 값. 실수인 검색 점수를 그대로 비교하면 커서 경계의 행이 빠지거나 중복될 수 있어
+     * 정렬과 커서 비교는 이 값으로 한다.
+     */
+    public NumberExpression<Double> spaceNameMatchScoreKey(String keyWord) {
+        String tokenizedKeyword = SearchKeywordParser.parseToTokenAndAppendPlus(keyWord, 2);
+
+        return numberTemplate(
+                Double.class,
+                "floor(function('match_against', {0}, {1}) * " + SpaceSearchHit.SCORE_SCALE + ")",
+                space.spaceName,
+                tokenizedKeyword);
+    }
+
+    /**
+     * 검색 커서 조건. 정렬 조건이 없으면 검색 점수 순이며 scoreKey는 spaceNameMatchScoreKey()다.
+     */
+    public BooleanExpression ltLastSearchCursor(NumberExpression<Double> scoreKey, Double lastScore, Long lastFavoriteCount, Long lastId, Sort sort) {
+        String requestSort = getRequestSort(sort);
+
+        if (isCreatedAtRequest(requestSort, lastId) || isFavoriteCountRequest(requestSort, lastFavoriteCount, lastId)) {
+            return ltLastFavoriteCountAndId(lastFavoriteCount, lastId, sort);
+        }
+
+        if (isScoreRequest(requestSort, lastScore, lastId)) {
+            double lastScoreKey = SpaceSearchHit.toScoreKey(lastScore);
+
+            return scoreKey.lt(lastScoreKey)
+                    .or(scoreKey.eq(lastScoreKey).and(space.id.lt(lastId)));
+        }
+
+        return null;
+    }
+
+    public OrderSpecifier<?>[] searchSort(NumberExpression<Double> scoreKey, Sort sort) {
+        if (isScoreSort(getRequestSort(sort))) {
+            return new OrderSpecifier[]{
+                    scoreKey.desc(),
+                    space.id.desc()
+            };
+        }
+
+        return spaceSort(sort);
+    }
+
     public BooleanExpression eqIsVisible(Boolean isSelfSpace) {
         if (isSelfSpace) {
             return null;
@@ -98,6 +148,17 @@ public class DynamicQueryFactory {
                 .orElse(null);
     }
 
+    private boolean isScoreSort(String requestSort) {
+        return !Objects.equals(requestSort, "created_at") &&
+                !Objects.equals(requestSort, "favorite_count");
+    }
+
+    private boolean isScoreRequest(String requestSort, Double lastScore, Long lastId) {
+        return isScoreSort(requestSort) &&
+                Objects.nonNull(lastScore) &&
+                Objects.nonNull(lastId);
+    }
+
     private boolean isCreatedAtRequest(String requestSort, Long lastId) {
         return Objects.equals(requestSort, "created_at") &&
                 Objects.nonNull(lastId);
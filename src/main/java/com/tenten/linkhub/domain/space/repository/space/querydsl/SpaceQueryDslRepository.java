@@ -1,24 +1,30 @@
 package com.tenten.linkhub.domain.space.repository.space.querydsl;
 
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
-import com.tenten.linkhub.domain.space.model.space.Space;
-import com.tenten.linkhub.domain.space.model.space.SpaceImage;
-import com.tenten.linkhub.domain.space.repository.common.dto.QSpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.QSpaceCard;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.QSpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.space.dto.QSpaceSearchHit;
 import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
 import com.tenten.linkhub.domain.space.repository.common.mapper.RepositoryDtoMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.tenten.linkhub.domain.member.model.QMember.member;
 import static com.tenten.linkhub.domain.space.model.space.QSpace.space;
@@ -33,16 +39,12 @@ public class SpaceQueryDslRepository {
     private final DynamicQueryFactory dynamicQueryFactory;
     private final RepositoryDtoMapper mapper;
 
-    public SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> findPublicSpacesJoinSpaceImageByCondition(CursorPageQueryCondition condition) {
+    public SpaceCursorSlice<SpaceCard> findPublicSpacesJoinSpaceImageByCondition(CursorPageQueryCondition condition) {
         SpaceCursorPageRequest pageable = condition.pageable();
 
-        List<SpaceAndOwnerNickName> spaceAndOwnerNickNames = queryFactory
-                .select(new QSpaceAndOwnerNickName(
-                        space,
-                        member.nickname
-                ))
+        List<Long> spaceIds = queryFactory
+                .select(space.id)
                 .from(space)
-                .leftJoin(member).on(space.memberId.eq(member.id))
                 .where(dynamicQueryFactory.ltLastFavoriteCountAndId(condition.lastFavoriteCount(), condition.lastSpaceId(), pageable.sort()),
                         space.isDeleted.eq(false),
                         space.isVisible.eq(true),
@@ -52,28 +54,16 @@ public class SpaceQueryDslRepository {
                 .limit(pageable.pageSize() + 1)
                 .fetch();
 
-        List<Long> spaceIds = getSpaceIds(spaceAndOwnerNickNames);
-        List<SpaceImage> spaceImages = findSpaceImagesBySpaceIds(spaceIds);
-
-        List<SpaceAndSpaceImageOwnerNickName> contents = mapper.toSpaceAndSpaceImageOwnerNickNames(spaceAndOwnerNickNames, spaceImages);
-        boolean hasNext = false;
-
-        if (contents.size() > pageable.pageSize()) {
-            contents.remove(pageable.pageSize());
-            hasNext = true;
-        }
+        boolean hasNext = spaceIds.size() > pageable.pageSize();
+        List<SpaceCard> contents = findSpaceCardsByIds(trimToPageSize(spaceIds, pageable.pageSize()));
 
         return mapper.toSpaceCursorSlice(contents, pageable, hasNext);
     }
 
-    public Slice<SpaceAndSpaceImageOwnerNickName> searchPublicSpacesJoinSpaceImageByCondition(QueryCondition condition) {
-        List<SpaceAndOwnerNickName> spaceAndOwnerNickNames = queryFactory
-                .select(new QSpaceAndOwnerNickName(
-                        space,
-                        member.nickname
-                ))
+    public Slice<SpaceCard> searchPublicSpacesJoinSpaceImageByCondition(QueryCondition condition) {
+        List<Long> spaceIds = queryFactory
+                .select(space.id)
                 .from(space)
-                .leftJoin(member).on(space.memberId.eq(member.id))
                 .where(space.isDeleted.eq(false),
                         space.isVisible.eq(true),
                         dynamicQueryFactory.eqSpaceName(condition.keyWord()),
@@ -84,29 +74,55 @@ public class SpaceQueryDslRepository {
                 .limit(condition.pageable().getPageSize() + 1)
                 .fetch();
 
-        List<Long> spaceIds = getSpaceIds(spaceAndOwnerNickNames);
-        List<SpaceImage> spaceImages = findSpaceImagesBySpaceIds(spaceIds);
-
-        List<SpaceAndSpaceImageOwnerNickName> contents = mapper.toSpaceAndSpaceImageOwnerNickNames(spaceAndOwnerNickNames, spaceImages);
-        boolean hasNext = false;
-
-        if (contents.size() > condition.pageable().getPageSize()) {
-            contents.remove(condition.pageable().getPageSize());
-            hasNext = true;
-        }
+        boolean hasNext = spaceIds.size() > condition.pageable().getPageSize();
+        List<SpaceCard> contents = findSpaceCardsByIds(trimToPageSize(spaceIds, condition.pageable().getPageSize()));
 
         return new SliceImpl<>(contents, condition.pageable(), hasNext);
     }
 
-    public Slice<SpaceAndSpaceImageOwnerNickName> findMemberSpacesJoinSpaceImageByCondition(MemberSpacesQueryCondition condition) {
-        List<SpaceAndOwnerNickName> spaceAndOwnerNickNames = queryFactory
-                .select(new QSpaceAndOwnerNickName(
-                        space,
-                        member.nickname
+    /**
+     * 검색 커서 페이지의 spaceId를 커서 비교에 필요한 값과 함께 조회한다. 다음 페이지 확인을 위해 pageSize + 1개까지 조회한다.
+     */
+    public List<SpaceSearchHit> searchPublicSpaceHitsByCursor(SearchCursorQueryCondition condition) {
+        SpaceCursorPageRequest pageable = condition.pageable();
+        NumberExpression<Double> scoreKey = dynamicQueryFactory.spaceNameMatchScoreKey(condition.keyWord());
+
+        return queryFactory
+                .select(new QSpaceSearchHit(
+                        space.id,
+                        space.favoriteCount,
+                        scoreKey.divide((double) SpaceSearchHit.SCORE_SCALE)
                 ))
                 .from(space)
+                .where(space.isDeleted.eq(false),
+                        space.isVisible.eq(true),
+                        dynamicQueryFactory.eqSpaceName(condition.keyWord()),
+                        dynamicQueryFactory.eqCategory(pageable.filter()),
+                        dynamicQueryFactory.ltLastSearchCursor(scoreKey, condition.lastScore(), condition.lastFavoriteCount(), condition.lastSpaceId(), pageable.sort())
+                )
+                .orderBy(dynamicQueryFactory.searchSort(scoreKey, pageable.sort()))
+                .limit(pageable.pageSize() + 1)
+                .fetch();
+    }
+
+    public SpaceCursorSlice<SpaceCard> findSpaceCardsBySearchHits(List<SpaceSearchHit> spaceSearchHits, int pageSize) {
+        boolean hasNext = spaceSearchHits.size() > pageSize;
+        List<SpaceSearchHit> pageHits = hasNext ? spaceSearchHits.subList(0, pageSize) : spaceSearchHits;
+
+        List<Long> spaceIds = pageHits.stream()
+                .map(SpaceSearchHit::spaceId)
+                .toList();
+
+        List<SpaceCard> contents = findSpaceCardsByIds(spaceIds);
+
+        return mapper.toSearchCursorSlice(contents, pageHits, pageSize, hasNext);
+    }
+
+    public Slice<SpaceCard> findMemberSpacesJoinSpaceImageByCondition(MemberSpacesQueryCondition condition) {
+        List<Long> spaceIds = queryFactory
+                .select(space.id)
+                .from(space)
                 .join(space.spaceMembers.spaceMemberList, spaceMember)
-                .join(member).on(space.memberId.eq(member.id))
                 .where(spaceMember.memberId.eq(condition.memberId()),
                         space.isDeleted.eq(false),
                         dynamicQueryFactory.eqIsVisible(condition.isMySpace()),
@@ -118,34 +134,163 @@ public class SpaceQueryDslRepository {
                 .limit(condition.pageable().getPageSize() + 1)
                 .fetch();
 
-        List<Long> spaceIds = getSpaceIds(spaceAndOwnerNickNames);
-        List<SpaceImage> spaceImages = findSpaceImagesBySpaceIds(spaceIds);
+        boolean hasNext = spaceIds.size() > condition.pageable().getPageSize();
+        List<SpaceCard> contents = findSpaceCardsByIds(trimToPageSize(spaceIds, condition.pageable().getPageSize()));
 
-        List<SpaceAndSpaceImageOwnerNickName> contents = mapper.toSpaceAndSpaceImageOwnerNickNames(spaceAndOwnerNickNames, spaceImages);
-        ;
-        boolean hasNext = false;
+        return new SliceImpl<>(contents, condition.pageable(), hasNext);
+    }
 
-        if (contents.size() > condition.pageable().getPageSize()) {
-            contents.remove(condition.pageable().getPageSize());
-            hasNext = true;
+    public List<SpaceSearchDocument> findSearchDocumentsByIdGreaterThan(Long lastSpaceId, int size) {
+        return queryFactory
+                .select(new QSpaceSearchDocument(
+                        space.id,
+                        space.spaceName,
+                        space.category,
+                        space.favoriteCount
+                ))
+                .from(space)
+                .where(space.id.gt(lastSpaceId),
+                        space.isDeleted.eq(false),
+                        space.isVisible.eq(true)
+                )
+                .orderBy(space.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<SpaceSearchDocument> findSearchDocumentsByIds(List<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        return new SliceImpl<>(contents, condition.pageable(), hasNext);
+        return queryFactory
+                .select(new QSpaceSearchDocument(
+                        space.id,
+                        space.spaceName,
+                        space.category,
+                        space.favoriteCount
+                ))
+                .from(space)
+                .where(space.id.in(spaceIds),
+                        space.isDeleted.eq(false),
+                        space.isVisible.eq(true)
+                )
+                .fetch();
     }
 
-    private List<SpaceImage> findSpaceImagesBySpaceIds(List<Long> spaceIds) {
+    /**
+     * spaceIds 중 삭제되지 않은 공개 스페이스의 id만 반환한다. 순서는 보장하지 않는다.
+     */
+    public List<Long> findPublicSpaceIds(List<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
         return queryFactory
-                .selectFrom(spaceImage)
-                .where(spaceImage.space.id.in(spaceIds),
-                        spaceImage.isDeleted.eq(false))
+                .select(space.id)
+                .from(space)
+                .where(space.id.in(spaceIds),
+                        space.isDeleted.eq(false),
+                        space.isVisible.eq(true)
+                )
+                .fetch();
+    }
+
+    public List<SpaceSearchDocument> findSearchDocumentsOrderByFavoriteCount(Long lastFavoriteCount, Long lastSpaceId, int size) {
+        Sort sort = Sort.by("favorite_count");
+
+        return queryFactory
+                .select(new QSpaceSearchDocument(
+                        space.id,
+                        space.spaceName,
+                        space.category,
+                        space.favoriteCount
+                ))
+                .from(space)
+                .where(dynamicQueryFactory.ltLastFavoriteCountAndId(lastFavoriteCount, lastSpaceId, sort),
+                        space.isDeleted.eq(false),
+                        space.isVisible.eq(true)
+                )
+                .orderBy(dynamicQueryFactory.spaceSort(sort))
+                .limit(size)
+                .fetch();
+    }
+
+    public List<SpaceSearchDocument> findSearchDocumentsByNamePrefix(String prefix, int size) {
+        Sort sort = Sort.by("favorite_count");
+
+        return queryFactory
+                .select(new QSpaceSearchDocument(
+                        space.id,
+                        space.spaceName,
+                        space.category,
+                        space.favoriteCount
+                ))
+                .from(space)
+                .where(space.spaceName.startsWith(prefix),
+                        space.isDeleted.eq(false),
+                        space.isVisible.eq(true)
+                )
+                .orderBy(dynamicQueryFactory.spaceSort(sort))
+                .limit(size)
                 .fetch();
     }
 
-    private static List<Long> getSpaceIds(List<SpaceAndOwnerNickName> spaceAndOwnerNickNames) {
-        return spaceAndOwnerNickNames
+    /**
+     * 정렬/페이징이 끝난 spaceId 목록으로 해당 페이지의 카드 정보(소유자 닉네임, 썸네일 경로 포함)를 조회한다.
+     * 엔티티 대신 필요한 컬럼만 프로젝션하며 결과는 spaceIds의 순서를 따른다.
+     */
+    public List<SpaceCard> findSpaceCardsByIds(List<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<SpaceCard> spaceCards = queryFactory
+                .select(new QSpaceCard(
+                        space.id,
+                        space.spaceName,
+                        space.description,
+                        space.category,
+                        space.isVisible,
+                        space.isComment,
+                        space.isLinkSummarizable,
+                        space.isReadMarkEnabled,
+                        space.viewCount,
+                        space.scrapCount,
+                        space.favoriteCount,
+                        member.nickname
+                ))
+                .from(space)
+                .leftJoin(member).on(space.memberId.eq(member.id))
+                .where(space.id.in(spaceIds))
+                .fetch();
+
+        Map<Long, String> spaceImagePaths = findSpaceImagePathsBySpaceIds(spaceIds);
+
+        return mapper.toSpaceCards(spaceIds, spaceCards, spaceImagePaths);
+    }
+
+    private Map<Long, String> findSpaceImagePathsBySpaceIds(List<Long> spaceIds) {
+        return queryFactory
+                .select(spaceImage.space.id, spaceImage.path)
+                .from(spaceImage)
+                .where(spaceImage.space.id.in(spaceIds),
+                        spaceImage.isDeleted.eq(false))
+                .fetch()
                 .stream()
-                .map(s -> s.space().getId())
-                .toList();
+                .collect(Collectors.toMap(
+                        t -> t.get(spaceImage.space.id),
+                        t -> t.get(spaceImage.path),
+                        (first, second) -> first
+                ));
+    }
+
+    private static List<Long> trimToPageSize(List<Long> spaceIds, int pageSize) {
+        if (spaceIds.size() > pageSize) {
+            return spaceIds.subList(0, pageSize);
+        }
+
+        return spaceIds;
     }
 
 }
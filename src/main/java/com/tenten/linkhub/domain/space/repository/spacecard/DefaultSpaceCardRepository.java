@@ -0,0 +1,61 @@
+package com.tenten.linkhub.domain.space.repository.spacecard;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public class DefaultSpaceCardRepository implements SpaceCardRepository {
+
+    private final SpaceCardJpaRepository spaceCardJpaRepository;
+
+    public DefaultSpaceCardRepository(SpaceCardJpaRepository spaceCardJpaRepository) {
+        this.spaceCardJpaRepository = spaceCardJpaRepository;
+    }
+
+    /**
+     * 원본 스페이스의 현재 상태로 카드를 만들거나 갱신하고, 원본이 삭제되었으면 카드를 지운다.
+     */
+    @Override
+    @Transactional
+    public void refresh(Long spaceId) {
+        spaceCardJpaRepository.upsertBySpaceId(spaceId);
+        spaceCardJpaRepository.deleteBySpaceIdIfSourceDeleted(spaceId);
+    }
+
+    /**
+     * (fromSpaceId, toSpaceId] 범위의 카드를 카운터까지 포함해 원본 기준으로 다시 만든다.
+     */
+    @Override
+    @Transactional
+    public void rebuild(Long fromSpaceId, Long toSpaceId) {
+        spaceCardJpaRepository.rebuildBySpaceIdRange(fromSpaceId, toSpaceId);
+        spaceCardJpaRepository.deleteOrphansBySpaceIdRange(fromSpaceId, toSpaceId);
+    }
+
+    /**
+     * 카운터는 원본 스페이스의 현재 값으로 맞춘다.
+     */
+    @Override
+    @Transactional
+    public void syncCounters(Collection<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return;
+        }
+
+        spaceCardJpaRepository.syncCountersBySpaceIds(spaceIds);
+    }
+
+    @Override
+    @Transactional
+    public void refreshOwnerNickName(Long memberId) {
+        spaceCardJpaRepository.updateOwnerNickNameByMemberId(memberId);
+    }
+
+    @Override
+    public Long findMaxSourceSpaceId() {
+        return spaceCardJpaRepository.findMaxSourceSpaceId();
+    }
+
+}
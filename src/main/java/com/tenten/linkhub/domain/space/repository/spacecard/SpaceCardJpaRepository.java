@@ -0,0 +1,71 @@
+package com.tenten.linkhub.domain.space.repository.spacecard;
+
+import com.tenten.linkhub.domain.space.model.card.SpaceCardView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+
+public interface SpaceCardJpaRepository extends JpaRepository<SpaceCardView, Long> {
+
+    String INSERT_SPACE_CARDS_SELECT_SOURCE = "INSERT INTO space_cards (space_id, member_id, space_name, description, category, is_visible, is_comment, is_link_summarizable, " +
+            "is_read_mark_enabled, view_count, scrap_count, favorite_count, space_image_path, owner_nick_name, created_at, updated_at) " +
+            "SELECT s.id, s.member_id, s.space_name, s.description, s.category, s.is_visible, s.is_comment, s.is_link_summarizable, " +
+            "s.is_read_mark_enabled, s.view_count, s.scrap_count, s.favorite_count, " +
+            "(SELECT si.path FROM space_images si WHERE si.space_id = s.id AND si.is_deleted = false ORDER BY si.id LIMIT 1), " +
+            "m.nickname, now(), now() " +
+            "FROM spaces s " +
+            "LEFT JOIN members m ON m.id = s.member_id ";
+
+    String UPDATE_SPACE_CARD_ATTRIBUTES = "member_id = VALUES(member_id), space_name = VALUES(space_name), description = VALUES(description), " +
+            "category = VALUES(category), is_visible = VALUES(is_visible), is_comment = VALUES(is_comment), " +
+            "is_link_summarizable = VALUES(is_link_summarizable), is_read_mark_enabled = VALUES(is_read_mark_enabled), " +
+            "space_image_path = VALUES(space_image_path), owner_nick_name = VALUES(owner_nick_name), " +
+            "view_count = VALUES(view_count), scrap_count = VALUES(scrap_count), favorite_count = VALUES(favorite_count), updated_at = now() ";
+
+    /**
+     * 카운터도 원본 값으로 덮어쓴다. 카운터를 증감으로 반영하지 않으므로 갱신 순서와 관계없이 원본과 같아진다.
+     */
+    @Modifying
+    @Query(value = INSERT_SPACE_CARDS_SELECT_SOURCE +
+            "WHERE s.id = :spaceId AND s.is_deleted = false " +
+            "ON DUPLICATE KEY UPDATE " + UPDATE_SPACE_CARD_ATTRIBUTES, nativeQuery = true)
+    void upsertBySpaceId(Long spaceId);
+
+    @Modifying
+    @Query(value = "DELETE FROM space_cards " +
+            "WHERE space_id = :spaceId " +
+            "AND NOT EXISTS (SELECT 1 FROM spaces s WHERE s.id = :spaceId AND s.is_deleted = false) ", nativeQuery = true)
+    void deleteBySpaceIdIfSourceDeleted(Long spaceId);
+
+    @Modifying
+    @Query(value = INSERT_SPACE_CARDS_SELECT_SOURCE +
+            "WHERE s.id > :fromSpaceId AND s.id <= :toSpaceId AND s.is_deleted = false " +
+            "ON DUPLICATE KEY UPDATE " + UPDATE_SPACE_CARD_ATTRIBUTES, nativeQuery = true)
+    void rebuildBySpaceIdRange(Long fromSpaceId, Long toSpaceId);
+
+    @Modifying
+    @Query(value = "DELETE FROM space_cards " +
+            "WHERE space_id > :fromSpaceId AND space_id <= :toSpaceId " +
+            "AND space_id NOT IN (SELECT s.id FROM spaces s WHERE s.id > :fromSpaceId AND s.id <= :toSpaceId AND s.is_deleted = false) ", nativeQuery = true)
+    void deleteOrphansBySpaceIdRange(Long fromSpaceId, Long toSpaceId);
+
+    @Modifying
+    @Query(value = "UPDATE space_cards sc " +
+            "JOIN spaces s ON s.id = sc.space_id " +
+            "SET sc.view_count = s.view_count, sc.scrap_count = s.scrap_count, sc.favorite_count = s.favorite_count " +
+            "WHERE sc.space_id IN (:spaceIds) ", nativeQuery = true)
+    void syncCountersBySpaceIds(Collection<Long> spaceIds);
+
+    @Modifying
+    @Query(value = "UPDATE space_cards sc " +
+            "JOIN members m ON m.id = sc.member_id " +
+            "SET sc.owner_nick_name = m.nickname, sc.updated_at = now() " +
+            "WHERE sc.member_id = :memberId ", nativeQuery = true)
+    void updateOwnerNickNameByMemberId(Long memberId);
+
+    @Query(value = "SELECT max(s.id) FROM spaces s ", nativeQuery = true)
+    Long findMaxSourceSpaceId();
+
+}
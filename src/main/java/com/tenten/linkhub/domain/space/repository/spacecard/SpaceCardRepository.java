@@ -0,0 +1,17 @@
+package com.tenten.linkhub.domain.space.repository.spacecard;
+
+import java.util.Collection;
+
+public interface SpaceCardRepository {
+
+    void refresh(Long spaceId);
+
+    void rebuild(Long fromSpaceId, Long toSpaceId);
+
+    void syncCounters(Collection<Long> spaceIds);
+
+    void refreshOwnerNickName(Long memberId);
+
+    Long findMaxSourceSpaceId();
+
+}
@@ -0,0 +1,325 @@
+package com.tenten.linkhub.domain.space.repository.spacecard.querydsl;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.repository.common.dto.QSpaceCard;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.common.mapper.RepositoryDtoMapper;
+import com.tenten.linkhub.domain.space.repository.favorite.dto.MyFavoriteSpacesQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.QSpaceSearchHit;
+import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
+import com.tenten.linkhub.global.util.SearchKeywordParser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.querydsl.core.types.dsl.Expressions.numberTemplate;
+import static com.tenten.linkhub.domain.space.model.card.QSpaceCardView.spaceCardView;
+import static com.tenten.linkhub.domain.space.model.space.QFavorite.favorite;
+import static com.tenten.linkhub.domain.space.model.space.QSpaceMember.spaceMember;
+
+/**
+ * space_cards 읽기 모델에서 스페이스 목록을 조회한다. 목록 한 페이지를 단일 테이블에서 한 번의 쿼리로 읽는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class SpaceCardQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final RepositoryDtoMapper mapper;
+
+    public SpaceCursorSlice<SpaceCard> findPublicSpaceCardsByCondition(CursorPageQueryCondition condition) {
+        SpaceCursorPageRequest pageable = condition.pageable();
+
+        List<SpaceCard> contents = queryFactory
+                .select(spaceCardProjection())
+                .from(spaceCardView)
+                .where(ltLastFavoriteCountAndId(condition.lastFavoriteCount(), condition.lastSpaceId(), pageable.sort()),
+                        spaceCardView.isVisible.eq(true),
+                        eqCategory(pageable.filter())
+                )
+                .orderBy(spaceCardSort(pageable.sort()))
+                .limit(pageable.pageSize() + 1)
+                .fetch();
+
+        boolean hasNext = trimToPageSize(contents, pageable.pageSize());
+
+        return mapper.toSpaceCursorSlice(contents, pageable, hasNext);
+    }
+
+    public Slice<SpaceCard> searchPublicSpaceCardsByCondition(QueryCondition condition) {
+        List<SpaceCard> contents = queryFactory
+                .select(spaceCardProjection())
+                .from(spaceCardView)
+                .where(spaceCardView.isVisible.eq(true),
+                        matchSpaceName(condition.keyWord()),
+                        eqCategory(condition.filter())
+                )
+                .orderBy(spaceCardSort(condition.pageable().getSort()))
+                .offset(condition.pageable().getOffset())
+                .limit(condition.pageable().getPageSize() + 1)
+                .fetch();
+
+        return toSlice(contents, condition.pageable());
+    }
+
+    public Slice<SpaceCard> findMemberSpaceCardsByCondition(MemberSpacesQueryCondition condition) {
+        List<SpaceCard> contents = queryFactory
+                .select(spaceCardProjection())
+                .from(spaceCardView)
+                .join(spaceMember).on(spaceMember.space.id.eq(spaceCardView.spaceId))
+                .where(spaceMember.memberId.eq(condition.memberId()),
+                        eqIsVisible(condition.isMySpace()),
+                        matchSpaceName(condition.keyWord()),
+                        eqCategory(condition.filter())
+                )
+                .orderBy(spaceCardView.spaceId.desc())
+                .offset(condition.pageable().getOffset())
+                .limit(condition.pageable().getPageSize() + 1)
+                .fetch();
+
+        return toSlice(contents, condition.pageable());
+    }
+
+    public Slice<SpaceCard> findMyFavoriteSpaceCardsByCondition(MyFavoriteSpacesQueryCondition condition) {
+        List<SpaceCard> contents = queryFactory
+                .select(spaceCardProjection())
+                .from(favorite)
+                .join(spaceCardView).on(spaceCardView.spaceId.eq(favorite.space.id))
+                .where(favorite.memberId.eq(condition.memberId()),
+                        containsSpaceName(condition.keyWord()),
+                        eqCategory(condition.filter())
+                )
+                .orderBy(favorite.createdAt.desc())
+                .offset(condition.pageable().getOffset())
+                .limit(condition.pageable().getPageSize() + 1)
+                .fetch();
+
+        return toSlice(contents, condition.pageable());
+    }
+
+    /**
+     * 검색 커서 페이지의 spaceId를 커서 비교에 필요한 값과 함께 조회한다. 정렬과 커서는 SpaceQueryDslRepository와 같다.
+     */
+    public List<SpaceSearchHit> searchPublicSpaceHitsByCursor(SearchCursorQueryCondition condition) {
+        SpaceCursorPageRequest pageable = condition.pageable();
+        NumberExpression<Double> scoreKey = spaceNameMatchScoreKey(condition.keyWord());
+
+        return queryFactory
+                .select(new QSpaceSearchHit(
+                        spaceCardView.spaceId,
+                        spaceCardView.favoriteCount,
+                        scoreKey.divide((double) SpaceSearchHit.SCORE_SCALE)
+                ))
+                .from(spaceCardView)
+                .where(spaceCardView.isVisible.eq(true),
+                        matchSpaceName(condition.keyWord()),
+                        eqCategory(pageable.filter()),
+                        ltLastSearchCursor(scoreKey, condition, pageable.sort())
+                )
+                .orderBy(searchSort(scoreKey, pageable.sort()))
+                .limit(pageable.pageSize() + 1)
+                .fetch();
+    }
+
+    public SpaceCursorSlice<SpaceCard> findSpaceCardsBySearchHits(List<SpaceSearchHit> spaceSearchHits, int pageSize) {
+        boolean hasNext = spaceSearchHits.size() > pageSize;
+        List<SpaceSearchHit> pageHits = hasNext ? spaceSearchHits.subList(0, pageSize) : spaceSearchHits;
+
+        List<Long> spaceIds = pageHits.stream()
+                .map(SpaceSearchHit::spaceId)
+                .toList();
+
+        List<SpaceCard> contents = findSpaceCardsByIds(spaceIds);
+
+        return mapper.toSearchCursorSlice(contents, pageHits, pageSize, hasNext);
+    }
+
+    /**
+     * 결과는 spaceIds의 순서를 따른다.
+     */
+    public List<SpaceCard> findSpaceCardsByIds(List<Long> spaceIds) {
+        if (spaceIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<SpaceCard> spaceCards = queryFactory
+                .select(spaceCardProjection())
+                .from(spaceCardView)
+                .where(spaceCardView.spaceId.in(spaceIds))
+                .fetch();
+
+        return mapper.sortBySpaceIds(spaceIds, spaceCards);
+    }
+
+    private QSpaceCard spaceCardProjection() {
+        return new QSpaceCard(
+                spaceCardView.spaceId,
+                spaceCardView.spaceName,
+                spaceCardView.description,
+                spaceCardView.category,
+                spaceCardView.isVisible,
+                spaceCardView.isComment,
+                spaceCardView.isLinkSummarizable,
+                spaceCardView.isReadMarkEnabled,
+                spaceCardView.viewCount,
+                spaceCardView.scrapCount,
+                spaceCardView.favoriteCount,
+                spaceCardView.spaceImagePath,
+                spaceCardView.ownerNickName
+        );
+    }
+
+    private BooleanExpression ltLastFavoriteCountAndId(Long lastFavoriteCount, Long lastId, Sort sort) {
+        String requestSort = getRequestSort(sort);
+
+        if (Objects.equals(requestSort, "created_at") && Objects.nonNull(lastId)) {
+            return spaceCardView.spaceId.lt(lastId);
+        }
+
+        if (Objects.equals(requestSort, "favorite_count") && Objects.nonNull(lastFavoriteCount) && Objects.nonNull(lastId)) {
+            return spaceCardView.favoriteCount.lt(lastFavoriteCount)
+                    .or(spaceCardView.favoriteCount.eq(lastFavoriteCount).and(spaceCardView.spaceId.lt(lastId)));
+        }
+
+        return null;
+    }
+
+    private OrderSpecifier<?>[] spaceCardSort(Sort sort) {
+        String property = getRequestSort(sort);
+
+        if (Objects.equals(property, "favorite_count")) {
+            return new OrderSpecifier[]{
+                    new OrderSpecifier<>(Order.DESC, spaceCardView.favoriteCount),
+                    new OrderSpecifier<>(Order.DESC, spaceCardView.spaceId)
+            };
+        }
+
+        if (Objects.equals(property, "created_at")) {
+            return new OrderSpecifier[]{
+                    new OrderSpecifier<>(Order.DESC, spaceCardView.spaceId)
+            };
+        }
+
+        return new OrderSpecifier[0];
+    }
+
+    private BooleanExpression eqCategory(Category filter) {
+        if (Objects.nonNull(filter)) {
+            return spaceCardView.category.eq(filter);
+        }
+
+        return null;
+    }
+
+    private BooleanExpression eqIsVisible(Boolean isSelfSpace) {
+        if (isSelfSpace) {
+            return null;
+        }
+
+        return spaceCardView.isVisible.eq(true);
+    }
+
+    private BooleanExpression matchSpaceName(String keyWord) {
+        if (!StringUtils.hasText(keyWord)) {
+            return null;
+        }
+
+        String tokenizedKeyword = SearchKeywordParser.parseToTokenAndAppendPlus(keyWord, 2);
+
+        return numberTemplate(
+                Double.class,
+                "function('match_against', {0}, {1})",
+                spaceCardView.spaceName,
+                tokenizedKeyword).gt(0);
+    }
+
+    private NumberExpression<Double> spaceNameMatchScoreKey(String keyWord) {
+        String tokenizedKeyword = SearchKeywordParser.parseToTokenAndAppendPlus(keyWord, 2);
+
+        return numberTemplate(
+                Double.class,
+                "floor(function('match_against', {0}, {1}) * " + SpaceSearchHit.SCORE_SCALE + ")",
+                spaceCardView.spaceName,
+                tokenizedKeyword);
+    }
+
+    private BooleanExpression ltLastSearchCursor(NumberExpression<Double> scoreKey, SearchCursorQueryCondition condition, Sort sort) {
+        String requestSort = getRequestSort(sort);
+
+        if (Objects.equals(requestSort, "created_at") || Objects.equals(requestSort, "favorite_count")) {
+            return ltLastFavoriteCountAndId(condition.lastFavoriteCount(), condition.lastSpaceId(), sort);
+        }
+
+        if (Objects.nonNull(condition.lastScore()) && Objects.nonNull(condition.lastSpaceId())) {
+            double lastScoreKey = SpaceSearchHit.toScoreKey(condition.lastScore());
+
+            return scoreKey.lt(lastScoreKey)
+                    .or(scoreKey.eq(lastScoreKey).and(spaceCardView.spaceId.lt(condition.lastSpaceId())));
+        }
+
+        return null;
+    }
+
+    private OrderSpecifier<?>[] searchSort(NumberExpression<Double> scoreKey, Sort sort) {
+        String requestSort = getRequestSort(sort);
+
+        if (Objects.equals(requestSort, "created_at") || Objects.equals(requestSort, "favorite_count")) {
+            return spaceCardSort(sort);
+        }
+
+        return new OrderSpecifier[]{
+                scoreKey.desc(),
+                spaceCardView.spaceId.desc()
+        };
+    }
+
+    private BooleanExpression containsSpaceName(String keyWord) {
+        if (StringUtils.hasText(keyWord)) {
+            return spaceCardView.spaceName.contains(keyWord);
+        }
+
+        return null;
+    }
+
+    private String getRequestSort(Sort sort) {
+        return sort.stream()
+                .findFirst()
+                .map(Sort.Order::getProperty)
+                .orElse(null);
+    }
+
+    private static Slice<SpaceCard> toSlice(List<SpaceCard> contents, Pageable pageable) {
+        boolean hasNext = trimToPageSize(contents, pageable.getPageSize());
+
+        return new SliceImpl<>(contents, pageable, hasNext);
+    }
+
+    private static boolean trimToPageSize(List<SpaceCard> contents, int pageSize) {
+        if (contents.size() > pageSize) {
+            contents.remove(pageSize);
+            return true;
+        }
+
+        return false;
+    }
+
+}
@@ -1,7 +0,0 @@
-package com.tenten.linkhub.domain.space.repository.spacemember;
-
-public interface SpaceMemberRepository {
-
-    boolean existsAuthorizedSpaceMember(Long memberId, Long spaceId);
-
-}
@@ -0,0 +1,44 @@
+package com.tenten.linkhub.domain.space.repository.spaceview;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * SpaceView:{spaceId}:{viewerKey} - 중복 조회 판별용 키 (만료 시간 = 중복 판별 기간)<br>
+ * SpaceViewers:{spaceId} - 고유 조회자 수 추정용 HyperLogLog
+ */
+@Repository
+public class SpaceViewRedisRepository {
+
+    private static final String VIEW_KEY_PREFIX = "SpaceView:";
+    private static final String VIEWERS_KEY_PREFIX = "SpaceViewers:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SpaceViewRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 기간 내 첫 조회이면 true를 반환한다.
+     */
+    public boolean markViewed(Long spaceId, String viewerKey, Duration window) {
+        Boolean isFirstView = redisTemplate.opsForValue()
+                .setIfAbsent(VIEW_KEY_PREFIX + spaceId + ":" + viewerKey, "1", window);
+
+        return Boolean.TRUE.equals(isFirstView);
+    }
+
+    public void addViewer(Long spaceId, String viewerKey) {
+        redisTemplate.opsForHyperLogLog()
+                .add(VIEWERS_KEY_PREFIX + spaceId, viewerKey);
+    }
+
+    public long countViewers(Long spaceId) {
+        return redisTemplate.opsForHyperLogLog()
+                .size(VIEWERS_KEY_PREFIX + spaceId);
+    }
+
+}
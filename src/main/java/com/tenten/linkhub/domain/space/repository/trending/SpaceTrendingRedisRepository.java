@@ -0,0 +1,127 @@
+package com.tenten.linkhub.domain.space.repository.trending;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.repository.trending.dto.SpaceTrendingScore;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * SpaceTrending:bucket:{epochHour} - 한 시간 동안 쌓인 스페이스별 점수 (score: 점수, member: spaceId)<br>
+ * SpaceTrending:ranking:all - 버킷을 감쇠 가중치로 합친 전체 순위<br>
+ * SpaceTrending:ranking:{category} - 카테고리별 순위
+ */
+@Repository
+public class SpaceTrendingRedisRepository {
+
+    private static final String BUCKET_KEY_PREFIX = "SpaceTrending:bucket:";
+    private static final String RANKING_KEY_PREFIX = "SpaceTrending:ranking:";
+    private static final String ALL_RANKING_KEY = RANKING_KEY_PREFIX + "all";
+    private static final String MERGE_KEY = "SpaceTrending:merge";
+    private static final String REBUILD_KEY_SUFFIX = ":rebuild";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SpaceTrendingRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 버킷은 ttl이 지나면 사라지므로 보관하는 시간대 수가 제한된다.
+     */
+    public void incrementScore(long epochHour, Long spaceId, double delta, Duration ttl) {
+        String key = getBucketKey(epochHour);
+
+        redisTemplate.opsForZSet().incrementScore(key, String.valueOf(spaceId), delta);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /**
+     * 버킷마다 weights를 곱해 더한 결과를 임시 키에 저장한다. 다 읽은 뒤 deleteMergedScores로 지운다.
+     */
+    public void mergeBuckets(List<Long> epochHours, double[] weights) {
+        List<String> bucketKeys = epochHours.stream()
+                .map(this::getBucketKey)
+                .toList();
+
+        redisTemplate.opsForZSet().unionAndStore(
+                bucketKeys.get(0),
+                bucketKeys.subList(1, bucketKeys.size()),
+                MERGE_KEY,
+                Aggregate.SUM,
+                Weights.of(weights));
+    }
+
+    /**
+     * 합친 점수를 점수 내림차순으로 start부터 end까지 반환한다.
+     */
+    public List<SpaceTrendingScore> getMergedScores(long start, long end) {
+        return toScores(redisTemplate.opsForZSet().reverseRangeWithScores(MERGE_KEY, start, end));
+    }
+
+    public void deleteMergedScores() {
+        redisTemplate.delete(MERGE_KEY);
+    }
+
+    public List<SpaceTrendingScore> getRanking(Category category, long start, long end) {
+        return toScores(redisTemplate.opsForZSet().reverseRangeWithScores(getRankingKey(category), start, end));
+    }
+
+    /**
+     * 순위에 없으면 null을 반환한다.
+     */
+    public Long getRank(Category category, Long spaceId) {
+        return redisTemplate.opsForZSet().reverseRank(getRankingKey(category), String.valueOf(spaceId));
+    }
+
+    /**
+     * 임시 키에 새로 채운 뒤 RENAME으로 바꿔 끼운다.
+     */
+    public void replaceRanking(Category category, List<SpaceTrendingScore> scores) {
+        String key = getRankingKey(category);
+
+        if (scores.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+
+        String rebuildKey = key + REBUILD_KEY_SUFFIX;
+        Set<ZSetOperations.TypedTuple<String>> tuples = scores.stream()
+                .map(score -> (ZSetOperations.TypedTuple<String>) new DefaultTypedTuple<>(
+                        String.valueOf(score.spaceId()),
+                        score.score()))
+                .collect(Collectors.toSet());
+
+        redisTemplate.delete(rebuildKey);
+        redisTemplate.opsForZSet().add(rebuildKey, tuples);
+        redisTemplate.rename(rebuildKey, key);
+    }
+
+    private List<SpaceTrendingScore> toScores(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (Objects.isNull(tuples)) {
+            return List.of();
+        }
+
+        return tuples.stream()
+                .map(tuple -> new SpaceTrendingScore(Long.valueOf(tuple.getValue()), tuple.getScore()))
+                .toList();
+    }
+
+    private String getBucketKey(long epochHour) {
+        return BUCKET_KEY_PREFIX + epochHour;
+    }
+
+    private String getRankingKey(Category category) {
+        return Objects.isNull(category) ? ALL_RANKING_KEY : RANKING_KEY_PREFIX + category.name();
+    }
+
+}
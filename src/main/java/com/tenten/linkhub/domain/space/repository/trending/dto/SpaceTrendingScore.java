@@ -0,0 +1,7 @@
+package com.tenten.linkhub.domain.space.repository.trending.dto;
+
+public record SpaceTrendingScore(
+        Long spaceId,
+        Double score
+) {
+}
@@ -0,0 +1,61 @@
+package com.tenten.linkhub.domain.space.repository.version;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SpaceVersion:{spaceId} - 스페이스 조회 결과가 바뀔 때마다 증가하는 버전<br>
+ * SpaceVersion:member-profile - 멤버 프로필이 바뀔 때마다 증가하는 버전
+ */
+@Repository
+public class SpaceVersionRedisRepository {
+
+    private static final String KEY_PREFIX = "SpaceVersion:";
+    private static final String MEMBER_PROFILE_KEY = KEY_PREFIX + "member-profile";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SpaceVersionRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 두 버전을 한 번에 읽는다. 키가 없으면 initialVersion으로 만든 뒤 다시 읽는다.
+     */
+    public List<Long> getVersions(Long spaceId, long initialVersion, Duration ttl) {
+        String spaceKey = KEY_PREFIX + spaceId;
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(spaceKey, MEMBER_PROFILE_KEY));
+
+        if (Objects.isNull(values) || values.contains(null)) {
+            redisTemplate.opsForValue().setIfAbsent(spaceKey, String.valueOf(initialVersion), ttl);
+            redisTemplate.opsForValue().setIfAbsent(MEMBER_PROFILE_KEY, String.valueOf(initialVersion), ttl);
+            values = redisTemplate.opsForValue().multiGet(List.of(spaceKey, MEMBER_PROFILE_KEY));
+        }
+
+        return values.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    public void increaseSpaceVersion(Long spaceId, long initialVersion, Duration ttl) {
+        increase(KEY_PREFIX + spaceId, initialVersion, ttl);
+    }
+
+    public void increaseMemberProfileVersion(long initialVersion, Duration ttl) {
+        increase(MEMBER_PROFILE_KEY, initialVersion, ttl);
+    }
+
+    /**
+     * INCR만 하면 사라진 키가 1부터 다시 시작해 예전 버전과 겹칠 수 있으므로 먼저 초기값을 채운다.
+     */
+    private void increase(String key, long initialVersion, Duration ttl) {
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(initialVersion), ttl);
+        redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, ttl);
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.tenten.linkhub.domain.space.scrap;
+
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkCopyChunkResponse;
+import com.tenten.linkhub.domain.space.repository.scrap.ScrapCopyJobJdbcRepository;
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyJob;
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyStatus;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import com.tenten.linkhub.global.exception.PolicyViolationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static com.tenten.linkhub.global.response.ErrorCode.LINK_COUNT_LIMIT_FOR_SCRAP;
+
+/**
+ * 스크랩한 스페이스에 링크를 복사한다.<br>
+ * 링크 수가 syncLinkLimit 이하이면 요청 트랜잭션 안에서 모두 복사하고, 그보다 많으면 태그만 복사한 뒤 복사 작업을 남긴다.
+ * 남은 작업은 주기적으로 chunkSize개씩, 청크마다 별도 트랜잭션으로 복사하며 진행 상황을 작업 행에 기록한다.
+ * 서버가 내려가도 마지막으로 복사한 원본 링크 id부터 이어서 복사한다.
+ */
+@Slf4j
+@Component
+public class SpaceScrapCopier {
+
+    private final LinkService linkService;
+    private final ScrapCopyJobJdbcRepository scrapCopyJobJdbcRepository;
+    private final SpaceVersionTracker spaceVersionTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean asyncEnabled;
+    private final long syncLinkLimit;
+    private final long linkLimit;
+    private final int chunkSize;
+    private final int chunksPerPoll;
+    private final Timer chunkTimer;
+    private final Counter copiedLinkCounter;
+
+    public SpaceScrapCopier(LinkService linkService,
+                            ScrapCopyJobJdbcRepository scrapCopyJobJdbcRepository,
+                            SpaceVersionTracker spaceVersionTracker,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${scrap.copy.async.enabled:false}") boolean asyncEnabled,
+                            @Value("${scrap.copy.sync-link-limit:200}") long syncLinkLimit,
+                            @Value("${scrap.copy.link-limit:200}") long linkLimit,
+                            @Value("${scrap.copy.chunk-size:500}") int chunkSize,
+                            @Value("${scrap.copy.chunks-per-poll:20}") int chunksPerPoll) {
+        this.linkService = linkService;
+        this.scrapCopyJobJdbcRepository = scrapCopyJobJdbcRepository;
+        this.spaceVersionTracker = spaceVersionTracker;
+        this.transactionTemplate = transactionTemplate;
+        this.asyncEnabled = asyncEnabled;
+        this.syncLinkLimit = syncLinkLimit;
+        this.linkLimit = asyncEnabled ? Math.max(linkLimit, syncLinkLimit) : syncLinkLimit;
+        this.chunkSize = chunkSize;
+        this.chunksPerPoll = chunksPerPoll;
+        this.chunkTimer = Timer.builder("scrap.copy.chunk.latency")
+                .register(meterRegistry);
+        this.copiedLinkCounter = Counter.builder("scrap.copy.links")
+                .register(meterRegistry);
+    }
+
+    public void validateLinkCount(long linkCount) {
+        if (linkCount > linkLimit) {
+            throw new PolicyViolationException(LINK_COUNT_LIMIT_FOR_SCRAP);
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션 안에서 실행되므로, 복사 작업은 스페이스 생성과 함께 커밋된다.
+     */
+    public void copy(Long sourceSpaceId, Long savedSpaceId, Long memberId, long linkCount) {
+        if (!asyncEnabled || linkCount <= syncLinkLimit) {
+            linkService.copyLinkBySpaceIdAndPaste(sourceSpaceId, savedSpaceId, memberId);
+            return;
+        }
+
+        linkService.copyTagBySpaceIdAndPaste(sourceSpaceId, savedSpaceId);
+        scrapCopyJobJdbcRepository.save(sourceSpaceId, savedSpaceId, memberId, linkCount);
+    }
+
+    @Scheduled(fixedDelayString = "${scrap.copy.poll-interval-millis:1000}")
+    public void copyPendingChunks() {
+        if (!asyncEnabled) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < chunksPerPoll; i++) {
+                Boolean copied = chunkTimer.record(() -> transactionTemplate.execute(status -> copyNextChunk()));
+
+                if (!Boolean.TRUE.equals(copied)) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("스크랩 링크를 복사하지 못했습니다. 다음 주기에 이어서 복사합니다.", e);
+        }
+    }
+
+    private boolean copyNextChunk() {
+        Optional<ScrapCopyJob> claimed = scrapCopyJobJdbcRepository.claim();
+
+        if (claimed.isEmpty()) {
+            return false;
+        }
+
+        ScrapCopyJob job = claimed.get();
+
+        if (!scrapCopyJobJdbcRepository.existsActiveSpace(job.targetSpaceId())) {
+            scrapCopyJobJdbcRepository.updateStatus(job.id(), ScrapCopyStatus.CANCELLED);
+            return true;
+        }
+
+        LinkCopyChunkResponse response = linkService.copyLinkChunkBySpaceIdAndPaste(
+                job.sourceSpaceId(),
+                job.targetSpaceId(),
+                job.memberId(),
+                job.lastSourceLinkId(),
+                chunkSize);
+
+        if (response.isCompleted()) {
+            scrapCopyJobJdbcRepository.updateStatus(job.id(), ScrapCopyStatus.COMPLETED);
+        } else {
+            scrapCopyJobJdbcRepository.updateProgress(job.id(), response.lastSourceLinkId(), response.copiedLinkCount());
+            copiedLinkCounter.increment(response.copiedLinkCount());
+        }
+
+        spaceVersionTracker.increaseVersion(job.targetSpaceId());
+        return true;
+    }
+
+}
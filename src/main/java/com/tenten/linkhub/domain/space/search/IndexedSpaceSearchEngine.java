@@ -0,0 +1,131 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 인메모리 역색인으로 spaceId를 찾고 해당 페이지만 DB에서 조회한다.
+ * 인덱스가 비활성화되었거나 초기화 전이면, 또는 인덱스로 답할 수 없는 키워드/정렬이면 SQL 검색을 사용한다.
+ */
+@Primary
+@Component
+public class IndexedSpaceSearchEngine implements SpaceSearchEngine {
+
+    private final SpaceNameIndex spaceNameIndex;
+    private final SqlSpaceSearchEngine sqlSpaceSearchEngine;
+    private final SpaceRepository spaceRepository;
+    private final Timer indexSearchTimer;
+    private final Timer sqlSearchTimer;
+
+    public IndexedSpaceSearchEngine(SpaceNameIndex spaceNameIndex,
+                                    SqlSpaceSearchEngine sqlSpaceSearchEngine,
+                                    SpaceRepository spaceRepository,
+                                    MeterRegistry meterRegistry) {
+        this.spaceNameIndex = spaceNameIndex;
+        this.sqlSpaceSearchEngine = sqlSpaceSearchEngine;
+        this.spaceRepository = spaceRepository;
+        this.indexSearchTimer = Timer.builder("space.search.latency")
+                .tag("engine", "index")
+                .register(meterRegistry);
+        this.sqlSearchTimer = Timer.builder("space.search.latency")
+                .tag("engine", "sql")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Slice<SpaceCard> search(QueryCondition condition) {
+        if (!StringUtils.hasText(condition.keyWord())
+                || !spaceNameIndex.supports(condition.keyWord(), getRequestSort(condition.pageable().getSort()))) {
+            return sqlSearchTimer.record(() -> sqlSpaceSearchEngine.search(condition));
+        }
+
+        return indexSearchTimer.record(() -> searchByIndex(condition));
+    }
+
+    /**
+     * 검색 점수 순 커서는 커서를 만든 엔진으로 이어서 조회한다. 인덱스가 만든 커서를 인덱스로 이어갈 수 없으면 첫 페이지부터 다시 조회하도록 한다.
+     */
+    @Override
+    public SpaceCursorSlice<SpaceCard> searchWithCursor(SearchCursorQueryCondition condition) {
+        String requestSort = getRequestSort(condition.pageable().sort());
+        boolean isScoreCursor = isScoreSort(requestSort) && Objects.nonNull(condition.lastScore());
+
+        if (isScoreCursor && condition.searchEngine() == SearchEngineType.SQL) {
+            return sqlSearchTimer.record(() -> sqlSpaceSearchEngine.searchWithCursor(condition));
+        }
+
+        if (!StringUtils.hasText(condition.keyWord()) || !spaceNameIndex.supports(condition.keyWord(), requestSort)) {
+            if (isScoreCursor && condition.searchEngine() == SearchEngineType.INDEX) {
+                throw new IllegalArgumentException("검색 커서를 이어서 조회할 수 없습니다. 첫 페이지부터 다시 조회해 주세요.");
+            }
+
+            return sqlSearchTimer.record(() -> sqlSpaceSearchEngine.searchWithCursor(condition));
+        }
+
+        return indexSearchTimer.record(() -> searchWithCursorByIndex(condition));
+    }
+
+    private SpaceCursorSlice<SpaceCard> searchWithCursorByIndex(SearchCursorQueryCondition condition) {
+        SpaceCursorPageRequest pageable = condition.pageable();
+
+        List<SpaceSearchHit> spaceSearchHits = spaceNameIndex.searchAfter(
+                condition.keyWord(),
+                pageable.filter(),
+                getRequestSort(pageable.sort()),
+                condition.lastScore(),
+                condition.lastFavoriteCount(),
+                condition.lastSpaceId(),
+                pageable.pageSize() + 1);
+
+        return spaceRepository.findSpaceCardsBySearchHits(spaceSearchHits, pageable.pageSize())
+                .withSearchEngine(SearchEngineType.INDEX);
+    }
+
+    private Slice<SpaceCard> searchByIndex(QueryCondition condition) {
+        Pageable pageable = condition.pageable();
+
+        List<Long> spaceIds = spaceNameIndex.search(
+                condition.keyWord(),
+                condition.filter(),
+                getRequestSort(pageable.getSort()),
+                pageable.getOffset(),
+                pageable.getPageSize() + 1);
+
+        boolean hasNext = spaceIds.size() > pageable.getPageSize();
+        List<Long> pageSpaceIds = hasNext ? spaceIds.subList(0, pageable.getPageSize()) : spaceIds;
+
+        List<SpaceCard> contents = spaceRepository.findSpaceCardsByIds(pageSpaceIds);
+
+        return new SliceImpl<>(contents, pageable, hasNext);
+    }
+
+    private boolean isScoreSort(String requestSort) {
+        return !Objects.equals(requestSort, "created_at") && !Objects.equals(requestSort, "favorite_count");
+    }
+
+    private String getRequestSort(Sort sort) {
+        return sort.stream()
+                .findFirst()
+                .map(Sort.Order::getProperty)
+                .orElse(null);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.tenten.linkhub.domain.space.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 spaceId 목록. 새 스페이스는 id가 가장 크므로 대부분 뒤에 붙는다.
+ */
+class LongPostings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size = 0;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+
+            if (index >= 0) {
+                return;
+            }
+
+            insertAt(-(index + 1), id);
+            return;
+        }
+
+        insertAt(size, id);
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        if (index < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * id보다 작은 값의 개수. 내림차순으로 순회할 때 id 바로 앞의 위치를 찾는 데 사용한다.
+     */
+    int countLessThan(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int capacity() {
+        return ids.length;
+    }
+
+    private void insertAt(int index, long id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+}
@@ -0,0 +1,435 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
+import com.tenten.linkhub.global.util.SearchKeywordParser;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 공개된 스페이스 이름(space_name)에 대한 bigram 역색인.<br>
+ * MySQL ngram 파서(ngram_token_size=2) + boolean mode의 "+토큰" 검색과 같은 결과를 내도록
+ * 키워드의 모든 bigram을 포함하는 스페이스만 반환한다.
+ */
+@Slf4j
+@Component
+public class SpaceNameIndex {
+
+    private static final int TOKEN_SIZE = 2;
+    private static final String CREATED_AT_SORT = "created_at";
+    private static final String FAVORITE_COUNT_SORT = "favorite_count";
+
+    private static final Comparator<SpaceSearchHit> ID_ORDER = Comparator
+            .comparing(SpaceSearchHit::spaceId, Comparator.reverseOrder());
+    private static final Comparator<SpaceSearchHit> FAVORITE_COUNT_ORDER = Comparator
+            .comparing(SpaceSearchHit::favoriteCount, Comparator.reverseOrder())
+            .thenComparing(ID_ORDER);
+    private static final Comparator<SpaceSearchHit> SCORE_ORDER = Comparator
+            .comparing(SpaceSearchHit::scoreKey, Comparator.reverseOrder())
+            .thenComparing(ID_ORDER);
+
+    private final Map<String, LongPostings> postings = new HashMap<>();
+    private final Map<Long, SpaceSearchDocument> documents = new HashMap<>();
+    private final Map<Long, Integer> nameTokenCounts = new HashMap<>();
+    private final Set<Long> removedWhileBootstrapping = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final SpaceRepository spaceRepository;
+    private final boolean enabled;
+    private final int bootstrapBatchSize;
+
+    private volatile boolean ready = false;
+
+    public SpaceNameIndex(SpaceRepository spaceRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${search.space-index.enabled:false}") boolean enabled,
+                          @Value("${search.space-index.bootstrap-batch-size:1000}") int bootstrapBatchSize) {
+        this.spaceRepository = spaceRepository;
+        this.enabled = enabled;
+        this.bootstrapBatchSize = bootstrapBatchSize;
+
+        Gauge.builder("space.search.index.documents", this, SpaceNameIndex::documentCount)
+                .register(meterRegistry);
+        Gauge.builder("space.search.index.terms", this, SpaceNameIndex::termCount)
+                .register(meterRegistry);
+        Gauge.builder("space.search.index.memory", this, SpaceNameIndex::estimatedMemoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 부트스트랩 중 들어온 이벤트는 그대로 반영하고, 부트스트랩은 이미 반영된 스페이스를 덮어쓰지 않는다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long lastSpaceId = 0L;
+
+        try {
+            while (true) {
+                List<SpaceSearchDocument> spaceSearchDocuments = spaceRepository.findSearchDocumentsByIdGreaterThan(lastSpaceId, bootstrapBatchSize);
+                addIfAbsent(spaceSearchDocuments);
+
+                if (spaceSearchDocuments.size() < bootstrapBatchSize) {
+                    break;
+                }
+
+                lastSpaceId = spaceSearchDocuments.get(spaceSearchDocuments.size() - 1).spaceId();
+            }
+        } catch (DataAccessException e) {
+            log.warn("스페이스 이름 검색 인덱스를 초기화하지 못했습니다. SQL 검색을 사용합니다.", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removedWhileBootstrapping.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("스페이스 이름 검색 인덱스 초기화 완료. documents: {}, elapsed: {}ms", documentCount(), System.currentTimeMillis() - startTime);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 인덱스로 SQL 검색과 같은 결과를 낼 수 있는지 확인한다.
+     * bigram이 하나도 없는 키워드(한 글자 단어만 있는 경우)와 인덱스가 값을 갖고 있지 않은 정렬(view_count, updated_at 등)은 지원하지 않는다.
+     */
+    public boolean supports(String keyWord, String sort) {
+        return isReady()
+                && !tokenize(keyWord).isEmpty()
+                && (Objects.isNull(sort) || Objects.equals(sort, CREATED_AT_SORT) || Objects.equals(sort, FAVORITE_COUNT_SORT));
+    }
+
+    /**
+     * 키워드의 모든 bigram을 포함하는 spaceId를 정렬 조건에 맞춰 offset부터 limit개 반환한다.
+     */
+    public List<Long> search(String keyWord, Category filter, String sort, long offset, int limit) {
+        int topCount = (int) Math.min(offset + limit, Integer.MAX_VALUE);
+
+        return findTopHits(tokenize(keyWord), filter, sort, null, topCount)
+                .stream()
+                .skip(offset)
+                .map(SpaceSearchHit::spaceId)
+                .toList();
+    }
+
+    /**
+     * 커서(lastScore, lastFavoriteCount, lastSpaceId) 다음부터 limit개를 반환한다. 정렬 조건이 없으면 검색 점수 순이다.
+     */
+    public List<SpaceSearchHit> searchAfter(String keyWord, Category filter, String sort, Double lastScore, Long lastFavoriteCount, Long lastSpaceId, int limit) {
+        return findTopHits(tokenize(keyWord), filter, sort, toCursor(sort, lastScore, lastFavoriteCount, lastSpaceId), limit);
+    }
+
+    /**
+     * 매칭된 스페이스 중 커서 다음의 상위 limit개를 찾는다.<br>
+     * 최신순은 postings를 id 내림차순으로 순회하므로 커서 위치부터 limit개를 채우면 멈추고,
+     * 그 외 정렬은 매칭 전체를 정렬하지 않고 크기 limit의 힙으로 상위 limit개만 남긴다.
+     */
+    private List<SpaceSearchHit> findTopHits(List<String> tokens, Category filter, String sort, SpaceSearchHit cursor, int limit) {
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean isCreatedAtSort = Objects.equals(sort, CREATED_AT_SORT);
+        Comparator<SpaceSearchHit> order = hitOrder(sort);
+        PriorityQueue<SpaceSearchHit> topHits = new PriorityQueue<>(Math.min(limit, 64) + 1, order.reversed());
+
+        lock.readLock().lock();
+        try {
+            List<LongPostings> tokenPostings = new ArrayList<>();
+
+            for (String token : tokens) {
+                LongPostings tokenPosting = postings.get(token);
+
+                if (Objects.isNull(tokenPosting)) {
+                    return List.of();
+                }
+
+                tokenPostings.add(tokenPosting);
+            }
+
+            tokenPostings.sort(Comparator.comparingInt(LongPostings::size));
+            LongPostings smallest = tokenPostings.get(0);
+
+            int start = isCreatedAtSort && Objects.nonNull(cursor)
+                    ? smallest.countLessThan(cursor.spaceId()) - 1
+                    : smallest.size() - 1;
+
+            for (int i = start; i >= 0; i--) {
+                if (isCreatedAtSort && topHits.size() >= limit) {
+                    break;
+                }
+
+                long spaceId = smallest.get(i);
+
+                if (!containsAll(tokenPostings, spaceId)) {
+                    continue;
+                }
+
+                SpaceSearchDocument document = documents.get(spaceId);
+
+                if (Objects.nonNull(filter) && document.category() != filter) {
+                    continue;
+                }
+
+                SpaceSearchHit hit = toHit(document, tokens.size(), sort);
+
+                if (Objects.nonNull(cursor) && order.compare(hit, cursor) <= 0) {
+                    continue;
+                }
+
+                topHits.offer(hit);
+
+                if (topHits.size() > limit) {
+                    topHits.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SpaceSearchHit> sortedHits = new ArrayList<>(topHits);
+        sortedHits.sort(order);
+
+        return sortedHits;
+    }
+
+    /**
+     * 검색 점수는 스페이스 이름의 bigram 중 키워드 bigram이 차지하는 비율이다.
+     */
+    private SpaceSearchHit toHit(SpaceSearchDocument document, int tokenCount, String sort) {
+        Double score = isScoreSort(sort)
+                ? SpaceSearchHit.truncateScore((double) tokenCount / nameTokenCounts.get(document.spaceId()))
+                : null;
+
+        return new SpaceSearchHit(document.spaceId(), document.favoriteCount(), score);
+    }
+
+    private Comparator<SpaceSearchHit> hitOrder(String sort) {
+        if (Objects.equals(sort, CREATED_AT_SORT)) {
+            return ID_ORDER;
+        }
+
+        if (Objects.equals(sort, FAVORITE_COUNT_SORT)) {
+            return FAVORITE_COUNT_ORDER;
+        }
+
+        return SCORE_ORDER;
+    }
+
+    private SpaceSearchHit toCursor(String sort, Double lastScore, Long lastFavoriteCount, Long lastSpaceId) {
+        if (Objects.isNull(lastSpaceId)) {
+            return null;
+        }
+
+        if (Objects.equals(sort, FAVORITE_COUNT_SORT) && Objects.isNull(lastFavoriteCount)) {
+            return null;
+        }
+
+        if (isScoreSort(sort) && Objects.isNull(lastScore)) {
+            return null;
+        }
+
+        return new SpaceSearchHit(lastSpaceId, lastFavoriteCount, lastScore);
+    }
+
+    private boolean isScoreSort(String sort) {
+        return !Objects.equals(sort, CREATED_AT_SORT) && !Objects.equals(sort, FAVORITE_COUNT_SORT);
+    }
+
+    public void put(SpaceSearchDocument document) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.spaceId());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long spaceId) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(spaceId);
+
+            if (!ready) {
+                removedWhileBootstrapping.add(spaceId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void changeFavoriteCount(Long spaceId, long delta) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents.computeIfPresent(spaceId, (id, document) -> document.changeFavoriteCount(delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addIfAbsent(List<SpaceSearchDocument> spaceSearchDocuments) {
+        lock.writeLock().lock();
+        try {
+            for (SpaceSearchDocument document : spaceSearchDocuments) {
+                if (documents.containsKey(document.spaceId()) || removedWhileBootstrapping.contains(document.spaceId())) {
+                    continue;
+                }
+
+                addDocument(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addDocument(SpaceSearchDocument document) {
+        documents.put(document.spaceId(), document);
+
+        List<String> tokens = tokenize(document.spaceName());
+        nameTokenCounts.put(document.spaceId(), tokens.size());
+
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, t -> new LongPostings())
+                    .add(document.spaceId());
+        }
+    }
+
+    private void removeDocument(Long spaceId) {
+        SpaceSearchDocument removed = documents.remove(spaceId);
+
+        if (Objects.isNull(removed)) {
+            return;
+        }
+
+        nameTokenCounts.remove(spaceId);
+
+        for (String token : tokenize(removed.spaceName())) {
+            LongPostings tokenPosting = postings.get(token);
+
+            if (Objects.isNull(tokenPosting)) {
+                continue;
+            }
+
+            tokenPosting.remove(spaceId);
+
+            if (tokenPosting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private boolean containsAll(List<LongPostings> tokenPostings, long spaceId) {
+        for (int i = 1; i < tokenPostings.size(); i++) {
+            if (!tokenPostings.get(i).contains(spaceId)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private List<String> tokenize(String text) {
+        if (Objects.isNull(text)) {
+            return List.of();
+        }
+
+        return SearchKeywordParser.parseToTokens(text.toLowerCase(Locale.ROOT), TOKEN_SIZE)
+                .stream()
+                .distinct()
+                .toList();
+    }
+
+    private double documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 객체 헤더/참조 크기를 고정값으로 잡은 추정치.
+     */
+    private double estimatedMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0L;
+
+            for (Map.Entry<String, LongPostings> entry : postings.entrySet()) {
+                bytes += 32 + 40 + entry.getKey().length() * 2L;
+                bytes += 32 + 16 + entry.getValue().capacity() * 8L;
+            }
+
+            for (SpaceSearchDocument document : documents.values()) {
+                bytes += 32 + 16 + 32 + 16 + 40 + document.spaceName().length() * 2L;
+                bytes += 32 + 16 + 16;
+            }
+
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+}
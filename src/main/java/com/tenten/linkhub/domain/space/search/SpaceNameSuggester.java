@@ -0,0 +1,310 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공개된 스페이스 이름의 접두어 자동완성.<br>
+ * 소문자로 정규화한 "이름 + 구분자 + spaceId"를 정렬된 맵에 두고 접두어 범위에서 favorite_count 상위 K개를 고른다.
+ * 최대 항목 수를 넘으면 favorite_count가 가장 낮은 스페이스부터 제외하고, 제외된 스페이스의 favorite_count 상한을 기록한다.
+ * 메모리의 상위 K개가 모두 그 상한보다 높을 때만 메모리로 답하고, 아니면(비활성화/초기화 전, 스캔 한도 초과 포함) DB에서 조회한다.
+ */
+@Slf4j
+@Component
+public class SpaceNameSuggester {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Comparator<SpaceSearchDocument> WEIGHT_ORDER = Comparator
+            .comparing(SpaceSearchDocument::favoriteCount)
+            .thenComparing(SpaceSearchDocument::spaceId);
+
+    private final ConcurrentSkipListMap<String, SpaceSearchDocument> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keys = new HashMap<>();
+    private final TreeSet<SpaceSearchDocument> evictionOrder = new TreeSet<>(WEIGHT_ORDER);
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final SpaceRepository spaceRepository;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int maxScanSize;
+    private final int bootstrapBatchSize;
+
+    private final Counter fallbackCounter;
+
+    private volatile boolean ready = false;
+    private volatile long excludedMaxFavoriteCount = -1L;
+
+    public SpaceNameSuggester(SpaceRepository spaceRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${search.space-suggest.enabled:false}") boolean enabled,
+                              @Value("${search.space-suggest.max-entries:200000}") int maxEntries,
+                              @Value("${search.space-suggest.max-scan-size:20000}") int maxScanSize,
+                              @Value("${search.space-suggest.bootstrap-batch-size:1000}") int bootstrapBatchSize) {
+        this.spaceRepository = spaceRepository;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxScanSize = maxScanSize;
+        this.bootstrapBatchSize = bootstrapBatchSize;
+
+        Gauge.builder("space.suggest.entries", entries, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("space.suggest.memory", this, SpaceNameSuggester::estimatedMemoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.fallbackCounter = Counter.builder("space.suggest.fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * favorite_count가 높은 스페이스부터 최대 항목 수만큼 적재한다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled) {
+            return;
+        }
+
+        Long lastFavoriteCount = null;
+        Long lastSpaceId = null;
+        int loadedCount = 0;
+
+        try {
+            while (loadedCount < maxEntries) {
+                List<SpaceSearchDocument> spaceSearchDocuments = spaceRepository.findSearchDocumentsOrderByFavoriteCount(lastFavoriteCount, lastSpaceId, bootstrapBatchSize);
+                spaceSearchDocuments.forEach(this::putIfAbsent);
+                loadedCount += spaceSearchDocuments.size();
+
+                if (spaceSearchDocuments.size() < bootstrapBatchSize) {
+                    break;
+                }
+
+                SpaceSearchDocument last = spaceSearchDocuments.get(spaceSearchDocuments.size() - 1);
+                lastFavoriteCount = last.favoriteCount();
+                lastSpaceId = last.spaceId();
+            }
+
+            if (loadedCount >= maxEntries) {
+                writeLock.lock();
+                try {
+                    raiseExcludedMaxFavoriteCount(lastFavoriteCount);
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("스페이스 이름 자동완성을 초기화하지 못했습니다.", e);
+            return;
+        }
+
+        ready = true;
+        log.info("스페이스 이름 자동완성 초기화 완료. entries: {}", entries.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public List<SpaceSearchDocument> suggest(String prefix, int size) {
+        String normalizedPrefix = normalize(prefix);
+
+        if (normalizedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        if (!isReady()) {
+            return findFromDatabase(prefix, size);
+        }
+
+        PriorityQueue<SpaceSearchDocument> topK = new PriorityQueue<>(size + 1, WEIGHT_ORDER);
+        long excludedMax = excludedMaxFavoriteCount;
+        int scanned = 0;
+
+        for (SpaceSearchDocument document : entries.subMap(normalizedPrefix, true, normalizedPrefix + Character.MAX_VALUE, true).values()) {
+            if (++scanned > maxScanSize) {
+                return findFromDatabase(prefix, size);
+            }
+
+            topK.offer(document);
+
+            if (topK.size() > size) {
+                topK.poll();
+            }
+        }
+
+        if (excludedMax >= 0 && (topK.size() < size || topK.peek().favoriteCount() <= excludedMax)) {
+            return findFromDatabase(prefix, size);
+        }
+
+        List<SpaceSearchDocument> suggestions = new ArrayList<>(topK);
+        suggestions.sort(WEIGHT_ORDER.reversed());
+
+        return suggestions;
+    }
+
+    public void put(SpaceSearchDocument document) {
+        if (!enabled) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            removeEntry(document.spaceId());
+            addEntry(document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Long spaceId) {
+        if (!enabled) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            removeEntry(spaceId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 메모리에 없는 스페이스의 favorite_count가 늘면 false를 반환한다. 호출한 쪽은 스페이스를 다시 조회해 put()으로 적재를 시도한다.
+     */
+    public boolean changeFavoriteCount(Long spaceId, long delta) {
+        if (!enabled) {
+            return true;
+        }
+
+        writeLock.lock();
+        try {
+            String key = keys.get(spaceId);
+
+            if (Objects.isNull(key)) {
+                return delta <= 0;
+            }
+
+            SpaceSearchDocument document = entries.get(key);
+            removeEntry(spaceId);
+            addEntry(document.changeFavoriteCount(delta));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    boolean contains(Long spaceId) {
+        writeLock.lock();
+        try {
+            return keys.containsKey(spaceId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void putIfAbsent(SpaceSearchDocument document) {
+        writeLock.lock();
+        try {
+            if (keys.containsKey(document.spaceId())) {
+                return;
+            }
+
+            addEntry(document);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void addEntry(SpaceSearchDocument document) {
+        if (keys.size() >= maxEntries) {
+            SpaceSearchDocument lightest = evictionOrder.first();
+
+            if (WEIGHT_ORDER.compare(document, lightest) <= 0) {
+                raiseExcludedMaxFavoriteCount(document.favoriteCount());
+                return;
+            }
+
+            removeEntry(lightest.spaceId());
+            raiseExcludedMaxFavoriteCount(lightest.favoriteCount());
+        }
+
+        String key = normalize(document.spaceName()) + KEY_SEPARATOR + document.spaceId();
+
+        entries.put(key, document);
+        keys.put(document.spaceId(), key);
+        evictionOrder.add(document);
+    }
+
+    private void removeEntry(Long spaceId) {
+        String key = keys.remove(spaceId);
+
+        if (Objects.isNull(key)) {
+            return;
+        }
+
+        SpaceSearchDocument removed = entries.remove(key);
+        evictionOrder.remove(removed);
+    }
+
+    private List<SpaceSearchDocument> findFromDatabase(String prefix, int size) {
+        fallbackCounter.increment();
+
+        return spaceRepository.findSearchDocumentsByNamePrefix(prefix.strip(), size);
+    }
+
+    private void raiseExcludedMaxFavoriteCount(Long favoriteCount) {
+        if (Objects.nonNull(favoriteCount) && favoriteCount > excludedMaxFavoriteCount) {
+            excludedMaxFavoriteCount = favoriteCount;
+        }
+    }
+
+    private String normalize(String text) {
+        if (Objects.isNull(text)) {
+            return "";
+        }
+
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 객체 헤더/참조 크기를 고정값으로 잡은 추정치.
+     */
+    private double estimatedMemoryBytes() {
+        long bytes = 0L;
+
+        for (String key : entries.keySet()) {
+            bytes += 2 * (40 + key.length() * 2L) + 32 + 16 + 32 + 16 + 40 + 48;
+        }
+
+        return bytes;
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import org.springframework.data.domain.Slice;
+
+public interface SpaceSearchEngine {
+
+    Slice<SpaceCard> search(QueryCondition condition);
+
+    SpaceCursorSlice<SpaceCard> searchWithCursor(SearchCursorQueryCondition condition);
+
+}
@@ -0,0 +1,40 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchHit;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MySQL ngram FULLTEXT(MATCH AGAINST)를 사용하는 검색.
+ */
+@Component
+public class SqlSpaceSearchEngine implements SpaceSearchEngine {
+
+    private final SpaceRepository spaceRepository;
+
+    public SqlSpaceSearchEngine(SpaceRepository spaceRepository) {
+        this.spaceRepository = spaceRepository;
+    }
+
+    @Override
+    public Slice<SpaceCard> search(QueryCondition condition) {
+        return spaceRepository.searchPublicSpacesJoinSpaceImageByQuery(condition);
+    }
+
+    @Override
+    public SpaceCursorSlice<SpaceCard> searchWithCursor(SearchCursorQueryCondition condition) {
+        List<SpaceSearchHit> spaceSearchHits = spaceRepository.searchPublicSpaceHitsByCursor(condition);
+
+        return spaceRepository.findSpaceCardsBySearchHits(spaceSearchHits, condition.pageable().pageSize())
+                .withSearchEngine(SearchEngineType.SQL);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.tenten.linkhub.domain.space.service;
 
+import com.tenten.linkhub.domain.space.cache.SpaceAclCache;
 import com.tenten.linkhub.domain.space.model.space.Comment;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.repository.comment.CommentRepository;
@@ -11,6 +12,7 @@ import com.tenten.linkhub.domain.space.service.dto.comment.RepliesFindResponses;
 import com.tenten.linkhub.domain.space.service.dto.comment.ReplyCreateRequest;
 import com.tenten.linkhub.domain.space.service.dto.comment.RootCommentCreateRequest;
 import com.tenten.linkhub.domain.space.service.mapper.CommentMapper;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,23 +27,26 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final SpaceRepository spaceRepository;
+    private final SpaceAclCache spaceAclCache;
     private final CommentMapper mapper;
+    private final SpaceVersionTracker spaceVersionTracker;
 
     @Transactional
     public Long createComment(RootCommentCreateRequest request) {
-        Space space = spaceRepository.getById(request.spaceId());
-
-        space.validateCommentAvailability();
+        spaceAclCache.get(request.spaceId())
+                .validateCommentAvailability();
 
+        Space space = spaceRepository.getReferenceById(request.spaceId());
         Comment comment = mapper.toComment(request, space);
+        spaceVersionTracker.increaseVersion(request.spaceId());
 
         return commentRepository.save(comment).getId();
     }
 
     @Transactional(readOnly = true)
     public CommentAndChildCountResponses findRootComments(Long spaceId, Pageable pageable) {
-        Space space = spaceRepository.getById(spaceId);
-        space.validateCommentAvailability();
+        spaceAclCache.get(spaceId)
+                .validateCommentAvailability();
 
         Slice<CommentAndChildCommentCount> responses = commentRepository.findCommentAndChildCommentCountBySpaceId(spaceId, pageable);
 
@@ -50,8 +55,8 @@ public class CommentService {
 
     @Transactional
     public Long createReply(ReplyCreateRequest request) {
-        Space space = spaceRepository.getById(request.spaceId());
-        space.validateCommentAvailability();
+        spaceAclCache.get(request.spaceId())
+                .validateCommentAvailability();
 
         Comment parentComment = commentRepository.getById(request.commentId());
 
@@ -61,39 +66,43 @@ public class CommentService {
             groupNumber = parentComment.getId();
         }
 
+        Space space = spaceRepository.getReferenceById(request.spaceId());
         Comment comment = mapper.toReply(request, space, parentComment, groupNumber);
+        spaceVersionTracker.increaseVersion(request.spaceId());
 
         return commentRepository.save(comment).getId();
     }
 
     @Transactional
     public Long updateComment(CommentUpdateRequest request) {
-        Space space = spaceRepository.getById(request.spaceId());
-        space.validateCommentAvailability();
+        spaceAclCache.get(request.spaceId())
+                .validateCommentAvailability();
 
         Comment comment = commentRepository.getById(request.commentId());
         comment.validateCommentOwner(request.memberId());
         Comment updatedComment = comment.updateComment(request.content());
+        spaceVersionTracker.increaseVersion(request.spaceId());
 
         return updatedComment.getId();
     }
 
     @Transactional
     public Long deleteComment(Long spaceId, Long commentId, Long memberId) {
-        Space space = spaceRepository.getById(spaceId);
-        space.validateCommentAvailability();
+        spaceAclCache.get(spaceId)
+                .validateCommentAvailability();
 
         Comment comment = commentRepository.getById(commentId);
         comment.validateCommentOwner(memberId);
         comment.delete();
+        spaceVersionTracker.increaseVersion(spaceId);
 
         return commentId;
     }
 
     @Transactional(readOnly = true)
     public RepliesFindResponses findReplies(Long spaceId, Long commentId, Pageable pageable) {
-        Space space = spaceRepository.getById(spaceId);
-        space.validateCommentAvailability();
+        spaceAclCache.get(spaceId)
+                .validateCommentAvailability();
 
         validateRootComment(commentId);
 
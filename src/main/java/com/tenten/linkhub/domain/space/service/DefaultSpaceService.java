@@ -1,22 +1,35 @@
 package com.tenten.linkhub.domain.space.service;
 
+import com.tenten.linkhub.domain.space.cache.SpaceAclCache;
+import com.tenten.linkhub.domain.space.cache.SpaceFeedCache;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceMemberChangeEvent;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceUpdateEvent;
 import com.tenten.linkhub.domain.space.model.space.Scrap;
+import com.tenten.linkhub.domain.space.model.category.Category;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.model.space.SpaceImage;
 import com.tenten.linkhub.domain.space.model.space.SpaceMember;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.favorite.FavoriteRepository;
+import com.tenten.linkhub.domain.space.repository.scrap.ScrapCopyJobJdbcRepository;
 import com.tenten.linkhub.domain.space.repository.scrap.ScrapRepository;
 import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
 import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
-import com.tenten.linkhub.domain.space.repository.spacemember.SpaceMemberRepository;
+import com.tenten.linkhub.domain.space.repository.trending.dto.SpaceTrendingScore;
+import com.tenten.linkhub.domain.space.scrap.SpaceScrapCopier;
+import com.tenten.linkhub.domain.space.search.SpaceNameSuggester;
+import com.tenten.linkhub.domain.space.search.SpaceSearchEngine;
 import com.tenten.linkhub.domain.space.service.dto.space.DeletedSpaceImageNames;
 import com.tenten.linkhub.domain.space.service.dto.space.MemberSpacesFindRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.NewSpacesScrapRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindByQueryRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.ScrapProgressGetResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceCreateRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceUpdateRequest;
@@ -25,8 +38,11 @@ import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryRespon
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
 import com.tenten.linkhub.domain.space.service.dto.spacemember.SpaceMemberRoleChangeRequest;
 import com.tenten.linkhub.domain.space.service.mapper.SpaceMapper;
+import com.tenten.linkhub.domain.space.trending.SpaceTrendingRanker;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import com.tenten.linkhub.domain.viewer.ViewerRelation;
+import com.tenten.linkhub.domain.viewer.ViewerRelationResolver;
 
-import com.tenten.linkhub.domain.link.service.LinkService;
 import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
 import com.tenten.linkhub.domain.link.repository.tag.TagRepository;
 import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
@@ -36,16 +52,20 @@ import com.tenten.linkhub.global.exception.UnauthorizedAccessException;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tenten.linkhub.domain.space.model.space.Role.OWNER;
-import static com.tenten.linkhub.global.response.ErrorCode.LINK_COUNT_LIMIT_FOR_SCRAP;
 import static com.tenten.linkhub.global.response.ErrorCode.SPACE_SCRAP_LIMIT;
 import static com.tenten.linkhub.global.util.CommonValidator.validateMinMaxSize;
 
@@ -53,32 +73,78 @@ import static com.tenten.linkhub.global.util.CommonValidator.validateMinMaxSize;
 @Service
 public class DefaultSpaceService implements SpaceService {
 
+    private static final int MAX_SUGGESTION_SIZE = 20;
+
     private final SpaceRepository spaceRepository;
-    private final SpaceMemberRepository spaceMemberRepository;
+    private final SpaceAclCache spaceAclCache;
     private final FavoriteRepository favoriteRepository;
     private final LinkRepository linkRepository;
     private final ScrapRepository scrapRepository;
+    private final ScrapCopyJobJdbcRepository scrapCopyJobJdbcRepository;
+    private final SpaceScrapCopier spaceScrapCopier;
     private final TagRepository tagRepository;
-    private final LinkService linkService;
+    private final SpaceFeedCache spaceFeedCache;
+    private final SpaceTrendingRanker spaceTrendingRanker;
+    private final SpaceSearchEngine spaceSearchEngine;
+    private final SpaceNameSuggester spaceNameSuggester;
+    private final SpaceDetailBranchExecutor spaceDetailBranchExecutor;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final SpaceVersionTracker spaceVersionTracker;
     private final SpaceMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public SpacesFindWithCursorResponses findPublicSpacesWithFilter(PublicSpacesFindWithFilterRequest request) {
-        SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> spaceAndSpaceImageOwnerNickName = spaceRepository.findPublicSpacesJoinSpaceImageByQuery(mapper.toCursorPageQueryCondition(request));
+        SpacesFindWithCursorResponses responses = spaceTrendingRanker.isTrendingRequest(request.pageable().sort())
+                ? findTrendingSpaces(request)
+                : spaceFeedCache.get(request, () -> {
+                    SpaceCursorSlice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceRepository.findPublicSpacesJoinSpaceImageByQuery(mapper.toCursorPageQueryCondition(request));
 
-        return SpacesFindWithCursorResponses.from(spaceAndSpaceImageOwnerNickName);
+                    return SpacesFindWithCursorResponses.from(spaceAndSpaceImageOwnerNickName);
+                });
+
+        Set<Long> favoriteSpaceIds = viewerRelationResolver.resolve(ViewerRelation.FAVORITE, request.memberId(), responses.getSpaceIds());
+
+        return responses.withFavoriteSpaceIds(favoriteSpaceIds);
     }
 
     @Override
     @Transactional(readOnly = true)
     public SpacesFindByQueryResponses searchPublicSpacesByQuery(PublicSpacesFindByQueryRequest request) {
         validateSearchKeWord(request.keyWord());
-        Slice<SpaceAndSpaceImageOwnerNickName> spaceAndSpaceImageOwnerNickName = spaceRepository.searchPublicSpacesJoinSpaceImageByQuery(mapper.toQueryCond(request));
+        Slice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceSearchEngine.search(mapper.toQueryCond(request));
 
         return SpacesFindByQueryResponses.from(spaceAndSpaceImageOwnerNickName);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SpacesFindWithCursorResponses searchPublicSpacesWithCursor(PublicSpacesSearchWithCursorRequest request) {
+        validateSearchKeWord(request.keyWord());
+
+        if (!StringUtils.hasText(request.keyWord())) {
+            SpaceCursorSlice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceRepository.findPublicSpacesJoinSpaceImageByQuery(mapper.toCursorPageQueryCondition(request));
+
+            return SpacesFindWithCursorResponses.from(spaceAndSpaceImageOwnerNickName);
+        }
+
+        SpaceCursorSlice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceSearchEngine.searchWithCursor(mapper.toSearchCursorQueryCondition(request));
+
+        return SpacesFindWithCursorResponses.from(spaceAndSpaceImageOwnerNickName);
+    }
+
+    @Override
+    public SpaceSuggestionResponses suggestSpaces(String prefix, int size) {
+        validateMinMaxSize(prefix, 1, 255, "prefix");
+
+        if (size < 1 || size > MAX_SUGGESTION_SIZE) {
+            throw new IllegalArgumentException(String.format("size는 1 이상 %s 이하 이여야 합니다.", MAX_SUGGESTION_SIZE));
+        }
+
+        return SpaceSuggestionResponses.from(spaceNameSuggester.suggest(prefix, size));
+    }
+
     @Override
     @Transactional
     public Long createSpace(SpaceCreateRequest request) {
@@ -86,39 +152,52 @@ public class DefaultSpaceService implements SpaceService {
         SpaceImage spaceImage = mapper.toSpaceImage(request.imageInfo());
 
         Space space = mapper.toSpace(request, spaceMember, spaceImage);
+        Long savedSpaceId = spaceRepository.save(space).getId();
+        spaceFeedCache.evictCategories(space.getCategory());
 
-        return spaceRepository.save(space).getId();
+        return savedSpaceId;
     }
 
+    /**
+     * 즐겨찾기/스크랩 여부는 트랜잭션 밖에서 병렬로 조회하고, 스페이스는 짧은 읽기 전용 트랜잭션에서 조회한다.
+     * 즐겨찾기/스크랩 여부 조회가 제한 시간을 넘기면 해당 값은 null(알 수 없음)이다.
+     */
     @Override
-    @Transactional(readOnly = true)
     public SpaceWithSpaceImageAndSpaceMemberInfo getSpaceWithSpaceImageAndSpaceMemberById(Long spaceId, Long memberId) {
-        Space space = spaceRepository.getSpaceJoinSpaceMemberById(spaceId);
+        CompletableFuture<Boolean> hasFavorite = spaceDetailBranchExecutor.supplyAsync("favorite",
+                () -> favoriteRepository.isExist(memberId, spaceId));
+        CompletableFuture<Boolean> hasScrap = spaceDetailBranchExecutor.supplyAsync("scrap",
+                () -> scrapRepository.existsBySourceSpaceIdAndMemberId(spaceId, memberId));
 
-        space.validateVisibilityAndMembership(memberId);
+        SpaceWithSpaceImageAndSpaceMemberInfo info = spaceDetailBranchExecutor.recordInReadOnlyTransaction("space", () -> {
+            Space space = spaceRepository.getSpaceJoinSpaceMemberById(spaceId);
 
-        Boolean isOwner = space.isOwner(memberId);
-        Boolean isCanEdit = space.isCanEdit(memberId);
-        List<SpaceMember> sortedSpaceMember = space.getSortedSpaceMember();
+            space.validateVisibilityAndMembership(memberId);
 
-        Boolean hasFavorite = favoriteRepository.isExist(memberId, spaceId);
-        Boolean hasScrap = scrapRepository.existsBySourceSpaceIdAndMemberId(spaceId, memberId);
+            Boolean isOwner = space.isOwner(memberId);
+            Boolean isCanEdit = space.isCanEdit(memberId);
+            List<SpaceMember> sortedSpaceMember = space.getSortedSpaceMember();
 
-        return SpaceWithSpaceImageAndSpaceMemberInfo.of(space, sortedSpaceMember, isOwner, isCanEdit, hasFavorite, hasScrap);
+            return SpaceWithSpaceImageAndSpaceMemberInfo.of(space, sortedSpaceMember, isOwner, isCanEdit, null, null);
+        });
+
+        return info.withViewerRelation(spaceDetailBranchExecutor.join(hasFavorite), spaceDetailBranchExecutor.join(hasScrap));
     }
 
     @Override
     @Transactional
     public Long updateSpace(SpaceUpdateRequest request) {
         Space space = spaceRepository.getById(request.spaceId());
+        Category previousCategory = space.getCategory();
         space.updateSpaceAttributes(mapper.toSpaceUpdateDto(request));
+        spaceFeedCache.evictCategories(previousCategory, space.getCategory());
 
         return space.getId();
     }
 
     @Override
     public void checkMemberEditLink(Long memberId, Long spaceId) {
-        if (!spaceMemberRepository.existsAuthorizedSpaceMember(memberId, spaceId)) {
+        if (!spaceAclCache.get(spaceId).canEditLink(memberId)) {
             throw new UnauthorizedAccessException("링크를 생성할 수 있는 권한이 없습니다.");
         }
     }
@@ -128,6 +207,7 @@ public class DefaultSpaceService implements SpaceService {
     public DeletedSpaceImageNames deleteSpaceById(Long spaceId, Long memberId) {
         Space space = spaceRepository.getById(spaceId);
         space.deleteSpace(memberId);
+        spaceFeedCache.evictCategories(space.getCategory());
 
         if (scrapRepository.existsByTargetSpaceId(spaceId)) {
             scrapRepository.deleteByTargetSpaceId(spaceId);
@@ -144,7 +224,7 @@ public class DefaultSpaceService implements SpaceService {
         Boolean isMySpace = Objects.equals(request.requestMemberId(), request.targetMemberId());
         MemberSpacesQueryCondition queryCondition = mapper.toMemberSpacesQueryCondition(request, isMySpace);
 
-        Slice<SpaceAndSpaceImageOwnerNickName> spaceAndSpaceImageOwnerNickName = spaceRepository.findMemberSpacesJoinSpaceImageByQuery(queryCondition);
+        Slice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceRepository.findMemberSpacesJoinSpaceImageByQuery(queryCondition);
 
         return SpacesFindByQueryResponses.from(spaceAndSpaceImageOwnerNickName);
     }
@@ -162,15 +242,14 @@ public class DefaultSpaceService implements SpaceService {
 
     @Override
     public void checkLinkViewHistory(Long spaceId, Long memberId) {
-        Space space = spaceRepository.getSpaceJoinSpaceMemberById(spaceId);
-
-        space.checkLinkViewHistoryEnabled(memberId);
+        spaceAclCache.get(spaceId)
+                .checkLinkViewHistoryEnabled(memberId);
     }
 
     @Override
     public void checkMemberCanViewLink(Long memberId, Long spaceId) {
-        Space space = spaceRepository.getSpaceJoinSpaceMemberById(spaceId);
-        space.validateVisibilityAndMembership(memberId);
+        spaceAclCache.get(spaceId)
+                .validateVisibilityAndMembership(memberId);
     }
 
     @Override
@@ -181,6 +260,8 @@ public class DefaultSpaceService implements SpaceService {
 
         space.changeSpaceMembersRole(request.targetMemberId(), request.role());
 
+        eventPublisher.publishEvent(new SpaceUpdateEvent(space.getId()));
+
         return space.getId();
     }
 
@@ -192,10 +273,7 @@ public class DefaultSpaceService implements SpaceService {
         }
 
         Long linkCount = linkRepository.countLinkBySpaceId(spaceId);
-
-        if (linkCount > 200){
-            throw new PolicyViolationException(LINK_COUNT_LIMIT_FOR_SCRAP);
-        }
+        spaceScrapCopier.validateLinkCount(linkCount);
 
         Space space = spaceRepository.getById(spaceId);
         space.validateVisibilityAndMembership(memberId);
@@ -209,22 +287,93 @@ public class DefaultSpaceService implements SpaceService {
 
         Space space = mapper.toSpace(request, spaceMember, spaceImage);
         Long savedSpaceId = spaceRepository.save(space).getId();
+        spaceFeedCache.evictCategories(space.getCategory());
 
-        linkService.copyLinkBySpaceIdAndPaste(request.sourceSpaceId(), savedSpaceId, request.memberId());
+        Long linkCount = linkRepository.countLinkBySpaceId(request.sourceSpaceId());
+        spaceScrapCopier.copy(request.sourceSpaceId(), savedSpaceId, request.memberId(), linkCount);
 
         scrapRepository.save(
                 new Scrap(request.sourceSpaceId(), savedSpaceId, request.memberId())
         );
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.SCRAP, request.memberId(), request.sourceSpaceId());
+        spaceVersionTracker.increaseVersion(request.sourceSpaceId());
 
         return savedSpaceId;
     }
 
+    /**
+     * 복사 작업이 없으면 요청 안에서 복사를 마친 스페이스로 본다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ScrapProgressGetResponse getScrapProgress(Long spaceId, Long memberId) {
+        Space space = spaceRepository.getById(spaceId);
+        space.validateVisibilityAndMembership(memberId);
+
+        return scrapCopyJobJdbcRepository.findByTargetSpaceId(spaceId)
+                .map(ScrapProgressGetResponse::from)
+                .orElseGet(() -> ScrapProgressGetResponse.completed(linkRepository.countLinkBySpaceId(spaceId)));
+    }
+
     @Override
     @Transactional
     public void deleteSpaceMemberByMe(Long spaceId, Long memberId) {
         Space space = spaceRepository.getById(spaceId);
 
         space.deleteSpaceMember(memberId);
+
+        eventPublisher.publishEvent(new SpaceMemberChangeEvent(spaceId));
+    }
+
+    /**
+     * 미리 계산된 트렌딩 순위에서 lastSpaceId 다음 페이지를 읽는다.<br>
+     * 순위를 읽을 수 없거나 lastSpaceId가 순위에서 빠졌으면 최신순 피드로 이어서 응답한다.
+     * 대신 응답한 결과와 빈 페이지는 캐시하지 않는다.
+     */
+    private SpacesFindWithCursorResponses findTrendingSpaces(PublicSpacesFindWithFilterRequest request) {
+        SpacesFindWithCursorResponses responses = spaceFeedCache.get(
+                request,
+                () -> findTrendingSpaceCards(request)
+                        .map(SpacesFindWithCursorResponses::from)
+                        .orElse(null),
+                trendingResponses -> !trendingResponses.getSpaceIds().isEmpty());
+
+        if (Objects.nonNull(responses)) {
+            return responses;
+        }
+
+        SpaceCursorSlice<SpaceCard> spaceAndSpaceImageOwnerNickName = spaceRepository.findPublicSpacesJoinSpaceImageByQuery(mapper.toLatestCursorPageQueryCondition(request));
+
+        return SpacesFindWithCursorResponses.from(spaceAndSpaceImageOwnerNickName);
+    }
+
+    private Optional<SpaceCursorSlice<SpaceCard>> findTrendingSpaceCards(PublicSpacesFindWithFilterRequest request) {
+        SpaceCursorPageRequest pageable = request.pageable();
+
+        return spaceTrendingRanker.findTrendingSpaces(pageable.filter(), request.lastSpaceId(), pageable.pageSize() + 1)
+                .map(spaceTrendingScores -> toTrendingSlice(spaceTrendingScores, pageable));
+    }
+
+    private SpaceCursorSlice<SpaceCard> toTrendingSlice(List<SpaceTrendingScore> spaceTrendingScores, SpaceCursorPageRequest pageable) {
+        boolean hasNext = spaceTrendingScores.size() > pageable.pageSize();
+        List<SpaceTrendingScore> pageScores = hasNext ? spaceTrendingScores.subList(0, pageable.pageSize()) : spaceTrendingScores;
+
+        if (pageScores.isEmpty()) {
+            return SpaceCursorSlice.of(null, null, null, pageable.pageSize(), false, List.of());
+        }
+
+        List<Long> pageSpaceIds = pageScores.stream()
+                .map(SpaceTrendingScore::spaceId)
+                .toList();
+
+        // 순위는 주기적으로만 다시 계산되므로 그 사이 삭제/비공개된 스페이스는 원본 기준으로 걸러낸다.
+        Set<Long> publicSpaceIds = new HashSet<>(spaceRepository.findPublicSpaceIds(pageSpaceIds));
+        List<SpaceCard> contents = spaceRepository.findSpaceCardsByIds(pageSpaceIds.stream()
+                .filter(publicSpaceIds::contains)
+                .toList());
+
+        SpaceTrendingScore last = pageScores.get(pageScores.size() - 1);
+        return SpaceCursorSlice.of(last.score(), null, last.spaceId(), pageable.pageSize(), hasNext, contents);
     }
 
     private void validateSearchKeWord(String keyWord) {
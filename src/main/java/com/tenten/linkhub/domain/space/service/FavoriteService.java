@@ -4,7 +4,7 @@ import com.tenten.linkhub.domain.space.handler.dto.FavoriteDeleteEvent;
 import com.tenten.linkhub.domain.space.handler.dto.FavoriteSaveEvent;
 import com.tenten.linkhub.domain.space.model.space.Favorite;
 import com.tenten.linkhub.domain.space.model.space.Space;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import com.tenten.linkhub.domain.space.repository.favorite.FavoriteRepository;
 import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
 import com.tenten.linkhub.domain.space.repository.favorite.dto.MyFavoriteSpacesQueryCondition;
@@ -12,13 +12,16 @@ import com.tenten.linkhub.domain.space.service.dto.favorite.FavoriteSpacesFindRe
 import com.tenten.linkhub.domain.space.service.dto.favorite.MyFavoriteSpacesFindRequest;
 import com.tenten.linkhub.domain.space.service.dto.favorite.SpaceRegisterInFavoriteResponse;
 import com.tenten.linkhub.domain.space.service.mapper.FavoriteMapper;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import com.tenten.linkhub.domain.viewer.ViewerRelation;
+import com.tenten.linkhub.domain.viewer.ViewerRelationResolver;
 
 import com.tenten.linkhub.global.exception.DataDuplicateException;
+import com.tenten.linkhub.global.outbox.OutboxEventPublisher;
 import com.tenten.linkhub.global.response.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,7 +33,9 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final SpaceRepository spaceRepository;
     private final FavoriteMapper mapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final ViewerRelationResolver viewerRelationResolver;
+    private final SpaceVersionTracker spaceVersionTracker;
 
     @Transactional
     public SpaceRegisterInFavoriteResponse createFavorite(Long spaceId, Long memberId) {
@@ -42,7 +47,9 @@ public class FavoriteService {
         Favorite favorite = mapper.toFavorite(space, memberId);
         Favorite savedFavorite = favoriteRepository.save(favorite);
 
-        eventPublisher.publishEvent(new FavoriteSaveEvent(spaceId));
+        outboxEventPublisher.publish(new FavoriteSaveEvent(spaceId));
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.FAVORITE, memberId, spaceId);
+        spaceVersionTracker.increaseVersion(spaceId);
 
         return SpaceRegisterInFavoriteResponse.of(
                 savedFavorite.getId(),
@@ -56,7 +63,9 @@ public class FavoriteService {
 
         Long deletedFavoriteId = favoriteRepository.deleteById(favorite.getId());
 
-        eventPublisher.publishEvent(new FavoriteDeleteEvent(spaceId));
+        outboxEventPublisher.publish(new FavoriteDeleteEvent(spaceId));
+        viewerRelationResolver.invalidateAfterCommit(ViewerRelation.FAVORITE, memberId, spaceId);
+        spaceVersionTracker.increaseVersion(spaceId);
 
         return deletedFavoriteId;
     }
@@ -65,7 +74,7 @@ public class FavoriteService {
     public FavoriteSpacesFindResponses findMyFavoriteSpaces(MyFavoriteSpacesFindRequest request) {
         MyFavoriteSpacesQueryCondition queryCondition = mapper.toQueryCondition(request);
 
-        Slice<SpaceAndSpaceImageOwnerNickName> responses = favoriteRepository.findMyFavoriteSpacesByQuery(queryCondition);
+        Slice<SpaceCard> responses = favoriteRepository.findMyFavoriteSpacesByQuery(queryCondition);
 
         return FavoriteSpacesFindResponses.from(responses);
     }
@@ -0,0 +1,118 @@
+package com.tenten.linkhub.domain.space.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 스페이스 상세 조회를 구성하는 조회(branch)를 실행하고 branch별 소요 시간을 space.detail.branch.latency로 기록한다.<br>
+ * 비동기 branch가 제한 시간을 넘기면 결과를 알 수 없음(null)으로 응답하고 space.detail.branch.timeout을 올린다.
+ * 비동기 branch는 각자 커넥션을 잡으므로 호출 스레드가 트랜잭션(커넥션)을 잡고 기다리면 풀이 고갈된다.
+ * 따라서 호출 스레드에 트랜잭션이 있거나 비활성화되어 있으면 호출 스레드에서 순서대로 실행한다.
+ */
+@Slf4j
+@Component
+public class SpaceDetailBranchExecutor {
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long timeoutMillis;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public SpaceDetailBranchExecutor(@Qualifier("spaceDetailExecutor") Executor executor,
+                                     MeterRegistry meterRegistry,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${space.detail.fan-out.enabled:false}") boolean enabled,
+                                     @Value("${space.detail.fan-out.branch-timeout-millis:500}") long timeoutMillis) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T record(String branch, Supplier<T> supplier) {
+        return branchTimer(branch).record(supplier);
+    }
+
+    /**
+     * branch를 읽기 전용 트랜잭션에서 실행하고, 반환 전에 트랜잭션을 끝내 커넥션을 돌려준다.
+     */
+    public <T> T recordInReadOnlyTransaction(String branch, Supplier<T> supplier) {
+        return branchTimer(branch).record(() -> readOnlyTransactionTemplate.execute(status -> supplier.get()));
+    }
+
+    /**
+     * 제한 시간을 넘긴 branch의 결과는 null이다.
+     */
+    public <T> CompletableFuture<T> supplyAsync(String branch, Supplier<T> supplier) {
+        Timer timer = branchTimer(branch);
+
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CompletableFuture.completedFuture(timer.record(supplier));
+        }
+
+        return CompletableFuture.supplyAsync(() -> timer.record(supplier), executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    if (unwrap(e) instanceof TimeoutException) {
+                        log.warn("스페이스 상세 조회 branch가 제한 시간을 초과했습니다. branch: {}", branch);
+                        Counter.builder("space.detail.branch.timeout")
+                                .tag("branch", branch)
+                                .register(meterRegistry)
+                                .increment();
+                        return null;
+                    }
+
+                    throw new CompletionException(unwrap(e));
+                });
+    }
+
+    /**
+     * branch에서 발생한 예외를 감싸지 않고 그대로 던진다.
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (unwrap(e) instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw e;
+        }
+    }
+
+    private Timer branchTimer(String branch) {
+        return Timer.builder("space.detail.branch.latency")
+                .tag("branch", branch)
+                .register(meterRegistry);
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+
+}
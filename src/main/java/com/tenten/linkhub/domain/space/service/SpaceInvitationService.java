@@ -1,6 +1,7 @@
 package com.tenten.linkhub.domain.space.service;
 
 import com.tenten.linkhub.domain.notification.repository.NotificationRepository;
+import com.tenten.linkhub.domain.space.handler.dto.SpaceMemberChangeEvent;
 import com.tenten.linkhub.domain.space.model.space.Invitation;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.model.space.SpaceMember;
@@ -14,6 +15,7 @@ import com.tenten.linkhub.global.response.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class SpaceInvitationService {
     private final InvitationRepository invitationRepository;
     private final SpaceRepository spaceRepository;
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long acceptSpaceInvitation(SpaceInvitationAcceptRequest request) {
@@ -35,6 +38,8 @@ public class SpaceInvitationService {
         Space space = invitation.getSpace();
         space.addSpaceMember(new SpaceMember(request.memberId(), invitation.getRole()));
 
+        eventPublisher.publishEvent(new SpaceMemberChangeEvent(space.getId()));
+
         return space.getId();
     }
 
@@ -3,10 +3,13 @@ package com.tenten.linkhub.domain.space.service;
 import com.tenten.linkhub.domain.space.service.dto.space.DeletedSpaceImageNames;
 import com.tenten.linkhub.domain.space.service.dto.space.MemberSpacesFindRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.NewSpacesScrapRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.ScrapProgressGetResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindByQueryRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceCreateRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceUpdateRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceWithSpaceImageAndSpaceMemberInfo;
@@ -19,6 +22,10 @@ public interface SpaceService {
 
     SpacesFindByQueryResponses searchPublicSpacesByQuery(PublicSpacesFindByQueryRequest request);
 
+    SpacesFindWithCursorResponses searchPublicSpacesWithCursor(PublicSpacesSearchWithCursorRequest request);
+
+    SpaceSuggestionResponses suggestSpaces(String prefix, int size);
+
     Long createSpace(SpaceCreateRequest spaceCreateRequest);
 
     SpaceWithSpaceImageAndSpaceMemberInfo getSpaceWithSpaceImageAndSpaceMemberById(Long spaceId, Long memberId);
@@ -43,5 +50,7 @@ public interface SpaceService {
 
     Long createSpaceAndCopyLinks(NewSpacesScrapRequest request);
 
+    ScrapProgressGetResponse getScrapProgress(Long spaceId, Long memberId);
+
     void deleteSpaceMemberByMe(Long spaceId, Long memberId);
 }
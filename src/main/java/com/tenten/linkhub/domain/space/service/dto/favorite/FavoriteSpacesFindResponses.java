@@ -1,27 +1,26 @@
 package com.tenten.linkhub.domain.space.service.dto.favorite;
 
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndOwnerNickName;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import org.springframework.data.domain.Slice;
 
 import java.util.Objects;
 
 public record FavoriteSpacesFindResponses(Slice<FavoriteSpacesFindResponse> responses) {
 
-    public static FavoriteSpacesFindResponses from(Slice<SpaceAndSpaceImageOwnerNickName> response){
+    public static FavoriteSpacesFindResponses from(Slice<SpaceCard> response){
         Slice<FavoriteSpacesFindResponse> mapResponses = response.map(s -> new FavoriteSpacesFindResponse(
-                s.space().getId(),
-                s.space().getSpaceName(),
-                Objects.isNull(s.space().getDescription()) ? "" : s.space().getDescription(),
-                s.space().getCategory(),
-                s.space().getIsVisible(),
-                s.space().getIsComment(),
-                s.space().getIsLinkSummarizable(),
-                s.space().getIsReadMarkEnabled(),
-                s.space().getViewCount(),
-                s.space().getScrapCount(),
-                s.space().getFavoriteCount(),
-                s.spaceImages().isEmpty() ? null : s.spaceImages().get(0).getPath(),
+                s.spaceId(),
+                s.spaceName(),
+                Objects.isNull(s.description()) ? "" : s.description(),
+                s.category(),
+                s.isVisible(),
+                s.isComment(),
+                s.isLinkSummarizable(),
+                s.isReadMarkEnabled(),
+                s.viewCount(),
+                s.scrapCount(),
+                s.favoriteCount(),
+                s.spaceImagePath(),
                 s.ownerNickName()
         ));
 
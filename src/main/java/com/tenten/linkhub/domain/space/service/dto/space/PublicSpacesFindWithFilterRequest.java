@@ -5,6 +5,7 @@ import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 public record PublicSpacesFindWithFilterRequest(
         SpaceCursorPageRequest pageable,
         Long lastFavoriteCount,
-        Long lastSpaceId
+        Long lastSpaceId,
+        Long memberId
 ) {
 }
@@ -0,0 +1,14 @@
+package com.tenten.linkhub.domain.space.service.dto.space;
+
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+
+public record PublicSpacesSearchWithCursorRequest(
+        SpaceCursorPageRequest pageable,
+        String keyWord,
+        Double lastScore,
+        SearchEngineType searchEngine,
+        Long lastFavoriteCount,
+        Long lastSpaceId
+) {
+}
@@ -0,0 +1,25 @@
+package com.tenten.linkhub.domain.space.service.dto.space;
+
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyJob;
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyStatus;
+
+public record ScrapProgressGetResponse(
+        ScrapCopyStatus status,
+        long totalLinkCount,
+        long copiedLinkCount
+) {
+    public static ScrapProgressGetResponse from(ScrapCopyJob scrapCopyJob) {
+        return new ScrapProgressGetResponse(
+                scrapCopyJob.status(),
+                scrapCopyJob.totalLinkCount(),
+                scrapCopyJob.copiedLinkCount()
+        );
+    }
+
+    /**
+     * 복사 작업 없이 요청 안에서 복사를 마친 스페이스.
+     */
+    public static ScrapProgressGetResponse completed(long linkCount) {
+        return new ScrapProgressGetResponse(ScrapCopyStatus.COMPLETED, linkCount, linkCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.tenten.linkhub.domain.space.service.dto.space;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+
+public record SpaceSuggestionResponse(
+        Long spaceId,
+        String spaceName,
+        Category category,
+        Long favoriteCount
+) {
+}
@@ -0,0 +1,21 @@
+package com.tenten.linkhub.domain.space.service.dto.space;
+
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+
+import java.util.List;
+
+public record SpaceSuggestionResponses(
+        List<SpaceSuggestionResponse> suggestions
+) {
+    public static SpaceSuggestionResponses from(List<SpaceSearchDocument> spaceSearchDocuments) {
+        List<SpaceSuggestionResponse> suggestions = spaceSearchDocuments.stream()
+                .map(d -> new SpaceSuggestionResponse(
+                        d.spaceId(),
+                        d.spaceName(),
+                        d.category(),
+                        d.favoriteCount()))
+                .toList();
+
+        return new SpaceSuggestionResponses(suggestions);
+    }
+}
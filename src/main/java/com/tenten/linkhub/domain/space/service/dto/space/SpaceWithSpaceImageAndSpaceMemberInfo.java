@@ -53,4 +53,27 @@ public record SpaceWithSpaceImageAndSpaceMemberInfo(
         );
     }
 
+    public SpaceWithSpaceImageAndSpaceMemberInfo withViewerRelation(Boolean hasFavorite, Boolean hasScrap) {
+        return new SpaceWithSpaceImageAndSpaceMemberInfo(
+                spaceId,
+                spaceName,
+                description,
+                category,
+                isVisible,
+                isComment,
+                isLinkSummarizable,
+                isReadMarkEnabled,
+                viewCount,
+                scrapCount,
+                favoriteCount,
+                spaceImagePath,
+                spaceImageName,
+                isOwner,
+                isCanEdit,
+                hasFavorite,
+                hasScrap,
+                spaceMemberInfos
+        );
+    }
+
 }
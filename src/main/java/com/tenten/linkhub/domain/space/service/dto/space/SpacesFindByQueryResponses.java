@@ -1,26 +1,26 @@
 package com.tenten.linkhub.domain.space.service.dto.space;
 
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 import org.springframework.data.domain.Slice;
 
 import java.util.Objects;
 
 public record SpacesFindByQueryResponses(Slice<SpacesFindByQueryResponse> responses) {
 
-    public static SpacesFindByQueryResponses from(Slice<SpaceAndSpaceImageOwnerNickName> response){
+    public static SpacesFindByQueryResponses from(Slice<SpaceCard> response){
         Slice<SpacesFindByQueryResponse> mapResponses = response.map(s -> new SpacesFindByQueryResponse(
-                s.space().getId(),
-                s.space().getSpaceName(),
-                Objects.isNull(s.space().getDescription()) ? "" : s.space().getDescription(),
-                s.space().getCategory(),
-                s.space().getIsVisible(),
-                s.space().getIsComment(),
-                s.space().getIsLinkSummarizable(),
-                s.space().getIsReadMarkEnabled(),
-                s.space().getViewCount(),
-                s.space().getScrapCount(),
-                s.space().getFavoriteCount(),
-                s.spaceImages().isEmpty() ? null : s.spaceImages().get(0).getPath(),
+                s.spaceId(),
+                s.spaceName(),
+                Objects.isNull(s.description()) ? "" : s.description(),
+                s.category(),
+                s.isVisible(),
+                s.isComment(),
+                s.isLinkSummarizable(),
+                s.isReadMarkEnabled(),
+                s.viewCount(),
+                s.scrapCount(),
+                s.favoriteCount(),
+                s.spaceImagePath(),
                 s.ownerNickName()
         ));
 
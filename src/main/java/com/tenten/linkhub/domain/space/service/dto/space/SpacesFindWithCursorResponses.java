@@ -1,30 +1,53 @@
 package com.tenten.linkhub.domain.space.service.dto.space;
 
 import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
-import com.tenten.linkhub.domain.space.repository.common.dto.SpaceAndSpaceImageOwnerNickName;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
-public record SpacesFindWithCursorResponses(SpaceCursorSlice<SpacesFindByQueryResponse> responses) {
+/**
+ * favoriteSpaceIds는 조회자가 찜한 spaceId 목록이다. 조회자와 무관한 결과(캐시 대상)에서는 비어 있다.
+ */
+public record SpacesFindWithCursorResponses(
+        SpaceCursorSlice<SpacesFindByQueryResponse> responses,
+        Set<Long> favoriteSpaceIds
+) {
 
-    public static SpacesFindWithCursorResponses from(SpaceCursorSlice<SpaceAndSpaceImageOwnerNickName> response){
+    public SpacesFindWithCursorResponses(SpaceCursorSlice<SpacesFindByQueryResponse> responses) {
+        this(responses, Set.of());
+    }
+
+    public static SpacesFindWithCursorResponses from(SpaceCursorSlice<SpaceCard> response){
         SpaceCursorSlice<SpacesFindByQueryResponse> mapResponses = response.map(s -> new SpacesFindByQueryResponse(
-                s.space().getId(),
-                s.space().getSpaceName(),
-                Objects.isNull(s.space().getDescription()) ? "" : s.space().getDescription(),
-                s.space().getCategory(),
-                s.space().getIsVisible(),
-                s.space().getIsComment(),
-                s.space().getIsLinkSummarizable(),
-                s.space().getIsReadMarkEnabled(),
-                s.space().getViewCount(),
-                s.space().getScrapCount(),
-                s.space().getFavoriteCount(),
-                s.spaceImages().isEmpty() ? null : s.spaceImages().get(0).getPath(),
+                s.spaceId(),
+                s.spaceName(),
+                Objects.isNull(s.description()) ? "" : s.description(),
+                s.category(),
+                s.isVisible(),
+                s.isComment(),
+                s.isLinkSummarizable(),
+                s.isReadMarkEnabled(),
+                s.viewCount(),
+                s.scrapCount(),
+                s.favoriteCount(),
+                s.spaceImagePath(),
                 s.ownerNickName()
         ));
 
         return new SpacesFindWithCursorResponses(mapResponses);
     }
 
+    public List<Long> getSpaceIds() {
+        return responses.getContent()
+                .stream()
+                .map(SpacesFindByQueryResponse::spaceId)
+                .toList();
+    }
+
+    public SpacesFindWithCursorResponses withFavoriteSpaceIds(Set<Long> favoriteSpaceIds) {
+        return new SpacesFindWithCursorResponses(responses, favoriteSpaceIds);
+    }
+
 }
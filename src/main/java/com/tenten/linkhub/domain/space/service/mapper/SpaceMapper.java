@@ -1,5 +1,6 @@
 package com.tenten.linkhub.domain.space.service.mapper;
 
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.model.space.Role;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.model.space.SpaceImage;
@@ -8,9 +9,11 @@ import com.tenten.linkhub.domain.space.model.space.dto.SpaceUpdateDto;
 import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.MemberSpacesQueryCondition;
 import com.tenten.linkhub.domain.space.repository.space.dto.QueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
 import com.tenten.linkhub.domain.space.service.dto.space.MemberSpacesFindRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.NewSpacesScrapRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceCreateRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceUpdateRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindByQueryRequest;
@@ -37,6 +40,38 @@ public class SpaceMapper {
         );
     }
 
+    /**
+     * 트렌딩 순위를 쓸 수 없을 때 같은 필터의 최신순 피드를 lastSpaceId 다음부터 조회한다.
+     */
+    public CursorPageQueryCondition toLatestCursorPageQueryCondition(PublicSpacesFindWithFilterRequest request) {
+        SpaceCursorPageRequest pageable = request.pageable();
+
+        return new CursorPageQueryCondition(
+                SpaceCursorPageRequest.of(pageable.pageSize(), "created_at", pageable.filter()),
+                null,
+                request.lastSpaceId()
+        );
+    }
+
+    public CursorPageQueryCondition toCursorPageQueryCondition(PublicSpacesSearchWithCursorRequest request) {
+        return new CursorPageQueryCondition(
+                request.pageable(),
+                request.lastFavoriteCount(),
+                request.lastSpaceId()
+        );
+    }
+
+    public SearchCursorQueryCondition toSearchCursorQueryCondition(PublicSpacesSearchWithCursorRequest request) {
+        return new SearchCursorQueryCondition(
+                request.pageable(),
+                request.keyWord(),
+                request.lastScore(),
+                request.searchEngine(),
+                request.lastFavoriteCount(),
+                request.lastSpaceId()
+        );
+    }
+
     public Space toSpace(SpaceCreateRequest request, SpaceMember spaceMember, SpaceImage spaceImage) {
         return new Space(
                 request.memberId(),
@@ -0,0 +1,229 @@
+package com.tenten.linkhub.domain.space.trending;
+
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import com.tenten.linkhub.domain.space.repository.trending.SpaceTrendingRedisRepository;
+import com.tenten.linkhub.domain.space.repository.trending.dto.SpaceTrendingScore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 조회/즐겨찾기/스크랩을 시간 단위 버킷에 가중치로 쌓고, 주기적으로 최근 windowHours개 버킷을
+ * 지수 감쇠(반감기 halfLifeHours)로 합쳐 전체/카테고리별 트렌딩 순위를 각각 capacity개까지 미리 계산해 둔다.<br>
+ * 피드는 계산된 순위만 읽는다.
+ */
+@Slf4j
+@Component
+public class SpaceTrendingRanker {
+
+    private static final String TRENDING_SORT = "trending";
+
+    private final SpaceTrendingRedisRepository spaceTrendingRedisRepository;
+    private final SpaceRepository spaceRepository;
+    private final boolean enabled;
+    private final int windowHours;
+    private final double hourlyDecay;
+    private final int capacity;
+    private final double viewWeight;
+    private final double favoriteWeight;
+    private final double scrapWeight;
+    private final Duration bucketTtl;
+    private final Timer rebuildTimer;
+
+    public SpaceTrendingRanker(SpaceTrendingRedisRepository spaceTrendingRedisRepository,
+                               SpaceRepository spaceRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${trending.space.enabled:false}") boolean enabled,
+                               @Value("${trending.space.window-hours:48}") int windowHours,
+                               @Value("${trending.space.half-life-hours:12}") double halfLifeHours,
+                               @Value("${trending.space.capacity:1000}") int capacity,
+                               @Value("${trending.space.weight.view:1}") double viewWeight,
+                               @Value("${trending.space.weight.favorite:5}") double favoriteWeight,
+                               @Value("${trending.space.weight.scrap:8}") double scrapWeight) {
+        this.spaceTrendingRedisRepository = spaceTrendingRedisRepository;
+        this.spaceRepository = spaceRepository;
+        this.enabled = enabled;
+        this.windowHours = windowHours;
+        this.hourlyDecay = Math.pow(0.5, 1 / halfLifeHours);
+        this.capacity = capacity;
+        this.viewWeight = viewWeight;
+        this.favoriteWeight = favoriteWeight;
+        this.scrapWeight = scrapWeight;
+        this.bucketTtl = Duration.ofHours(windowHours + 1L);
+        this.rebuildTimer = Timer.builder("space.trending.rebuild.latency")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 비활성화되어 있으면 sort=trending도 기본 정렬로 조회된다.
+     */
+    public boolean isTrendingRequest(Sort sort) {
+        return enabled && Objects.nonNull(sort.getOrderFor(TRENDING_SORT));
+    }
+
+    public void recordView(Long spaceId) {
+        record(spaceId, viewWeight);
+    }
+
+    public void recordFavorite(Long spaceId, long delta) {
+        record(spaceId, favoriteWeight * delta);
+    }
+
+    public void recordScrap(Long spaceId) {
+        record(spaceId, scrapWeight);
+    }
+
+    /**
+     * lastSpaceId 다음 순위부터 size개.<br>
+     * 순위를 읽지 못했거나, 첫 페이지인데 순위가 비어 있거나, lastSpaceId가 순위에서 빠졌으면 빈 Optional을 반환한다.
+     */
+    public Optional<List<SpaceTrendingScore>> findTrendingSpaces(Category category, Long lastSpaceId, int size) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            if (Objects.isNull(lastSpaceId)) {
+                List<SpaceTrendingScore> scores = spaceTrendingRedisRepository.getRanking(category, 0, size - 1L);
+
+                return scores.isEmpty() ? Optional.empty() : Optional.of(scores);
+            }
+
+            Long rank = spaceTrendingRedisRepository.getRank(category, lastSpaceId);
+
+            if (Objects.isNull(rank)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(spaceTrendingRedisRepository.getRanking(category, rank + 1, rank + size));
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 순위를 조회하지 못했습니다. category: {}", category, e);
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.space.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            rebuildTimer.record(this::rebuildRankings);
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 순위를 다시 계산하지 못했습니다.", e);
+        }
+    }
+
+    private void rebuildRankings() {
+        long currentHour = currentEpochHour();
+        List<Long> epochHours = new ArrayList<>();
+        double[] weights = new double[windowHours];
+
+        for (int age = 0; age < windowHours; age++) {
+            epochHours.add(currentHour - age);
+            weights[age] = Math.pow(hourlyDecay, age);
+        }
+
+        List<SpaceTrendingScore> allScores = new ArrayList<>();
+        Map<Category, List<SpaceTrendingScore>> categoryScores = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            categoryScores.put(category, new ArrayList<>());
+        }
+
+        spaceTrendingRedisRepository.mergeBuckets(epochHours, weights);
+        try {
+            // 카테고리 순위도 capacity개까지 채워지도록 전체 상위 capacity개에서 멈추지 않고 이어서 읽는다.
+            long start = 0;
+            boolean hasMore = true;
+
+            while (hasMore && !isFull(allScores, categoryScores)) {
+                List<SpaceTrendingScore> mergedScores = spaceTrendingRedisRepository.getMergedScores(start, start + capacity - 1L);
+                List<SpaceTrendingScore> positiveScores = mergedScores.stream()
+                        .filter(score -> score.score() > 0)
+                        .toList();
+
+                distribute(positiveScores, allScores, categoryScores);
+
+                hasMore = mergedScores.size() == capacity && positiveScores.size() == capacity;
+                start += capacity;
+            }
+        } finally {
+            spaceTrendingRedisRepository.deleteMergedScores();
+        }
+
+        spaceTrendingRedisRepository.replaceRanking(null, allScores);
+        categoryScores.forEach(spaceTrendingRedisRepository::replaceRanking);
+    }
+
+    private void distribute(List<SpaceTrendingScore> scores,
+                            List<SpaceTrendingScore> allScores,
+                            Map<Category, List<SpaceTrendingScore>> categoryScores) {
+        // 비공개로 바뀌었거나 삭제된 스페이스는 순위에서 뺀다.
+        Map<Long, SpaceSearchDocument> documents = spaceRepository.findSearchDocumentsByIds(scores.stream()
+                        .map(SpaceTrendingScore::spaceId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(SpaceSearchDocument::spaceId, Function.identity()));
+
+        for (SpaceTrendingScore score : scores) {
+            SpaceSearchDocument document = documents.get(score.spaceId());
+
+            if (Objects.isNull(document)) {
+                continue;
+            }
+
+            if (allScores.size() < capacity) {
+                allScores.add(score);
+            }
+
+            if (Objects.nonNull(document.category()) && categoryScores.get(document.category()).size() < capacity) {
+                categoryScores.get(document.category()).add(score);
+            }
+        }
+    }
+
+    private boolean isFull(List<SpaceTrendingScore> allScores, Map<Category, List<SpaceTrendingScore>> categoryScores) {
+        return allScores.size() >= capacity
+                && categoryScores.values().stream().allMatch(scores -> scores.size() >= capacity);
+    }
+
+    private void record(Long spaceId, double delta) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            spaceTrendingRedisRepository.incrementScore(currentEpochHour(), spaceId, delta, bucketTtl);
+        } catch (DataAccessException e) {
+            log.warn("트렌딩 점수를 반영하지 못했습니다. spaceId: {}", spaceId, e);
+        }
+    }
+
+    private long currentEpochHour() {
+        return Instant.now().getEpochSecond() / Duration.ofHours(1).toSeconds();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.tenten.linkhub.domain.space.version;
+
+import com.tenten.linkhub.domain.space.repository.version.SpaceVersionRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 스페이스 상세/링크/태그/댓글 조회용 ETag를 스페이스 버전에서 만든다.<br>
+ * 버전은 커밋이 끝난 뒤에 올리므로, 조회 중에 버전을 먼저 읽으면 옛 데이터에 새 버전이 붙지 않는다.
+ * 키가 사라지면 현재 시각으로 다시 시작해 예전 버전과 겹치지 않는다.
+ */
+@Slf4j
+@Component
+public class SpaceVersionTracker {
+
+    private static final String ANONYMOUS_VIEWER = "anonymous";
+
+    private final SpaceVersionRedisRepository spaceVersionRedisRepository;
+    private final boolean enabled;
+    private final Duration versionTtl;
+
+    public SpaceVersionTracker(SpaceVersionRedisRepository spaceVersionRedisRepository,
+                               @Value("${etag.space.enabled:false}") boolean enabled,
+                               @Value("${etag.space.version-ttl-hours:24}") long versionTtlHours) {
+        this.spaceVersionRedisRepository = spaceVersionRedisRepository;
+        this.enabled = enabled;
+        this.versionTtl = Duration.ofHours(versionTtlHours);
+    }
+
+    /**
+     * 좋아요/즐겨찾기/권한 같은 응답 필드가 조회자마다 다르므로 memberId도 ETag에 넣는다.
+     * 버전을 읽지 못하면 null을 반환하고 조건부 조회를 하지 않는다.
+     */
+    public String getETag(Long spaceId, Long memberId) {
+        if (!enabled) {
+            return null;
+        }
+
+        try {
+            List<Long> versions = spaceVersionRedisRepository.getVersions(spaceId, System.currentTimeMillis(), versionTtl);
+            String viewer = Objects.isNull(memberId) ? ANONYMOUS_VIEWER : String.valueOf(memberId);
+
+            return "\"" + hash(spaceId + ":" + versions.get(0) + ":" + versions.get(1) + ":" + viewer) + "\"";
+        } catch (DataAccessException e) {
+            log.warn("스페이스 버전을 조회하지 못했습니다. spaceId: {}", spaceId, e);
+            return null;
+        }
+    }
+
+    public void increaseVersion(Long spaceId) {
+        if (!enabled || Objects.isNull(spaceId)) {
+            return;
+        }
+
+        afterCommit(() -> spaceVersionRedisRepository.increaseSpaceVersion(spaceId, System.currentTimeMillis(), versionTtl));
+    }
+
+    /**
+     * 닉네임/프로필 이미지는 여러 스페이스의 멤버 목록과 댓글에 보이므로 모든 스페이스의 ETag를 바꾼다.
+     */
+    public void increaseMemberProfileVersion() {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> spaceVersionRedisRepository.increaseMemberProfileVersion(System.currentTimeMillis(), versionTtl));
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(task);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(task);
+            }
+        });
+    }
+
+    private void runQuietly(Runnable task) {
+        try {
+            task.run();
+        } catch (DataAccessException e) {
+            log.warn("스페이스 버전을 올리지 못했습니다.", e);
+        }
+    }
+
+    private String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.tenten.linkhub.domain.viewer;
+
+/**
+ * 조회자와 대상 사이의 관계. 대상 id는 관계에 따라 spaceId, linkId, memberId이다.
+ */
+public enum ViewerRelation {
+    FAVORITE,
+    SCRAP,
+    LIKE,
+    FOLLOWING
+}
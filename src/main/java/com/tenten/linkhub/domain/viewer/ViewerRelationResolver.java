@@ -0,0 +1,125 @@
+package com.tenten.linkhub.domain.viewer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tenten.linkhub.domain.viewer.repository.ViewerRelationQueryDslRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 목록 응답에 필요한 조회자 기준 관계(찜/스크랩/좋아요/팔로잉)를 대상 목록 단위로 한 번에 조회한다.<br>
+ * (선택) 조회자별 결과를 짧은 TTL로 캐시한다. 조회자 본인의 변경은 커밋 이후 invalidateAfterCommit으로 지운다.
+ */
+@Component
+public class ViewerRelationResolver {
+
+    private final ViewerRelationQueryDslRepository viewerRelationQueryDslRepository;
+    private final Cache<ViewerRelationCacheKey, Boolean> cache;
+    private final boolean cacheEnabled;
+
+    public ViewerRelationResolver(ViewerRelationQueryDslRepository viewerRelationQueryDslRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${cache.viewer-relation.enabled:false}") boolean cacheEnabled,
+                                  @Value("${cache.viewer-relation.max-size:100000}") long maxSize,
+                                  @Value("${cache.viewer-relation.ttl-seconds:5}") long ttlSeconds) {
+        this.viewerRelationQueryDslRepository = viewerRelationQueryDslRepository;
+        this.cacheEnabled = cacheEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "viewerRelation");
+    }
+
+    /**
+     * targetIds 중 viewerId와 relation 관계가 있는 id를 반환한다. 비로그인 조회자는 빈 Set이다.
+     */
+    public Set<Long> resolve(ViewerRelation relation, Long viewerId, List<Long> targetIds) {
+        if (Objects.isNull(viewerId) || targetIds.isEmpty()) {
+            return Set.of();
+        }
+
+        if (!cacheEnabled) {
+            return new HashSet<>(find(relation, viewerId, targetIds));
+        }
+
+        Set<Long> related = new HashSet<>();
+        List<Long> missedTargetIds = new ArrayList<>();
+
+        for (Long targetId : targetIds) {
+            Boolean cached = cache.getIfPresent(new ViewerRelationCacheKey(relation, viewerId, targetId));
+
+            if (Objects.isNull(cached)) {
+                missedTargetIds.add(targetId);
+            } else if (cached) {
+                related.add(targetId);
+            }
+        }
+
+        if (missedTargetIds.isEmpty()) {
+            return related;
+        }
+
+        Set<Long> found = new HashSet<>(find(relation, viewerId, missedTargetIds));
+
+        for (Long targetId : missedTargetIds) {
+            cache.put(new ViewerRelationCacheKey(relation, viewerId, targetId), found.contains(targetId));
+        }
+        related.addAll(found);
+
+        return related;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화하고, 롤백되면 무효화하지 않는다.
+     */
+    public void invalidateAfterCommit(ViewerRelation relation, Long viewerId, Long targetId) {
+        if (!cacheEnabled) {
+            return;
+        }
+
+        ViewerRelationCacheKey key = new ViewerRelationCacheKey(relation, viewerId, targetId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+            return;
+        }
+
+        cache.invalidate(key);
+    }
+
+    private List<Long> find(ViewerRelation relation, Long viewerId, List<Long> targetIds) {
+        return switch (relation) {
+            case FAVORITE -> viewerRelationQueryDslRepository.findFavoriteSpaceIds(viewerId, targetIds);
+            case SCRAP -> viewerRelationQueryDslRepository.findScrappedSpaceIds(viewerId, targetIds);
+            case LIKE -> viewerRelationQueryDslRepository.findLikedLinkIds(viewerId, targetIds);
+            case FOLLOWING -> viewerRelationQueryDslRepository.findFollowingMemberIds(viewerId, targetIds);
+        };
+    }
+
+    private record ViewerRelationCacheKey(
+            ViewerRelation relation,
+            Long viewerId,
+            Long targetId
+    ) {
+    }
+
+}
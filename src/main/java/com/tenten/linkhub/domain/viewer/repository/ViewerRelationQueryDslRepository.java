@@ -0,0 +1,59 @@
+package com.tenten.linkhub.domain.viewer.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.tenten.linkhub.domain.link.model.QLike.like;
+import static com.tenten.linkhub.domain.member.model.QFollow.follow;
+import static com.tenten.linkhub.domain.space.model.space.QFavorite.favorite;
+import static com.tenten.linkhub.domain.space.model.space.QScrap.scrap;
+
+/**
+ * 조회자 한 명과 대상 목록 사이의 관계를 관계 종류마다 한 번의 IN 쿼리로 조회한다. 관계가 있는 대상 id만 반환한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ViewerRelationQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<Long> findFavoriteSpaceIds(Long memberId, List<Long> spaceIds) {
+        return queryFactory
+                .select(favorite.space.id)
+                .from(favorite)
+                .where(favorite.memberId.eq(memberId),
+                        favorite.space.id.in(spaceIds))
+                .fetch();
+    }
+
+    public List<Long> findScrappedSpaceIds(Long memberId, List<Long> spaceIds) {
+        return queryFactory
+                .select(scrap.sourceSpaceId)
+                .from(scrap)
+                .where(scrap.memberId.eq(memberId),
+                        scrap.sourceSpaceId.in(spaceIds))
+                .fetch();
+    }
+
+    public List<Long> findLikedLinkIds(Long memberId, List<Long> linkIds) {
+        return queryFactory
+                .select(like.link.id)
+                .from(like)
+                .where(like.memberId.eq(memberId),
+                        like.link.id.in(linkIds))
+                .fetch();
+    }
+
+    public List<Long> findFollowingMemberIds(Long memberId, List<Long> targetMemberIds) {
+        return queryFactory
+                .select(follow.follower.id)
+                .from(follow)
+                .where(follow.following.id.eq(memberId),
+                        follow.follower.id.in(targetMemberIds))
+                .fetch();
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.tenten.linkhub.global;
+
+import com.tenten.linkhub.domain.auth.MemberDetails;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * /spaces/{spaceId}로 시작하는 조회는 스페이스 버전으로 만든 ETag가 If-None-Match와 같으면 컨트롤러를 거치지 않고 304로 응답한다.<br>
+ * 버전은 응답이 나가기 전에 변경 경로(서비스/이벤트 핸들러)에서 커밋 직후 올린다.
+ */
+@Component
+public class SpaceConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String SPACE_ID_VARIABLE = "spaceId";
+
+    private final SpaceVersionTracker spaceVersionTracker;
+    private final MeterRegistry meterRegistry;
+
+    public SpaceConditionalGetInterceptor(SpaceVersionTracker spaceVersionTracker, MeterRegistry meterRegistry) {
+        this.spaceVersionTracker = spaceVersionTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Long spaceId = extractSpaceId(request);
+
+        if (Objects.isNull(spaceId) || !isRead(request)) {
+            return true;
+        }
+
+        String eTag = spaceVersionTracker.getETag(spaceId, currentMemberId());
+
+        if (Objects.isNull(eTag)) {
+            return true;
+        }
+
+        boolean notModified = new ServletWebRequest(request, response).checkNotModified(eTag);
+        conditionalGetCounter(request, notModified).increment();
+
+        return !notModified;
+    }
+
+    private boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long extractSpaceId(HttpServletRequest request) {
+        Map<String, String> uriVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+
+        if (Objects.isNull(uriVariables) || !uriVariables.containsKey(SPACE_ID_VARIABLE)) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(uriVariables.get(SPACE_ID_VARIABLE));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private Long currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (Objects.nonNull(authentication) && authentication.getPrincipal() instanceof MemberDetails memberDetails) {
+            return memberDetails.memberId();
+        }
+
+        return null;
+    }
+
+    private Counter conditionalGetCounter(HttpServletRequest request, boolean notModified) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return Counter.builder("http.conditional.get")
+                .tag("uri", Objects.isNull(pattern) ? "UNKNOWN" : pattern.toString())
+                .tag("result", notModified ? "not_modified" : "modified")
+                .register(meterRegistry);
+    }
+
+}
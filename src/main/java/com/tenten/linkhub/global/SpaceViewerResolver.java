@@ -0,0 +1,59 @@
+package com.tenten.linkhub.global;
+
+import com.tenten.linkhub.domain.space.controller.annotation.SpaceViewer;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.util.WebUtils;
+
+import java.util.UUID;
+
+@Component
+public class SpaceViewerResolver implements HandlerMethodArgumentResolver {
+
+    private static final String SPACE_VIEWER_COOKIE = "spaceViewer";
+    private static final int COOKIE_EXPIRE_TIME = 60 * 60 * 24 * 365;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        boolean hasParameterAnnotation = parameter.hasParameterAnnotation(SpaceViewer.class);
+        boolean equals = parameter.getParameterType().equals(String.class);
+        return hasParameterAnnotation && equals;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        Cookie spaceViewerCookie = WebUtils.getCookie(webRequest.getNativeRequest(HttpServletRequest.class), SPACE_VIEWER_COOKIE);
+
+        if (spaceViewerCookie != null && isValidViewerId(spaceViewerCookie.getValue())) {
+            return spaceViewerCookie.getValue();
+        }
+
+        String viewerId = UUID.randomUUID().toString();
+
+        Cookie newSpaceViewerCookie = new Cookie(SPACE_VIEWER_COOKIE, viewerId);
+        newSpaceViewerCookie.setPath("/spaces");
+        newSpaceViewerCookie.setMaxAge(COOKIE_EXPIRE_TIME);
+        newSpaceViewerCookie.setHttpOnly(true);
+
+        webRequest.getNativeResponse(HttpServletResponse.class)
+                .addCookie(newSpaceViewerCookie);
+
+        return viewerId;
+    }
+
+    private boolean isValidViewerId(String viewerId) {
+        try {
+            return UUID.fromString(viewerId).toString().equals(viewerId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+}
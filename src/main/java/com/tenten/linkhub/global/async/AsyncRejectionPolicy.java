@@ -0,0 +1,22 @@
+package com.tenten.linkhub.global.async;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 큐가 가득 찼을 때의 처리 방식.<br>
+ * CALLER_RUNS는 호출 스레드에서 실행해 유입 속도를 늦추고, DROP_OLDEST는 가장 오래 기다린 작업을 버린다.
+ */
+public enum AsyncRejectionPolicy {
+
+    CALLER_RUNS,
+    DROP_OLDEST;
+
+    public RejectedExecutionHandler toHandler() {
+        return switch (this) {
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DROP_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.tenten.linkhub.global.async;
+
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * I/O 대기가 대부분인 작업을 가상 스레드에서 실행한다.<br>
+ * 동시에 실행되는 작업 수는 maxConcurrency로 제한하고, 넘치면 호출 스레드에서 실행한다.
+ * 빌드 대상이 Java 17이라 가상 스레드 실행기는 리플렉션으로 만들며, 런타임이 지원하지 않으면 사용할 수 없다.
+ */
+public class VirtualThreadTaskExecutor implements TaskExecutor {
+
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Runnable onRejected;
+
+    private VirtualThreadTaskExecutor(ExecutorService executorService, int maxConcurrency, Runnable onRejected) {
+        this.executorService = executorService;
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.onRejected = onRejected;
+    }
+
+    public static boolean isSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public static VirtualThreadTaskExecutor create(int maxConcurrency, Runnable onRejected) {
+        try {
+            ExecutorService executorService = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+
+            return new VirtualThreadTaskExecutor(executorService, maxConcurrency, onRejected);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드를 지원하지 않는 런타임입니다.", e);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            onRejected.run();
+            task.run();
+            return;
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+}
@@ -1,31 +1,179 @@
 package com.tenten.linkhub.global.config;
 
+import com.tenten.linkhub.global.async.AsyncRejectionPolicy;
+import com.tenten.linkhub.global.async.VirtualThreadTaskExecutor;
 import com.tenten.linkhub.global.exception.CustomAsyncExceptionHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 작업 성격별로 실행기를 나눈다. 실행기마다 풀 크기, 큐 길이, 큐가 찼을 때의 처리 방식이 다르다.<br>
+ * 실행기별로 큐 길이/활성 스레드 수(executor.*), 거절 횟수(async.task.rejected),
+ * 큐 대기 시간(async.task.wait)과 실행 시간(async.task.execution)을 기록한다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreadsEnabled;
+
+    public AsyncConfig(MeterRegistry meterRegistry,
+                       @Value("${async.virtual-threads.enabled:false}") boolean virtualThreadsEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+    }
+
+    /**
+     * 실행기를 지정하지 않은 @Async 작업(인덱스 초기화 등)에 사용한다.
+     * 빈으로 등록해 컨테이너가 종료 시 남은 작업을 기다리고 풀을 닫게 한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor taskExecutor() {
+        return threadPoolTaskExecutor("taskExecutor", 8, 500, AsyncRejectionPolicy.CALLER_RUNS);
+    }
+
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(8);
-        executor.setMaxPoolSize(8);
-        executor.setQueueCapacity(500);
-        executor.setThreadNamePrefix("linkhub-async");
-        executor.initialize();
-        return executor;
+        return taskExecutor();
+    }
+
+    /**
+     * 스페이스 상세 조회의 독립적인 조회를 동시에 실행하는 전용 풀. 풀이 가득 차면 호출 스레드에서 실행한다.
+     */
+    @Bean
+    public Executor spaceDetailExecutor() {
+        return threadPoolTaskExecutor("spaceDetailExecutor", 16, 200, AsyncRejectionPolicy.CALLER_RUNS);
+    }
+
+    /**
+     * 조회수 같은 가벼운 카운터 반영. 유실되면 안 되므로 큐가 차면 호출 스레드에서 실행한다.
+     */
+    @Bean
+    public Executor counterExecutor() {
+        return threadPoolTaskExecutor("counterExecutor", 2, 1000, AsyncRejectionPolicy.CALLER_RUNS);
+    }
+
+    /**
+     * space_cards, 검색 인덱스 같은 읽기 모델 반영.
+     * 인덱스는 시작할 때만, space_cards는 수동으로만 재구축하므로 버리면 재시작 전까지 복구되지 않는다. 큐가 차면 호출 스레드에서 실행한다.
+     */
+    @Bean
+    public Executor projectionExecutor() {
+        return threadPoolTaskExecutor("projectionExecutor", 4, 1000, AsyncRejectionPolicy.CALLER_RUNS);
+    }
+
+    /**
+     * 링크 열람 기록 저장. I/O 대기가 대부분이라 설정하면 가상 스레드에서 실행한다.
+     */
+    @Bean
+    public Executor linkViewHistoryExecutor() {
+        if (virtualThreadsEnabled) {
+            if (VirtualThreadTaskExecutor.isSupported()) {
+                return virtualThreadTaskExecutor("linkViewHistoryExecutor", 64);
+            }
+
+            log.warn("가상 스레드를 지원하지 않는 런타임이라 linkViewHistoryExecutor를 스레드 풀로 생성합니다.");
+        }
+
+        return threadPoolTaskExecutor("linkViewHistoryExecutor", 4, 500, AsyncRejectionPolicy.CALLER_RUNS);
     }
 
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new CustomAsyncExceptionHandler();
     }
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor(String name, int poolSize, int queueCapacity, AsyncRejectionPolicy rejectionPolicy) {
+        Counter rejectedCounter = rejectedCounter(name, rejectionPolicy.name());
+        RejectedExecutionHandler rejectionHandler = rejectionPolicy.toHandler();
+
+        // 초기화는 빈 생명주기(afterPropertiesSet)에 맡기고, 풀이 만들어질 때 한 번만 지표를 연결한다.
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+                ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+                new ExecutorServiceMetrics(getThreadPoolExecutor(), name, Tags.empty())
+                        .bindTo(meterRegistry);
+
+                return executorService;
+            }
+        };
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setTaskDecorator(timingTaskDecorator(name));
+        executor.setRejectedExecutionHandler((task, threadPoolExecutor) -> {
+            rejectedCounter.increment();
+            rejectionHandler.rejectedExecution(task, threadPoolExecutor);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        return executor;
+    }
+
+    private Executor virtualThreadTaskExecutor(String name, int maxConcurrency) {
+        Counter rejectedCounter = rejectedCounter(name, AsyncRejectionPolicy.CALLER_RUNS.name());
+        TaskDecorator taskDecorator = timingTaskDecorator(name);
+        VirtualThreadTaskExecutor executor = VirtualThreadTaskExecutor.create(maxConcurrency, rejectedCounter::increment);
+
+        Gauge.builder("executor.active", executor, VirtualThreadTaskExecutor::getActiveCount)
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return task -> executor.execute(taskDecorator.decorate(task));
+    }
+
+    private Counter rejectedCounter(String name, String policy) {
+        return Counter.builder("async.task.rejected")
+                .tag("executor", name)
+                .tag("policy", policy)
+                .register(meterRegistry);
+    }
+
+    private TaskDecorator timingTaskDecorator(String name) {
+        Timer waitTimer = Timer.builder("async.task.wait")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Timer executionTimer = Timer.builder("async.task.execution")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        return task -> {
+            long submittedAt = System.nanoTime();
+
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+
 }
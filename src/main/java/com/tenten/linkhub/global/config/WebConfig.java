@@ -1,9 +1,11 @@
 package com.tenten.linkhub.global.config;
 
-import com.tenten.linkhub.global.SpaceViewListResolver;
+import com.tenten.linkhub.global.SpaceConditionalGetInterceptor;
+import com.tenten.linkhub.global.SpaceViewerResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -12,9 +14,17 @@ import java.util.List;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final SpaceConditionalGetInterceptor spaceConditionalGetInterceptor;
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.add(new SpaceViewListResolver());
+        resolvers.add(new SpaceViewerResolver());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(spaceConditionalGetInterceptor)
+                .addPathPatterns("/spaces/**");
     }
 
 }
@@ -0,0 +1,28 @@
+package com.tenten.linkhub.global.outbox;
+
+/**
+ * relay가 이벤트를 전달하는 동안 현재 스레드에 outbox 이벤트 id를 둔다.<br>
+ * at-least-once로 다시 전달될 수 있으므로 핸들러는 이 id로 중복 처리를 거른다.
+ * outbox를 거치지 않고 바로 발행된 이벤트에서는 null이다.
+ */
+public final class OutboxEventContext {
+
+    private static final ThreadLocal<Long> CURRENT_EVENT_ID = new ThreadLocal<>();
+
+    private OutboxEventContext() {
+    }
+
+    public static Long currentEventId() {
+        return CURRENT_EVENT_ID.get();
+    }
+
+    static void run(Long eventId, Runnable runnable) {
+        CURRENT_EVENT_ID.set(eventId);
+        try {
+            runnable.run();
+        } finally {
+            CURRENT_EVENT_ID.remove();
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.tenten.linkhub.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * outbox로 전달된 이벤트를 핸들러(consumer)마다 한 번만 처리하도록 processed_events에 기록한다.<br>
+ * 핸들러의 트랜잭션 안에서 호출해야 처리 결과와 기록이 함께 커밋되고, 롤백되면 다시 전달됐을 때 처리된다.
+ * outbox를 거치지 않고 바로 발행된 이벤트는 항상 처리한다. 보존 기간이 지난 기록은 주기적으로 지운다.
+ */
+@Slf4j
+@Component
+public class OutboxEventDeduplicator {
+
+    private final ProcessedEventJdbcRepository processedEventJdbcRepository;
+    private final Duration retention;
+    private final int purgeBatchSize;
+    private final Counter duplicateCounter;
+
+    public OutboxEventDeduplicator(ProcessedEventJdbcRepository processedEventJdbcRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${outbox.processed-events.retention-hours:168}") long retentionHours,
+                                   @Value("${outbox.processed-events.purge-batch-size:1000}") int purgeBatchSize) {
+        this.processedEventJdbcRepository = processedEventJdbcRepository;
+        this.retention = Duration.ofHours(retentionHours);
+        this.purgeBatchSize = purgeBatchSize;
+        this.duplicateCounter = Counter.builder("outbox.duplicate.skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 전달 중인 이벤트를 consumer가 처음 처리하면 true를 반환한다.
+     */
+    public boolean isFirstDelivery(String consumer) {
+        Long eventId = OutboxEventContext.currentEventId();
+
+        if (Objects.isNull(eventId)) {
+            return true;
+        }
+
+        if (processedEventJdbcRepository.saveIfAbsent(eventId, consumer, Instant.now())) {
+            return true;
+        }
+
+        log.info("이미 처리한 outbox 이벤트입니다. eventId: {}, consumer: {}", eventId, consumer);
+        duplicateCounter.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.processed-events.purge-interval-millis:3600000}")
+    public void purge() {
+        Instant processedBefore = Instant.now().minus(retention);
+
+        try {
+            int deleted;
+
+            do {
+                deleted = processedEventJdbcRepository.deleteProcessedBefore(processedBefore, purgeBatchSize);
+            } while (deleted == purgeBatchSize);
+        } catch (DataAccessException e) {
+            log.warn("처리한 outbox 이벤트 기록을 지우지 못했습니다.", e);
+        }
+    }
+
+}
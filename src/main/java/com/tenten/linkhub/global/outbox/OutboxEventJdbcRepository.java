@@ -0,0 +1,103 @@
+package com.tenten.linkhub.global.outbox;
+
+import com.tenten.linkhub.global.outbox.dto.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class OutboxEventJdbcRepository {
+
+    private static final String PENDING = "PENDING";
+    private static final String FAILED = "FAILED";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(String eventType, String payload, Instant now) {
+        jdbcTemplate.update(
+                "INSERT INTO outbox_events (event_type, payload, status, attempt_count, next_attempt_at, created_at) " +
+                        "VALUES (?, ?, ?, 0, ?, ?)",
+                eventType, payload, PENDING, Timestamp.from(now), Timestamp.from(now));
+    }
+
+    /**
+     * 처리할 차례가 된 이벤트를 SKIP LOCKED로 잠그고 lease 만료 시각까지 다음 시도를 미룬다.<br>
+     * 트랜잭션 안에서 호출해야 하며, 처리 중에 서버가 내려가면 lease가 지난 뒤 다시 선점된다.
+     */
+    public List<OutboxEvent> claim(int batchSize, Instant now, Instant leaseUntil) {
+        List<OutboxEvent> outboxEvents = jdbcTemplate.query(
+                "SELECT id, event_type, payload, attempt_count FROM outbox_events " +
+                        "WHERE status = ? AND next_attempt_at <= ? " +
+                        "ORDER BY next_attempt_at, id " +
+                        "LIMIT ? FOR UPDATE SKIP LOCKED",
+                (rs, rowNum) -> new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getString("payload"),
+                        rs.getInt("attempt_count") + 1),
+                PENDING, Timestamp.from(now), batchSize);
+
+        if (outboxEvents.isEmpty()) {
+            return outboxEvents;
+        }
+
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.from(leaseUntil));
+        outboxEvents.forEach(outboxEvent -> params.add(outboxEvent.id()));
+
+        jdbcTemplate.update(
+                "UPDATE outbox_events SET attempt_count = attempt_count + 1, next_attempt_at = ? " +
+                        "WHERE id IN (" + placeholders(outboxEvents.size()) + ")",
+                params.toArray());
+
+        return outboxEvents;
+    }
+
+    public void deleteByIds(List<Long> ids) {
+        jdbcTemplate.update(
+                "DELETE FROM outbox_events WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+    }
+
+    public void reschedule(Long id, Instant nextAttemptAt, String lastError) {
+        jdbcTemplate.update(
+                "UPDATE outbox_events SET next_attempt_at = ?, last_error = ? WHERE id = ?",
+                Timestamp.from(nextAttemptAt), truncate(lastError), id);
+    }
+
+    public void markFailed(Long id, String lastError) {
+        jdbcTemplate.update(
+                "UPDATE outbox_events SET status = ?, last_error = ? WHERE id = ?",
+                FAILED, truncate(lastError), id);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM outbox_events WHERE status = ?",
+                Long.class,
+                PENDING);
+
+        return count == null ? 0L : count;
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private String truncate(String lastError) {
+        if (lastError == null || lastError.length() <= MAX_ERROR_LENGTH) {
+            return lastError;
+        }
+
+        return lastError.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tenten.linkhub.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.concurrent.Executor;
+
+/**
+ * 유실되면 안 되는 도메인 이벤트를 현재 트랜잭션 안에서 outbox_events에 기록한다.<br>
+ * 기록된 이벤트는 {@link OutboxEventRelay}가 커밋 이후에 기존 핸들러로 전달한다.
+ * outbox가 꺼져 있으면 커밋 이후에 counterExecutor에서 이벤트를 발행해, 핸들러가 요청 스레드를 붙잡지 않게 한다.
+ */
+@Component
+public class OutboxEventPublisher {
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final boolean enabled;
+    private final Counter publishedCounter;
+
+    public OutboxEventPublisher(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                ObjectMapper objectMapper,
+                                @Qualifier("counterExecutor") Executor executor,
+                                MeterRegistry meterRegistry,
+                                @Value("${outbox.enabled:false}") boolean enabled) {
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.publishedCounter = Counter.builder("outbox.published")
+                .register(meterRegistry);
+    }
+
+    public void publish(Object event) {
+        if (!enabled) {
+            publishAfterCommit(event);
+            return;
+        }
+
+        try {
+            outboxEventJdbcRepository.save(
+                    event.getClass().getName(),
+                    objectMapper.writeValueAsString(event),
+                    Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox에 기록할 수 없는 이벤트입니다. eventType: " + event.getClass().getName(), e);
+        }
+
+        publishedCounter.increment();
+    }
+
+    private void publishAfterCommit(Object event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(() -> eventPublisher.publishEvent(event));
+                }
+            });
+            return;
+        }
+
+        executor.execute(() -> eventPublisher.publishEvent(event));
+    }
+
+}
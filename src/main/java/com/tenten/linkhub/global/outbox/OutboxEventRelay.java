@@ -0,0 +1,227 @@
+package com.tenten.linkhub.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenten.linkhub.global.outbox.dto.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_events를 묶음 단위로 선점해 기존 이벤트 핸들러로 전달한다.<br>
+ * 핸들러는 이 스레드에서 동기로 실행되며, 실패하면 spring-retry로 짧게 재시도한 뒤
+ * 지수 백오프로 다음 시도를 미룬다. 최대 시도 횟수를 넘으면 FAILED로 남긴다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있다(at-least-once).
+ */
+@Slf4j
+@Component
+public class OutboxEventRelay {
+
+    private static final String EVENT_PACKAGE_PREFIX = "com.tenten.linkhub.";
+
+    private final OutboxEventJdbcRepository outboxEventJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate retryTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration backlogRefreshInterval;
+    private final AtomicLong backlog = new AtomicLong();
+    private volatile Instant backlogRefreshedAt = Instant.EPOCH;
+    private final Counter successCounter;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+    private final Timer dispatchTimer;
+
+    public OutboxEventRelay(OutboxEventJdbcRepository outboxEventJdbcRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.enabled:false}") boolean enabled,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.lease-seconds:60}") long leaseSeconds,
+                            @Value("${outbox.backoff.initial-millis:1000}") long initialBackoffMillis,
+                            @Value("${outbox.backoff.max-millis:300000}") long maxBackoffMillis,
+                            @Value("${outbox.backlog-refresh-millis:10000}") long backlogRefreshMillis,
+                            @Value("${outbox.retry.max-attempts:3}") int retryMaxAttempts,
+                            @Value("${outbox.retry.initial-interval-millis:100}") long retryInitialIntervalMillis) {
+        this.outboxEventJdbcRepository = outboxEventJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.backlogRefreshInterval = Duration.ofMillis(backlogRefreshMillis);
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(retryMaxAttempts)
+                .exponentialBackoff(retryInitialIntervalMillis, 2, retryInitialIntervalMillis * 10)
+                .retryOn(RuntimeException.class)
+                .build();
+
+        this.successCounter = Counter.builder("outbox.dispatched")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("outbox.dispatched")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("outbox.dispatched")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.dispatchTimer = Timer.builder("outbox.dispatch.latency")
+                .register(meterRegistry);
+
+        Gauge.builder("outbox.backlog", backlog, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-millis:500}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+
+        List<OutboxEvent> outboxEvents;
+        try {
+            Instant now = Instant.now();
+            outboxEvents = transactionTemplate.execute(status ->
+                    outboxEventJdbcRepository.claim(batchSize, now, now.plus(lease)));
+            refreshBacklog(now);
+        } catch (DataAccessException e) {
+            log.warn("outbox 이벤트를 선점하지 못했습니다.", e);
+            return;
+        }
+
+        if (outboxEvents == null || outboxEvents.isEmpty()) {
+            return;
+        }
+
+        List<Long> dispatchedIds = new ArrayList<>();
+
+        for (OutboxEvent outboxEvent : outboxEvents) {
+            if (dispatch(outboxEvent)) {
+                dispatchedIds.add(outboxEvent.id());
+            }
+        }
+
+        if (!dispatchedIds.isEmpty()) {
+            // 삭제하지 못해도 lease가 지난 뒤 다시 전달될 뿐이다.
+            try {
+                outboxEventJdbcRepository.deleteByIds(dispatchedIds);
+            } catch (DataAccessException e) {
+                log.warn("전달한 outbox 이벤트를 삭제하지 못했습니다. size: {}", dispatchedIds.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 이벤트 수는 backlog-refresh-millis마다 한 번만 센다.
+     */
+    private void refreshBacklog(Instant now) {
+        if (now.isBefore(backlogRefreshedAt.plus(backlogRefreshInterval))) {
+            return;
+        }
+
+        backlog.set(outboxEventJdbcRepository.countPending());
+        backlogRefreshedAt = now;
+    }
+
+    private boolean dispatch(OutboxEvent outboxEvent) {
+        Object event;
+        try {
+            event = deserialize(outboxEvent);
+        } catch (ClassNotFoundException | JsonProcessingException | IllegalArgumentException e) {
+            log.error("outbox 이벤트를 복원하지 못했습니다. id: {}, eventType: {}", outboxEvent.id(), outboxEvent.eventType(), e);
+            markFailed(outboxEvent, e);
+            return false;
+        }
+
+        try {
+            dispatchTimer.record(() -> {
+                retryTemplate.execute(context -> {
+                    OutboxEventContext.run(outboxEvent.id(), () -> eventPublisher.publishEvent(event));
+                    return null;
+                });
+            });
+            successCounter.increment();
+            return true;
+        } catch (RuntimeException e) {
+            handleFailure(outboxEvent, e);
+            return false;
+        }
+    }
+
+    private void handleFailure(OutboxEvent outboxEvent, RuntimeException e) {
+        if (outboxEvent.attemptCount() >= maxAttempts) {
+            log.error("outbox 이벤트 전달을 포기합니다. id: {}, eventType: {}, attemptCount: {}",
+                    outboxEvent.id(), outboxEvent.eventType(), outboxEvent.attemptCount(), e);
+            markFailed(outboxEvent, e);
+            return;
+        }
+
+        try {
+            log.warn("outbox 이벤트를 전달하지 못했습니다. 다시 시도합니다. id: {}, eventType: {}, attemptCount: {}",
+                    outboxEvent.id(), outboxEvent.eventType(), outboxEvent.attemptCount(), e);
+            retryCounter.increment();
+            outboxEventJdbcRepository.reschedule(
+                    outboxEvent.id(),
+                    Instant.now().plus(backoff(outboxEvent.attemptCount())),
+                    e.toString());
+        } catch (DataAccessException dataAccessException) {
+            log.warn("outbox 이벤트 상태를 갱신하지 못했습니다. lease가 지난 뒤 다시 시도합니다. id: {}", outboxEvent.id(), dataAccessException);
+        }
+    }
+
+    private void markFailed(OutboxEvent outboxEvent, Exception e) {
+        failureCounter.increment();
+
+        try {
+            outboxEventJdbcRepository.markFailed(outboxEvent.id(), e.toString());
+        } catch (DataAccessException dataAccessException) {
+            log.warn("outbox 이벤트 상태를 갱신하지 못했습니다. lease가 지난 뒤 다시 시도합니다. id: {}", outboxEvent.id(), dataAccessException);
+        }
+    }
+
+    private Object deserialize(OutboxEvent outboxEvent) throws ClassNotFoundException, JsonProcessingException {
+        if (!outboxEvent.eventType().startsWith(EVENT_PACKAGE_PREFIX)) {
+            throw new IllegalArgumentException("허용되지 않은 이벤트 타입입니다. eventType: " + outboxEvent.eventType());
+        }
+
+        Class<?> eventType = Class.forName(outboxEvent.eventType());
+
+        return objectMapper.readValue(outboxEvent.payload(), eventType);
+    }
+
+    private Duration backoff(int attemptCount) {
+        int exponent = Math.min(attemptCount - 1, 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.tenten.linkhub.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@RequiredArgsConstructor
+@Repository
+public class ProcessedEventJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처음 기록되면 true, 이미 처리된 이벤트면 false를 반환한다.
+     */
+    public boolean saveIfAbsent(Long eventId, String consumer, Instant now) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO processed_events (event_id, consumer, processed_at) VALUES (?, ?, ?)",
+                eventId, consumer, Timestamp.from(now));
+
+        return inserted == 1;
+    }
+
+    public int deleteProcessedBefore(Instant processedBefore, int batchSize) {
+        return jdbcTemplate.update(
+                "DELETE FROM processed_events WHERE processed_at < ? LIMIT ?",
+                Timestamp.from(processedBefore), batchSize);
+    }
+
+}
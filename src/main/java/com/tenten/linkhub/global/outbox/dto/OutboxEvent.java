@@ -0,0 +1,9 @@
+package com.tenten.linkhub.global.outbox.dto;
+
+public record OutboxEvent(
+        Long id,
+        String eventType,
+        String payload,
+        int attemptCount
+) {
+}
@@ -25,7 +25,7 @@ public enum ErrorCode {
     SPACE_OWNER_LEAVE_ATTEMPT("S001", "스페이스의 주인은 스페이스를 나갈 수 없습니다. 나가기 대신 스페이스 삭제를 진행해야 합니다."),
     DUPLICATE_SPACE_MEMBER("S002", "해당 멤버는 이미 스페이스의 멤버입니다."),
     SPACE_SCRAP_LIMIT("S003", "한 스페이스에 대한 가져오기는 1회만 가능합니다."),
-    LINK_COUNT_LIMIT_FOR_SCRAP("S004", "가져오기는 200개 이하의 Link를 가진 스페이스만 가능합니다."),
+    LINK_COUNT_LIMIT_FOR_SCRAP("S004", "가져오기할 수 있는 링크 개수를 초과한 스페이스입니다."),
 
     //link
     DUPLICATE_LINK_RIKE("L001", "이미 좋아요한 링크 입니다."),
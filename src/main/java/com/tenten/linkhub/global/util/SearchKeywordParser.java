@@ -1,5 +1,8 @@
 package com.tenten.linkhub.global.util;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class SearchKeywordParser {
 
     private SearchKeywordParser() { throw new RuntimeException("SearchKeywordParser객체는 생성할 수 없습니다."); }
@@ -15,6 +18,19 @@ public final class SearchKeywordParser {
         return tokenizedKeyword.toString();
     }
 
+    public static List<String> parseToTokens(String keyword, int tokenSize) {
+        List<String> tokens = new ArrayList<>();
+        String[] splitKeyword = keyword.split(" ");
+
+        for (String word: splitKeyword) {
+            for (int i = tokenSize; i <= word.length(); i++) {
+                tokens.add(word.substring(i - tokenSize, i));
+            }
+        }
+
+        return tokens;
+    }
+
     private static void appendTokensWithPlus(StringBuilder tokenizedKeyword, String word, int startIndex) {
         for (int i = startIndex; i < word.length(); i++) {
             String token = word.substring(i - 1, i + 1);
@@ -0,0 +1,9 @@
+DELETE lvh
+FROM link_view_histories lvh
+         JOIN link_view_histories duplicated
+              ON duplicated.link_id = lvh.link_id
+                  AND duplicated.member_id = lvh.member_id
+                  AND duplicated.id < lvh.id;
+
+ALTER TABLE link_view_histories
+    ADD CONSTRAINT uk_link_view_histories_link_id_member_id UNIQUE (link_id, member_id);
@@ -0,0 +1,27 @@
+ALTER TABLE links
+    ADD COLUMN source_link_id bigint NULL;
+
+ALTER TABLE tags
+    ADD COLUMN source_tag_id bigint NULL;
+
+CREATE INDEX idx_links_space_id ON links (space_id);
+CREATE INDEX idx_links_space_id_source_link_id ON links (space_id, source_link_id);
+CREATE INDEX idx_tags_space_id_source_tag_id ON tags (space_id, source_tag_id);
+CREATE INDEX idx_link_tags_link_id ON link_tags (link_id);
+
+CREATE TABLE scrap_copy_jobs
+(
+    id                  bigint auto_increment
+        primary key,
+    source_space_id     bigint      not null,
+    target_space_id     bigint      not null,
+    member_id           bigint      not null,
+    status              varchar(20) not null,
+    total_link_count    bigint      not null,
+    copied_link_count   bigint      not null,
+    last_source_link_id bigint      not null,
+    created_at          datetime(6) not null,
+    updated_at          datetime(6) not null,
+    CONSTRAINT uk_scrap_copy_jobs_target_space_id UNIQUE (target_space_id),
+    INDEX idx_scrap_copy_jobs_status_id (status, id)
+);
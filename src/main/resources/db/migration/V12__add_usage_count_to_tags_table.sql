@@ -0,0 +1,10 @@
+ALTER TABLE tags
+    ADD COLUMN usage_count bigint NOT NULL DEFAULT 0;
+
+UPDATE tags t
+SET t.usage_count = (SELECT COUNT(*)
+                     FROM link_tags lt
+                     WHERE lt.tag_id = t.id
+                       AND lt.is_deleted = false);
+
+CREATE INDEX idx_tags_space_id_usage_count ON tags (space_id, usage_count);
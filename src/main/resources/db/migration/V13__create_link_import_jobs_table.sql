@@ -0,0 +1,14 @@
+CREATE TABLE link_import_jobs
+(
+    id                  bigint auto_increment
+        primary key,
+    space_id            bigint      not null,
+    member_id           bigint      not null,
+    format              varchar(10) not null,
+    status              varchar(20) not null,
+    imported_link_count bigint      not null,
+    skipped_link_count  bigint      not null,
+    created_at          datetime(6) not null,
+    updated_at          datetime(6) not null,
+    INDEX idx_link_import_jobs_space_id (space_id)
+);
@@ -0,0 +1,13 @@
+CREATE TABLE link_previews
+(
+    url_hash    char(64)      not null
+        primary key,
+    url         varchar(2083) not null,
+    status      varchar(20)   not null,
+    title       varchar(300)  null,
+    description varchar(1000) null,
+    favicon_url varchar(2083) null,
+    fetched_at  datetime(6)   not null,
+    created_at  datetime(6)   not null,
+    updated_at  datetime(6)   not null
+);
@@ -0,0 +1,9 @@
+CREATE TABLE processed_events
+(
+    event_id     bigint       not null,
+    consumer     varchar(100) not null,
+    processed_at datetime(6)  not null,
+    PRIMARY KEY (event_id, consumer)
+);
+
+CREATE INDEX idx_processed_events_processed_at ON processed_events (processed_at);
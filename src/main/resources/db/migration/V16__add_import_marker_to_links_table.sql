@@ -0,0 +1,5 @@
+ALTER TABLE links
+    ADD COLUMN import_token   char(36) NULL,
+    ADD COLUMN import_ordinal int      NULL;
+
+CREATE INDEX idx_links_import_token ON links (import_token);
@@ -0,0 +1,7 @@
+DROP INDEX idx_spaces_favorite_count_id ON spaces;
+
+CREATE INDEX idx_spaces_visible_favorite_count_id ON spaces (is_deleted, is_visible, favorite_count desc, id desc);
+CREATE INDEX idx_spaces_visible_category_favorite_count_id ON spaces (is_deleted, is_visible, category, favorite_count desc, id desc);
+CREATE INDEX idx_spaces_visible_category_id ON spaces (is_deleted, is_visible, category, id desc);
+
+CREATE INDEX idx_space_members_member_id_space_id ON space_members (member_id, space_id);
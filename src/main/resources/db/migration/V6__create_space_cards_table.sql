@@ -0,0 +1,49 @@
+create table space_cards
+(
+    space_id             bigint                                                                                               not null
+    primary key,
+    member_id            bigint                                                                                               not null,
+    space_name           varchar(255)                                                                                         not null,
+    description          varchar(500)                                                                                         null,
+    category             enum ('ENTER_ART', 'ETC', 'HOBBY_LEISURE_TRAVEL', 'KNOWLEDGE_ISSUE_CAREER', 'LIFE_KNOWHOW_SHOPPING') null,
+    is_visible           bit                                                                                                  not null,
+    is_comment           bit                                                                                                  not null,
+    is_link_summarizable bit                                                                                                  not null,
+    is_read_mark_enabled bit                                                                                                  not null,
+    view_count           bigint                                                                                               not null,
+    scrap_count          bigint                                                                                               not null,
+    favorite_count       bigint                                                                                               not null,
+    space_image_path     varchar(2083)                                                                                        null,
+    owner_nick_name      varchar(24)                                                                                          null,
+    created_at           timestamp                                                                                            null,
+    updated_at           timestamp                                                                                            null,
+    FULLTEXT INDEX `ft_space_cards_space_name` (`space_name`) WITH PARSER `ngram`)
+    ENGINE=InnoDB;
+
+CREATE INDEX idx_space_cards_visible_favorite_count_id ON space_cards (is_visible, favorite_count desc, space_id desc);
+CREATE INDEX idx_space_cards_visible_category_favorite_count_id ON space_cards (is_visible, category, favorite_count desc, space_id desc);
+CREATE INDEX idx_space_cards_visible_category_id ON space_cards (is_visible, category, space_id desc);
+CREATE INDEX idx_space_cards_member_id ON space_cards (member_id);
+
+INSERT INTO space_cards (space_id, member_id, space_name, description, category, is_visible, is_comment, is_link_summarizable,
+                         is_read_mark_enabled, view_count, scrap_count, favorite_count, space_image_path, owner_nick_name,
+                         created_at, updated_at)
+SELECT s.id,
+       s.member_id,
+       s.space_name,
+       s.description,
+       s.category,
+       s.is_visible,
+       s.is_comment,
+       s.is_link_summarizable,
+       s.is_read_mark_enabled,
+       s.view_count,
+       s.scrap_count,
+       s.favorite_count,
+       (SELECT si.path FROM space_images si WHERE si.space_id = s.id AND si.is_deleted = false ORDER BY si.id LIMIT 1),
+       m.nickname,
+       now(),
+       now()
+FROM spaces s
+         LEFT JOIN members m ON m.id = s.member_id
+WHERE s.is_deleted = false;
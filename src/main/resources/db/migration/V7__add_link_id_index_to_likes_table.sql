@@ -0,0 +1 @@
+CREATE INDEX idx_likes_link_id ON likes (link_id);
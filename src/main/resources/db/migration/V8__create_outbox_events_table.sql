@@ -0,0 +1,14 @@
+create table outbox_events
+(
+    id              bigint auto_increment
+        primary key,
+    event_type      varchar(255)  not null,
+    payload         text          not null,
+    status          varchar(20)   not null,
+    attempt_count   int           not null,
+    next_attempt_at datetime(6)   not null,
+    last_error      varchar(1000) null,
+    created_at      datetime(6)   not null
+);
+
+CREATE INDEX idx_outbox_events_status_next_attempt_at ON outbox_events (status, next_attempt_at, id);
@@ -0,0 +1 @@
+CREATE INDEX idx_link_view_histories_link_id_created_at ON link_view_histories (link_id, created_at, id);
@@ -0,0 +1,191 @@
+package com.tenten.linkhub.domain.link.cache;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.repository.tag.dto.TagInfo;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "cache.space-tag.enabled=true")
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceTagDictionaryTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceTagDictionary spaceTagDictionary;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        spaceId = spaceJpaRepository.save(new Space(
+                memberId,
+                "태그 스페이스",
+                "태그 스페이스 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                false,
+                false
+        )).getId();
+
+        // 테이블을 비우면 id가 다시 쓰이므로 이전 테스트가 담아 둔 사전을 비운다.
+        spaceTagDictionary.invalidate(spaceId);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 태그로 링크를 만들면 사전에서 찾은 태그를 다시 쓰고 사용 수만 올린다.")
+    void createLink_sameTagName_reusesTagFromDictionary() {
+        //when
+        createLink("개발 블로그 1", "백엔드", "blue");
+        createLink("개발 블로그 2", "백엔드", "blue");
+
+        //then
+        Optional<TagInfo> tagInfo = spaceTagDictionary.find(spaceId, "백엔드");
+
+        assertThat(tagInfo).isPresent();
+        assertThat(tagUsageCounts()).containsOnly(Map.entry("백엔드", 2L));
+        assertThat(tagIdByName("백엔드")).isEqualTo(tagInfo.get().tagId());
+    }
+
+    @Test
+    @DisplayName("사전에 없는 태그는 DB에서 찾아 다시 쓰고 새로 만들지 않는다.")
+    void createLink_tagCreatedElsewhere_findsTagInDb() {
+        //given
+        createLink("개발 블로그 1", "백엔드", "blue");
+        jdbcTemplate.update(
+                "INSERT INTO tags (space_id, name, color, usage_count) VALUES (?, ?, ?, ?)",
+                spaceId, "프론트엔드", "RED", 0);
+
+        //when
+        createLink("개발 블로그 2", "프론트엔드", "red");
+
+        //then
+        assertThat(tagUsageCounts()).containsOnly(Map.entry("백엔드", 1L), Map.entry("프론트엔드", 1L));
+        assertThat(spaceTagDictionary.find(spaceId, "프론트엔드")).isPresent();
+    }
+
+    @Test
+    @DisplayName("링크의 태그를 바꾸거나 떼면 이전 태그의 사용 수를 내리고 새 태그의 사용 수를 올린다.")
+    void updateLink_changesUsageCounts() {
+        //given
+        Long linkId = createLink("개발 블로그 1", "백엔드", "blue");
+        createLink("개발 블로그 2", "백엔드", "blue");
+
+        //when
+        linkService.updateLink(updateRequest(linkId, "프론트엔드", "red"));
+        Map<String, Long> afterChange = tagUsageCounts();
+
+        linkService.updateLink(updateRequest(linkId, null, null));
+        Map<String, Long> afterRemove = tagUsageCounts();
+
+        //then
+        assertThat(afterChange).containsOnly(Map.entry("백엔드", 1L), Map.entry("프론트엔드", 1L));
+        assertThat(afterRemove).containsOnly(Map.entry("백엔드", 1L), Map.entry("프론트엔드", 0L));
+    }
+
+    @Test
+    @DisplayName("링크를 삭제하면 태그 사용 수를 내린다.")
+    void deleteLink_decreasesUsageCount() {
+        //given
+        Long linkId = createLink("개발 블로그 1", "백엔드", "blue");
+        createLink("개발 블로그 2", "백엔드", "blue");
+
+        //when
+        linkService.deleteLink(linkId);
+
+        //then
+        assertThat(tagUsageCounts()).containsOnly(Map.entry("백엔드", 1L));
+    }
+
+    private Long createLink(String title, String tagName, String color) {
+        return linkService.createLink(new LinkCreateRequest(
+                spaceId,
+                "https://mideveloperni.tistory.com/",
+                title,
+                tagName,
+                memberId,
+                color
+        ));
+    }
+
+    private LinkUpdateRequest updateRequest(Long linkId, String tagName, String color) {
+        return new LinkUpdateRequest(
+                spaceId,
+                "https://mideveloperni.tistory.com/",
+                "수정한 개발 블로그",
+                tagName,
+                memberId,
+                linkId,
+                color
+        );
+    }
+
+    private Long tagIdByName(String tagName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM tags WHERE space_id = ? AND name = ?", Long.class, spaceId, tagName);
+    }
+
+    private Map<String, Long> tagUsageCounts() {
+        Map<String, Long> usageCounts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT name, usage_count FROM tags WHERE space_id = ?",
+                rs -> {
+                    usageCounts.put(rs.getString("name"), rs.getLong("usage_count"));
+                },
+                spaceId);
+
+        return usageCounts;
+    }
+
+}
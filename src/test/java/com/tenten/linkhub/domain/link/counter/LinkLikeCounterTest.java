@@ -0,0 +1,191 @@
+package com.tenten.linkhub.domain.link.counter;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.model.Like;
+import com.tenten.linkhub.domain.link.model.Link;
+import com.tenten.linkhub.domain.link.model.vo.Url;
+import com.tenten.linkhub.domain.link.repository.like.LikeJpaRepository;
+import com.tenten.linkhub.domain.link.repository.like.LinkLikeCountRedisRepository;
+import com.tenten.linkhub.domain.link.repository.link.LinkJpaRepository;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "counter.link-like.redis.enabled=true")
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class LinkLikeCounterTest extends IntegrationApplicationTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private LinkLikeCounter linkLikeCounter;
+
+    @Autowired
+    private LinkLikeCountRedisRepository linkLikeCountRedisRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private LinkJpaRepository linkJpaRepository;
+
+    @Autowired
+    private LikeJpaRepository likeJpaRepository;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    private Long memberId;
+    private Link link;
+
+    @BeforeEach
+    void setUp() {
+        deleteLinkLikeKeys();
+        setUpData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteLinkLikeKeys();
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 증감하지 않고, 채운 뒤에는 같은 이벤트를 한 번만 더한다.")
+    void incrementIfPresent_appliesEventOnce() {
+        //given
+        Long linkId = link.getId();
+
+        //when
+        Long beforeSeed = linkLikeCountRedisRepository.incrementIfPresent(linkId, 1, TTL, 1L, TTL);
+        boolean seeded = linkLikeCountRedisRepository.seedIfAbsent(linkId, 5, TTL, null, TTL);
+        boolean seededAgain = linkLikeCountRedisRepository.seedIfAbsent(linkId, 100, TTL, null, TTL);
+        Long firstApply = linkLikeCountRedisRepository.incrementIfPresent(linkId, 1, TTL, 2L, TTL);
+        Long replay = linkLikeCountRedisRepository.incrementIfPresent(linkId, 1, TTL, 2L, TTL);
+        Long withoutEventId = linkLikeCountRedisRepository.incrementIfPresent(linkId, -1, TTL, null, TTL);
+
+        //then
+        assertThat(beforeSeed).isNull();
+        assertThat(seeded).isTrue();
+        assertThat(seededAgain).isFalse();
+        assertThat(firstApply).isEqualTo(6L);
+        assertThat(replay).isEqualTo(6L);
+        assertThat(withoutEventId).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("값이 기대값과 다르면 compareAndSet은 바꾸지 않는다.")
+    void compareAndSet_mismatch_keepsValue() {
+        //given
+        Long linkId = link.getId();
+        linkLikeCountRedisRepository.seedIfAbsent(linkId, 3, TTL, null, TTL);
+
+        //when
+        boolean mismatched = linkLikeCountRedisRepository.compareAndSet(linkId, 2, 10, TTL);
+        boolean matched = linkLikeCountRedisRepository.compareAndSet(linkId, 3, 4, TTL);
+
+        //then
+        assertThat(mismatched).isFalse();
+        assertThat(matched).isTrue();
+        assertThat(linkLikeCountRedisRepository.getLikeCounts(List.of(linkId))).containsEntry(linkId, 4L);
+    }
+
+    @Test
+    @DisplayName("outbox로 다시 전달된 좋아요 이벤트는 한 번만 반영되고 rollup으로 DB에 반영된다.")
+    void change_replayedEvent_rolledUpOnce() {
+        //given
+        Long linkId = link.getId();
+        likeJpaRepository.save(new Like(link, memberId));
+
+        //when
+        linkLikeCounter.change(linkId, 1, 10L);
+        linkLikeCounter.change(linkId, 1, 10L);
+        likeJpaRepository.save(new Like(link, memberId + 1));
+        linkLikeCounter.change(linkId, 1, 11L);
+        linkLikeCounter.change(linkId, 1, 11L);
+        linkLikeCounter.rollup();
+
+        //then
+        assertThat(linkLikeCounter.getLikeCounts(List.of(linkId))).containsEntry(linkId, 2L);
+        assertThat(linkJpaRepository.findById(linkId).get().getLikeCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("reconcile은 likes 테이블과 어긋난 Redis 카운터와 DB 값을 바로잡는다.")
+    void reconcile_fixesDrift() {
+        //given
+        Long linkId = link.getId();
+        likeJpaRepository.save(new Like(link, memberId));
+        linkLikeCountRedisRepository.seedIfAbsent(linkId, 7, TTL, null, TTL);
+        linkLikeCountRedisRepository.markForReconcile(List.of(linkId));
+
+        //when
+        linkLikeCounter.reconcile();
+
+        //then
+        assertThat(linkLikeCounter.getLikeCounts(List.of(linkId))).containsEntry(linkId, 1L);
+        assertThat(linkJpaRepository.findById(linkId).get().getLikeCount()).isEqualTo(1L);
+    }
+
+    private void deleteLinkLikeKeys() {
+        Set<String> keys = redisTemplate.keys("LinkLike:*");
+
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private void setUpData() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        Space space = spaceJpaRepository.save(new Space(
+                memberId,
+                "첫번째 스페이스",
+                "첫번째 스페이스 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                true
+        ));
+
+        link = linkJpaRepository.save(Link.toLink(space, memberId, "링크의 제목1", new Url("https://www.naver.com")));
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.tenten.linkhub.domain.link.counter;
+
+import com.tenten.linkhub.domain.link.repository.linkview.LinkViewRepository;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class LinkViewHistoryWriterTest {
+
+    private static final int MAX_PENDING_SIZE = 2;
+
+    private LinkViewRepository linkViewRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private LinkViewHistoryWriter linkViewHistoryWriter;
+    private List<PendingLinkView> insertedLinkViews;
+
+    @BeforeEach
+    void setUp() {
+        linkViewRepository = mock(LinkViewRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        insertedLinkViews = new ArrayList<>();
+        linkViewHistoryWriter = new LinkViewHistoryWriter(linkViewRepository, mock(SpaceVersionTracker.class), meterRegistry,
+                true, 500, MAX_PENDING_SIZE, 24, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("같은 조합은 한 번만 버퍼에 담겨 한 번의 묶음으로 반영된다.")
+    void flush_duplicateViews_insertedOnce() {
+        //given
+        recordInsertedLinkViews();
+        linkViewHistoryWriter.add(1L, 10L, 100L);
+        linkViewHistoryWriter.add(1L, 10L, 100L);
+
+        //when
+        linkViewHistoryWriter.flush();
+
+        //then
+        assertThat(insertedLinkViews).extracting(PendingLinkView::linkId).containsExactly(10L);
+        assertThat(meterRegistry.get("link.view.dedup").tag("result", "bloom_hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("link.view.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 장애로 버퍼가 가득 차면 새 기록은 동기 반영 없이 버려지고 개수만 센다.")
+    void add_bufferFullOnDbFailure_dropsWithoutSynchronousFlush() {
+        //given
+        doThrow(new QueryTimeoutException("DB 장애")).when(linkViewRepository).bulkInsertIgnore(anyList());
+        linkViewHistoryWriter.add(1L, 10L, 100L);
+        linkViewHistoryWriter.add(1L, 11L, 100L);
+        linkViewHistoryWriter.flush();
+
+        //when
+        linkViewHistoryWriter.add(1L, 12L, 100L);
+        linkViewHistoryWriter.add(1L, 13L, 100L);
+
+        //then
+        assertThat(meterRegistry.get("link.view.pending").gauge().value()).isEqualTo(MAX_PENDING_SIZE);
+        assertThat(meterRegistry.get("link.view.dropped").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차도 add는 저장소를 호출하지 않는다.")
+    void add_bufferFull_doesNotFlush() {
+        //when
+        linkViewHistoryWriter.add(1L, 10L, 100L);
+        linkViewHistoryWriter.add(1L, 11L, 100L);
+        linkViewHistoryWriter.add(1L, 12L, 100L);
+
+        //then
+        verify(linkViewRepository, never()).bulkInsertIgnore(anyList());
+    }
+
+    @Test
+    @DisplayName("DB가 돌아오면 남아 있던 기록을 반영하고, 버려졌던 조합은 다시 읽음 표시하면 기록된다.")
+    void flush_afterDbRecovers_insertsRetainedAndDroppedViews() {
+        //given
+        doThrow(new QueryTimeoutException("DB 장애")).when(linkViewRepository).bulkInsertIgnore(anyList());
+        linkViewHistoryWriter.add(1L, 10L, 100L);
+        linkViewHistoryWriter.add(1L, 11L, 100L);
+        linkViewHistoryWriter.flush();
+        linkViewHistoryWriter.add(1L, 12L, 100L);
+
+        //when
+        recordInsertedLinkViews();
+        linkViewHistoryWriter.flush();
+        linkViewHistoryWriter.add(1L, 12L, 100L);
+        linkViewHistoryWriter.flush();
+
+        //then
+        assertThat(insertedLinkViews).extracting(PendingLinkView::linkId).containsExactlyInAnyOrder(10L, 11L, 12L);
+        assertThat(meterRegistry.get("link.view.pending").gauge().value()).isZero();
+    }
+
+    private void recordInsertedLinkViews() {
+        doAnswer(invocation -> {
+            List<PendingLinkView> linkViews = invocation.getArgument(0);
+            insertedLinkViews.addAll(linkViews);
+            return linkViews.size();
+        }).when(linkViewRepository).bulkInsertIgnore(anyList());
+    }
+
+}
@@ -7,8 +7,11 @@ import com.tenten.linkhub.domain.member.model.Member;
 import com.tenten.linkhub.domain.member.model.ProfileImage;
 import com.tenten.linkhub.domain.member.model.Provider;
 import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.link.facade.dto.LinkBatchFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.link.facade.dto.LinkUpdateFacadeRequest;
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
+import com.tenten.linkhub.domain.link.repository.linkimport.dto.LinkImportStatus;
 import com.tenten.linkhub.domain.space.model.category.Category;
 import com.tenten.linkhub.domain.link.model.Like;
 import com.tenten.linkhub.domain.link.model.Link;
@@ -21,18 +24,30 @@ import com.tenten.linkhub.domain.link.repository.like.LikeJpaRepository;
 import com.tenten.linkhub.domain.link.repository.link.LinkJpaRepository;
 import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
 import com.tenten.linkhub.domain.space.repository.spacemember.SpaceMemberJpaRepository;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponse;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResponses;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchResult;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
 import com.tenten.linkhub.global.exception.DataDuplicateException;
 import com.tenten.linkhub.global.exception.DataNotFoundException;
 import com.tenten.linkhub.global.exception.UnauthorizedAccessException;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +73,12 @@ class LinkFacadeTest extends IntegrationApplicationTest {
     @Autowired
     private LikeJpaRepository likeJpaRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long memberId1;
     private Long memberId2;
     private Long memberId3;
@@ -219,6 +240,293 @@ class LinkFacadeTest extends IntegrationApplicationTest {
                 .isInstanceOf(UnauthorizedAccessException.class);
     }
 
+    @Test
+    @DisplayName("사용자는 CAN_EDIT이나 OWNER 권한을 가진 경우 여러 링크를 한 번에 삭제할 수 있고, 스페이스에 없는 링크는 NOT_FOUND로 응답받는다.")
+    void batchLinks_delete_Success() {
+        //given
+        LinkBatchFacadeRequest request = new LinkBatchFacadeRequest(
+                LinkBatchOperation.DELETE,
+                List.of(linkId, linkId + 100),
+                null,
+                null,
+                null
+        );
+
+        //when
+        LinkBatchResponses responses = linkFacade.batchLinks(spaceId, memberId1, request);
+
+        //then
+        assertThat(responses.responses())
+                .extracting(LinkBatchResponse::result)
+                .containsExactly(LinkBatchResult.SUCCESS, LinkBatchResult.NOT_FOUND);
+
+        entityManager.clear();
+        assertThat(linkJpaRepository.findById(linkId).get().getIsDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자는 CAN_EDIT이나 OWNER 권한이 아닌 경우 여러 링크를 한 번에 삭제할 수 없다.")
+    void batchLinks_delete_ThrowsUnauthorizedAccessException() {
+        //given
+        LinkBatchFacadeRequest request = new LinkBatchFacadeRequest(
+                LinkBatchOperation.DELETE,
+                List.of(linkId),
+                null,
+                null,
+                null
+        );
+
+        //when & then
+        Assertions.assertThatThrownBy(() -> linkFacade.batchLinks(spaceId, memberId2, request))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("링크를 다른 스페이스로 옮기면 대상 스페이스의 같은 이름 태그를 쓰고, 없는 태그는 만들어 사용 수를 옮긴다.")
+    void batchLinks_move_Success() {
+        //given
+        Long targetSpaceId = spaceJpaRepository.save(new Space(
+                memberId1,
+                "옮길 스페이스의 제목",
+                "옮길 스페이스 설명",
+                Category.ENTER_ART,
+                new SpaceImage("https://testimage2", "테스트 이미지2"),
+                new SpaceMember(memberId1, Role.OWNER),
+                false,
+                true,
+                true,
+                true
+        )).getId();
+        linkFacade.createLink(targetSpaceId, memberId1, new LinkCreateFacadeRequest("https://spring.io", "스프링", "개발", "blue"));
+
+        Long developLinkId = linkFacade.createLink(spaceId, memberId1, new LinkCreateFacadeRequest("https://naver.com", "네이버", "개발", "blue"));
+        Long designLinkId = linkFacade.createLink(spaceId, memberId1, new LinkCreateFacadeRequest("https://figma.com", "피그마", "디자인", "red"));
+        entityManager.flush();
+
+        LinkBatchFacadeRequest request = new LinkBatchFacadeRequest(
+                LinkBatchOperation.MOVE,
+                List.of(developLinkId, designLinkId),
+                targetSpaceId,
+                null,
+                null
+        );
+
+        //when
+        LinkBatchResponses responses = linkFacade.batchLinks(spaceId, memberId1, request);
+
+        //then
+        assertThat(responses.responses())
+                .extracting(LinkBatchResponse::result)
+                .containsExactly(LinkBatchResult.SUCCESS, LinkBatchResult.SUCCESS);
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT space_id FROM links WHERE id IN (?, ?)", Long.class, developLinkId, designLinkId))
+                .containsOnly(targetSpaceId);
+        assertThat(tagUsageCounts(spaceId)).containsOnly(Map.entry("개발", 0L), Map.entry("디자인", 0L));
+        assertThat(tagUsageCounts(targetSpaceId)).containsOnly(Map.entry("개발", 2L), Map.entry("디자인", 1L));
+        assertThat(linkTagSpaceIds(developLinkId)).containsExactly(targetSpaceId);
+        assertThat(linkTagSpaceIds(designLinkId)).containsExactly(targetSpaceId);
+    }
+
+    @Test
+    @DisplayName("여러 링크에 한 번에 태그를 붙이면 이전 태그는 떼고 사용 수를 옮긴다.")
+    void batchLinks_setTag_Success() {
+        //given
+        Long developLinkId = linkFacade.createLink(spaceId, memberId1, new LinkCreateFacadeRequest("https://naver.com", "네이버", "개발", "blue"));
+        entityManager.flush();
+
+        LinkBatchFacadeRequest request = new LinkBatchFacadeRequest(
+                LinkBatchOperation.SET_TAG,
+                List.of(developLinkId, linkId),
+                null,
+                "정리",
+                "red"
+        );
+
+        //when
+        LinkBatchResponses responses = linkFacade.batchLinks(spaceId, memberId1, request);
+
+        //then
+        assertThat(responses.responses())
+                .extracting(LinkBatchResponse::result)
+                .containsExactly(LinkBatchResult.SUCCESS, LinkBatchResult.SUCCESS);
+
+        assertThat(tagUsageCounts(spaceId)).containsOnly(Map.entry("개발", 0L), Map.entry("정리", 2L));
+        assertThat(activeLinkTagNames(developLinkId)).containsExactly("정리");
+        assertThat(activeLinkTagNames(linkId)).containsExactly("정리");
+    }
+
+    @Test
+    @DisplayName("사용자는 북마크 HTML 파일의 링크를 폴더 이름을 태그로 하여 가져올 수 있다.")
+    void importLinks_bookmarkHtml_Success() {
+        //given
+        String bookmarks = """
+                <!DOCTYPE NETSCAPE-Bookmark-file-1>
+                <TITLE>Bookmarks</TITLE>
+                <H1>Bookmarks</H1>
+                <DL><p>
+                    <DT><H3 PERSONAL_TOOLBAR_FOLDER="true">북마크바</H3>
+                    <DL><p>
+                        <DT><H3>개발</H3>
+                        <DL><p>
+                            <DT><A HREF="https://spring.io" ADD_DATE="1700000000">Spring &amp; Boot</A>
+                        </DL><p>
+                        <DT><A HREF="https://naver.com">네이버</A>
+                        <DT><A HREF="javascript:alert(1)">북마클릿</A>
+                    </DL><p>
+                </DL><p>
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", MediaType.TEXT_HTML_VALUE, bookmarks.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        LinkImportResponse response = linkFacade.importLinks(spaceId, memberId1, null, file);
+
+        //then
+        assertThat(response.status()).isEqualTo(LinkImportStatus.COMPLETED);
+        assertThat(response.importedLinkCount()).isEqualTo(2);
+        assertThat(response.skippedLinkCount()).isEqualTo(1);
+
+        List<Link> importedLinks = linkJpaRepository.findAll().stream()
+                .filter(link -> link.getSpace().getId().equals(spaceId) && !link.getId().equals(linkId))
+                .toList();
+        assertThat(importedLinks).extracting(Link::getTitle).containsExactlyInAnyOrder("Spring & Boot", "네이버");
+
+        Link springLink = importedLinks.stream()
+                .filter(link -> link.getTitle().equals("Spring & Boot"))
+                .findFirst()
+                .get();
+        assertThat(springLink.getLinkTags().get(0).getTag().getName()).isEqualTo("개발");
+    }
+
+    @Test
+    @DisplayName("사용자는 헤더가 있는 CSV 파일의 링크를 태그와 색상까지 가져올 수 있다.")
+    void importLinks_csv_Success() {
+        //given
+        String csv = """
+                title,url,tag,color
+                "스프링, 부트",https://spring.io,개발,red
+                ,https://naver.com,,
+                깨진 링크,ftp://linkhub.com,개발,blue
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "links.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        LinkImportResponse response = linkFacade.importLinks(spaceId, memberId1, null, file);
+
+        //then
+        assertThat(response.status()).isEqualTo(LinkImportStatus.COMPLETED);
+        assertThat(response.importedLinkCount()).isEqualTo(2);
+        assertThat(response.skippedLinkCount()).isEqualTo(1);
+
+        Map<String, String> tagNamesByUrl = importedTagNamesByUrl(spaceId);
+        assertThat(tagNamesByUrl).containsOnlyKeys("https://spring.io", "https://naver.com");
+        assertThat(tagNamesByUrl.get("https://spring.io")).isEqualTo("개발");
+        assertThat(tagNamesByUrl.get("https://naver.com")).isNull();
+        assertThat(importedTitlesByUrl(spaceId)).containsEntry("https://spring.io", "스프링, 부트")
+                .containsEntry("https://naver.com", "https://naver.com");
+        assertThat(tagUsageCounts(spaceId)).containsEntry("개발", 1L);
+    }
+
+    @Test
+    @DisplayName("사용자는 JSON 배열 파일의 링크를 가져올 수 있고, 같은 태그는 한 번만 만든다.")
+    void importLinks_json_Success() {
+        //given
+        String json = """
+                [
+                  {"url": "https://spring.io", "title": "스프링", "tagName": "개발", "color": "red"},
+                  {"url": "https://kotlinlang.org", "title": "코틀린", "tagName": "개발", "color": "blue"},
+                  {"url": "https://naver.com", "title": "네이버", "extra": {"ignored": true}},
+                  "문자열 원소는 건너뛴다",
+                  {"title": "URL 없는 링크"}
+                ]
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "links.json", MediaType.APPLICATION_JSON_VALUE, json.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        LinkImportResponse response = linkFacade.importLinks(spaceId, memberId1, null, file);
+
+        //then
+        assertThat(response.status()).isEqualTo(LinkImportStatus.COMPLETED);
+        assertThat(response.importedLinkCount()).isEqualTo(3);
+        assertThat(response.skippedLinkCount()).isEqualTo(1);
+        assertThat(response.createdTagCount()).isEqualTo(1);
+
+        Map<String, String> tagNamesByUrl = importedTagNamesByUrl(spaceId);
+        assertThat(tagNamesByUrl).containsOnlyKeys("https://spring.io", "https://kotlinlang.org", "https://naver.com");
+        assertThat(tagNamesByUrl.get("https://spring.io")).isEqualTo("개발");
+        assertThat(tagNamesByUrl.get("https://kotlinlang.org")).isEqualTo("개발");
+        assertThat(tagNamesByUrl.get("https://naver.com")).isNull();
+        assertThat(tagUsageCounts(spaceId)).containsEntry("개발", 2L);
+    }
+
+    @Test
+    @DisplayName("사용자는 CAN_EDIT이나 OWNER 권한이 아닌 경우 링크를 가져올 수 없다.")
+    void importLinks_request_ThrowsUnauthorizedAccessException() {
+        //given
+        MockMultipartFile file = new MockMultipartFile("file", "links.csv", "text/csv",
+                "url,title\nhttps://naver.com,네이버\n".getBytes(StandardCharsets.UTF_8));
+
+        //when & then
+        Assertions.assertThatThrownBy(() -> linkFacade.importLinks(spaceId, memberId2, null, file))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    private Map<String, Long> tagUsageCounts(Long spaceId) {
+        Map<String, Long> usageCounts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT name, usage_count FROM tags WHERE space_id = ?",
+                rs -> {
+                    usageCounts.put(rs.getString("name"), rs.getLong("usage_count"));
+                },
+                spaceId);
+
+        return usageCounts;
+    }
+
+    /**
+     * 가져온 링크마다 붙은 태그 이름. 태그가 없는 링크는 null이다.
+     */
+    private Map<String, String> importedTagNamesByUrl(Long spaceId) {
+        Map<String, String> tagNames = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT l.url, t.name FROM links l " +
+                        "LEFT JOIN link_tags lt ON lt.link_id = l.id AND lt.is_deleted = false " +
+                        "LEFT JOIN tags t ON lt.tag_id = t.id " +
+                        "WHERE l.space_id = ? AND l.import_token IS NOT NULL",
+                rs -> {
+                    tagNames.put(rs.getString("url"), rs.getString("name"));
+                },
+                spaceId);
+
+        return tagNames;
+    }
+
+    private Map<String, String> importedTitlesByUrl(Long spaceId) {
+        Map<String, String> titles = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT url, title FROM links WHERE space_id = ? AND import_token IS NOT NULL",
+                rs -> {
+                    titles.put(rs.getString("url"), rs.getString("title"));
+                },
+                spaceId);
+
+        return titles;
+    }
+
+    private List<Long> linkTagSpaceIds(Long linkId) {
+        return jdbcTemplate.queryForList(
+                "SELECT t.space_id FROM link_tags lt JOIN tags t ON lt.tag_id = t.id WHERE lt.link_id = ? AND lt.is_deleted = false",
+                Long.class,
+                linkId);
+    }
+
+    private List<String> activeLinkTagNames(Long linkId) {
+        return jdbcTemplate.queryForList(
+                "SELECT t.name FROM link_tags lt JOIN tags t ON lt.tag_id = t.id WHERE lt.link_id = ? AND lt.is_deleted = false",
+                String.class,
+                linkId);
+    }
+
     private void setUpTestData() {
         Member member1 = new Member(
                 "123456",
@@ -0,0 +1,200 @@
+package com.tenten.linkhub.domain.link.importer;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.importer.dto.LinkImportResponse;
+import com.tenten.linkhub.domain.link.repository.link.LinkJdbcRepository;
+import com.tenten.linkhub.domain.link.repository.link.dto.ImportedLink;
+import com.tenten.linkhub.domain.link.repository.linkimport.dto.LinkImportStatus;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "link.import.batch-size=2",
+        "link.import.max-link-count=5"
+})
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class LinkImporterTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private LinkImporter linkImporter;
+
+    @Autowired
+    private LinkJdbcRepository linkJdbcRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        spaceId = spaceJpaRepository.save(new Space(
+                memberId,
+                "가져오기 스페이스",
+                "가져오기 스페이스 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        )).getId();
+    }
+
+    @Test
+    @DisplayName("묶음 크기보다 큰 파일은 여러 묶음으로 나눠 넣고, 링크마다 자기 행의 태그가 붙는다.")
+    void importLinks_largerThanBatchSize_importedInBatches() {
+        //given
+        String csv = csv(5);
+
+        //when
+        LinkImportResponse response = linkImporter.importLinks(spaceId, memberId, LinkImportFormat.CSV, source(csv));
+
+        //then
+        assertThat(response.status()).isEqualTo(LinkImportStatus.COMPLETED);
+        assertThat(response.importedLinkCount()).isEqualTo(5);
+        assertThat(response.skippedLinkCount()).isZero();
+        assertThat(response.createdTagCount()).isEqualTo(5);
+
+        Map<String, String> tagNamesByUrl = tagNamesByUrl();
+        assertThat(tagNamesByUrl).hasSize(5);
+        IntStream.range(0, 5).forEach(i ->
+                assertThat(tagNamesByUrl).containsEntry("https://linkhub.com/" + i, "태그" + i));
+        assertThat(distinctImportTokenCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT imported_link_count FROM link_import_jobs WHERE id = ?", Long.class, response.jobId())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("최대 링크 수를 넘는 링크는 넣지 않고 건너뛴 링크로 센다.")
+    void importLinks_overMaxLinkCount_skipped() {
+        //given
+        String csv = csv(7);
+
+        //when
+        LinkImportResponse response = linkImporter.importLinks(spaceId, memberId, LinkImportFormat.CSV, source(csv));
+
+        //then
+        assertThat(response.status()).isEqualTo(LinkImportStatus.COMPLETED);
+        assertThat(response.importedLinkCount()).isEqualTo(5);
+        assertThat(response.skippedLinkCount()).isEqualTo(2);
+        assertThat(tagNamesByUrl()).containsOnlyKeys(
+                "https://linkhub.com/0",
+                "https://linkhub.com/1",
+                "https://linkhub.com/2",
+                "https://linkhub.com/3",
+                "https://linkhub.com/4");
+    }
+
+    @Test
+    @DisplayName("생성된 id가 연속이 아니어도 넣은 순서대로 id를 돌려준다.")
+    void bulkInsertLinks_nonContiguousIds_mappedByOrdinal() {
+        //given
+        List<ImportedLink> importedLinks = IntStream.range(0, 3)
+                .mapToObj(i -> new ImportedLink("https://linkhub.com/" + i, "링크" + i, null, null))
+                .toList();
+
+        //when
+        List<Long> linkIds = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET SESSION auto_increment_increment = 3");
+            try {
+                return linkJdbcRepository.bulkInsertLinks(spaceId, memberId, importedLinks);
+            } finally {
+                jdbcTemplate.execute("SET SESSION auto_increment_increment = 1");
+            }
+        });
+
+        //then
+        assertThat(linkIds).hasSize(3).doesNotContainNull();
+        IntStream.range(0, 3).forEach(i -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT url FROM links WHERE id = ?", String.class, linkIds.get(i))).isEqualTo("https://linkhub.com/" + i));
+    }
+
+    /**
+     * 링크마다 서로 다른 태그를 붙여, 다른 행의 id에 태그가 붙으면 드러나게 한다.
+     */
+    private String csv(int linkCount) {
+        StringBuilder csv = new StringBuilder("url,title,tag,color\n");
+        IntStream.range(0, linkCount).forEach(i -> csv.append("https://linkhub.com/").append(i)
+                .append(",링크").append(i)
+                .append(",태그").append(i)
+                .append(",blue\n"));
+
+        return csv.toString();
+    }
+
+    private ByteArrayResource source(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, String> tagNamesByUrl() {
+        Map<String, String> tagNames = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT l.url, t.name FROM links l " +
+                        "JOIN link_tags lt ON lt.link_id = l.id AND lt.is_deleted = false " +
+                        "JOIN tags t ON lt.tag_id = t.id " +
+                        "WHERE l.space_id = ?",
+                rs -> {
+                    tagNames.put(rs.getString("url"), rs.getString("name"));
+                },
+                spaceId);
+
+        return tagNames;
+    }
+
+    private long distinctImportTokenCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT import_token) FROM links WHERE space_id = ?", Long.class, spaceId);
+    }
+
+}
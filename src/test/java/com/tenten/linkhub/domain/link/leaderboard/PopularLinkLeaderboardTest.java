@@ -0,0 +1,286 @@
+package com.tenten.linkhub.domain.link.leaderboard;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.model.Like;
+import com.tenten.linkhub.domain.link.model.Link;
+import com.tenten.linkhub.domain.link.model.vo.Url;
+import com.tenten.linkhub.domain.link.repository.like.LikeJpaRepository;
+import com.tenten.linkhub.domain.link.repository.like.LinkLikeCountRedisRepository;
+import com.tenten.linkhub.domain.link.repository.link.LinkJpaRepository;
+import com.tenten.linkhub.domain.link.repository.link.LinkRepository;
+import com.tenten.linkhub.domain.link.repository.link.PopularLinkRedisRepository;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.PopularLinksGetByQueryResponse;
+import com.tenten.linkhub.domain.link.service.dto.PopularLinksGetByQueryResponses;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@TestPropertySource(properties = {
+        "leaderboard.popular-link.enabled=true",
+        "leaderboard.popular-link.capacity=3",
+        "counter.link-like.redis.enabled=true"
+})
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PopularLinkLeaderboardTest extends IntegrationApplicationTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Long UNKNOWN_LINK_ID = 999_999L;
+
+    @Autowired
+    private PopularLinkLeaderboard popularLinkLeaderboard;
+
+    @Autowired
+    private PopularLinkRedisRepository popularLinkRedisRepository;
+
+    @Autowired
+    private LinkLikeCountRedisRepository linkLikeCountRedisRepository;
+
+    @Autowired
+    private LinkService linkService;
+
+    @SpyBean
+    private LinkRepository linkRepository;
+
+    @Autowired
+    private LinkJpaRepository linkJpaRepository;
+
+    @Autowired
+    private LikeJpaRepository likeJpaRepository;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Link careerLink1;
+    private Link careerLink2;
+    private Link careerLink3;
+    private Link artLink;
+
+    @BeforeEach
+    void setUp() {
+        deleteKeys();
+        setUpData();
+
+        // 테이블을 비우면 id가 다시 쓰이므로 이전 테스트가 담아 둔 카테고리를 비운다.
+        popularLinkLeaderboard.evictCategories(allLinkIds());
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteKeys();
+    }
+
+    @Test
+    @DisplayName("좋아요가 바뀌면 실시간 좋아요 수 순서로 전체 보드와 카테고리 보드에 capacity개까지 담는다.")
+    void changeLikeCount_orderedByLiveCountPerCategory() {
+        //given
+        seedLikeCount(careerLink1, 1);
+        seedLikeCount(careerLink2, 5);
+        seedLikeCount(careerLink3, 3);
+        seedLikeCount(artLink, 4);
+
+        //when
+        allLinkIds().forEach(popularLinkLeaderboard::changeLikeCount);
+
+        //then
+        assertThat(popularLinkLeaderboard.getTopLinkIds(null))
+                .containsExactly(careerLink2.getId(), artLink.getId(), careerLink3.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.KNOWLEDGE_ISSUE_CAREER))
+                .containsExactly(careerLink2.getId(), careerLink3.getId(), careerLink1.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.ENTER_ART))
+                .containsExactly(artLink.getId());
+
+        PopularLinksGetByQueryResponses responses = linkService.getPopularLinks(memberId, null);
+        assertThat(responses.responses()).extracting(PopularLinksGetByQueryResponse::linkId)
+                .containsExactly(careerLink2.getId(), artLink.getId(), careerLink3.getId());
+        assertThat(responses.responses()).extracting(PopularLinksGetByQueryResponse::likeCount)
+                .containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("보드에서 읽은 인기 링크에는 조회한 멤버가 누른 좋아요만 표시한다.")
+    void getPopularLinks_fromBoard_overlaysIsLiked() {
+        //given
+        likeJpaRepository.save(new Like(artLink, memberId));
+        seedLikeCount(careerLink2, 2);
+        seedLikeCount(artLink, 1);
+        popularLinkLeaderboard.changeLikeCount(careerLink2.getId());
+        popularLinkLeaderboard.changeLikeCount(artLink.getId());
+
+        //when
+        PopularLinksGetByQueryResponses memberResponses = linkService.getPopularLinks(memberId, null);
+        PopularLinksGetByQueryResponses anonymousResponses = linkService.getPopularLinks(null, null);
+
+        //then
+        assertThat(memberResponses.responses()).extracting(PopularLinksGetByQueryResponse::linkId, PopularLinksGetByQueryResponse::isLiked)
+                .containsExactly(
+                        tuple(careerLink2.getId(), false),
+                        tuple(artLink.getId(), true));
+        assertThat(anonymousResponses.responses()).extracting(PopularLinksGetByQueryResponse::isLiked)
+                .containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("삭제한 링크는 보드에서 빠지고, 이후 좋아요가 바뀌어도 다시 들어오지 않는다.")
+    void deleteLink_removedFromBoard() {
+        //given
+        seedLikeCount(careerLink2, 5);
+        seedLikeCount(careerLink3, 3);
+        popularLinkLeaderboard.changeLikeCount(careerLink2.getId());
+        popularLinkLeaderboard.changeLikeCount(careerLink3.getId());
+
+        //when
+        linkService.deleteLink(careerLink2.getId());
+        popularLinkLeaderboard.changeLikeCount(careerLink2.getId());
+
+        //then
+        assertThat(popularLinkLeaderboard.getTopLinkIds(null)).containsExactly(careerLink3.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.KNOWLEDGE_ISSUE_CAREER)).containsExactly(careerLink3.getId());
+        assertThat(linkService.getPopularLinks(memberId, null).responses())
+                .extracting(PopularLinksGetByQueryResponse::linkId)
+                .containsExactly(careerLink3.getId());
+    }
+
+    @Test
+    @DisplayName("재계산하면 보드를 DB 기준으로 바꿔 끼우고 capacity개로 자르며, 보드에 없는 링크는 지운다.")
+    void rebuild_replacesAndTrimsBoard() {
+        //given
+        updateLikeCount(careerLink1, 1);
+        updateLikeCount(careerLink2, 5);
+        updateLikeCount(careerLink3, 3);
+        updateLikeCount(artLink, 4);
+        seedLikeCount(careerLink3, 6);
+        popularLinkRedisRepository.updateScore(UNKNOWN_LINK_ID, Category.ENTER_ART, 100, 3);
+
+        //when
+        popularLinkLeaderboard.rebuild();
+
+        //then
+        assertThat(popularLinkLeaderboard.getTopLinkIds(null))
+                .containsExactly(careerLink3.getId(), careerLink2.getId(), artLink.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.KNOWLEDGE_ISSUE_CAREER))
+                .containsExactly(careerLink3.getId(), careerLink2.getId(), careerLink1.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.ENTER_ART))
+                .containsExactly(artLink.getId());
+    }
+
+    @Test
+    @DisplayName("재계산으로 카테고리를 알고 있는 링크는 좋아요가 바뀌어도 DB를 조회하지 않는다.")
+    void changeLikeCount_afterRebuild_skipsDatabase() {
+        //given
+        updateLikeCount(careerLink2, 5);
+        updateLikeCount(artLink, 4);
+        popularLinkLeaderboard.rebuild();
+        seedLikeCount(artLink, 7);
+        clearInvocations(linkRepository);
+
+        //when
+        popularLinkLeaderboard.changeLikeCount(artLink.getId());
+
+        //then
+        verify(linkRepository, never()).findPopularLinkScore(artLink.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(null)).first().isEqualTo(artLink.getId());
+        assertThat(popularLinkLeaderboard.getTopLinkIds(Category.ENTER_ART)).containsExactly(artLink.getId());
+    }
+
+    private void seedLikeCount(Link link, long likeCount) {
+        linkLikeCountRedisRepository.seedIfAbsent(link.getId(), likeCount, TTL, null, TTL);
+    }
+
+    private void updateLikeCount(Link link, long likeCount) {
+        jdbcTemplate.update("UPDATE links SET like_count = ? WHERE id = ?", likeCount, link.getId());
+    }
+
+    private List<Long> allLinkIds() {
+        return List.of(careerLink1.getId(), careerLink2.getId(), careerLink3.getId(), artLink.getId());
+    }
+
+    private void deleteKeys() {
+        deleteKeys("PopularLinks:*");
+        deleteKeys("LinkLike:*");
+    }
+
+    private void deleteKeys(String pattern) {
+        Set<String> keys = redisTemplate.keys(pattern);
+
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private void setUpData() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        Space careerSpace = spaceJpaRepository.save(space("커리어 스페이스", Category.KNOWLEDGE_ISSUE_CAREER));
+        Space artSpace = spaceJpaRepository.save(space("예술 스페이스", Category.ENTER_ART));
+
+        careerLink1 = linkJpaRepository.save(Link.toLink(careerSpace, memberId, "커리어 링크1", new Url("https://www.naver.com")));
+        careerLink2 = linkJpaRepository.save(Link.toLink(careerSpace, memberId, "커리어 링크2", new Url("https://www.google.com")));
+        careerLink3 = linkJpaRepository.save(Link.toLink(careerSpace, memberId, "커리어 링크3", new Url("https://www.daum.net")));
+        artLink = linkJpaRepository.save(Link.toLink(artSpace, memberId, "예술 링크", new Url("https://www.tistory.com")));
+    }
+
+    private Space space(String spaceName, Category category) {
+        return new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                category,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                true
+        );
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LinkPreviewFetcherTest {
+
+    private static final String PAGE = """
+            <html>
+            <head>
+                <title>기본 제목</title>
+                <meta property="og:title" content="링크허브 &amp; 미리보기">
+                <meta name="description" content="링크 미리보기 설명">
+                <link rel="shortcut icon" href="/static/favicon.png">
+            </head>
+            <body>본문</body>
+            </html>
+            """;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> respond(exchange, "text/html; charset=UTF-8", PAGE));
+        server.createContext("/large", exchange -> respond(exchange, "text/html",
+                "<title>앞부분 제목</title>" + " ".repeat(4096) + "<meta name=\"description\" content=\"잘린 설명\">"));
+        server.createContext("/json", exchange -> respond(exchange, "application/json", "{\"title\":\"json\"}"));
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("HTML 페이지에서 Open Graph 제목, 설명, 파비콘을 가져온다.")
+    void fetch_html_Success() {
+        //given
+        LinkPreviewFetcher fetcher = fetcher(262144, true);
+
+        //when
+        LinkPreviewDto preview = fetcher.fetch(baseUrl + "/page").block();
+
+        //then
+        assertThat(preview).isNotNull();
+        assertThat(preview.title()).isEqualTo("링크허브 & 미리보기");
+        assertThat(preview.description()).isEqualTo("링크 미리보기 설명");
+        assertThat(preview.faviconUrl()).isEqualTo(baseUrl + "/static/favicon.png");
+    }
+
+    @Test
+    @DisplayName("본문은 최대 크기까지만 읽는다.")
+    void fetch_largeBody_ReadsOnlyMaxBodyBytes() {
+        //given
+        LinkPreviewFetcher fetcher = fetcher(1024, true);
+
+        //when
+        LinkPreviewDto preview = fetcher.fetch(baseUrl + "/large").block();
+
+        //then
+        assertThat(preview).isNotNull();
+        assertThat(preview.title()).isEqualTo("앞부분 제목");
+        assertThat(preview.description()).isNull();
+        assertThat(preview.faviconUrl()).isEqualTo(baseUrl + "/favicon.ico");
+    }
+
+    @Test
+    @DisplayName("HTML이 아닌 응답은 미리보기를 만들지 않는다.")
+    void fetch_notHtml_ReturnsEmpty() {
+        //given
+        LinkPreviewFetcher fetcher = fetcher(262144, true);
+
+        //when
+        LinkPreviewDto preview = fetcher.fetch(baseUrl + "/json").block();
+
+        //then
+        assertThat(preview).isNull();
+    }
+
+    @Test
+    @DisplayName("내부망 주소는 허용하지 않으면 요청하지 않는다.")
+    void fetch_privateHost_ReturnsEmpty() {
+        //given
+        LinkPreviewFetcher fetcher = fetcher(262144, false);
+
+        //when
+        LinkPreviewDto preview = fetcher.fetch(baseUrl + "/page").block();
+
+        //then
+        assertThat(preview).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"localhost.", "127.1", "2130706433", "0x7f.0.0.1"})
+    @DisplayName("루프백으로 풀리는 호스트 이름과 다른 IP 표기는 연결하기 전에 막는다.")
+    void fetch_hostResolvedToLoopback_NotConnected(String host) {
+        //given
+        LinkPreviewFetcher fetcher = fetcher(262144, false);
+
+        //when
+        LinkPreviewDto preview = fetcher.fetch("http://" + host + ":" + server.getAddress().getPort() + "/page")
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        //then
+        assertThat(preview).isNull();
+        assertThat(requestCount).hasValue(0);
+    }
+
+    private LinkPreviewFetcher fetcher(int maxBodyBytes, boolean allowPrivateHosts) {
+        return new LinkPreviewFetcher(WebClient.builder(), 1000, 2000, 3000, maxBodyBytes, allowPrivateHosts);
+    }
+
+    private void respond(HttpExchange exchange, String contentType, String body) throws IOException {
+        requestCount.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, bytes.length);
+
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+}
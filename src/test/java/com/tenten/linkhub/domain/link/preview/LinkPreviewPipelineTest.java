@@ -0,0 +1,177 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.tenten.linkhub.domain.link.repository.linkpreview.LinkPreviewJdbcRepository;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewDto;
+import com.tenten.linkhub.domain.link.repository.linkpreview.dto.LinkPreviewStatus;
+import com.tenten.linkhub.domain.space.version.SpaceVersionTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LinkPreviewPipelineTest {
+
+    private static final Long SPACE_ID = 1L;
+    private static final Long OTHER_SPACE_ID = 2L;
+    private static final String FIRST_URL = "https://linkhub.com/1";
+    private static final String SECOND_URL = "https://linkhub.com/2";
+    private static final String OTHER_HOST_URL = "https://tistory.com/1";
+
+    private LinkPreviewJdbcRepository linkPreviewJdbcRepository;
+    private LinkPreviewFetcher linkPreviewFetcher;
+    private SpaceVersionTracker spaceVersionTracker;
+    private SimpleMeterRegistry meterRegistry;
+    private Map<String, Sinks.One<LinkPreviewDto>> fetches;
+    private LinkPreviewPipeline linkPreviewPipeline;
+
+    @BeforeEach
+    void setUp() {
+        linkPreviewJdbcRepository = mock(LinkPreviewJdbcRepository.class);
+        linkPreviewFetcher = mock(LinkPreviewFetcher.class);
+        spaceVersionTracker = mock(SpaceVersionTracker.class);
+        meterRegistry = new SimpleMeterRegistry();
+        fetches = new ConcurrentHashMap<>();
+
+        when(linkPreviewFetcher.fetch(anyString())).thenAnswer(invocation -> fetches
+                .computeIfAbsent(invocation.getArgument(0), url -> Sinks.one())
+                .asMono());
+    }
+
+    @AfterEach
+    void tearDown() {
+        linkPreviewPipeline.stop();
+    }
+
+    @Test
+    @DisplayName("가져오는 중인 URL을 다시 요청하면 한 번만 가져온다.")
+    void request_sameUrlInFlight_fetchedOnce() {
+        //given
+        linkPreviewPipeline = pipeline(2, 1, 10);
+
+        //when
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL);
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL + "?utm_source=linkhub");
+
+        //then
+        verify(linkPreviewFetcher, times(1)).fetch(FIRST_URL);
+        assertThat(meterRegistry.get("link.preview.in-flight").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호스트 한도가 차면 같은 호스트 요청은 다시 큐에 넣었다가 앞선 요청이 끝난 뒤 가져온다.")
+    void request_hostLimitReached_requeuedUntilReleased() {
+        //given
+        linkPreviewPipeline = pipeline(4, 1, 10);
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL);
+
+        //when
+        linkPreviewPipeline.request(SPACE_ID, SECOND_URL);
+        linkPreviewPipeline.request(SPACE_ID, OTHER_HOST_URL);
+
+        //then
+        verify(linkPreviewFetcher).fetch(OTHER_HOST_URL);
+        verify(linkPreviewFetcher, after(200).never()).fetch(SECOND_URL);
+
+        fetches.get(FIRST_URL).tryEmitValue(new LinkPreviewDto("링크허브", "링크허브 설명", null));
+
+        verify(linkPreviewFetcher, timeout(1000)).fetch(SECOND_URL);
+        verify(linkPreviewJdbcRepository, timeout(1000))
+                .upsert(anyString(), eq(FIRST_URL), eq(LinkPreviewStatus.SUCCESS), any());
+        assertThat(meterRegistry.get("link.preview.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청을 버리고, 버린 URL은 다음에 다시 요청할 수 있다.")
+    void request_queueFull_dropped() {
+        //given
+        linkPreviewPipeline = pipeline(1, 1, 10);
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL);
+        linkPreviewPipeline.request(SPACE_ID, OTHER_HOST_URL);
+
+        //when
+        linkPreviewPipeline.request(SPACE_ID, SECOND_URL);
+
+        //then
+        assertThat(meterRegistry.get("link.preview.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("link.preview.in-flight").gauge().value()).isEqualTo(2);
+
+        fetches.get(FIRST_URL).tryEmitEmpty();
+        verify(linkPreviewFetcher, timeout(1000)).fetch(OTHER_HOST_URL);
+
+        linkPreviewPipeline.request(SPACE_ID, SECOND_URL);
+        fetches.get(OTHER_HOST_URL).tryEmitEmpty();
+        verify(linkPreviewFetcher, timeout(1000)).fetch(SECOND_URL);
+    }
+
+    @Test
+    @DisplayName("미리보기를 저장하면 가져오는 동안 요청한 스페이스들의 버전을 한 번씩 올린다.")
+    void increaseChangedSpaceVersions_afterSave_increasesRequestedSpaces() {
+        //given
+        linkPreviewPipeline = pipeline(2, 1, 10);
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL);
+        linkPreviewPipeline.request(OTHER_SPACE_ID, FIRST_URL);
+
+        //when
+        fetches.get(FIRST_URL).tryEmitValue(new LinkPreviewDto("링크허브", "링크허브 설명", null));
+
+        await().atMost(Duration.ofSeconds(1)).untilAsserted(() -> {
+            linkPreviewPipeline.increaseChangedSpaceVersions();
+            verify(spaceVersionTracker).increaseVersion(SPACE_ID);
+            verify(spaceVersionTracker).increaseVersion(OTHER_SPACE_ID);
+        });
+        linkPreviewPipeline.increaseChangedSpaceVersions();
+
+        //then
+        verify(linkPreviewFetcher, times(1)).fetch(FIRST_URL);
+        verify(spaceVersionTracker, times(1)).increaseVersion(SPACE_ID);
+        verify(spaceVersionTracker, times(1)).increaseVersion(OTHER_SPACE_ID);
+    }
+
+    @Test
+    @DisplayName("미리보기를 가져오지 못하면 응답이 그대로이므로 버전을 올리지 않는다.")
+    void increaseChangedSpaceVersions_afterFailure_keepsVersion() {
+        //given
+        linkPreviewPipeline = pipeline(2, 1, 10);
+        linkPreviewPipeline.request(SPACE_ID, FIRST_URL);
+
+        //when
+        fetches.get(FIRST_URL).tryEmitEmpty();
+        verify(linkPreviewJdbcRepository, timeout(1000))
+                .upsert(anyString(), eq(FIRST_URL), eq(LinkPreviewStatus.FAILED), any());
+        await().pollDelay(Duration.ofMillis(100)).atMost(Duration.ofSeconds(1))
+                .until(() -> meterRegistry.get("link.preview.in-flight").gauge().value() == 0);
+
+        linkPreviewPipeline.increaseChangedSpaceVersions();
+
+        //then
+        verify(spaceVersionTracker, never()).increaseVersion(SPACE_ID);
+    }
+
+    private LinkPreviewPipeline pipeline(int maxConcurrency, int queueCapacity, long hostRetryDelayMillis) {
+        LinkPreviewPipeline pipeline = new LinkPreviewPipeline(linkPreviewJdbcRepository, linkPreviewFetcher, spaceVersionTracker, meterRegistry,
+                true, maxConcurrency, 1, queueCapacity, 168, 24, hostRetryDelayMillis);
+        pipeline.start();
+
+        return pipeline;
+    }
+
+}
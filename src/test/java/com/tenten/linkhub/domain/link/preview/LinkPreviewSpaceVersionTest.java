@@ -0,0 +1,189 @@
+package com.tenten.linkhub.domain.link.preview;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.global.SpaceConditionalGetInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = {
+        "etag.space.enabled=true",
+        "link.preview.enabled=true",
+        "link.preview.allow-private-hosts=true",
+        "link.preview.version-flush-interval-millis=3600000"
+})
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class LinkPreviewSpaceVersionTest extends IntegrationApplicationTest {
+
+    private static final Object HANDLER = new Object();
+    private static final String PAGE = "<html><head><title>링크허브 미리보기</title></head><body>본문</body></html>";
+
+    @Autowired
+    private SpaceConditionalGetInterceptor spaceConditionalGetInterceptor;
+
+    @Autowired
+    private LinkPreviewPipeline linkPreviewPipeline;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final CountDownLatch pageReleased = new CountDownLatch(1);
+
+    private HttpServer server;
+    private Long memberId;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/page", exchange -> {
+            awaitRelease();
+            byte[] bytes = PAGE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        });
+        server.start();
+
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        spaceId = spaceJpaRepository.save(new Space(
+                memberId,
+                "미리보기 스페이스",
+                "미리보기 스페이스 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        )).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pageReleased.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("미리보기 없이 받은 링크 목록의 ETag로 다시 조회하면 미리보기를 저장한 뒤에는 304가 아니다.")
+    void preHandle_afterPreviewSaved_modified() {
+        //given
+        linkService.createLink(new LinkCreateRequest(
+                spaceId,
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/page",
+                "미리보기 링크",
+                "개발",
+                memberId,
+                "blue"
+        ));
+        String eTagWithoutPreview = currentETag();
+
+        //when
+        pageReleased.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> savedPreviewCount() == 1);
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            linkPreviewPipeline.increaseChangedSpaceVersions();
+
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            boolean proceed = spaceConditionalGetInterceptor.preHandle(linksRequest(eTagWithoutPreview), response, HANDLER);
+
+            assertThat(proceed).isTrue();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        });
+    }
+
+    private String currentETag() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        spaceConditionalGetInterceptor.preHandle(linksRequest(null), response, HANDLER);
+
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequest linksRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/spaces/" + spaceId + "/links");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("spaceId", String.valueOf(spaceId)));
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return request;
+    }
+
+    private long savedPreviewCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM link_previews WHERE status = 'SUCCESS'", Long.class);
+    }
+
+    private void awaitRelease() {
+        try {
+            pageReleased.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -16,8 +16,12 @@ import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.model.space.SpaceImage;
 import com.tenten.linkhub.domain.space.model.space.SpaceMember;
 import com.tenten.linkhub.domain.link.repository.link.LinkJpaRepository;
+import com.tenten.linkhub.domain.link.repository.link.dto.LinkViewDto;
+import com.tenten.linkhub.domain.link.repository.linkview.LinkViewJdbcRepository;
+import com.tenten.linkhub.domain.link.repository.linkview.dto.PendingLinkView;
 import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
 import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponse;
 import com.tenten.linkhub.domain.link.service.dto.LinkGetByQueryResponses;
 import com.tenten.linkhub.domain.link.service.dto.LinkUpdateRequest;
 import com.tenten.linkhub.domain.link.service.dto.LinksGetByQueryRequest;
@@ -31,7 +35,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,6 +59,9 @@ class DefaultLinkServiceTest extends IntegrationApplicationTest {
     @Autowired
     private SpaceJpaRepository spaceJpaRepository;
 
+    @Autowired
+    private LinkViewJdbcRepository linkViewJdbcRepository;
+
     private Long memberId1;
     private Long spaceId;
     private Long linkId;
@@ -183,6 +195,57 @@ class DefaultLinkServiceTest extends IntegrationApplicationTest {
         }
     }
 
+    @Test
+    @DisplayName("링크 목록에는 링크마다 최근 방문자를 최신순으로 5명까지, 방문자 수는 전체를 붙인다.")
+    void getLinks_Request_RecentViewersPerLink() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Long> viewerIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            viewerIds.add(saveViewer(i));
+        }
+
+        List<PendingLinkView> pendingLinkViews = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            pendingLinkViews.add(new PendingLinkView(spaceId, linkIds.get(0), viewerIds.get(i), now.plusMinutes(i)));
+        }
+        // 방문 시각이 같으면 나중에 쌓인 기록이 먼저 온다.
+        pendingLinkViews.add(new PendingLinkView(spaceId, linkIds.get(1), viewerIds.get(0), now));
+        pendingLinkViews.add(new PendingLinkView(spaceId, linkIds.get(1), viewerIds.get(1), now));
+        linkViewJdbcRepository.bulkInsertIgnore(pendingLinkViews);
+
+        LinksGetByQueryRequest request = new LinksGetByQueryRequest(
+                PageRequest.of(0, 10),
+                spaceId,
+                memberId1,
+                null
+        );
+
+        //when
+        LinkGetByQueryResponses links = linkService.getLinks(request);
+
+        //then
+        Map<Long, LinkGetByQueryResponse> responses = links.responses().getContent().stream()
+                .collect(Collectors.toMap(LinkGetByQueryResponse::linkId, Function.identity()));
+
+        LinkGetByQueryResponse manyViewers = responses.get(linkIds.get(0));
+        assertThat(manyViewers.linkViewHistories()).extracting(LinkViewDto::getMemberName)
+                .containsExactly("방문자6", "방문자5", "방문자4", "방문자3", "방문자2");
+        assertThat(manyViewers.linkViewHistories()).extracting(LinkViewDto::getMemberProfileImage)
+                .containsOnly("https://testprofileimage/viewer");
+        assertThat(manyViewers.viewerCount()).isEqualTo(7);
+
+        LinkGetByQueryResponse sameTimeViewers = responses.get(linkIds.get(1));
+        assertThat(sameTimeViewers.linkViewHistories()).extracting(LinkViewDto::getMemberName)
+                .containsExactly("방문자1", "방문자0");
+        assertThat(sameTimeViewers.viewerCount()).isEqualTo(2);
+
+        for (Long notViewedLinkId : List.of(linkIds.get(2), linkIds.get(3))) {
+            assertThat(responses.get(notViewedLinkId).linkViewHistories()).isEmpty();
+            assertThat(responses.get(notViewedLinkId).viewerCount()).isZero();
+        }
+    }
+
     @Test
     @DisplayName("사용자는 인기 있는 링크 리스트 5개를 확인할 수 있다.")
     void getPopularLinks_memberId_Success() {
@@ -195,7 +258,7 @@ class DefaultLinkServiceTest extends IntegrationApplicationTest {
         }
 
         //when
-        PopularLinksGetByQueryResponses popularLinks = linkService.getPopularLinks(memberId1);
+        PopularLinksGetByQueryResponses popularLinks = linkService.getPopularLinks(memberId1, null);
 
         //then
         assertThat(popularLinks.responses()).hasSizeLessThanOrEqualTo(5);
@@ -211,7 +274,7 @@ class DefaultLinkServiceTest extends IntegrationApplicationTest {
         linkService.createLike(linkIds.get(0), memberId1);
 
         //when
-        PopularLinksGetByQueryResponses popularLinks = linkService.getPopularLinks(memberId1);
+        PopularLinksGetByQueryResponses popularLinks = linkService.getPopularLinks(memberId1, null);
 
         //then
         assertThat(popularLinks.responses()).hasSizeLessThanOrEqualTo(5);
@@ -222,6 +285,20 @@ class DefaultLinkServiceTest extends IntegrationApplicationTest {
 
     }
 
+    private Long saveViewer(int index) {
+        return memberJpaRepository.save(new Member(
+                "viewerSocialId" + index,
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "방문자" + index,
+                "소개 데이터",
+                "viewer" + index + "@gmail.com",
+                false,
+                new ProfileImage("https://testprofileimage/viewer", "테스트용 방문자 프로필 이미지"),
+                new FavoriteCategory(Category.ENTER_ART)
+        )).getId();
+    }
+
     private void setUpTestData() {
         Member member1 = new Member(
                 "123456",
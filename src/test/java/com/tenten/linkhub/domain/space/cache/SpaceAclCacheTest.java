@@ -0,0 +1,239 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.notification.model.Notification;
+import com.tenten.linkhub.domain.notification.model.NotificationType;
+import com.tenten.linkhub.domain.notification.repository.NotificationJpaRepository;
+import com.tenten.linkhub.domain.space.facade.SpaceFacade;
+import com.tenten.linkhub.domain.space.facade.SpaceInvitationFacade;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Invitation;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.invitation.InvitationJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.space.service.dto.invitation.SpaceInvitationAcceptRequest;
+import com.tenten.linkhub.domain.space.service.dto.spacemember.SpaceMemberRoleChangeRequest;
+import com.tenten.linkhub.global.exception.DataNotFoundException;
+import com.tenten.linkhub.global.exception.UnauthorizedAccessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@TestPropertySource(properties = "cache.space-acl.enabled=true")
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceAclCacheTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceAclCache spaceAclCache;
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private SpaceFacade spaceFacade;
+
+    @Autowired
+    private SpaceInvitationFacade spaceInvitationFacade;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private InvitationJpaRepository invitationJpaRepository;
+
+    @Autowired
+    private NotificationJpaRepository notificationJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long ownerId;
+    private Long editorId;
+    private Long viewerId;
+    private Long outsiderId;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = memberJpaRepository.save(member("ownerSocialId", "스페이스 주인", "owner@gmail.com")).getId();
+        editorId = memberJpaRepository.save(member("editorSocialId", "스페이스 편집자", "editor@gmail.com")).getId();
+        viewerId = memberJpaRepository.save(member("viewerSocialId", "스페이스 구경꾼", "viewer@gmail.com")).getId();
+        outsiderId = memberJpaRepository.save(member("outsiderSocialId", "스페이스 밖 유저", "outsider@gmail.com")).getId();
+
+        Space space = space("비공개 스페이스", false);
+        space.addSpaceMember(new SpaceMember(editorId, Role.CAN_EDIT));
+        space.addSpaceMember(new SpaceMember(viewerId, Role.CAN_VIEW));
+        spaceId = spaceJpaRepository.save(space).getId();
+
+        // 테이블을 비우면 id가 다시 쓰이므로 이전 테스트가 담아 둔 ACL을 비운다.
+        spaceAclCache.invalidate(spaceId);
+    }
+
+    @Test
+    @DisplayName("OWNER와 CAN_EDIT만 링크를 수정할 수 있다.")
+    void checkMemberEditLink_byRole() {
+        //when & then
+        assertThatCode(() -> spaceService.checkMemberEditLink(ownerId, spaceId)).doesNotThrowAnyException();
+        assertThatCode(() -> spaceService.checkMemberEditLink(editorId, spaceId)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(viewerId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(outsiderId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("비공개 스페이스는 멤버만 볼 수 있고, 공개 스페이스는 누구나 볼 수 있다.")
+    void checkMemberCanViewLink_byVisibility() {
+        //given
+        Long publicSpaceId = spaceJpaRepository.save(space("공개 스페이스", true)).getId();
+        spaceAclCache.invalidate(publicSpaceId);
+
+        //when & then
+        assertThatCode(() -> spaceService.checkMemberCanViewLink(viewerId, spaceId)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> spaceService.checkMemberCanViewLink(outsiderId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+        assertThatCode(() -> spaceService.checkMemberCanViewLink(outsiderId, publicSpaceId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("역할을 낮추면 커밋 전까지는 이전 역할을 따르고, 커밋 뒤에는 캐시에 남은 역할로 허용하지 않는다.")
+    void changeSpaceMembersRole_staleEntryDoesNotGrant() {
+        //given
+        spaceService.checkMemberEditLink(editorId, spaceId);
+
+        //when
+        Boolean canEditBeforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            spaceService.changeSpaceMembersRole(new SpaceMemberRoleChangeRequest(spaceId, ownerId, editorId, Role.CAN_VIEW));
+            return spaceAclCache.get(spaceId).canEditLink(editorId);
+        });
+
+        //then
+        assertThat(canEditBeforeCommit).isTrue();
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(editorId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보낸 무효화 메시지를 받으면 바뀐 역할을 다시 읽는다.")
+    void onMessage_invalidatesEntry() {
+        //given
+        spaceService.checkMemberEditLink(editorId, spaceId);
+        jdbcTemplate.update("UPDATE space_members SET role = 'CAN_VIEW' WHERE space_id = ? AND member_id = ?", spaceId, editorId);
+
+        //when
+        spaceAclCache.onMessage(new DefaultMessage(
+                "SpaceAcl:invalidate".getBytes(StandardCharsets.UTF_8),
+                String.valueOf(spaceId).getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(editorId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("스페이스를 나간 멤버는 캐시에 남은 멤버십으로 비공개 스페이스를 볼 수 없다.")
+    void deleteSpaceMemberByMe_invalidatesEntry() {
+        //given
+        spaceService.checkMemberCanViewLink(viewerId, spaceId);
+
+        //when
+        spaceService.deleteSpaceMemberByMe(spaceId, viewerId);
+
+        //then
+        assertThatThrownBy(() -> spaceService.checkMemberCanViewLink(viewerId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
+
+    @Test
+    @DisplayName("초대를 수락하면 캐시를 다시 읽어 새 멤버의 역할이 바로 반영된다.")
+    void acceptSpaceInvitation_invalidatesEntry() {
+        //given
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(outsiderId, spaceId))
+                .isInstanceOf(UnauthorizedAccessException.class);
+
+        Long notificationId = notificationJpaRepository.save(Notification.builder()
+                .senderId(ownerId)
+                .recipientId(outsiderId)
+                .notificationType(NotificationType.INVITATION)
+                .build()).getId();
+        invitationJpaRepository.save(new Invitation(spaceJpaRepository.findById(spaceId).get(), Role.CAN_EDIT, outsiderId, notificationId));
+
+        //when
+        spaceInvitationFacade.acceptSpaceInvitation(new SpaceInvitationAcceptRequest(outsiderId, notificationId));
+
+        //then
+        assertThatCode(() -> spaceService.checkMemberEditLink(outsiderId, spaceId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("삭제된 스페이스는 캐시에 남은 ACL로 허용하지 않는다.")
+    void deleteSpace_invalidatesEntry() {
+        //given
+        spaceService.checkMemberEditLink(ownerId, spaceId);
+
+        //when
+        spaceFacade.deleteSpace(spaceId, ownerId);
+
+        //then
+        assertThatThrownBy(() -> spaceService.checkMemberEditLink(ownerId, spaceId))
+                .isInstanceOf(DataNotFoundException.class);
+    }
+
+    private Space space(String spaceName, boolean isVisible) {
+        return new Space(
+                ownerId,
+                spaceName,
+                spaceName + " 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(ownerId, Role.OWNER),
+                isVisible,
+                true,
+                true,
+                true
+        );
+    }
+
+    private Member member(String socialId, String nickname, String email) {
+        return new Member(
+                socialId,
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                nickname,
+                "테스트용 소개글",
+                email,
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        );
+    }
+
+}
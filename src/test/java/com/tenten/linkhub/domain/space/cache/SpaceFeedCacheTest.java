@@ -0,0 +1,227 @@
+package com.tenten.linkhub.domain.space.cache;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.facade.SpaceFacade;
+import com.tenten.linkhub.domain.space.facade.dto.SpaceCreateFacadeRequest;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.favorite.FavoriteJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.service.FavoriteService;
+import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponse;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = "cache.space-feed.enabled=true")
+class SpaceFeedCacheTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private SpaceFacade spaceFacade;
+
+    @Autowired
+    private SpaceFeedCache spaceFeedCache;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private FavoriteJpaRepository favoriteJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        spaceFeedCache.evictCategories(Category.values());
+
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        favoriteJpaRepository.deleteAll();
+        spaceJpaRepository.deleteAll();
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("캐시된 공개 스페이스 피드는 무효화 전까지 같은 페이지를 응답한다.")
+    void findPublicSpacesWithFilter_returnsCachedPage() {
+        //given
+        PublicSpacesFindWithFilterRequest request = feedRequest(Category.ENTER_ART);
+        SpacesFindWithCursorResponses cachedResponse = spaceService.findPublicSpacesWithFilter(request);
+
+        spaceJpaRepository.save(space("캐시를 거치지 않은 스페이스", Category.ENTER_ART));
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(request);
+
+        //then
+        assertThat(cachedResponse.responses().getContent()).isEmpty();
+        assertThat(response.responses().getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스페이스가 생성되면 캐시된 공개 스페이스 필터 조회 결과가 무효화된다.")
+    void findPublicSpacesWithFilter_evictCacheWhenSpaceCreated() {
+        //given
+        PublicSpacesFindWithFilterRequest request = feedRequest(Category.ENTER_ART);
+        SpacesFindWithCursorResponses cachedResponse = spaceService.findPublicSpacesWithFilter(request);
+
+        spaceFacade.createSpace(createRequest("다섯번째 스페이스", Category.ENTER_ART));
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(request);
+
+        //then
+        assertThat(cachedResponse.responses().getContent()).isEmpty();
+        assertThat(response.responses().getContent().size()).isEqualTo(1);
+        assertThat(response.responses().getContent().get(0).spaceName()).isEqualTo("다섯번째 스페이스");
+    }
+
+    @Test
+    @DisplayName("스페이스가 생성되면 그 카테고리와 전체 피드만 무효화되고 다른 카테고리 피드는 캐시에 남는다.")
+    void findPublicSpacesWithFilter_evictOnlySameCategoryAndAll() {
+        //given
+        PublicSpacesFindWithFilterRequest enterArtRequest = feedRequest(Category.ENTER_ART);
+        PublicSpacesFindWithFilterRequest allRequest = feedRequest(null);
+        spaceService.findPublicSpacesWithFilter(enterArtRequest);
+        spaceService.findPublicSpacesWithFilter(allRequest);
+
+        spaceJpaRepository.save(space("캐시를 거치지 않은 스페이스", Category.ENTER_ART));
+        spaceFacade.createSpace(createRequest("지식 스페이스", Category.KNOWLEDGE_ISSUE_CAREER));
+
+        //when
+        SpacesFindWithCursorResponses enterArtResponse = spaceService.findPublicSpacesWithFilter(enterArtRequest);
+        SpacesFindWithCursorResponses allResponse = spaceService.findPublicSpacesWithFilter(allRequest);
+
+        //then
+        assertThat(enterArtResponse.responses().getContent()).isEmpty();
+        assertThat(allResponse.responses().getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기가 바뀌면 그 스페이스 카테고리의 즐겨찾기순 피드가 무효화되고 다른 카테고리 피드는 캐시에 남는다.")
+    void findPublicSpacesWithFilter_evictSameCategoryWhenFavoriteChanged() {
+        //given
+        Long favoriteMemberId = memberJpaRepository.save(new Member(
+                "favoriteSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "즐겨찾기 하는 사람",
+                "테스트용 소개글",
+                "favorite@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.ENTER_ART)
+        )).getId();
+        Long favoriteSpaceId = spaceJpaRepository.save(space("즐겨찾기 받을 스페이스", Category.ENTER_ART)).getId();
+        spaceJpaRepository.save(space("나중에 만든 스페이스", Category.ENTER_ART));
+
+        PublicSpacesFindWithFilterRequest enterArtRequest = feedRequest(Category.ENTER_ART, "favorite_count");
+        PublicSpacesFindWithFilterRequest knowledgeRequest = feedRequest(Category.KNOWLEDGE_ISSUE_CAREER, "favorite_count");
+        assertThat(spaceService.findPublicSpacesWithFilter(enterArtRequest).responses().getContent().get(0).spaceId())
+                .isNotEqualTo(favoriteSpaceId);
+        spaceService.findPublicSpacesWithFilter(knowledgeRequest);
+
+        spaceJpaRepository.save(space("캐시를 거치지 않은 스페이스", Category.KNOWLEDGE_ISSUE_CAREER));
+
+        //when
+        favoriteService.createFavorite(favoriteSpaceId, favoriteMemberId);
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            SpacesFindByQueryResponse first = spaceService.findPublicSpacesWithFilter(enterArtRequest).responses().getContent().get(0);
+            return first.spaceId().equals(favoriteSpaceId) && first.favoriteCount() == 1L;
+        });
+        assertThat(spaceService.findPublicSpacesWithFilter(knowledgeRequest).responses().getContent()).isEmpty();
+
+        favoriteService.cancelFavoriteSpace(favoriteSpaceId, favoriteMemberId);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> spaceService.findPublicSpacesWithFilter(enterArtRequest)
+                .responses().getContent().stream()
+                .filter(response -> response.spaceId().equals(favoriteSpaceId))
+                .allMatch(response -> response.favoriteCount() == 0L));
+    }
+
+    private PublicSpacesFindWithFilterRequest feedRequest(Category category) {
+        return feedRequest(category, "created_at");
+    }
+
+    private PublicSpacesFindWithFilterRequest feedRequest(Category category, String sort) {
+        return new PublicSpacesFindWithFilterRequest(
+                SpaceCursorPageRequest.of(10, sort, category),
+                null,
+                null,
+                null);
+    }
+
+    private SpaceCreateFacadeRequest createRequest(String spaceName, Category category) {
+        return new SpaceCreateFacadeRequest(
+                spaceName,
+                spaceName + " 소개글",
+                category,
+                true,
+                true,
+                true,
+                true,
+                memberId,
+                null
+        );
+    }
+
+    private Space space(String spaceName, Category category) {
+        return new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                category,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        );
+    }
+
+}
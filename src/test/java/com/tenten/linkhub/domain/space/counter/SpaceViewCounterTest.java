@@ -0,0 +1,72 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import com.tenten.linkhub.domain.space.readmodel.SpaceCardProjector;
+import com.tenten.linkhub.domain.space.repository.space.SpaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SpaceViewCounterTest {
+
+    @Test
+    @DisplayName("flush가 빈 항목을 지우는 동안 들어온 증가분도 잃지 않고 반영한다.")
+    void flush_concurrentIncrease_doesNotLoseViews() throws InterruptedException {
+        //given
+        AtomicLong flushedViewCount = new AtomicLong();
+        SpaceRepository spaceRepository = mock(SpaceRepository.class);
+        doAnswer(invocation -> {
+            Map<Long, Long> viewCountDeltas = invocation.getArgument(0);
+            viewCountDeltas.values().forEach(flushedViewCount::addAndGet);
+            return null;
+        }).when(spaceRepository).increaseViewCounts(anyMap());
+
+        SpaceViewCounter spaceViewCounter = new SpaceViewCounter(spaceRepository, mock(SpaceCardProjector.class),
+                new SimpleMeterRegistry(), true, 500);
+
+        int threadCount = 4;
+        int increasePerThread = 20_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicBoolean increasing = new AtomicBoolean(true);
+
+        //when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < increasePerThread; j++) {
+                    spaceViewCounter.increase(1L);
+                }
+                latch.countDown();
+            });
+        }
+
+        Thread flusher = new Thread(() -> {
+            while (increasing.get()) {
+                spaceViewCounter.flush();
+            }
+        });
+        flusher.start();
+
+        latch.await(10, TimeUnit.SECONDS);
+        increasing.set(false);
+        flusher.join();
+        spaceViewCounter.flush();
+        executorService.shutdown();
+
+        //then
+        assertThat(flushedViewCount.get()).isEqualTo((long) threadCount * increasePerThread);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.tenten.linkhub.domain.space.counter;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.space.repository.spaceview.SpaceViewRedisRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@TestPropertySource(properties = {
+        "counter.space-view.dedup.enabled=true",
+        "counter.space-view.dedup.circuit.failure-threshold=2",
+        "counter.space-view.dedup.circuit.open-seconds=600"
+})
+class SpaceViewDeduplicatorTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceViewDeduplicator spaceViewDeduplicator;
+
+    @MockBean
+    private SpaceViewRedisRepository spaceViewRedisRepository;
+
+    @Test
+    @DisplayName("같은 비회원이 다시 조회하면 Redis를 거치지 않고 중복 조회로 판별한다.")
+    void isFirstView_sameGuest_deduplicated() {
+        //given
+        given(spaceViewRedisRepository.markViewed(eq(1L), eq("guest:abc"), any())).willReturn(true);
+
+        //when
+        boolean firstView = spaceViewDeduplicator.isFirstView(1L, null, "abc");
+        boolean secondView = spaceViewDeduplicator.isFirstView(1L, null, "abc");
+
+        //then
+        assertThat(firstView).isTrue();
+        assertThat(secondView).isFalse();
+        verify(spaceViewRedisRepository, times(1)).markViewed(eq(1L), eq("guest:abc"), any());
+        verify(spaceViewRedisRepository, times(1)).addViewer(1L, "guest:abc");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 이미 본 회원이면 Redis 판별로 중복 조회가 된다.")
+    void isFirstView_viewedOnRedis_deduplicated() {
+        //given
+        given(spaceViewRedisRepository.markViewed(eq(2L), eq("member:10"), any())).willReturn(false);
+
+        //when
+        boolean firstView = spaceViewDeduplicator.isFirstView(2L, 10L, null);
+
+        //then
+        assertThat(firstView).isFalse();
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Redis 호출이 연속으로 실패하면 첫 조회로 보고, 서킷이 열린 뒤에는 Redis를 호출하지 않는다.")
+    void isFirstView_redisDown_failsOpen() {
+        //given
+        given(spaceViewRedisRepository.markViewed(anyLong(), anyString(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        //when
+        boolean firstView = spaceViewDeduplicator.isFirstView(3L, null, "guest1");
+        boolean secondView = spaceViewDeduplicator.isFirstView(3L, null, "guest2");
+        boolean thirdView = spaceViewDeduplicator.isFirstView(3L, null, "guest3");
+        Long uniqueViewerCount = spaceViewDeduplicator.getUniqueViewerCount(3L);
+
+        //then
+        assertThat(firstView).isTrue();
+        assertThat(secondView).isTrue();
+        assertThat(thirdView).isTrue();
+        assertThat(uniqueViewerCount).isNull();
+        verify(spaceViewRedisRepository, times(2)).markViewed(anyLong(), anyString(), any());
+        verify(spaceViewRedisRepository, times(0)).countViewers(3L);
+    }
+
+}
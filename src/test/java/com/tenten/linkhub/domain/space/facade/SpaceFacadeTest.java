@@ -36,7 +36,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -120,7 +119,7 @@ class SpaceFacadeTest extends IntegrationApplicationTest {
         SpaceDetailGetByIdFacadeRequest request = new SpaceDetailGetByIdFacadeRequest(
                 mySpaceId,
                 myMemberId,
-                new ArrayList<>());
+                null);
 
         //when
         SpaceDetailGetByIdFacadeResponse response = spaceFacade.getSpaceDetailById(request);
@@ -149,7 +148,7 @@ class SpaceFacadeTest extends IntegrationApplicationTest {
         SpaceDetailGetByIdFacadeRequest request = new SpaceDetailGetByIdFacadeRequest(
                 mySpaceId,
                 myMemberId + 100,
-                new ArrayList<>());
+                null);
 
         //when//then
         assertThatThrownBy(() -> spaceFacade.getSpaceDetailById(request))
@@ -163,7 +162,7 @@ class SpaceFacadeTest extends IntegrationApplicationTest {
         SpaceDetailGetByIdFacadeRequest request = new SpaceDetailGetByIdFacadeRequest(
                 mySpaceId,
                 myMemberId,
-                new ArrayList<>());
+                null);
 
         //when
         SpaceDetailGetByIdFacadeResponse response = spaceFacade.getSpaceDetailById(request);
@@ -0,0 +1,200 @@
+package com.tenten.linkhub.domain.space.readmodel;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.model.card.SpaceCardView;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.favorite.FavoriteJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.repository.spacecard.SpaceCardJpaRepository;
+import com.tenten.linkhub.domain.space.service.FavoriteService;
+import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = "read-model.space-card.enabled=true")
+class SpaceCardReadModelTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceCardProjector spaceCardProjector;
+
+    @Autowired
+    private SpaceCardRebuilder spaceCardRebuilder;
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private SpaceCardJpaRepository spaceCardJpaRepository;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private FavoriteJpaRepository favoriteJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long firstSpaceId;
+    private Long secondSpaceId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        firstSpaceId = saveSpace("첫번째 스페이스", "https://testimage1");
+        secondSpaceId = saveSpace("두번째 스페이스", "https://testimage2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM space_cards");
+        favoriteJpaRepository.deleteAll();
+        spaceJpaRepository.deleteAll();
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재구성은 카운터를 포함해 원본 스페이스로 카드를 만들고 삭제된 스페이스의 카드를 지운다.")
+    void rebuild_copiesSourceAndDeletesOrphans() {
+        //given
+        jdbcTemplate.update("UPDATE spaces SET view_count = 5, scrap_count = 2, favorite_count = 3 WHERE id = ?", firstSpaceId);
+        spaceCardRebuilder.rebuild();
+        jdbcTemplate.update("UPDATE spaces SET is_deleted = true WHERE id = ?", secondSpaceId);
+
+        //when
+        spaceCardRebuilder.rebuild();
+
+        //then
+        SpaceCardView firstCard = spaceCardJpaRepository.findById(firstSpaceId).get();
+
+        assertThat(firstCard.getSpaceName()).isEqualTo("첫번째 스페이스");
+        assertThat(firstCard.getSpaceImagePath()).isEqualTo("https://testimage1");
+        assertThat(firstCard.getOwnerNickName()).isEqualTo("잠자는 사자의 콧털");
+        assertThat(firstCard.getViewCount()).isEqualTo(5L);
+        assertThat(firstCard.getScrapCount()).isEqualTo(2L);
+        assertThat(firstCard.getFavoriteCount()).isEqualTo(3L);
+        assertThat(spaceCardJpaRepository.findById(secondSpaceId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신은 원본 스페이스의 현재 속성을 카드에 반영한다.")
+    void refresh_appliesSourceAttributes() {
+        //given
+        jdbcTemplate.update("UPDATE spaces SET space_name = ? WHERE id = ?", "이름이 바뀐 스페이스", firstSpaceId);
+
+        //when
+        spaceCardProjector.refresh(firstSpaceId, Instant.now());
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> findCard(firstSpaceId)
+                .map(card -> card.getSpaceName().equals("이름이 바뀐 스페이스"))
+                .orElse(false));
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 카운터는 갱신과 겹쳐도 두 번 더해지지 않는다.")
+    void syncCounters_doesNotDoubleCountWithRefresh() {
+        //given
+        spaceCardRebuilder.rebuild();
+
+        //when
+        favoriteService.createFavorite(firstSpaceId, memberId);
+        spaceCardProjector.refresh(firstSpaceId, Instant.now());
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> findCard(firstSpaceId)
+                .map(card -> card.getFavoriteCount() == 1L)
+                .orElse(false));
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(2)).until(() -> findCard(firstSpaceId)
+                .map(card -> card.getFavoriteCount() == 1L)
+                .orElse(false));
+    }
+
+    @Test
+    @DisplayName("읽기 모델이 켜져 있으면 피드와 커서 검색은 space_cards에서 조회한다.")
+    void readPaths_readFromSpaceCards() {
+        //given
+        spaceCardRebuilder.rebuild();
+        jdbcTemplate.update("UPDATE space_cards SET space_name = ? WHERE space_id = ?", "카드전용 스페이스", firstSpaceId);
+
+        SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(10, "created_at", Category.KNOWLEDGE_ISSUE_CAREER);
+
+        //when
+        List<SpacesFindByQueryResponse> feed = spaceService.findPublicSpacesWithFilter(
+                new PublicSpacesFindWithFilterRequest(pageRequest, null, null, null)).responses().getContent();
+        List<SpacesFindByQueryResponse> searched = spaceService.searchPublicSpacesWithCursor(
+                new PublicSpacesSearchWithCursorRequest(pageRequest, "카드전용", null, null, null, null)).responses().getContent();
+
+        //then
+        assertThat(feed)
+                .extracting(SpacesFindByQueryResponse::spaceName)
+                .containsExactly("두번째 스페이스", "카드전용 스페이스");
+        assertThat(searched)
+                .extracting(SpacesFindByQueryResponse::spaceId)
+                .containsExactly(firstSpaceId);
+    }
+
+    private Optional<SpaceCardView> findCard(Long spaceId) {
+        return spaceCardJpaRepository.findById(spaceId);
+    }
+
+    private Long saveSpace(String spaceName, String imagePath) {
+        return spaceJpaRepository.save(new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage(imagePath, "테스트 이미지"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        )).getId();
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.tenten.linkhub.domain.space.repository.space.querydsl;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.CursorPageQueryCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceQueryDslRepositoryTest extends IntegrationApplicationTest {
+
+    private static final String OWNER_NICKNAME = "잠자는 사자의 콧털";
+
+    @Autowired
+    private SpaceQueryDslRepository spaceQueryDslRepository;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    private Long firstSpaceId;
+    private Long secondSpaceId;
+    private Long thirdSpaceId;
+    private Long fourthSpaceId;
+    private Long fifthSpaceId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                OWNER_NICKNAME,
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.ENTER_ART)
+        )).getId();
+
+        // 즐겨찾기 수가 같은 스페이스(3)가 페이지 경계에 걸치도록 둔다.
+        firstSpaceId = saveSpace("첫번째", Category.ENTER_ART, true, 5L);
+        secondSpaceId = saveSpace("두번째", Category.ENTER_ART, true, 3L);
+        thirdSpaceId = saveSpace("세번째", Category.ENTER_ART, true, 3L);
+        fourthSpaceId = saveSpace("네번째", Category.ENTER_ART, true, 3L);
+        fifthSpaceId = saveSpace("다섯번째", Category.ENTER_ART, true, 0L);
+
+        // 필터와 공개 여부에 걸러져야 하는 스페이스는 즐겨찾기 수를 가장 크게 둔다.
+        saveSpace("다른 카테고리", Category.KNOWLEDGE_ISSUE_CAREER, true, 10L);
+        saveSpace("비공개", Category.ENTER_ART, false, 10L);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 순으로 카테고리 필터를 걸어 끝까지 넘기면 같은 수 안에서는 id 역순이고 누락이나 중복이 없다.")
+    void findPublicSpacesJoinSpaceImageByCondition_favoriteCountSort_pagesThroughCategory() {
+        //when
+        SpaceCursorSlice<SpaceCard> firstPage = findPage("favorite_count", null, null);
+        SpaceCursorSlice<SpaceCard> secondPage = findPage("favorite_count", firstPage.getLastFavoriteCount(), firstPage.getLastId());
+        SpaceCursorSlice<SpaceCard> lastPage = findPage("favorite_count", secondPage.getLastFavoriteCount(), secondPage.getLastId());
+
+        //then
+        assertThat(spaceIds(firstPage)).containsExactly(firstSpaceId, fourthSpaceId);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getLastFavoriteCount()).isEqualTo(3L);
+        assertThat(firstPage.getLastId()).isEqualTo(fourthSpaceId);
+
+        assertThat(spaceIds(secondPage)).containsExactly(thirdSpaceId, secondSpaceId);
+        assertThat(secondPage.getHasNext()).isTrue();
+        assertThat(secondPage.getLastFavoriteCount()).isEqualTo(3L);
+        assertThat(secondPage.getLastId()).isEqualTo(secondSpaceId);
+
+        assertThat(spaceIds(lastPage)).containsExactly(fifthSpaceId);
+        assertThat(lastPage.getHasNext()).isFalse();
+
+        assertThat(firstPage.getContent()).extracting(SpaceCard::favoriteCount).containsExactly(5L, 3L);
+        assertThat(secondPage.getContent()).extracting(SpaceCard::favoriteCount).containsExactly(3L, 3L);
+        assertHydrated(firstPage, secondPage, lastPage);
+    }
+
+    @Test
+    @DisplayName("최신순으로 카테고리 필터를 걸어 끝까지 넘기면 id 역순이고 누락이나 중복이 없다.")
+    void findPublicSpacesJoinSpaceImageByCondition_createdAtSort_pagesThroughCategory() {
+        //when
+        SpaceCursorSlice<SpaceCard> firstPage = findPage("created_at", null, null);
+        SpaceCursorSlice<SpaceCard> secondPage = findPage("created_at", firstPage.getLastFavoriteCount(), firstPage.getLastId());
+        SpaceCursorSlice<SpaceCard> lastPage = findPage("created_at", secondPage.getLastFavoriteCount(), secondPage.getLastId());
+
+        //then
+        assertThat(spaceIds(firstPage)).containsExactly(fifthSpaceId, fourthSpaceId);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getLastId()).isEqualTo(fourthSpaceId);
+
+        assertThat(spaceIds(secondPage)).containsExactly(thirdSpaceId, secondSpaceId);
+        assertThat(secondPage.getHasNext()).isTrue();
+        assertThat(secondPage.getLastId()).isEqualTo(secondSpaceId);
+
+        assertThat(spaceIds(lastPage)).containsExactly(firstSpaceId);
+        assertThat(lastPage.getHasNext()).isFalse();
+
+        assertHydrated(firstPage, secondPage, lastPage);
+    }
+
+    @Test
+    @DisplayName("페이지 크기에 딱 맞게 끝나면 마지막 페이지의 hasNext는 false다.")
+    void findPublicSpacesJoinSpaceImageByCondition_exactPageSize_hasNoNext() {
+        //when
+        SpaceCursorSlice<SpaceCard> page = spaceQueryDslRepository.findPublicSpacesJoinSpaceImageByCondition(new CursorPageQueryCondition(
+                SpaceCursorPageRequest.of(5, "favorite_count", Category.ENTER_ART), null, null));
+
+        //then
+        assertThat(spaceIds(page)).containsExactly(firstSpaceId, fourthSpaceId, thirdSpaceId, secondSpaceId, fifthSpaceId);
+        assertThat(page.getHasNext()).isFalse();
+        assertThat(page.getLastFavoriteCount()).isEqualTo(0L);
+        assertThat(page.getLastId()).isEqualTo(fifthSpaceId);
+    }
+
+    @Test
+    @DisplayName("카드는 넘겨준 spaceId 순서대로 돌려주고, 없는 id는 빼고 돌려준다.")
+    void findSpaceCardsByIds_keepsRequestedOrder() {
+        //given
+        List<Long> spaceIds = List.of(thirdSpaceId, fifthSpaceId, firstSpaceId, Long.MAX_VALUE, secondSpaceId);
+
+        //when
+        List<SpaceCard> spaceCards = spaceQueryDslRepository.findSpaceCardsByIds(spaceIds);
+
+        //then
+        assertThat(spaceCards).extracting(SpaceCard::spaceId)
+                .containsExactly(thirdSpaceId, fifthSpaceId, firstSpaceId, secondSpaceId);
+        assertThat(spaceCards).extracting(SpaceCard::spaceName)
+                .containsExactly("세번째 스페이스", "다섯번째 스페이스", "첫번째 스페이스", "두번째 스페이스");
+        assertThat(spaceCards).extracting(SpaceCard::spaceImagePath)
+                .containsExactly("https://testimage/세번째", "https://testimage/다섯번째", "https://testimage/첫번째", "https://testimage/두번째");
+    }
+
+    private SpaceCursorSlice<SpaceCard> findPage(String sort, Long lastFavoriteCount, Long lastSpaceId) {
+        return spaceQueryDslRepository.findPublicSpacesJoinSpaceImageByCondition(new CursorPageQueryCondition(
+                SpaceCursorPageRequest.of(2, sort, Category.ENTER_ART),
+                lastFavoriteCount,
+                lastSpaceId));
+    }
+
+    private List<Long> spaceIds(SpaceCursorSlice<SpaceCard> slice) {
+        return slice.getContent()
+                .stream()
+                .map(SpaceCard::spaceId)
+                .toList();
+    }
+
+    /**
+     * 정렬된 id로 다시 채운 카드가 자기 스페이스의 이름, 썸네일, 소유자 닉네임을 갖는지 확인한다.
+     */
+    @SafeVarargs
+    private void assertHydrated(SpaceCursorSlice<SpaceCard>... pages) {
+        for (SpaceCursorSlice<SpaceCard> page : pages) {
+            page.getContent().forEach(spaceCard -> {
+                String name = spaceCard.spaceName().replace(" 스페이스", "");
+
+                assertThat(spaceCard.category()).isEqualTo(Category.ENTER_ART);
+                assertThat(spaceCard.isVisible()).isTrue();
+                assertThat(spaceCard.spaceImagePath()).isEqualTo("https://testimage/" + name);
+                assertThat(spaceCard.ownerNickName()).isEqualTo(OWNER_NICKNAME);
+                assertThat(spaceJpaRepository.findById(spaceCard.spaceId()).get().getSpaceName()).isEqualTo(spaceCard.spaceName());
+            });
+        }
+    }
+
+    private Long saveSpace(String name, Category category, boolean isVisible, Long favoriteCount) {
+        Long spaceId = spaceJpaRepository.save(new Space(
+                memberId,
+                name + " 스페이스",
+                name + " 스페이스 소개글",
+                category,
+                new SpaceImage("https://testimage/" + name, "테스트 이미지 " + name),
+                new SpaceMember(memberId, Role.OWNER),
+                isVisible,
+                true,
+                true,
+                false
+        )).getId();
+        jdbcTemplate.update("UPDATE spaces SET favorite_count = ? WHERE id = ?", favoriteCount, spaceId);
+
+        return spaceId;
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.tenten.linkhub.domain.space.scrap;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.facade.SpaceFacade;
+import com.tenten.linkhub.domain.space.facade.dto.NewSpacesScrapFacadeRequest;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.scrap.dto.ScrapCopyStatus;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.space.service.dto.space.ScrapProgressGetResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "scrap.copy.async.enabled=true",
+        "scrap.copy.sync-link-limit=2",
+        "scrap.copy.link-limit=100",
+        "scrap.copy.chunk-size=2",
+        "scrap.copy.chunks-per-poll=1",
+        "scrap.copy.poll-interval-millis=3600000"
+})
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceScrapCopierTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceScrapCopier spaceScrapCopier;
+
+    @Autowired
+    private SpaceFacade spaceFacade;
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long myMemberId;
+    private Long sourceSpaceId;
+
+    @BeforeEach
+    void setUp() {
+        myMemberId = memberJpaRepository.save(member("mySocialId", "잠자는 사자의 콧털", "my@gmail.com")).getId();
+        Long anotherMemberId = memberJpaRepository.save(member("anotherSocialId", "백둥이", "another@gmail.com")).getId();
+
+        sourceSpaceId = spaceJpaRepository.save(new Space(
+                anotherMemberId,
+                "원본 스페이스",
+                "원본 스페이스 소개글",
+                Category.ENTER_ART,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(anotherMemberId, Role.OWNER),
+                true,
+                true,
+                false,
+                false
+        )).getId();
+
+        createLink(anotherMemberId, "링크허브 사이트", "도구", "blue");
+        createLink(anotherMemberId, "노션", "도구", "blue");
+        createLink(anotherMemberId, "무신사", "의류", "red");
+        createLink(anotherMemberId, "발란", "의류", "red");
+        createLink(anotherMemberId, "29cm", "의류", "red");
+    }
+
+    @Test
+    @DisplayName("sync-link-limit보다 링크가 많으면 태그만 먼저 복사하고 링크는 청크 단위로 이어서 복사한다.")
+    void copyPendingChunks_copiesLinksInChunks() {
+        //given
+        Long targetSpaceId = spaceFacade.scrapAndCreateNewSpace(scrapRequest());
+
+        ScrapProgressGetResponse pending = spaceService.getScrapProgress(targetSpaceId, myMemberId);
+        Map<String, Long> tagUsageCountsBeforeCopy = tagUsageCounts(targetSpaceId);
+
+        //when
+        spaceScrapCopier.copyPendingChunks();
+        ScrapProgressGetResponse firstChunk = spaceService.getScrapProgress(targetSpaceId, myMemberId);
+        long linkCountAfterFirstChunk = activeLinkCount(targetSpaceId);
+
+        spaceScrapCopier.copyPendingChunks();
+        spaceScrapCopier.copyPendingChunks();
+        spaceScrapCopier.copyPendingChunks();
+        ScrapProgressGetResponse completed = spaceService.getScrapProgress(targetSpaceId, myMemberId);
+
+        //then
+        assertThat(pending.status()).isEqualTo(ScrapCopyStatus.IN_PROGRESS);
+        assertThat(pending.totalLinkCount()).isEqualTo(5);
+        assertThat(pending.copiedLinkCount()).isZero();
+        assertThat(tagUsageCountsBeforeCopy).containsOnly(Map.entry("도구", 0L), Map.entry("의류", 0L));
+
+        assertThat(firstChunk.status()).isEqualTo(ScrapCopyStatus.IN_PROGRESS);
+        assertThat(firstChunk.copiedLinkCount()).isEqualTo(2);
+        assertThat(linkCountAfterFirstChunk).isEqualTo(2);
+
+        assertThat(completed.status()).isEqualTo(ScrapCopyStatus.COMPLETED);
+        assertThat(completed.copiedLinkCount()).isEqualTo(5);
+        assertThat(activeLinkCount(targetSpaceId)).isEqualTo(5);
+        assertThat(linkTagCount(targetSpaceId)).isEqualTo(5);
+        assertThat(tagUsageCounts(targetSpaceId)).containsOnly(Map.entry("도구", 2L), Map.entry("의류", 3L));
+    }
+
+    @Test
+    @DisplayName("복사 중에 스크랩한 스페이스가 삭제되면 남은 복사 작업을 취소한다.")
+    void copyPendingChunks_targetSpaceDeleted_cancelsJob() {
+        //given
+        Long targetSpaceId = spaceFacade.scrapAndCreateNewSpace(scrapRequest());
+        spaceScrapCopier.copyPendingChunks();
+
+        spaceService.deleteSpaceById(targetSpaceId, myMemberId);
+
+        //when
+        spaceScrapCopier.copyPendingChunks();
+
+        //then
+        String status = jdbcTemplate.queryForObject(
+                "SELECT status FROM scrap_copy_jobs WHERE target_space_id = ?", String.class, targetSpaceId);
+
+        assertThat(status).isEqualTo(ScrapCopyStatus.CANCELLED.name());
+        assertThat(activeLinkCount(targetSpaceId)).isEqualTo(2);
+    }
+
+    private NewSpacesScrapFacadeRequest scrapRequest() {
+        return new NewSpacesScrapFacadeRequest(
+                "가져오기한 스페이스",
+                "다른 유저의 스페이스를 가져오기한 스페이스 입니다.",
+                Category.ETC,
+                true,
+                true,
+                true,
+                true,
+                null,
+                sourceSpaceId,
+                myMemberId
+        );
+    }
+
+    private void createLink(Long memberId, String title, String tagName, String color) {
+        linkService.createLink(new LinkCreateRequest(
+                sourceSpaceId,
+                "https://" + title + ".com",
+                title,
+                tagName,
+                memberId,
+                color
+        ));
+    }
+
+    private long activeLinkCount(Long spaceId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM links WHERE space_id = ? AND is_deleted = false", Long.class, spaceId);
+    }
+
+    private long linkTagCount(Long spaceId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM link_tags lt JOIN tags t ON lt.tag_id = t.id WHERE t.space_id = ? AND lt.is_deleted = false",
+                Long.class,
+                spaceId);
+    }
+
+    private Map<String, Long> tagUsageCounts(Long spaceId) {
+        Map<String, Long> usageCounts = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT name, usage_count FROM tags WHERE space_id = ?",
+                rs -> {
+                    usageCounts.put(rs.getString("name"), rs.getLong("usage_count"));
+                },
+                spaceId);
+
+        return usageCounts;
+    }
+
+    private Member member(String socialId, String nickname, String email) {
+        return new Member(
+                socialId,
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                nickname,
+                "테스트용 소개글",
+                email,
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        );
+    }
+
+}
@@ -0,0 +1,247 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.common.SearchEngineType;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.common.SpaceCursorSlice;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.common.dto.SpaceCard;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SearchCursorQueryCondition;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = "search.space-index.enabled=true")
+class IndexedSpaceSearchEngineTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private IndexedSpaceSearchEngine indexedSpaceSearchEngine;
+
+    @Autowired
+    private SqlSpaceSearchEngine sqlSpaceSearchEngine;
+
+    @Autowired
+    private SpaceNameIndex spaceNameIndex;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    private final List<Long> spaceIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        await().atMost(Duration.ofSeconds(10)).until(spaceNameIndex::isReady);
+
+        Long memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        saveAndIndex(memberId, "자바 스터디", Category.KNOWLEDGE_ISSUE_CAREER);
+        saveAndIndex(memberId, "자바 공부 기록", Category.KNOWLEDGE_ISSUE_CAREER);
+        saveAndIndex(memberId, "파이썬 스터디 모임", Category.ETC);
+        saveAndIndex(memberId, "스터디 모임", Category.ETC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        spaceIds.forEach(spaceNameIndex::remove);
+        spaceIds.clear();
+        spaceJpaRepository.deleteAll();
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("인덱스 검색은 최신순, 즐겨찾기순 모두 SQL 검색과 같은 스페이스를 같은 순서로 반환한다.")
+    void searchWithCursor_sameResultAsSql() {
+        for (String sort : List.of("created_at", "favorite_count")) {
+            //given
+            SearchCursorQueryCondition condition = firstPage("스터디", sort);
+
+            //when
+            List<Long> indexedSpaceIds = spaceIdsOf(indexedSpaceSearchEngine.searchWithCursor(condition).getContent());
+            List<Long> sqlSpaceIds = spaceIdsOf(sqlSpaceSearchEngine.searchWithCursor(condition).getContent());
+
+            //then
+            assertThat(indexedSpaceIds).hasSize(3);
+            assertThat(indexedSpaceIds).isEqualTo(sqlSpaceIds);
+        }
+    }
+
+    @Test
+    @DisplayName("bigram이 없는 한 글자 키워드는 SQL 검색으로 처리한다.")
+    void searchWithCursor_singleCharacterKeyword_routesToSql() {
+        //given
+        SearchCursorQueryCondition condition = firstPage("자 스", "created_at");
+
+        //when
+        List<Long> indexedSpaceIds = spaceIdsOf(indexedSpaceSearchEngine.searchWithCursor(condition).getContent());
+        List<Long> sqlSpaceIds = spaceIdsOf(sqlSpaceSearchEngine.searchWithCursor(condition).getContent());
+
+        //then
+        assertThat(spaceNameIndex.supports("자 스", "created_at")).isFalse();
+        assertThat(indexedSpaceIds).isEqualTo(sqlSpaceIds);
+    }
+
+    @Test
+    @DisplayName("인덱스가 값을 갖고 있지 않은 정렬(view_count)은 SQL 검색으로 처리한다.")
+    void searchWithCursor_unsupportedSort_routesToSql() {
+        //given
+        SearchCursorQueryCondition condition = firstPage("자바", "view_count");
+
+        //when
+        List<Long> indexedSpaceIds = spaceIdsOf(indexedSpaceSearchEngine.searchWithCursor(condition).getContent());
+        List<Long> sqlSpaceIds = spaceIdsOf(sqlSpaceSearchEngine.searchWithCursor(condition).getContent());
+
+        //then
+        assertThat(spaceNameIndex.supports("자바", "view_count")).isFalse();
+        assertThat(indexedSpaceIds).isEqualTo(sqlSpaceIds);
+    }
+
+    @Test
+    @DisplayName("인덱스 검색 커서로 한 건씩 조회하면 검색 점수가 같은 스페이스도 빠지거나 중복되지 않는다.")
+    void searchWithCursor_pageByIndex_noSkipOrDuplicate() {
+        for (String sort : Arrays.asList(null, "favorite_count", "created_at")) {
+            //given
+            List<Long> expectedSpaceIds = spaceIdsOf(indexedSpaceSearchEngine.searchWithCursor(firstPage("스터디", sort)).getContent());
+
+            //when
+            List<Long> pagedSpaceIds = pageByOne(indexedSpaceSearchEngine, "스터디", sort, SearchEngineType.INDEX);
+
+            //then
+            assertThat(expectedSpaceIds).hasSize(3);
+            assertThat(pagedSpaceIds).isEqualTo(expectedSpaceIds);
+        }
+    }
+
+    @Test
+    @DisplayName("SQL 검색이 만든 검색 점수 커서는 인덱스가 준비되어 있어도 SQL 검색으로 이어서 조회한다.")
+    void searchWithCursor_sqlScoreCursor_continuesOnSql() {
+        //given
+        SpaceCursorSlice<SpaceCard> firstSlice = sqlSpaceSearchEngine.searchWithCursor(firstPage("스터디", null, 1));
+        SearchCursorQueryCondition nextCondition = nextPage("스터디", null, 1, firstSlice);
+
+        //when
+        SpaceCursorSlice<SpaceCard> nextSlice = indexedSpaceSearchEngine.searchWithCursor(nextCondition);
+
+        //then
+        assertThat(firstSlice.getSearchEngine()).isEqualTo(SearchEngineType.SQL);
+        assertThat(nextSlice.getSearchEngine()).isEqualTo(SearchEngineType.SQL);
+        assertThat(spaceIdsOf(nextSlice.getContent()))
+                .isEqualTo(spaceIdsOf(sqlSpaceSearchEngine.searchWithCursor(nextCondition).getContent()));
+    }
+
+    @Test
+    @DisplayName("인덱스가 만든 검색 점수 커서를 인덱스로 이어갈 수 없으면 예외가 발생한다.")
+    void searchWithCursor_indexScoreCursorUnsupported_throwsException() {
+        //given
+        SearchCursorQueryCondition condition = new SearchCursorQueryCondition(
+                SpaceCursorPageRequest.of(10, null, null),
+                "자 스",
+                0.5,
+                SearchEngineType.INDEX,
+                null,
+                spaceIds.get(0));
+
+        //when //then
+        assertThatThrownBy(() -> indexedSpaceSearchEngine.searchWithCursor(condition))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Long> pageByOne(SpaceSearchEngine spaceSearchEngine, String keyWord, String sort, SearchEngineType expectedEngine) {
+        List<Long> pagedSpaceIds = new ArrayList<>();
+        SpaceCursorSlice<SpaceCard> slice = spaceSearchEngine.searchWithCursor(firstPage(keyWord, sort, 1));
+        pagedSpaceIds.addAll(spaceIdsOf(slice.getContent()));
+
+        while (slice.getHasNext()) {
+            assertThat(slice.getSearchEngine()).isEqualTo(expectedEngine);
+
+            slice = spaceSearchEngine.searchWithCursor(nextPage(keyWord, sort, 1, slice));
+            pagedSpaceIds.addAll(spaceIdsOf(slice.getContent()));
+        }
+
+        return pagedSpaceIds;
+    }
+
+    private SearchCursorQueryCondition firstPage(String keyWord, String sort) {
+        return firstPage(keyWord, sort, 10);
+    }
+
+    private SearchCursorQueryCondition firstPage(String keyWord, String sort, int pageSize) {
+        return new SearchCursorQueryCondition(
+                SpaceCursorPageRequest.of(pageSize, sort, null),
+                keyWord,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    private SearchCursorQueryCondition nextPage(String keyWord, String sort, int pageSize, SpaceCursorSlice<SpaceCard> slice) {
+        return new SearchCursorQueryCondition(
+                SpaceCursorPageRequest.of(pageSize, sort, null),
+                keyWord,
+                slice.getLastScore(),
+                slice.getSearchEngine(),
+                slice.getLastFavoriteCount(),
+                slice.getLastId());
+    }
+
+    private List<Long> spaceIdsOf(List<SpaceCard> spaceCards) {
+        return spaceCards.stream()
+                .map(SpaceCard::spaceId)
+                .toList();
+    }
+
+    private void saveAndIndex(Long memberId, String spaceName, Category category) {
+        Space space = spaceJpaRepository.save(new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                category,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        ));
+
+        spaceNameIndex.put(new SpaceSearchDocument(space.getId(), space.getSpaceName(), space.getCategory(), space.getFavoriteCount()));
+        spaceIds.add(space.getId());
+    }
+
+}
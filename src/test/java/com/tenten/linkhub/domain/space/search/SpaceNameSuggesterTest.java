@@ -0,0 +1,148 @@
+package com.tenten.linkhub.domain.space.search;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.handler.SpaceSearchIndexEventHandler;
+import com.tenten.linkhub.domain.space.handler.dto.FavoriteSaveEvent;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.repository.space.dto.SpaceSearchDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@TestPropertySource(properties = {
+        "search.space-suggest.enabled=true",
+        "search.space-suggest.max-entries=3",
+        "search.space-suggest.max-scan-size=3"
+})
+class SpaceNameSuggesterTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceNameSuggester spaceNameSuggester;
+
+    @Autowired
+    private SpaceSearchIndexEventHandler spaceSearchIndexEventHandler;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> spaceIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        await().atMost(Duration.ofSeconds(10)).until(spaceNameSuggester::isReady);
+
+        Long memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+
+        saveAndPut(memberId, "자바 기초", 1L);
+        saveAndPut(memberId, "자바 심화", 4L);
+        saveAndPut(memberId, "자바 스프링", 3L);
+        saveAndPut(memberId, "자바 테스트", 2L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        spaceIds.forEach(spaceNameSuggester::remove);
+        spaceIds.clear();
+        spaceJpaRepository.deleteAll();
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("접두어 범위가 스캔 한도를 넘어도 favorite_count 상위 K개를 반환한다.")
+    void suggest_overScanSize_returnsTrueTopK() {
+        //when
+        List<SpaceSearchDocument> suggestions = spaceNameSuggester.suggest("자바", 2);
+
+        //then
+        assertThat(suggestions)
+                .extracting(SpaceSearchDocument::spaceName)
+                .containsExactly("자바 심화", "자바 스프링");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘어 제외된 스페이스도 자동완성 결과에 포함된다.")
+    void suggest_excludedByMaxEntries_isStillSuggested() {
+        //when
+        List<SpaceSearchDocument> suggestions = spaceNameSuggester.suggest("자바", 10);
+
+        //then
+        assertThat(spaceNameSuggester.contains(spaceIds.get(0))).isFalse();
+        assertThat(suggestions)
+                .extracting(SpaceSearchDocument::spaceName)
+                .containsExactly("자바 심화", "자바 스프링", "자바 테스트", "자바 기초");
+    }
+
+    @Test
+    @DisplayName("제외된 스페이스의 favorite_count가 늘면 다시 적재된다.")
+    void changeFavoriteCount_excludedSpace_isReadmitted() {
+        //given
+        Long excludedSpaceId = spaceIds.get(0);
+        jdbcTemplate.update("UPDATE spaces SET favorite_count = 10 WHERE id = ?", excludedSpaceId);
+
+        //when
+        spaceSearchIndexEventHandler.handleSaveFavoriteEvent(new FavoriteSaveEvent(excludedSpaceId));
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> spaceNameSuggester.contains(excludedSpaceId));
+        assertThat(spaceNameSuggester.suggest("자바", 1))
+                .extracting(SpaceSearchDocument::spaceId)
+                .containsExactly(excludedSpaceId);
+    }
+
+    private void saveAndPut(Long memberId, String spaceName, Long favoriteCount) {
+        Space space = spaceJpaRepository.save(new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        ));
+        jdbcTemplate.update("UPDATE spaces SET favorite_count = ? WHERE id = ?", favoriteCount, space.getId());
+
+        spaceNameSuggester.put(new SpaceSearchDocument(space.getId(), spaceName, space.getCategory(), favoriteCount));
+        spaceIds.add(space.getId());
+    }
+
+}
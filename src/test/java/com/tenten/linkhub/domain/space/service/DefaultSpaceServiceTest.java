@@ -11,14 +11,19 @@ import com.tenten.linkhub.domain.link.facade.LinkFacade;
 import com.tenten.linkhub.domain.link.facade.dto.LinkCreateFacadeRequest;
 import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
 import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Favorite;
 import com.tenten.linkhub.domain.space.model.space.Role;
 import com.tenten.linkhub.domain.space.model.space.Space;
 import com.tenten.linkhub.domain.space.model.space.SpaceImage;
 import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.favorite.FavoriteJpaRepository;
 import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
 import com.tenten.linkhub.domain.space.service.dto.space.MemberSpacesFindRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindByQueryRequest;
 import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesSearchWithCursorRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponse;
+import com.tenten.linkhub.domain.space.service.dto.space.SpaceSuggestionResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpaceTagGetResponses;
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponse;
 import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponses;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -51,9 +57,15 @@ class DefaultSpaceServiceTest extends IntegrationApplicationTest {
     @Autowired
     private MemberJpaRepository memberJpaRepository;
 
+    @Autowired
+    private FavoriteJpaRepository favoriteJpaRepository;
+
     @Autowired
     private LinkFacade linkFacade;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long myMemberId;
     private Long anotherMemberId;
 
@@ -67,6 +79,7 @@ class DefaultSpaceServiceTest extends IntegrationApplicationTest {
 
     @AfterEach
     void tearDown() {
+        favoriteJpaRepository.deleteAll();
         spaceJpaRepository.deleteAll();
     }
 
@@ -115,6 +128,49 @@ class DefaultSpaceServiceTest extends IntegrationApplicationTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("유저는 커서를 이용해 검색 결과의 다음 페이지를 조회할 수 있다.")
+    void searchPublicSpacesWithCursor() {
+        //given
+        SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(
+                1,
+                "created_at",
+                Category.KNOWLEDGE_ISSUE_CAREER);
+
+        PublicSpacesSearchWithCursorRequest firstRequest = new PublicSpacesSearchWithCursorRequest(pageRequest, "스페이스", null, null, null, null);
+        SpacesFindWithCursorResponses firstResponse = spaceService.searchPublicSpacesWithCursor(firstRequest);
+
+        PublicSpacesSearchWithCursorRequest nextRequest = new PublicSpacesSearchWithCursorRequest(
+                pageRequest,
+                "스페이스",
+                firstResponse.responses().getLastScore(),
+                firstResponse.responses().getSearchEngine(),
+                firstResponse.responses().getLastFavoriteCount(),
+                firstResponse.responses().getLastId());
+
+        //when
+        SpacesFindWithCursorResponses nextResponse = spaceService.searchPublicSpacesWithCursor(nextRequest);
+
+        //then
+        assertThat(firstResponse.responses().getHasNext()).isTrue();
+        assertThat(firstResponse.responses().getContent().get(0).spaceName()).isEqualTo("세번째 스페이스");
+        assertThat(nextResponse.responses().getHasNext()).isFalse();
+        assertThat(nextResponse.responses().getContent().size()).isEqualTo(1);
+        assertThat(nextResponse.responses().getContent().get(0).spaceName()).isEqualTo("첫번째 스페이스");
+    }
+
+    @Test
+    @DisplayName("자동완성이 비활성화되어 있으면 DB에서 접두어로 시작하는 공개 스페이스를 조회한다.")
+    void suggestSpaces_suggesterDisabled_findsFromDatabase() {
+        //when
+        SpaceSuggestionResponses responses = spaceService.suggestSpaces("첫번째", 10);
+
+        //then
+        assertThat(responses.suggestions())
+                .extracting(SpaceSuggestionResponse::spaceName)
+                .containsExactly("첫번째 스페이스");
+    }
+
     @Test
     @DisplayName("유저는 공개된 스페이스를 필터 조건과 함께 페이지네이션 조회할 수 있다.")
     void findPublicSpacesWithFilter() {
@@ -124,7 +180,7 @@ class DefaultSpaceServiceTest extends IntegrationApplicationTest {
                 "created_at",
                 Category.KNOWLEDGE_ISSUE_CAREER);
 
-        PublicSpacesFindWithFilterRequest request = new PublicSpacesFindWithFilterRequest(pageRequest, null, null);
+        PublicSpacesFindWithFilterRequest request = new PublicSpacesFindWithFilterRequest(pageRequest, null, null, null);
 
         //when
         SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(request);
@@ -143,6 +199,58 @@ class DefaultSpaceServiceTest extends IntegrationApplicationTest {
         assertThat(content.get(1).ownerNickName()).isEqualTo("잠자는 사자의 콧털");
     }
 
+    @Test
+    @DisplayName("스페이스 목록은 카드에 필요한 카운트와 대표 이미지를 함께 조회하고 삭제된 스페이스는 제외한다.")
+    void findPublicSpacesWithFilter_projectsSpaceCard() {
+        //given
+        jdbcTemplate.update("UPDATE spaces SET view_count = 7, scrap_count = 3, favorite_count = 2 WHERE id = ?", myFirstSpaceId);
+        jdbcTemplate.update("UPDATE spaces SET is_deleted = true WHERE id = ?", mySecondSpaceId);
+
+        SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(
+                10,
+                "created_at",
+                Category.KNOWLEDGE_ISSUE_CAREER);
+
+        PublicSpacesFindWithFilterRequest request = new PublicSpacesFindWithFilterRequest(pageRequest, null, null, null);
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(request);
+
+        //then
+        List<SpacesFindByQueryResponse> content = response.responses().getContent();
+
+        assertThat(content.size()).isEqualTo(1);
+        assertThat(content.get(0).spaceId()).isEqualTo(myFirstSpaceId);
+        assertThat(content.get(0).description()).isEqualTo("첫번째 스페이스 소개글");
+        assertThat(content.get(0).viewCount()).isEqualTo(7L);
+        assertThat(content.get(0).scrapCount()).isEqualTo(3L);
+        assertThat(content.get(0).favoriteCount()).isEqualTo(2L);
+        assertThat(content.get(0).spaceImagePath()).isEqualTo("https://testimage1");
+        assertThat(content.get(0).ownerNickName()).isEqualTo("잠자는 사자의 콧털");
+    }
+
+    @Test
+    @DisplayName("로그인한 유저가 공개 스페이스를 필터 조회하면 찜한 스페이스 목록을 함께 받는다.")
+    void findPublicSpacesWithFilter_withFavoriteSpaceIds() {
+        //given
+        Space myFirstSpace = spaceJpaRepository.findById(myFirstSpaceId).get();
+        favoriteJpaRepository.save(new Favorite(myFirstSpace, anotherMemberId));
+
+        SpaceCursorPageRequest pageRequest = SpaceCursorPageRequest.of(
+                10,
+                "created_at",
+                Category.KNOWLEDGE_ISSUE_CAREER);
+
+        PublicSpacesFindWithFilterRequest request = new PublicSpacesFindWithFilterRequest(pageRequest, null, null, anotherMemberId);
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(request);
+
+        //then
+        assertThat(response.responses().getContent().size()).isEqualTo(2);
+        assertThat(response.favoriteSpaceIds()).containsExactly(myFirstSpaceId);
+    }
+
     @Test
     @DisplayName("유저는 키워드 필터 조건 없이 내가 아닌 특정 유저의 private을 제외한 public Space를 검색할 수 있다.")
     void findMemberSpacesByQuery_emptyKeyWord_emptyFilter() {
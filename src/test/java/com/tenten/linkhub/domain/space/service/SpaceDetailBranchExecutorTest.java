@@ -0,0 +1,71 @@
+package com.tenten.linkhub.domain.space.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SpaceDetailBranchExecutorTest {
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 branch는 false가 아니라 알 수 없음(null)으로 응답한다.")
+    void supplyAsync_timeout_returnsUnknown() {
+        //given
+        SpaceDetailBranchExecutor branchExecutor = branchExecutor(true);
+
+        //when
+        CompletableFuture<Boolean> hasFavorite = branchExecutor.supplyAsync("favorite", () -> {
+            sleep(500);
+            return true;
+        });
+
+        //then
+        assertThat(branchExecutor.join(hasFavorite)).isNull();
+        assertThat(meterRegistry.get("space.detail.branch.timeout").tag("branch", "favorite").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 branch를 호출 스레드에서 실행한다.")
+    void supplyAsync_disabled_runsOnCallerThread() {
+        //given
+        SpaceDetailBranchExecutor branchExecutor = branchExecutor(false);
+        Thread caller = Thread.currentThread();
+
+        //when
+        CompletableFuture<Boolean> onCallerThread = branchExecutor.supplyAsync("scrap",
+                () -> Thread.currentThread() == caller);
+
+        //then
+        assertThat(onCallerThread).isCompletedWithValue(true);
+    }
+
+    private SpaceDetailBranchExecutor branchExecutor(boolean enabled) {
+        return new SpaceDetailBranchExecutor(executorService, meterRegistry, mock(PlatformTransactionManager.class), enabled, 50);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
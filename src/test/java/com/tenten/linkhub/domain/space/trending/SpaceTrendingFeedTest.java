@@ -0,0 +1,227 @@
+package com.tenten.linkhub.domain.space.trending;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.cache.SpaceFeedCache;
+import com.tenten.linkhub.domain.space.common.SpaceCursorPageRequest;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.repository.trending.SpaceTrendingRedisRepository;
+import com.tenten.linkhub.domain.space.service.SpaceService;
+import com.tenten.linkhub.domain.space.service.dto.space.PublicSpacesFindWithFilterRequest;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindByQueryResponse;
+import com.tenten.linkhub.domain.space.service.dto.space.SpacesFindWithCursorResponses;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+@TestPropertySource(properties = {
+        "trending.space.enabled=true",
+        "trending.space.capacity=2",
+        "cache.space-feed.enabled=true"
+})
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceTrendingFeedTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private SpaceService spaceService;
+
+    @Autowired
+    private SpaceTrendingRanker spaceTrendingRanker;
+
+    @SpyBean
+    private SpaceTrendingRedisRepository spaceTrendingRedisRepository;
+
+    @Autowired
+    private SpaceFeedCache spaceFeedCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        deleteTrendingKeys();
+        spaceFeedCache.evictCategories(Category.values());
+
+        memberId = memberJpaRepository.save(new Member(
+                "testSocialId",
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                "잠자는 사자의 콧털",
+                "테스트용 소개글",
+                "abc@gmail.com",
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        )).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTrendingKeys();
+    }
+
+    @Test
+    @DisplayName("트렌딩 순위가 비어 있으면 최신순 피드로 응답하고 그 결과는 캐시하지 않는다.")
+    void findPublicSpacesWithFilter_emptyRanking_fallsBackWithoutCaching() {
+        //given
+        Long firstSpaceId = saveSpace("첫번째 스페이스", Category.ENTER_ART);
+        SpacesFindWithCursorResponses fallback = spaceService.findPublicSpacesWithFilter(trendingRequest(null, null));
+
+        Long secondSpaceId = spaceJpaRepository.save(space("캐시를 거치지 않은 스페이스", Category.ENTER_ART)).getId();
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(trendingRequest(null, null));
+
+        //then
+        assertThat(fallback.getSpaceIds()).containsExactly(firstSpaceId);
+        assertThat(response.getSpaceIds()).containsExactly(secondSpaceId, firstSpaceId);
+    }
+
+    @Test
+    @DisplayName("트렌딩 순위를 읽지 못하면 최신순 피드로 응답한다.")
+    void findPublicSpacesWithFilter_redisFailure_fallsBack() {
+        //given
+        Long spaceId = saveSpace("첫번째 스페이스", Category.ENTER_ART);
+        spaceTrendingRanker.recordScrap(spaceId);
+        spaceTrendingRanker.rebuild();
+
+        doThrow(new RedisConnectionFailureException("연결 실패"))
+                .when(spaceTrendingRedisRepository).getRanking(any(), anyLong(), anyLong());
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(trendingRequest(null, null));
+
+        //then
+        assertThat(response.getSpaceIds()).containsExactly(spaceId);
+    }
+
+    @Test
+    @DisplayName("전체 상위 순위를 다른 카테고리가 채워도 카테고리 순위는 그 카테고리의 스페이스로 채워진다.")
+    void rebuild_fillsCategoryRankingBeyondGlobalTop() {
+        //given
+        Long firstArtSpaceId = saveSpace("첫번째 예술 스페이스", Category.ENTER_ART);
+        Long secondArtSpaceId = saveSpace("두번째 예술 스페이스", Category.ENTER_ART);
+        Long knowledgeSpaceId = saveSpace("지식 스페이스", Category.KNOWLEDGE_ISSUE_CAREER);
+
+        spaceTrendingRanker.recordScrap(firstArtSpaceId);
+        spaceTrendingRanker.recordScrap(firstArtSpaceId);
+        spaceTrendingRanker.recordScrap(secondArtSpaceId);
+        spaceTrendingRanker.recordView(knowledgeSpaceId);
+
+        //when
+        spaceTrendingRanker.rebuild();
+
+        //then
+        assertThat(spaceService.findPublicSpacesWithFilter(trendingRequest(null, null)).getSpaceIds())
+                .containsExactly(firstArtSpaceId, secondArtSpaceId);
+        assertThat(spaceService.findPublicSpacesWithFilter(trendingRequest(Category.KNOWLEDGE_ISSUE_CAREER, null)).getSpaceIds())
+                .containsExactly(knowledgeSpaceId);
+    }
+
+    @Test
+    @DisplayName("lastSpaceId가 순위에서 빠지면 그 다음부터 최신순 피드로 이어서 응답한다.")
+    void findPublicSpacesWithFilter_lastSpaceIdDroppedOut_continuesWithLatest() {
+        //given
+        Long firstSpaceId = saveSpace("첫번째 스페이스", Category.ENTER_ART);
+        Long secondSpaceId = saveSpace("두번째 스페이스", Category.ENTER_ART);
+        Long thirdSpaceId = saveSpace("세번째 스페이스", Category.ENTER_ART);
+
+        spaceTrendingRanker.recordScrap(firstSpaceId);
+        spaceTrendingRanker.rebuild();
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(trendingRequest(null, thirdSpaceId));
+
+        //then
+        assertThat(response.getSpaceIds()).containsExactly(secondSpaceId, firstSpaceId);
+    }
+
+    @Test
+    @DisplayName("순위를 다시 계산하기 전에 삭제된 스페이스는 트렌딩 피드에서 빠진다.")
+    void findPublicSpacesWithFilter_excludesDeletedSpace() {
+        //given
+        Long firstSpaceId = saveSpace("첫번째 스페이스", Category.ENTER_ART);
+        Long secondSpaceId = saveSpace("두번째 스페이스", Category.ENTER_ART);
+
+        spaceTrendingRanker.recordScrap(firstSpaceId);
+        spaceTrendingRanker.recordView(secondSpaceId);
+        spaceTrendingRanker.rebuild();
+
+        spaceService.deleteSpaceById(firstSpaceId, memberId);
+
+        //when
+        SpacesFindWithCursorResponses response = spaceService.findPublicSpacesWithFilter(trendingRequest(null, null));
+
+        //then
+        assertThat(response.responses().getContent())
+                .extracting(SpacesFindByQueryResponse::spaceId)
+                .containsExactly(secondSpaceId);
+    }
+
+    private PublicSpacesFindWithFilterRequest trendingRequest(Category category, Long lastSpaceId) {
+        return new PublicSpacesFindWithFilterRequest(
+                SpaceCursorPageRequest.of(10, "trending", category),
+                null,
+                lastSpaceId,
+                null);
+    }
+
+    private Long saveSpace(String spaceName, Category category) {
+        return spaceJpaRepository.save(space(spaceName, category)).getId();
+    }
+
+    private Space space(String spaceName, Category category) {
+        return new Space(
+                memberId,
+                spaceName,
+                spaceName + " 소개글",
+                category,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(memberId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        );
+    }
+
+    private void deleteTrendingKeys() {
+        Set<String> keys = redisTemplate.keys("SpaceTrending:*");
+
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.tenten.linkhub.domain.viewer;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.model.Role;
+import com.tenten.linkhub.domain.member.repository.follow.FollowJpaRepository;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.member.service.MemberService;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "cache.viewer-relation.enabled=true",
+        "cache.viewer-relation.ttl-seconds=600"
+})
+class ViewerRelationResolverTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private ViewerRelationResolver viewerRelationResolver;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    @Autowired
+    private FollowJpaRepository followJpaRepository;
+
+    private Long myMemberId;
+    private Long targetMemberId;
+
+    @BeforeEach
+    void setUp() {
+        myMemberId = memberJpaRepository.save(member("mySocialId", "잠자는 사자의 콧털", "abc@gmail.com")).getId();
+        targetMemberId = memberJpaRepository.save(member("targetSocialId", "백둥이", "def@gmail.com")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        followJpaRepository.deleteAll();
+        memberJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("팔로우/언팔로우가 커밋되면 캐시된 팔로잉 관계가 무효화된다.")
+    void resolve_following_invalidatedAfterCommit() {
+        //given
+        assertThat(viewerRelationResolver.resolve(ViewerRelation.FOLLOWING, myMemberId, List.of(targetMemberId))).isEmpty();
+
+        //when
+        memberService.createFollow(targetMemberId, myMemberId);
+
+        //then
+        assertThat(viewerRelationResolver.resolve(ViewerRelation.FOLLOWING, myMemberId, List.of(targetMemberId)))
+                .containsExactly(targetMemberId);
+        assertThat(viewerRelationResolver.resolve(ViewerRelation.FOLLOWING, targetMemberId, List.of(myMemberId))).isEmpty();
+
+        memberService.deleteFollow(targetMemberId, myMemberId);
+
+        assertThat(viewerRelationResolver.resolve(ViewerRelation.FOLLOWING, myMemberId, List.of(targetMemberId))).isEmpty();
+    }
+
+    private Member member(String socialId, String nickname, String email) {
+        return new Member(
+                socialId,
+                Provider.kakao,
+                Role.USER,
+                nickname,
+                "테스트용 소개글",
+                email,
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        );
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.tenten.linkhub.global;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.link.service.LinkService;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchOperation;
+import com.tenten.linkhub.domain.link.service.dto.LinkBatchRequest;
+import com.tenten.linkhub.domain.link.service.dto.LinkCreateRequest;
+import com.tenten.linkhub.domain.member.model.FavoriteCategory;
+import com.tenten.linkhub.domain.member.model.Member;
+import com.tenten.linkhub.domain.member.model.ProfileImage;
+import com.tenten.linkhub.domain.member.model.Provider;
+import com.tenten.linkhub.domain.member.repository.member.MemberJpaRepository;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import com.tenten.linkhub.domain.space.service.CommentService;
+import com.tenten.linkhub.domain.space.service.FavoriteService;
+import com.tenten.linkhub.domain.space.service.dto.comment.RootCommentCreateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "etag.space.enabled=true")
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SpaceConditionalGetInterceptorTest extends IntegrationApplicationTest {
+
+    private static final Object HANDLER = new Object();
+
+    @Autowired
+    private SpaceConditionalGetInterceptor spaceConditionalGetInterceptor;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private LinkService linkService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private MemberJpaRepository memberJpaRepository;
+
+    private Long ownerId;
+    private Long viewerId;
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = memberJpaRepository.save(member("ownerSocialId", "스페이스 주인", "owner@gmail.com")).getId();
+        viewerId = memberJpaRepository.save(member("viewerSocialId", "스페이스 구경꾼", "viewer@gmail.com")).getId();
+        spaceId = saveSpace("ETag 스페이스");
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 컨트롤러를 거치지 않고 304로 응답한다.")
+    void preHandle_sameETag_notModified() {
+        //given
+        String eTag = currentETag();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        boolean proceed = spaceConditionalGetInterceptor.preHandle(getRequest(eTag), response, HANDLER);
+
+        //then
+        assertThat(proceed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Test
+    @DisplayName("댓글 작성이 끝나 응답하기 전에 버전이 올라가 바로 다시 조회해도 304가 아니다.")
+    void preHandle_afterCreateComment_modified() {
+        //given
+        String eTag = currentETag();
+
+        //when
+        commentService.createComment(new RootCommentCreateRequest(spaceId, viewerId, "새 댓글"));
+
+        //then
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = spaceConditionalGetInterceptor.preHandle(getRequest(eTag), response, HANDLER);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("즐겨찾기 등록이 끝나면 outbox 처리와 관계없이 버전이 올라가 있다.")
+    void preHandle_afterCreateFavorite_modified() {
+        //given
+        String eTag = currentETag();
+
+        //when
+        favoriteService.createFavorite(spaceId, viewerId);
+
+        //then
+        assertThat(currentETag()).isNotEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("변경 요청이 끝난 것만으로는 버전이 올라가지 않는다.")
+    void afterCompletion_writeRequest_keepsVersion() throws Exception {
+        //given
+        String eTag = currentETag();
+        MockHttpServletRequest request = spaceRequest("PATCH");
+
+        //when
+        spaceConditionalGetInterceptor.afterCompletion(request, new MockHttpServletResponse(), HANDLER, null);
+
+        //then
+        assertThat(currentETag()).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("링크를 옮기면 커밋된 뒤에 대상 스페이스의 버전이 올라간다.")
+    void preHandle_afterMoveLinks_targetModifiedAfterCommit() {
+        //given
+        Long targetSpaceId = saveSpace("옮길 ETag 스페이스");
+        Long linkId = linkService.createLink(new LinkCreateRequest(
+                spaceId,
+                "https://mideveloperni.tistory.com/",
+                "개발 블로그",
+                "개발",
+                ownerId,
+                "blue"
+        ));
+        String targetETag = currentETag(targetSpaceId);
+
+        //when
+        String targetETagBeforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            linkService.batchLinks(new LinkBatchRequest(
+                    spaceId,
+                    ownerId,
+                    LinkBatchOperation.MOVE,
+                    List.of(linkId),
+                    targetSpaceId,
+                    null,
+                    null
+            ));
+
+            return currentETag(targetSpaceId);
+        });
+
+        //then
+        assertThat(targetETagBeforeCommit).isEqualTo(targetETag);
+        assertThat(currentETag(targetSpaceId)).isNotEqualTo(targetETag);
+    }
+
+    private String currentETag() {
+        return currentETag(spaceId);
+    }
+
+    private String currentETag(Long spaceId) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        spaceConditionalGetInterceptor.preHandle(getRequest(spaceId, null), response, HANDLER);
+
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    private MockHttpServletRequest getRequest(String ifNoneMatch) {
+        return getRequest(spaceId, ifNoneMatch);
+    }
+
+    private MockHttpServletRequest getRequest(Long spaceId, String ifNoneMatch) {
+        MockHttpServletRequest request = spaceRequest(spaceId, "GET");
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        return request;
+    }
+
+    private MockHttpServletRequest spaceRequest(String method) {
+        return spaceRequest(spaceId, method);
+    }
+
+    private MockHttpServletRequest spaceRequest(Long spaceId, String method) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/spaces/" + spaceId);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("spaceId", String.valueOf(spaceId)));
+
+        return request;
+    }
+
+    private Long saveSpace(String spaceName) {
+        return spaceJpaRepository.save(new Space(
+                ownerId,
+                spaceName,
+                spaceName + " 소개글",
+                Category.ENTER_ART,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(ownerId, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        )).getId();
+    }
+
+    private Member member(String socialId, String nickname, String email) {
+        return new Member(
+                socialId,
+                Provider.kakao,
+                com.tenten.linkhub.domain.member.model.Role.USER,
+                nickname,
+                "테스트용 소개글",
+                email,
+                true,
+                new ProfileImage("https://testprofileimage", "테스트용 멤버 프로필 이미지"),
+                new FavoriteCategory(Category.KNOWLEDGE_ISSUE_CAREER)
+        );
+    }
+
+}
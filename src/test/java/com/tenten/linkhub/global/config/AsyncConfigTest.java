@@ -0,0 +1,161 @@
+package com.tenten.linkhub.global.config;
+
+import com.tenten.linkhub.global.async.AsyncRejectionPolicy;
+import com.tenten.linkhub.global.async.VirtualThreadTaskExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AsyncConfigTest {
+
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        released.countDown();
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("읽기 모델 반영 풀은 큐가 차도 작업을 버리지 않고 호출 스레드에서 실행하며 거절 횟수를 센다.")
+    void projectionExecutor_queueFull_runsOnCaller() {
+        //given
+        ThreadPoolTaskExecutor executor = initialize(new AsyncConfig(meterRegistry, false).projectionExecutor());
+        fill(executor, 4, 1000);
+
+        //when
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        //then
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread());
+        assertThat(meterRegistry.get("async.task.rejected")
+                .tag("executor", "projectionExecutor")
+                .tag("policy", AsyncRejectionPolicy.CALLER_RUNS.name())
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued")
+                .tag("name", "projectionExecutor")
+                .gauge().value()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST는 큐에서 가장 오래 기다린 작업을 버리고 새 작업을 넣는다.")
+    void dropOldest_queueFull_discardsOldestTask() {
+        //given
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), AsyncRejectionPolicy.DROP_OLDEST.toHandler());
+        List<String> ranTasks = new CopyOnWriteArrayList<>();
+
+        try {
+            executor.execute(() -> {
+                awaitRelease();
+                ranTasks.add("running");
+            });
+            executor.execute(() -> ranTasks.add("oldest"));
+
+            //when
+            executor.execute(() -> ranTasks.add("newest"));
+            released.countDown();
+
+            //then
+            await().atMost(Duration.ofSeconds(5)).until(() -> ranTasks.size() == 2);
+            assertThat(ranTasks).containsExactly("running", "newest");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("실행기마다 큐 대기 시간과 실행 시간을 기록한다.")
+    void taskExecutor_recordsWaitAndExecutionTime() {
+        //given
+        ThreadPoolTaskExecutor executor = initialize(new AsyncConfig(meterRegistry, false).taskExecutor());
+
+        //when
+        executor.execute(() -> {
+        });
+
+        //then
+        await().atMost(Duration.ofSeconds(5)).until(() -> meterRegistry.get("async.task.execution")
+                .tag("executor", "taskExecutor")
+                .timer().count() == 1);
+        assertThat(meterRegistry.get("async.task.wait")
+                .tag("executor", "taskExecutor")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("async.task.execution")
+                .tag("executor", "counterExecutor")
+                .timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 켜도 런타임이 지원하지 않으면 스레드 풀로 만들어 작업을 실행한다.")
+    void linkViewHistoryExecutor_virtualThreadsEnabled_fallsBackWhenUnsupported() throws InterruptedException {
+        //given
+        Executor executor = new AsyncConfig(meterRegistry, true).linkViewHistoryExecutor();
+        if (executor instanceof ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+            initialize(threadPoolTaskExecutor);
+        }
+
+        //when
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+
+        //then
+        assertThat(executor instanceof ThreadPoolTaskExecutor).isNotEqualTo(VirtualThreadTaskExecutor.isSupported());
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(() -> meterRegistry.get("async.task.execution")
+                .tag("executor", "linkViewHistoryExecutor")
+                .timer().count() == 1);
+    }
+
+    private ThreadPoolTaskExecutor initialize(Executor executor) {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = (ThreadPoolTaskExecutor) executor;
+        threadPoolTaskExecutor.initialize();
+        executors.add(threadPoolTaskExecutor);
+
+        return threadPoolTaskExecutor;
+    }
+
+    /**
+     * 모든 스레드를 막아 두고 큐를 가득 채운다.
+     */
+    private void fill(ThreadPoolTaskExecutor executor, int poolSize, int queueCapacity) {
+        for (int i = 0; i < poolSize + queueCapacity; i++) {
+            executor.execute(this::awaitRelease);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            released.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
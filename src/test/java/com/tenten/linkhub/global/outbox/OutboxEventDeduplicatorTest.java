@@ -0,0 +1,67 @@
+package com.tenten.linkhub.global.outbox;
+
+import com.tenten.linkhub.IntegrationApplicationTest;
+import com.tenten.linkhub.domain.space.handler.dto.FavoriteSaveEvent;
+import com.tenten.linkhub.domain.space.model.category.Category;
+import com.tenten.linkhub.domain.space.model.space.Role;
+import com.tenten.linkhub.domain.space.model.space.Space;
+import com.tenten.linkhub.domain.space.model.space.SpaceImage;
+import com.tenten.linkhub.domain.space.model.space.SpaceMember;
+import com.tenten.linkhub.domain.space.repository.space.SpaceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Sql(scripts = "/sql/clean_up.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class OutboxEventDeduplicatorTest extends IntegrationApplicationTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SpaceJpaRepository spaceJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long spaceId;
+
+    @BeforeEach
+    void setUp() {
+        spaceId = spaceJpaRepository.save(new Space(
+                1L,
+                "첫번째 스페이스",
+                "첫번째 스페이스 소개글",
+                Category.KNOWLEDGE_ISSUE_CAREER,
+                new SpaceImage("https://testimage1", "테스트 이미지1"),
+                new SpaceMember(1L, Role.OWNER),
+                true,
+                true,
+                true,
+                false
+        )).getId();
+    }
+
+    @Test
+    @DisplayName("relay가 같은 outbox 이벤트를 다시 전달해도 핸들러는 한 번만 처리한다.")
+    void redeliveredEvent_handledOnce() {
+        //when
+        OutboxEventContext.run(1L, () -> eventPublisher.publishEvent(new FavoriteSaveEvent(spaceId)));
+        OutboxEventContext.run(1L, () -> eventPublisher.publishEvent(new FavoriteSaveEvent(spaceId)));
+        OutboxEventContext.run(2L, () -> eventPublisher.publishEvent(new FavoriteSaveEvent(spaceId)));
+
+        //then
+        Long processedEventCount = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM processed_events WHERE consumer = 'space.favorite-save'", Long.class);
+
+        assertThat(spaceJpaRepository.findById(spaceId).get().getFavoriteCount()).isEqualTo(2L);
+        assertThat(processedEventCount).isEqualTo(2L);
+    }
+
+}
@@ -13,6 +13,7 @@ truncate table invitations;
 truncate table scraps;
 truncate table space_members;
 truncate table spaces;
+truncate table space_cards;
 
 truncate table link_tags;
 truncate table tags;
@@ -21,4 +22,9 @@ truncate table link_view_histories;
 truncate table links;
 
 truncate table notifications;
+truncate table outbox_events;
+truncate table processed_events;
+truncate table scrap_copy_jobs;
+truncate table link_import_jobs;
+truncate table link_previews;
 SET FOREIGN_KEY_CHECKS = 1;
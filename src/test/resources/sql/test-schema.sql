@@ -113,7 +113,8 @@ create table links
     member_id  bigint       not null,
     title      varchar(255) not null,
     url        varchar(255) null,
-    space_id   bigint       not null
+    space_id   bigint       not null,
+    source_link_id bigint   null
 );
 
 drop table if exists tags;
@@ -123,7 +124,9 @@ create table tags
         primary key,
     color    enum ('BLUE', 'EMERALD', 'GRAY', 'INDIGO', 'PINK', 'PURPLE', 'RED', 'YELLOW') null,
     name     varchar(255)                                                                  not null,
-    space_id bigint                                                                        not null
+    space_id bigint                                                                        not null,
+    source_tag_id bigint                                                                   null,
+    usage_count   bigint default 0                                                         not null
 );
 
 drop table if exists link_tags;
@@ -197,7 +200,9 @@ create table link_view_histories
     created_at timestamp null,
     updated_at timestamp null,
     member_id  bigint    not null,
-    link_id    bigint    not null
+    link_id    bigint    not null,
+    constraint uk_link_view_histories_link_id_member_id
+        unique (link_id, member_id)
 );
 
 drop table if exists notifications;
@@ -222,3 +227,101 @@ create table scraps
     source_space_id bigint not null,
     target_space_id bigint not null
 );
+
+drop table if exists space_cards;
+create table space_cards
+(
+    space_id             bigint                                                                                               not null
+        primary key,
+    member_id            bigint                                                                                               not null,
+    space_name           varchar(255)                                                                                         not null,
+    description          varchar(500)                                                                                         null,
+    category             enum ('ENTER_ART', 'ETC', 'HOBBY_LEISURE_TRAVEL', 'KNOWLEDGE_ISSUE_CAREER', 'LIFE_KNOWHOW_SHOPPING') null,
+    is_visible           bit                                                                                                  not null,
+    is_comment           bit                                                                                                  not null,
+    is_link_summarizable bit                                                                                                  not null,
+    is_read_mark_enabled bit                                                                                                  not null,
+    view_count           bigint                                                                                               not null,
+    scrap_count          bigint                                                                                               not null,
+    favorite_count       bigint                                                                                               not null,
+    space_image_path     varchar(2083)                                                                                        null,
+    owner_nick_name      varchar(24)                                                                                          null,
+    created_at           timestamp                                                                                            null,
+    updated_at           timestamp                                                                                            null,
+    FULLTEXT INDEX `ft_space_cards_space_name` (`space_name`) WITH PARSER `ngram`
+)
+    ENGINE=InnoDB
+    DEFAULT CHARACTER SET = utf8;
+
+create table outbox_events
+(
+    id              bigint auto_increment
+        primary key,
+    event_type      varchar(255)  not null,
+    payload         text          not null,
+    status          varchar(20)   not null,
+    attempt_count   int           not null,
+    next_attempt_at datetime(6)   not null,
+    last_error      varchar(1000) null,
+    created_at      datetime(6)   not null,
+    INDEX idx_outbox_events_status_next_attempt_at (status, next_attempt_at, id)
+);
+
+drop table if exists processed_events;
+create table processed_events
+(
+    event_id     bigint       not null,
+    consumer     varchar(100) not null,
+    processed_at datetime(6)  not null,
+    primary key (event_id, consumer),
+    INDEX idx_processed_events_processed_at (processed_at)
+);
+
+drop table if exists scrap_copy_jobs;
+create table scrap_copy_jobs
+(
+    id                  bigint auto_increment
+        primary key,
+    source_space_id     bigint      not null,
+    target_space_id     bigint      not null,
+    member_id           bigint      not null,
+    status              varchar(20) not null,
+    total_link_count    bigint      not null,
+    copied_link_count   bigint      not null,
+    last_source_link_id bigint      not null,
+    created_at          datetime(6) not null,
+    updated_at          datetime(6) not null,
+    constraint uk_scrap_copy_jobs_target_space_id
+        unique (target_space_id),
+    INDEX idx_scrap_copy_jobs_status_id (status, id)
+);
+
+drop table if exists link_import_jobs;
+create table link_import_jobs
+(
+    id                  bigint auto_increment
+        primary key,
+    space_id            bigint      not null,
+    member_id           bigint      not null,
+    format              varchar(10) not null,
+    status              varchar(20) not null,
+    imported_link_count bigint      not null,
+    skipped_link_count  bigint      not null,
+    created_at          datetime(6) not null,
+    updated_at          datetime(6) not null
+);
+
+drop table if exists link_previews;
+create table link_previews
+(
+    url_hash    char(64)      not null
+        primary key,
+    url         varchar(2083) not null,
+    status      varchar(20)   not null,
+    title       varchar(300)  null,
+    description varchar(1000) null,
+    favicon_url varchar(2083) null,
+    fetched_at  datetime(6)   not null,
+    created_at  datetime(6)   not null,
+    updated_at  datetime(6)   not null
+);